@@ -0,0 +1,76 @@
+package com.autoever.member.message.template;
+
+import com.autoever.member.message.dto.AgeGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수신자별 메시지 렌더링 비용 비교
+ * 기존 {@link MessageTemplate#applyTemplate}(수신자마다 replace/trim/연결)과
+ * 작업당 한 번 분석한 {@link CompiledTemplate#render}의 건당 시간과 할당량(-prof gc의 gc.alloc.rate.norm)을 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageTemplateBenchmark {
+
+    private static final int RECIPIENTS = 1024;
+
+    // 본문 길이 (SMS 한 건 / 장문 메시지)
+    @Param({"40", "600"})
+    private int messageLength;
+
+    private String message;
+    private String[] names;
+    private String[] phoneNumbers;
+    private CompiledTemplate compiled;
+    private CompiledTemplate compiledWithPlaceholders;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        message = " " + "할인 쿠폰이 발급되었습니다. ".repeat(Math.max(1, messageLength / 16)) + " ";
+        names = new String[RECIPIENTS];
+        phoneNumbers = new String[RECIPIENTS];
+        for (int i = 0; i < RECIPIENTS; i++) {
+            names[i] = "회원" + i;
+            phoneNumbers[i] = String.format("010-%04d-%04d", i, RECIPIENTS - i);
+        }
+        compiled = MessageTemplate.compile(message).bind(AgeGroup.TWENTIES, Map.of());
+        compiledWithPlaceholders = MessageTemplate.compile(
+                "{ageGroup} 고객님({maskedPhone})께 {custom.coupon} " + message)
+            .bind(AgeGroup.TWENTIES, Map.of("coupon", "10%"));
+    }
+
+    @Benchmark
+    public String legacyApplyTemplate() {
+        int i = next();
+        return MessageTemplate.applyTemplate(names[i], message);
+    }
+
+    @Benchmark
+    public String compiledRender() {
+        int i = next();
+        return compiled.render(names[i], phoneNumbers[i]);
+    }
+
+    @Benchmark
+    public String compiledRenderWithPlaceholders() {
+        int i = next();
+        return compiledWithPlaceholders.render(names[i], phoneNumbers[i]);
+    }
+
+    private int next() {
+        index = (index + 1) & (RECIPIENTS - 1);
+        return index;
+    }
+}
@@ -0,0 +1,33 @@
+package com.autoever.member.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * JFR 상시 레코딩 설정 프로퍼티 (jfr 프로파일에서 사용)
+ * application-jfr.yml의 jfr 설정값을 바인딩
+ */
+@ConfigurationProperties(prefix = "jfr")
+public record FlightRecorderProperties(
+    String settings,
+    Duration maxAge,
+    DataSize maxSize,
+    String dumpDirectory
+) {
+    public FlightRecorderProperties {
+        if (settings == null || settings.isBlank()) {
+            settings = "default";
+        }
+        if (maxAge == null) {
+            maxAge = Duration.ofMinutes(30);
+        }
+        if (maxSize == null) {
+            maxSize = DataSize.ofMegabytes(256);
+        }
+        if (dumpDirectory == null || dumpDirectory.isBlank()) {
+            dumpDirectory = System.getProperty("java.io.tmpdir");
+        }
+    }
+}
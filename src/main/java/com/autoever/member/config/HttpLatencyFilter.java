@@ -0,0 +1,203 @@
+package com.autoever.member.config;
+
+import com.autoever.member.message.metrics.LatencyHistogram;
+import com.autoever.member.message.metrics.PrometheusCollector;
+import com.autoever.member.message.metrics.PrometheusTextWriter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 HTTP 응답 시간 측정 필터
+ *
+ * Spring Security 필터보다 먼저 실행되어 인증(BCrypt, JWT 검증)부터 응답까지의 서버 측 시간을 기록함.
+ * 요청 경로 대신 매칭된 라우트 패턴(예: /api/admin/users/{id})을 키로 써서 시계열 수를 제한하며,
+ * 컨트롤러까지 도달하지 못한 요청(인증 실패, 404 등)은 UNMATCHED로, 표준이 아닌 HTTP 메서드는 OTHER로 묶음.
+ * 비동기 요청(SSE 등)은 비동기 처리가 끝난 시점에 기록
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class HttpLatencyFilter extends OncePerRequestFilter implements PrometheusCollector {
+
+    static final String UNMATCHED_ROUTE = "UNMATCHED";
+    static final String OTHER_ROUTE = "OTHER";
+    static final String OTHER_METHOD = "OTHER";
+
+    // 표준 HTTP 메서드 (그 외 임의 메서드는 OTHER로 묶어 시계열 수를 제한)
+    private static final Set<String> STANDARD_METHODS =
+        Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE", "CONNECT");
+
+    // 라우트 패턴 최대 개수 (초과분은 OTHER로 집계)
+    private static final int MAX_ROUTES = 256;
+
+    private static final Comparator<RouteKey> ROUTE_ORDER =
+        Comparator.comparing(RouteKey::route).thenComparing(RouteKey::method);
+
+    // 라우트(메서드 + 패턴)별 지표
+    private final Map<RouteKey, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+    // 처리 중인 요청 수 (라우트는 디스패치 이후에야 알 수 있으므로 전체 기준)
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        inFlight.incrementAndGet();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, startNanos));
+            } else {
+                complete(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(),
+                    startNanos);
+            }
+        }
+    }
+
+    @Override
+    public void collect(PrometheusTextWriter writer) {
+        List<Map.Entry<RouteKey, RouteMetrics>> entries = routes.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey(ROUTE_ORDER))
+            .toList();
+
+        writer.gauge("http_server_requests_in_flight", "처리 중인 HTTP 요청 수", inFlight.get());
+        for (Map.Entry<RouteKey, RouteMetrics> entry : entries) {
+            writer.summary("http_server_request_duration_seconds", "라우트별 HTTP 응답 시간",
+                entry.getValue().latency,
+                "method", entry.getKey().method(), "route", entry.getKey().route());
+        }
+        for (Map.Entry<RouteKey, RouteMetrics> entry : entries) {
+            entry.getValue().statusCounts.forEach((status, count) ->
+                writer.counter("http_server_requests_total", "라우트/상태 코드별 HTTP 요청 수", count.sum(),
+                    "method", entry.getKey().method(), "route", entry.getKey().route(),
+                    "status", Integer.toString(status)));
+        }
+    }
+
+    /**
+     * 라우트별 응답 시간 분포 조회
+     *
+     * @param method HTTP 메서드
+     * @param route 라우트 패턴
+     * @return 응답 시간 분포 (기록이 없으면 EMPTY)
+     */
+    public LatencyHistogram.Snapshot getSnapshot(String method, String route) {
+        RouteMetrics metrics = routes.get(new RouteKey(method, route));
+        return metrics == null ? LatencyHistogram.Snapshot.EMPTY : metrics.latency.snapshot();
+    }
+
+    /**
+     * 라우트/상태 코드별 요청 수 조회
+     */
+    public long getRequestCount(String method, String route, int status) {
+        RouteMetrics metrics = routes.get(new RouteKey(method, route));
+        LongAdder count = metrics == null ? null : metrics.statusCounts.get(status);
+        return count == null ? 0 : count.sum();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void complete(HttpServletRequest request, int status, long startNanos) {
+        inFlight.decrementAndGet();
+        RouteMetrics metrics = metricsFor(methodOf(request), routeOf(request));
+        metrics.latency.recordNanos(startNanos, System.nanoTime());
+        metrics.statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    private RouteMetrics metricsFor(String method, String route) {
+        RouteKey key = new RouteKey(method, route);
+        RouteMetrics metrics = routes.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (routes.size() >= MAX_ROUTES) {
+            key = new RouteKey(method, OTHER_ROUTE);
+        }
+        return routes.computeIfAbsent(key, k -> new RouteMetrics());
+    }
+
+    private static String methodOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        return STANDARD_METHODS.contains(method) ? method : OTHER_METHOD;
+    }
+
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNMATCHED_ROUTE : pattern.toString();
+    }
+
+    /**
+     * 비동기 요청 종료 시 기록 (완료, 타임아웃, 오류 중 한 번만)
+     */
+    private final class CompletionListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long startNanos;
+        private final AtomicInteger done = new AtomicInteger();
+
+        private CompletionListener(HttpServletRequest request, HttpServletResponse response, long startNanos) {
+            this.request = request;
+            this.response = response;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(response.getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            record(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            record(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 재시작된 비동기 처리도 같은 요청으로 이어서 측정
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void record(int status) {
+            if (done.compareAndSet(0, 1)) {
+                complete(request, status, startNanos);
+            }
+        }
+    }
+
+    private record RouteKey(String method, String route) {
+    }
+
+    private static final class RouteMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    }
+}
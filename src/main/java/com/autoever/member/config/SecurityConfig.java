@@ -1,5 +1,6 @@
 package com.autoever.member.config;
 
+import com.autoever.member.jfr.FlightRecordingPasswordEncoder;
 import com.autoever.member.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -34,12 +35,13 @@ public class SecurityConfig {
     /**
      * BCrypt 패스워드 인코더 Bean 등록
      * 비밀번호 해싱에 사용되는 BCrypt 알고리즘 설정
+     * 검증 시간은 JFR 레코딩 중일 때 BcryptVerification 이벤트로 기록
      * 
-     * @return BCryptPasswordEncoder 인스턴스
+     * @return BCryptPasswordEncoder를 감싼 인코더
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new FlightRecordingPasswordEncoder(new BCryptPasswordEncoder());
     }
 
 
@@ -76,7 +78,10 @@ public class SecurityConfig {
                 
                 // 관리자 전용 API는 ADMIN 권한 필요
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
-                
+
+                // 내부 운영 지표(Prometheus 스크레이프)는 ADMIN 권한 필요
+                .requestMatchers("/internal/**").hasRole("ADMIN")
+
                 // Swagger UI 및 API 문서는 인증 필요
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").authenticated()
                 
@@ -0,0 +1,33 @@
+package com.autoever.member.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * JDBC 구문 프로파일러 설정 프로퍼티
+ * application.yml의 sql-profiler 설정값을 바인딩
+ * 기본은 비활성이며 필요한 환경에서만 켬 (application-sqlprofile.yml)
+ */
+@ConfigurationProperties(prefix = "sql-profiler")
+public record SqlProfilerProperties(
+    Boolean enabled,
+    Duration slowThreshold,
+    Integer slowLogSize,
+    Integer maxShapes
+) {
+    public SqlProfilerProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+        if (slowThreshold == null) {
+            slowThreshold = Duration.ofMillis(100);
+        }
+        if (slowLogSize == null || slowLogSize <= 0) {
+            slowLogSize = 100;
+        }
+        if (maxShapes == null || maxShapes <= 0) {
+            maxShapes = 500;
+        }
+    }
+}
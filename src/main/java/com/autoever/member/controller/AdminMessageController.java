@@ -1,10 +1,20 @@
 package com.autoever.member.controller;
 
 import com.autoever.member.dto.ApiResponse;
+import com.autoever.member.exception.BulkJobNotFoundException;
+import com.autoever.member.message.dto.BulkJobAdmission;
+import com.autoever.member.message.dto.BulkJobStatusResponse;
 import com.autoever.member.message.dto.BulkMessageResponse;
+import com.autoever.member.message.dto.BulkSendEstimate;
 import com.autoever.member.message.dto.MessageSendDto;
+import com.autoever.member.message.job.BulkJobProgressPublisher;
+import com.autoever.member.message.job.BulkJobRegistry;
+import com.autoever.member.message.job.BulkJobScheduler;
 import com.autoever.member.message.result.MessageSendTracker;
 import com.autoever.member.message.service.BulkMessageService;
+import com.autoever.member.message.service.BulkSendEstimator;
+import com.autoever.member.message.trace.JobTraceSummary;
+import com.autoever.member.message.trace.SpanTracer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -15,10 +25,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -34,6 +47,11 @@ public class AdminMessageController {
     
     private final BulkMessageService bulkMessageService;
     private final MessageSendTracker messageSendTracker;
+    private final BulkJobRegistry bulkJobRegistry;
+    private final BulkJobProgressPublisher bulkJobProgressPublisher;
+    private final BulkJobScheduler bulkJobScheduler;
+    private final BulkSendEstimator bulkSendEstimator;
+    private final SpanTracer spanTracer;
     
     /**
      * 연령대별 대량 메시지 발송
@@ -94,6 +112,20 @@ public class AdminMessageController {
                           "message": "건강한 라이프스타일을 위한 맞춤형 서비스를 확인해보세요."
                         }
                         """
+                ),
+                @ExampleObject(
+                    name = "사용자 정의 필드 치환",
+                    description = "메시지의 {custom.이름} 치환자를 요청에 담은 값으로 바꿔 발송",
+                    value = """
+                        {
+                          "ageGroup": "TWENTIES",
+                          "message": "{custom.coupon} 쿠폰이 발급되었습니다. {custom.expiry}까지 사용하세요.",
+                          "customFields": {
+                            "coupon": "WELCOME20",
+                            "expiry": "2026-12-31"
+                          }
+                        }
+                        """
                 )
             }
         )
@@ -110,11 +142,150 @@ public class AdminMessageController {
                 .body(ApiResponse.error("큐가 가득 참니다. 잠시 후 다시 시도해주세요.", response));
         }
         
+        // 동시 실행 작업 수 초과로 대기열에 등록된 경우
+        if (response.status() == BulkMessageResponse.JobStatus.CREATED) {
+            return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(
+                    String.format("대량 메시지 발송 작업이 대기열에 등록되었습니다. (대기 순번: %d)", response.waitingPosition()),
+                    response));
+        }
+        
         return ResponseEntity
             .status(HttpStatus.ACCEPTED)  // 202 - 비동기 작업 시작됨
             .body(ApiResponse.success("대량 메시지 발송이 시작되었습니다.", response));
     }
     
+    /**
+     * 대량 메시지 발송 예상 결과 조회 API (dry run)
+     */
+    @PostMapping("/estimate")
+    @Operation(
+        summary = "대량 메시지 발송 예상 결과 조회",
+        description = """
+            발송 요청과 같은 내용으로 실제 발송 없이 예상 결과를 계산합니다. 외부 메시지 API는 호출하지 않습니다.
+            
+            **계산 근거**:
+            - 대상 회원 수 (메모리 집계, segment가 있으면 발송 요청과 같이 세그먼트 색인으로 계산)
+            - 현재 큐 적재량과 진행 중인 작업의 남은 메시지 수 (backlogAhead)
+            - API별 분당 요청 제한 (카카오톡 100회, SMS 500회)
+            - 최근 관측된 API별 성공률과 평균 응답 시간 (관측 이력이 부족하면 성공률 100%로 가정)
+            
+            **제공되는 정보**:
+            - 채널별 예상 호출 수와 성공 수 (channels)
+            - 예상 소요 시간과 완료 시각
+            - 성공 메시지 중 SMS 발송 비율 (fallbackShare, %)
+            """
+    )
+    public ResponseEntity<ApiResponse<BulkSendEstimate>> estimateBulkMessage(
+            @Valid @org.springframework.web.bind.annotation.RequestBody MessageSendDto request) {
+        
+        BulkSendEstimate estimate = bulkSendEstimator.estimate(request.getAgeGroupEnum(), request.segment());
+        
+        return ResponseEntity.ok(ApiResponse.success(
+            "대량 메시지 발송 예상 결과 조회가 완료되었습니다.", 
+            estimate
+        ));
+    }
+    
+    /**
+     * 대량 발송 작업 실행 허가 현황 조회 API
+     */
+    @GetMapping("/jobs/admission")
+    @Operation(
+        summary = "대량 발송 작업 실행 허가 현황 조회",
+        description = """
+            동시에 실행 중인 작업과 실행 대기 중인 작업을 조회합니다.
+            
+            - 동시 실행 작업 수는 message.bulk.admission.max-active-jobs로 제한됩니다
+            - 실행 중인 작업은 공유 큐 용량 중 고정 몫(queueSlotsPerJob)만큼만 큐에 적재합니다
+            - 대기 작업은 접수 순서대로 순번과 예상 대기 시간(estimatedWait, 초)을 제공합니다
+            """
+    )
+    public ResponseEntity<ApiResponse<BulkJobAdmission.Status>> getAdmissionStatus() {
+        return ResponseEntity.ok(ApiResponse.success(
+            "대량 발송 작업 실행 허가 현황 조회가 완료되었습니다.", 
+            bulkJobScheduler.getStatus()
+        ));
+    }
+    
+    /**
+     * 대량 발송 작업 진행 상태 조회 API
+     */
+    @GetMapping("/jobs/{jobId}")
+    @Operation(
+        summary = "대량 발송 작업 진행 상태 조회",
+        description = """
+            발송 요청 시 반환된 jobId로 작업의 진행 상태를 조회합니다.
+            
+            **제공되는 정보**:
+            - 작업 상태 (status) - IN_PROGRESS, COMPLETED, PARTIALLY_FAILED, FAILED
+            - 대상/처리/성공/실패 건수와 진행률 (progressRate, %)
+            - 시작 및 종료 시각
+            
+            실행 중이거나 최근 종료된 작업은 메모리에서, 그 외 작업은 저장된 체크포인트에서 조회합니다.
+            """
+    )
+    public ResponseEntity<ApiResponse<BulkJobStatusResponse>> getJobStatus(@PathVariable UUID jobId) {
+        BulkJobStatusResponse status = bulkJobRegistry.getStatus(jobId);
+        
+        return ResponseEntity.ok(ApiResponse.success(
+            "대량 발송 작업 상태 조회가 완료되었습니다.", 
+            status
+        ));
+    }
+    
+    /**
+     * 대량 발송 작업 진행 상태 스트리밍 API (Server-Sent Events)
+     */
+    @GetMapping(value = "/jobs/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "대량 발송 작업 진행 상태 스트리밍",
+        description = """
+            작업 진행 상태를 Server-Sent Events로 전송합니다.
+            
+            - 연결 즉시 현재 상태를 `progress` 이벤트로 전송합니다
+            - 이후 변경이 있을 때만 전송하며, 작업당 초당 수 회로 병합됩니다 (message.bulk.progress.publish-interval-ms)
+            - 작업이 종료되면 최종 상태를 전송한 뒤 스트림을 닫습니다
+            """
+    )
+    public SseEmitter streamJobStatus(@PathVariable UUID jobId) {
+        return bulkJobProgressPublisher.subscribe(jobId);
+    }
+    
+    /**
+     * 대량 발송 작업 구간별 시간 분석 조회 API
+     */
+    @GetMapping("/jobs/{jobId}/trace")
+    @Operation(
+        summary = "대량 발송 작업 구간별 시간 분석",
+        description = """
+            작업 시간이 어느 구간에 쓰였는지 구간 종류별로 집계하여 조회합니다.
+            
+            **구간 종류**:
+            - AUDIENCE_QUERY / PAGE_FETCH - 대상자 수 집계, 파티션 계획, 페이지/커서 조회
+            - BATCH_PROCESS / TEMPLATE_RENDER - 서브 배치 처리, 템플릿 분석 및 렌더링
+            - QUEUE_ENQUEUE / QUEUE_WAIT - 큐 적재, 큐 슬롯 대기 및 큐 대기
+            - RATE_LIMIT_WAIT - 모든 채널이 Rate limit에 걸려 큐에서 기다린 시간
+            - PROVIDER_CALL - 카카오톡/SMS API 호출
+            
+            구간은 병렬로 실행되므로 구간 합계가 벽시계 시간(wallClockMillis)보다 클 수 있으며,
+            비중(sharePercent)은 전체 구간 합계 대비 비율입니다.
+            최근 구간은 recentSpans개까지 함께 반환하며, 오래된 작업의 집계는 보관 시간이 지나면 제거됩니다.
+            """
+    )
+    public ResponseEntity<ApiResponse<JobTraceSummary>> getJobTrace(
+            @PathVariable UUID jobId,
+            @RequestParam(defaultValue = "50") int recentSpans) {
+        JobTraceSummary trace = spanTracer.getJobTrace(jobId, Math.max(0, Math.min(recentSpans, 1000)))
+            .orElseThrow(() -> new BulkJobNotFoundException(jobId));
+        
+        return ResponseEntity.ok(ApiResponse.success(
+            "대량 발송 작업 구간 분석 조회가 완료되었습니다.", 
+            trace
+        ));
+    }
+
 
     /**
      * 메시지 발송 통계 조회 API
@@ -165,6 +336,30 @@ public class AdminMessageController {
         ));
     }
 
+    /**
+     * 최근 구간 발송 처리율 조회 API
+     * 
+     * @return 1/5/15분 구간별 처리율
+     */
+    @GetMapping("/statistics/throughput")
+    @Operation(
+        summary = "최근 발송 처리율 조회",
+        description = """
+            최근 1분, 5분, 15분 구간의 발송 결과 건수와 처리율을 조회합니다.
+            
+            - 누적 통계와 달리 초 단위로 갱신되는 최근 구간 기준입니다
+            - messagesPerSecond: 구간 내 초당 처리 건수
+            - successRate / fallbackRate / failureRate: 구간 내 결과 비율 (%)
+            - 통계 초기화 시 함께 초기화됩니다
+            """
+    )
+    public ResponseEntity<ApiResponse<List<MessageSendTracker.ThroughputWindow>>> getThroughput() {
+        return ResponseEntity.ok(ApiResponse.success(
+            "최근 발송 처리율 조회가 완료되었습니다.", 
+            messageSendTracker.getThroughput()
+        ));
+    }
+
     /**
      * 메시지 발송 통계 초기화 API
      * 
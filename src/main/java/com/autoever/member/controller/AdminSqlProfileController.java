@@ -0,0 +1,109 @@
+package com.autoever.member.controller;
+
+import com.autoever.member.dto.ApiResponse;
+import com.autoever.member.jdbc.SlowStatement;
+import com.autoever.member.jdbc.SqlProfiler;
+import com.autoever.member.jdbc.SqlStatementStatistics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 관리자 SQL 구문 프로파일 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/admin/sql")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Admin SQL Profile API", description = "관리자 SQL 구문 실행 통계 관련 API")
+@SecurityRequirement(name = "bearerAuth")
+public class AdminSqlProfileController {
+
+    // 조회 가능한 최대 SQL 형태 수
+    private static final int MAX_LIMIT = 500;
+
+    private final SqlProfiler sqlProfiler;
+
+    /**
+     * SQL 형태별 실행 통계 조회 API
+     *
+     * @param limit 최대 개수 (실행 시간 합계가 큰 순)
+     * @return SQL 형태별 실행 통계
+     */
+    @GetMapping("/statements")
+    @Operation(
+        summary = "SQL 형태별 실행 통계 조회",
+        description = """
+            애플리케이션 시작(또는 초기화) 이후 실행된 SQL 구문을 정규화된 형태별로 집계해 조회합니다.
+            
+            - 문자열/숫자 리터럴과 IN 목록 등 반복 바인드 자리는 ?로 치환되어 같은 쿼리가 한 형태로 묶입니다
+            - 실행 시간 합계(totalMs)가 큰 순서로 정렬됩니다
+            - count, meanMs, p99Ms, maxMs: 실행 횟수와 실행 시간 (결과 조회 시간 제외)
+            - rows / rowsPerCall: 조회/변경된 행 수 합계와 실행당 평균
+            - 실행 횟수가 요청 수에 비례해 늘어나는 count 쿼리, rowsPerCall이 큰 전체 스캔 쿼리를 찾는 데 사용합니다
+            """
+    )
+    public ResponseEntity<ApiResponse<List<SqlStatementStatistics>>> getStatements(
+            @RequestParam(defaultValue = "50") int limit) {
+        List<SqlStatementStatistics> statements =
+            sqlProfiler.getStatements(Math.max(0, Math.min(limit, MAX_LIMIT)));
+
+        return ResponseEntity.ok(ApiResponse.success(
+            "SQL 형태별 실행 통계 조회가 완료되었습니다.",
+            statements
+        ));
+    }
+
+    /**
+     * 느린 SQL 구문 조회 API
+     *
+     * @return 임계값을 넘은 최근 SQL 구문 (최신순)
+     */
+    @GetMapping("/slow")
+    @Operation(
+        summary = "느린 SQL 구문 조회",
+        description = """
+            실행 시간이 임계값(sql-profiler.slow-threshold)을 넘은 최근 SQL 구문을 최신순으로 조회합니다.
+            
+            - 최근 sql-profiler.slow-log-size개까지 보관합니다
+            - binds: 바인드 값 요약 (문자열은 개인정보 보호를 위해 길이만 표시)
+            - rows: 조회/변경된 행 수 (알 수 없으면 -1)
+            """
+    )
+    public ResponseEntity<ApiResponse<List<SlowStatement>>> getSlowStatements() {
+        return ResponseEntity.ok(ApiResponse.success(
+            "느린 SQL 구문 조회가 완료되었습니다.",
+            sqlProfiler.getSlowStatements()
+        ));
+    }
+
+    /**
+     * SQL 실행 통계 초기화 API
+     *
+     * @return 초기화 완료 메시지
+     */
+    @PostMapping("/statistics/reset")
+    @Operation(
+        summary = "SQL 실행 통계 초기화",
+        description = """
+            SQL 형태별 실행 통계와 느린 구문 목록을 초기화합니다.
+            
+            - 부하 테스트 등 측정 구간을 나눌 때 사용합니다
+            - Prometheus 누적 카운터(sql_statements_total 등)에는 영향이 없습니다
+            """
+    )
+    public ResponseEntity<ApiResponse<Void>> resetStatistics() {
+        sqlProfiler.reset();
+
+        return ResponseEntity.ok(ApiResponse.success(
+            "SQL 실행 통계가 초기화되었습니다.",
+            null
+        ));
+    }
+}
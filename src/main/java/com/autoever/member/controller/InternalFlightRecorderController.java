@@ -0,0 +1,37 @@
+package com.autoever.member.controller;
+
+import com.autoever.member.dto.ApiResponse;
+import com.autoever.member.jfr.ContinuousFlightRecording;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * JFR 상시 레코딩 덤프 컨트롤러 (jfr 프로파일에서만 등록)
+ */
+@Hidden
+@RestController
+@RequestMapping("/internal/jfr")
+@Profile("jfr")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class InternalFlightRecorderController {
+
+    private final ContinuousFlightRecording continuousFlightRecording;
+
+    /**
+     * 상시 레코딩을 서버의 덤프 디렉터리에 파일로 저장
+     */
+    @PostMapping("/dump")
+    public ResponseEntity<ApiResponse<ContinuousFlightRecording.DumpResult>> dump() throws IOException {
+        ContinuousFlightRecording.DumpResult result = continuousFlightRecording.dump();
+        return ResponseEntity.ok(ApiResponse.success("JFR 레코딩 덤프가 완료되었습니다.", result));
+    }
+}
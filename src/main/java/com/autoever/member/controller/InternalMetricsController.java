@@ -0,0 +1,44 @@
+package com.autoever.member.controller;
+
+import com.autoever.member.message.metrics.PrometheusCollector;
+import com.autoever.member.message.metrics.PrometheusTextWriter;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 내부 운영 지표 컨트롤러
+ * 등록된 {@link PrometheusCollector}의 지표를 Prometheus 텍스트 형식으로 노출 (수집기 스크레이프용)
+ */
+@Hidden
+@RestController
+@RequestMapping("/internal")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class InternalMetricsController {
+
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType(PrometheusTextWriter.CONTENT_TYPE);
+
+    private final List<PrometheusCollector> collectors;
+
+    /**
+     * 전체 지표 조회
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<String> metrics() {
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+        for (PrometheusCollector collector : collectors) {
+            collector.collect(writer);
+        }
+        return ResponseEntity.ok()
+            .contentType(PROMETHEUS_TEXT)
+            .body(writer.toString());
+    }
+}
@@ -0,0 +1,136 @@
+package com.autoever.member.entity;
+
+import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.BulkMessageResponse.JobStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 대량 메시지 발송 작업
+ * 작업 명세(연령대, 세그먼트, 메시지)와 상태, 파티션별 체크포인트 및 누적 카운터를 보관하여
+ * 노드 재시작 시 마지막 체크포인트부터 재개할 수 있도록 함
+ * 접수 시점에 생성됨(CREATED) 상태로 저장하므로 실행 대기 중이던 작업도 재시작 후 다시 접수됨
+ */
+@Entity
+@Table(name = "bulk_message_jobs", indexes = {
+    @Index(name = "IDX_bulk_message_jobs_status", columnList = "status")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = {"message", "customFields", "partitions"})
+public class BulkMessageJob {
+
+    @Id
+    @Column(name = "job_id", nullable = false, updatable = false)
+    private UUID jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "age_group", nullable = false, length = 20)
+    private AgeGroup ageGroup;
+
+    @Column(name = "message", nullable = false, length = 1000)
+    private String message;
+
+    // 연령대 대상 중 추가 조건 (세그먼트 표현식, 없으면 연령대 전체)
+    @Column(name = "segment", length = 1000)
+    private String segment;
+
+    // 메시지의 사용자 정의 필드 치환자 값 (재개 시 같은 본문으로 렌더링)
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "bulk_message_job_custom_fields", joinColumns = @JoinColumn(name = "job_id"))
+    @MapKeyColumn(name = "field_name", length = 100)
+    @Column(name = "field_value", nullable = false, length = 1000)
+    private Map<String, String> customFields = new HashMap<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobStatus status;
+
+    @Column(name = "total_users", nullable = false)
+    private int totalUsers;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "success_count", nullable = false)
+    private int successCount;
+
+    @Column(name = "failure_count", nullable = false)
+    private int failureCount;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "bulk_message_job_partitions", joinColumns = @JoinColumn(name = "job_id"))
+    @OrderColumn(name = "partition_index")
+    private List<BulkMessageJobPartition> partitions = new ArrayList<>();
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Builder
+    public BulkMessageJob(UUID jobId, AgeGroup ageGroup, String message, String segment,
+                          Map<String, String> customFields, int totalUsers) {
+        this.jobId = jobId;
+        this.ageGroup = ageGroup;
+        this.message = message;
+        this.segment = segment;
+        if (customFields != null) {
+            this.customFields.putAll(customFields);
+        }
+        this.totalUsers = totalUsers;
+        this.status = JobStatus.CREATED;
+    }
+
+    /**
+     * 실행 시작 - 수신 대상 파티션을 저장하고 처리 중 상태로 전환 (이후 재시작 시 체크포인트부터 재개)
+     */
+    public void start(List<BulkMessageJobPartition> partitions) {
+        this.partitions.clear();
+        this.partitions.addAll(partitions);
+        this.status = JobStatus.IN_PROGRESS;
+    }
+
+    /**
+     * 체크포인트 갱신 (파티션 순서대로 마지막 처리 ID 전달)
+     */
+    public void updateCheckpoint(List<Long> lastProcessedIds, int processedCount, int successCount, int failureCount) {
+        for (int i = 0; i < partitions.size(); i++) {
+            partitions.get(i).updateLastProcessedId(lastProcessedIds.get(i));
+        }
+        this.processedCount = processedCount;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+    }
+
+    /**
+     * 작업 종료 처리
+     */
+    public void complete(JobStatus status) {
+        this.status = status;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return completedAt != null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.autoever.member.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 발송 작업의 ID 범위 파티션별 체크포인트
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkMessageJobPartition {
+
+    @Column(name = "lower_id", nullable = false)
+    private Long lowerId;
+
+    @Column(name = "upper_id", nullable = false)
+    private Long upperId;
+
+    // 큐 적재까지 완료된 마지막 사용자 ID (시작 전에는 lowerId - 1)
+    @Column(name = "last_processed_id", nullable = false)
+    private Long lastProcessedId;
+
+    public BulkMessageJobPartition(Long lowerId, Long upperId, Long lastProcessedId) {
+        this.lowerId = lowerId;
+        this.upperId = upperId;
+        this.lastProcessedId = lastProcessedId;
+    }
+
+    public void updateLastProcessedId(Long lastProcessedId) {
+        this.lastProcessedId = lastProcessedId;
+    }
+}
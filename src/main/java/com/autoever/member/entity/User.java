@@ -15,6 +15,8 @@ import java.time.LocalDateTime;
 @Table(name = "users", uniqueConstraints = {
     @UniqueConstraint(name = "UK_users_username", columnNames = "username"),
     @UniqueConstraint(name = "UK_users_social_number", columnNames = "social_number")
+}, indexes = {
+    @Index(name = "IDX_users_birth_year", columnList = "birth_year")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -46,6 +48,10 @@ public class User {
     @Column(name = "address", nullable = false, length = 500)
     private String address;
     
+    // 주민등록번호에서 가입 시 한 번 계산되는 출생연도 (연령대 조회 인덱스용)
+    @Column(name = "birth_year")
+    private Integer birthYear;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -56,7 +62,7 @@ public class User {
     
     @Builder
     public User(String username, String password, String name, String socialNumber, 
-                String email, String phoneNumber, String address) {
+                String email, String phoneNumber, String address, Integer birthYear) {
         this.username = username;
         this.password = password;
         this.name = name;
@@ -64,6 +70,7 @@ public class User {
         this.email = email;
         this.phoneNumber = phoneNumber;
         this.address = address;
+        this.birthYear = birthYear;
     }
     
     public void updatePassword(String newPassword) {
@@ -79,6 +86,13 @@ public class User {
     
     // username과 socialNumber는 불변이므로 setter 메서드를 제공하지 않음
     
+    /**
+     * 출생연도 설정 (기존 데이터 백필용)
+     */
+    public void assignBirthYear(Integer birthYear) {
+        this.birthYear = birthYear;
+    }
+    
     public String getMaskedSocialNumber() {
         if (socialNumber == null || socialNumber.length() < 8) {
             return "***-***";
@@ -0,0 +1,23 @@
+package com.autoever.member.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+/**
+ * 대량 발송 작업 찾을 수 없음 예외
+ * 요청된 작업 ID가 실행 중인 작업과 저장된 작업 어디에도 없을 때 발생
+ */
+public class BulkJobNotFoundException extends BaseCustomException {
+    
+    private static final String ERROR_CODE = "BULK_JOB_NOT_FOUND";
+    private static final HttpStatus HTTP_STATUS = HttpStatus.NOT_FOUND; // 404
+    
+    public BulkJobNotFoundException(UUID jobId) {
+        super(
+            String.format("대량 발송 작업을 찾을 수 없습니다. jobId: %s", jobId),
+            HTTP_STATUS,
+            ERROR_CODE
+        );
+    }
+}
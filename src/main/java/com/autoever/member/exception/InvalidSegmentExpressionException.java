@@ -0,0 +1,21 @@
+package com.autoever.member.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 잘못된 세그먼트 표현식 예외
+ * 대량 발송 대상 세그먼트 표현식의 문법이나 속성 값이 올바르지 않을 때 발생
+ */
+public class InvalidSegmentExpressionException extends BaseCustomException {
+    
+    private static final String ERROR_CODE = "INVALID_SEGMENT_EXPRESSION";
+    private static final HttpStatus HTTP_STATUS = HttpStatus.BAD_REQUEST; // 400
+    
+    public InvalidSegmentExpressionException(String expression, String reason) {
+        super(
+            String.format("세그먼트 표현식이 올바르지 않습니다. %s: %s", reason, expression),
+            HTTP_STATUS,
+            ERROR_CODE
+        );
+    }
+}
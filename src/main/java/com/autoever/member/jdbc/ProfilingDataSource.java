@@ -0,0 +1,305 @@
+package com.autoever.member.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 구문 실행 시간을 측정하는 DataSource 래퍼
+ *
+ * 커넥션과 구문을 동적 프록시로 감싸 execute/executeQuery/executeUpdate/executeBatch 호출 시간을 {@link SqlProfiler}에 기록함.
+ * 조회 구문의 행 수는 결과를 끝까지 읽거나 닫을 때 확정되며, 바인드 값은 느린 구문으로 판정된 경우에만 요약 문자열로 만듦
+ */
+public class ProfilingDataSource extends DelegatingDataSource {
+
+    private static final ClassLoader CLASS_LOADER = ProfilingDataSource.class.getClassLoader();
+
+    private final SqlProfiler profiler;
+
+    public ProfilingDataSource(DataSource targetDataSource, SqlProfiler profiler) {
+        super(targetDataSource);
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{Connection.class},
+            new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * equals/hashCode/toString은 대상 객체가 아닌 프록시 기준으로 처리
+     */
+    private static Object handleObjectMethod(Object proxy, Object target, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "Profiling[" + target + "]";
+            default -> null;
+        };
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        return method.getDeclaringClass() == Object.class;
+    }
+
+    /**
+     * 바인드 값 요약 (문자열은 개인정보 노출을 막기 위해 길이만 기록)
+     */
+    static String summarize(String setter, Object value) {
+        if (value == null || "setNull".equals(setter)) {
+            return "NULL";
+        }
+        if (value instanceof CharSequence text) {
+            return "String(" + text.length() + ")";
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>
+            || value instanceof Temporal || value instanceof Date) {
+            return value.toString();
+        }
+        if (value instanceof byte[] bytes) {
+            return "byte[" + bytes.length + "]";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isObjectMethod(method)) {
+                return handleObjectMethod(proxy, target, method, args);
+            }
+            Object result = ProfilingDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> wrapStatement((Statement) result, PreparedStatement.class,
+                    (String) args[0], (Connection) proxy);
+                case "prepareCall" -> wrapStatement((Statement) result, CallableStatement.class,
+                    (String) args[0], (Connection) proxy);
+                case "createStatement" -> wrapStatement((Statement) result, Statement.class, null,
+                    (Connection) proxy);
+                default -> result;
+            };
+        }
+
+        private Statement wrapStatement(Statement statement, Class<? extends Statement> type, String sql,
+                                        Connection connection) {
+            return (Statement) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{type},
+                new StatementHandler(statement, sql, connection));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private final Connection connection;
+
+        // 파라미터 위치별 바인드 값 요약 (마지막 배치 행 기준)
+        private final Map<Integer, String> binds = new TreeMap<>();
+        private int batchSize;
+        private String batchSql;
+
+        // 행 수가 확정되지 않은 직전 조회 실행과 지금까지 읽은 행 수
+        private SqlProfiler.Execution pending;
+        private long pendingRows;
+
+        private StatementHandler(Statement target, String preparedSql, Connection connection) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isObjectMethod(method)) {
+                return handleObjectMethod(proxy, target, method, args);
+            }
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(proxy, method, args);
+            }
+            switch (name) {
+                case "clearParameters" -> binds.clear();
+                case "addBatch" -> {
+                    batchSize++;
+                    if (args != null && args.length == 1) {
+                        batchSql = (String) args[0];
+                    }
+                }
+                case "clearBatch" -> batchSize = 0;
+                case "getConnection" -> {
+                    return connection;
+                }
+                case "close" -> finishPending();
+                default -> {
+                    if (name.startsWith("set") && args != null && args.length >= 2
+                        && args[0] instanceof Integer index) {
+                        binds.put(index, summarize(name, args[1]));
+                    }
+                }
+            }
+            Object result = ProfilingDataSource.invoke(target, method, args);
+            if ("getResultSet".equals(name) && result != null && pending != null) {
+                return wrapResultSet((ResultSet) result, (Statement) proxy);
+            }
+            return result;
+        }
+
+        private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+            finishPending();
+            String name = method.getName();
+            boolean batch = name.endsWith("Batch");
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text
+                : batch && preparedSql == null ? batchSql : preparedSql;
+            int executedBatchSize = batchSize;
+
+            long startNanos = System.nanoTime();
+            Object result;
+            try {
+                result = ProfilingDataSource.invoke(target, method, args);
+            } catch (Throwable e) {
+                profiler.record(sql, System.nanoTime() - startNanos, true,
+                    () -> bindSummary(batch, executedBatchSize)).finish(-1);
+                throw e;
+            } finally {
+                if (batch) {
+                    batchSize = 0;
+                }
+            }
+            SqlProfiler.Execution execution = profiler.record(sql, System.nanoTime() - startNanos, false,
+                () -> bindSummary(batch, executedBatchSize));
+
+            switch (name) {
+                case "executeQuery" -> {
+                    startPending(execution);
+                    return wrapResultSet((ResultSet) result, (Statement) proxy);
+                }
+                case "executeUpdate", "executeLargeUpdate" -> execution.finish(((Number) result).longValue());
+                case "executeBatch" -> execution.finish(sum((int[]) result));
+                case "executeLargeBatch" -> execution.finish(sum((long[]) result));
+                default -> {
+                    // execute(): 결과가 ResultSet이면 getResultSet()에서 행 수를 셈
+                    if (Boolean.TRUE.equals(result)) {
+                        startPending(execution);
+                    } else {
+                        execution.finish(-1);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private ResultSet wrapResultSet(ResultSet resultSet, Statement statement) {
+            return (ResultSet) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{ResultSet.class},
+                new ResultSetHandler(resultSet, statement, this));
+        }
+
+        private void startPending(SqlProfiler.Execution execution) {
+            pending = execution;
+            pendingRows = 0;
+        }
+
+        private void finishPending() {
+            if (pending != null) {
+                pending.finish(pendingRows);
+                pending = null;
+            }
+        }
+
+        private String bindSummary(boolean batch, int executedBatchSize) {
+            String values = binds.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(", ", "[", "]"));
+            return batch ? "batch=" + executedBatchSize + " " + values : values;
+        }
+
+        private static long sum(int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+
+        private static long sum(long[] counts) {
+            long total = 0;
+            for (long count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final Statement statement;
+        private final StatementHandler owner;
+
+        private ResultSetHandler(ResultSet target, Statement statement, StatementHandler owner) {
+            this.target = target;
+            this.statement = statement;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isObjectMethod(method)) {
+                return handleObjectMethod(proxy, target, method, args);
+            }
+            switch (method.getName()) {
+                case "getStatement" -> {
+                    return statement;
+                }
+                case "close" -> owner.finishPending();
+                default -> {
+                }
+            }
+            Object result = ProfilingDataSource.invoke(target, method, args);
+            if ("next".equals(method.getName())) {
+                if (Boolean.TRUE.equals(result)) {
+                    owner.pendingRows++;
+                } else {
+                    owner.finishPending();
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.autoever.member.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션의 DataSource(Hikari 풀)를 {@link ProfilingDataSource}로 감쌈
+ *
+ * JPA/JdbcTemplate이 모두 같은 DataSource 빈을 사용하므로 빈 등록 시점에 한 번만 감싸면 모든 구문이 측정됨.
+ * 프로파일러는 DataSource 초기화 시점에 처음 조회해 BeanPostProcessor 등록 시 다른 빈이 미리 생성되지 않도록 함
+ */
+@Component
+public class ProfilingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlProfiler> profilerProvider;
+
+    public ProfilingDataSourcePostProcessor(ObjectProvider<SqlProfiler> profilerProvider) {
+        this.profilerProvider = profilerProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProfilingDataSource) {
+            return bean;
+        }
+        SqlProfiler profiler = profilerProvider.getIfAvailable();
+        if (profiler == null || !profiler.isEnabled()) {
+            return bean;
+        }
+        return new ProfilingDataSource(dataSource, profiler);
+    }
+}
@@ -0,0 +1,27 @@
+package com.autoever.member.jdbc;
+
+import java.time.Instant;
+
+/**
+ * 임계값을 넘은 SQL 구문
+ *
+ * 바인드 값은 개인정보 노출을 막기 위해 문자열은 길이만, 숫자/날짜/불리언은 값으로 요약함
+ *
+ * @param capturedAt 기록 시각
+ * @param sql 정규화된 SQL 형태
+ * @param elapsedMs 실행 시간 (결과 조회 시간 제외)
+ * @param rows 조회/변경된 행 수 (알 수 없으면 -1)
+ * @param binds 바인드 값 요약
+ * @param thread 실행 스레드
+ * @param failed 예외 발생 여부
+ */
+public record SlowStatement(
+    Instant capturedAt,
+    String sql,
+    double elapsedMs,
+    long rows,
+    String binds,
+    String thread,
+    boolean failed
+) {
+}
@@ -0,0 +1,116 @@
+package com.autoever.member.jdbc;
+
+/**
+ * SQL 구문 형태(shape) 정규화
+ *
+ * 주석을 지우고 문자열/숫자 리터럴을 ?로, 연속 공백을 공백 하나로 바꾸며
+ * IN 목록처럼 반복되는 바인드 자리(?, ?, ?)는 (?...) 하나로 묶어 같은 쿼리가 한 형태로 집계되도록 함
+ */
+final class SqlNormalizer {
+
+    // 형태 최대 길이 (초과분은 잘라냄)
+    static final int MAX_LENGTH = 2000;
+
+    private SqlNormalizer() {
+    }
+
+    static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(Math.min(sql.length(), MAX_LENGTH + 16));
+        int length = sql.length();
+        int i = 0;
+        while (i < length && out.length() < MAX_LENGTH) {
+            char c = sql.charAt(i);
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                appendSpace(out);
+            } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int end = sql.indexOf('\n', i + 2);
+                i = end < 0 ? length : end + 1;
+                appendSpace(out);
+            } else if (c == '\'') {
+                i = skipQuoted(sql, i + 1);
+                out.append('?');
+            } else if (Character.isDigit(c) && !isIdentifierPart(lastChar(out))) {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else if (Character.isWhitespace(c)) {
+                appendSpace(out);
+                i++;
+            } else if (c == '?') {
+                appendPlaceholder(out);
+                i++;
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        String shape = out.toString().trim();
+        return i < length ? shape + " …" : shape;
+    }
+
+    /**
+     * 바로 앞이 "?, " 또는 "?..., "이면 반복 자리로 보고 합침
+     */
+    private static void appendPlaceholder(StringBuilder out) {
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end > 0 && out.charAt(end - 1) == ',') {
+            int before = end - 1;
+            while (before > 0 && out.charAt(before - 1) == ' ') {
+                before--;
+            }
+            if (endsWith(out, before, "?...")) {
+                out.setLength(before);
+                return;
+            }
+            if (before > 0 && out.charAt(before - 1) == '?') {
+                out.setLength(before);
+                out.append("...");
+                return;
+            }
+        }
+        out.append('?');
+    }
+
+    private static boolean endsWith(StringBuilder out, int end, String suffix) {
+        return end >= suffix.length() && out.substring(end - suffix.length(), end).equals(suffix);
+    }
+
+    private static int skipQuoted(String sql, int from) {
+        int i = from;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                // '' 는 문자열 안의 작은따옴표
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static void appendSpace(StringBuilder out) {
+        if (out.length() > 0 && out.charAt(out.length() - 1) != ' ') {
+            out.append(' ');
+        }
+    }
+
+    private static char lastChar(StringBuilder out) {
+        return out.length() == 0 ? ' ' : out.charAt(out.length() - 1);
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '"' || c == '`';
+    }
+}
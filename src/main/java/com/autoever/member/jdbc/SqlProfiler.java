@@ -0,0 +1,239 @@
+package com.autoever.member.jdbc;
+
+import com.autoever.member.config.SqlProfilerProperties;
+import com.autoever.member.message.logging.LogSampler;
+import com.autoever.member.message.metrics.LatencyHistogram;
+import com.autoever.member.message.metrics.PrometheusCollector;
+import com.autoever.member.message.metrics.PrometheusTextWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * JDBC 구문 프로파일러
+ *
+ * {@link ProfilingDataSource}가 실행한 모든 구문의 시간을 정규화된 SQL 형태별로 집계(건수, 합계, 최대, p99, 행 수)하고,
+ * 임계값을 넘은 구문은 바인드 값 요약과 함께 최근 목록에 보관함.
+ * show-sql/바인드 TRACE 로그 없이 운영 중에도 전체 스캔 쿼리나 페이지마다 반복되는 count 쿼리를 찾기 위함
+ */
+@Component
+public class SqlProfiler implements PrometheusCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlProfiler.class);
+    private static final LogSampler sampler = LogSampler.of(log);
+
+    static final String OTHER_SHAPE = "OTHER";
+
+    // 원본 SQL → 형태 캐시 최대 크기 (Hibernate/JdbcTemplate은 같은 SQL 문자열을 재사용)
+    private static final int SHAPE_CACHE_SIZE = 2048;
+
+    private final SqlProfilerProperties properties;
+    private final long slowThresholdNanos;
+
+    // SQL 형태별 집계 (최대 개수 초과분은 OTHER로 집계)
+    private final Map<String, ShapeStatistics> shapes = new ConcurrentHashMap<>();
+    private final Map<String, String> shapeCache = new ConcurrentHashMap<>();
+
+    // 최근 느린 구문 (최대 slowLogSize개, 가장 오래된 것부터 제거)
+    private final Deque<SlowStatement> slowStatements = new ArrayDeque<>();
+
+    // Prometheus 누적 카운터 (초기화 대상 아님)
+    private final LongAdder statementCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder slowCount = new LongAdder();
+
+    public SqlProfiler(SqlProfilerProperties properties) {
+        this.properties = properties;
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 구문 실행 기록
+     * 행 수는 결과를 끝까지 읽거나 닫을 때 알 수 있으므로 반환된 실행 기록의 {@link Execution#finish(long)}로 전달
+     *
+     * @param sql 실행한 SQL
+     * @param elapsedNanos 실행 시간 (결과 조회 시간 제외)
+     * @param failed 예외 발생 여부
+     * @param binds 바인드 값 요약 (느린 구문일 때만 계산)
+     * @return 실행 기록
+     */
+    Execution record(String sql, long elapsedNanos, boolean failed, Supplier<String> binds) {
+        String shape = shapeOf(sql);
+        ShapeStatistics statistics = statisticsFor(shape);
+        statistics.latency.recordNanos(0, elapsedNanos);
+        statementCount.increment();
+        if (failed) {
+            statistics.errors.increment();
+            errorCount.increment();
+        }
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        return new Execution(statistics, shape, elapsedNanos, failed, slow ? binds.get() : null);
+    }
+
+    /**
+     * SQL 형태별 집계 조회 (합계 시간이 큰 순서)
+     *
+     * @param limit 최대 개수
+     */
+    public List<SqlStatementStatistics> getStatements(int limit) {
+        return shapes.entrySet().stream()
+            .map(entry -> entry.getValue().toStatistics(entry.getKey()))
+            .sorted(Comparator.comparingDouble(SqlStatementStatistics::totalMs).reversed())
+            .limit(Math.max(0, limit))
+            .toList();
+    }
+
+    /**
+     * 최근 느린 구문 조회 (최신순)
+     */
+    public List<SlowStatement> getSlowStatements() {
+        synchronized (slowStatements) {
+            List<SlowStatement> result = new ArrayList<>(slowStatements);
+            Collections.reverse(result);
+            return result;
+        }
+    }
+
+    /**
+     * 집계와 느린 구문 목록 초기화 (Prometheus 누적 카운터는 유지)
+     */
+    public void reset() {
+        shapes.clear();
+        synchronized (slowStatements) {
+            slowStatements.clear();
+        }
+    }
+
+    @Override
+    public void collect(PrometheusTextWriter writer) {
+        writer.counter("sql_statements_total", "실행한 SQL 구문 수", statementCount.sum());
+        writer.counter("sql_statement_errors_total", "예외가 발생한 SQL 구문 수", errorCount.sum());
+        writer.counter("sql_slow_statements_total", "임계값을 넘은 SQL 구문 수", slowCount.sum());
+        writer.gauge("sql_shapes_tracked", "집계 중인 SQL 형태 수", shapes.size());
+    }
+
+    private String shapeOf(String sql) {
+        if (sql == null) {
+            return OTHER_SHAPE;
+        }
+        String shape = shapeCache.get(sql);
+        if (shape == null) {
+            shape = SqlNormalizer.normalize(sql);
+            if (shapeCache.size() < SHAPE_CACHE_SIZE) {
+                shapeCache.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    private ShapeStatistics statisticsFor(String shape) {
+        ShapeStatistics statistics = shapes.get(shape);
+        if (statistics != null) {
+            return statistics;
+        }
+        String key = shapes.size() >= properties.maxShapes() ? OTHER_SHAPE : shape;
+        return shapes.computeIfAbsent(key, k -> new ShapeStatistics());
+    }
+
+    private void captureSlow(Execution execution, long rows) {
+        slowCount.increment();
+        SlowStatement statement = new SlowStatement(
+            Instant.now(),
+            execution.shape,
+            execution.elapsedNanos / 10_000 / 100.0,
+            rows,
+            execution.binds,
+            Thread.currentThread().getName(),
+            execution.failed
+        );
+        synchronized (slowStatements) {
+            if (slowStatements.size() >= properties.slowLogSize()) {
+                slowStatements.pollFirst();
+            }
+            slowStatements.addLast(statement);
+        }
+        if (sampler.sample(Level.WARN, "느린 SQL 구문")) {
+            log.warn("느린 SQL 구문 - {}ms, 행: {}, 바인드: {}, SQL: {}",
+                statement.elapsedMs(), rows, statement.binds(), statement.sql());
+        }
+    }
+
+    /**
+     * 구문 한 번의 실행 기록 (행 수 확정 시 한 번만 완료, 구문을 사용하는 스레드에서만 호출)
+     */
+    final class Execution {
+        private final ShapeStatistics statistics;
+        private final String shape;
+        private final long elapsedNanos;
+        private final boolean failed;
+        private final String binds;
+        private boolean finished;
+
+        private Execution(ShapeStatistics statistics, String shape, long elapsedNanos, boolean failed, String binds) {
+            this.statistics = statistics;
+            this.shape = shape;
+            this.elapsedNanos = elapsedNanos;
+            this.failed = failed;
+            this.binds = binds;
+        }
+
+        /**
+         * @param rows 조회/변경된 행 수 (알 수 없으면 -1)
+         */
+        void finish(long rows) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (rows > 0) {
+                statistics.rows.add(rows);
+            }
+            if (binds != null) {
+                captureSlow(this, rows);
+            }
+        }
+    }
+
+    private static final class ShapeStatistics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private SqlStatementStatistics toStatistics(String shape) {
+            long count = latency.getCount();
+            long totalRows = rows.sum();
+            return new SqlStatementStatistics(
+                shape,
+                count,
+                toMillis(latency.getSum()),
+                count == 0 ? 0 : toMillis(latency.getSum() / count),
+                toMillis(latency.percentile(99)),
+                toMillis(latency.getMax()),
+                totalRows,
+                count == 0 ? 0 : Math.round((double) totalRows / count * 100) / 100.0,
+                errors.sum()
+            );
+        }
+
+        private static double toMillis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.autoever.member.jdbc;
+
+/**
+ * SQL 형태별 실행 통계
+ *
+ * @param sql 정규화된 SQL 형태 (리터럴과 반복 바인드 자리는 ?로 치환)
+ * @param count 실행 횟수
+ * @param totalMs 실행 시간 합계
+ * @param meanMs 평균 실행 시간
+ * @param p99Ms 99 백분위 실행 시간
+ * @param maxMs 최대 실행 시간
+ * @param rows 조회/변경된 행 수 합계
+ * @param rowsPerCall 실행당 평균 행 수
+ * @param errors 예외가 발생한 실행 횟수
+ */
+public record SqlStatementStatistics(
+    String sql,
+    long count,
+    double totalMs,
+    double meanMs,
+    double p99Ms,
+    double maxMs,
+    long rows,
+    double rowsPerCall,
+    long errors
+) {
+}
@@ -0,0 +1,57 @@
+package com.autoever.member.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * BCrypt 비밀번호 검증 JFR 이벤트 (지속 시간: 해시 비교 소요 시간)
+ */
+@Name("com.autoever.member.BcryptVerification")
+@Label("BCrypt Verification")
+@Category({"AutoEver", "Auth"})
+@Description("로그인 시 BCrypt 비밀번호 검증 결과와 해시 비용 인자")
+@StackTrace(false)
+public class BcryptVerificationEvent extends Event {
+
+    @Label("Matched")
+    boolean matched;
+
+    @Label("Cost")
+    @Description("저장된 해시의 비용 인자 (해시 형식이 아니면 -1)")
+    int cost;
+
+    /**
+     * 레코딩 중일 때만 필드를 채워 기록
+     */
+    public void complete(boolean matched, String encodedPassword) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.matched = matched;
+        this.cost = costOf(encodedPassword);
+        commit();
+    }
+
+    /**
+     * "$2a$10$..." 형식 해시에서 비용 인자 추출
+     */
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int costStart = encodedPassword.indexOf('$', 1) + 1;
+        if (costStart <= 0 || costStart + 2 > encodedPassword.length()) {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(costStart);
+        char ones = encodedPassword.charAt(costStart + 1);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+}
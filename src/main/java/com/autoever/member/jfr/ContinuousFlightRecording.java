@@ -0,0 +1,97 @@
+package com.autoever.member.jfr;
+
+import com.autoever.member.config.FlightRecorderProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * jfr 프로파일에서 기동 시 시작하는 JFR 상시 레코딩
+ *
+ * JDK 기본 설정("default", 오버헤드 약 1%)에 애플리케이션 이벤트(com.autoever.member.*)를 더해
+ * 디스크 순환 버퍼로 최근 maxAge/maxSize만큼만 보관하며, 필요할 때 {@link #dump()}로 파일을 남김.
+ * 프로파일이 꺼져 있으면 레코딩이 없으므로 각 이벤트는 shouldCommit() 확인만 하고 기록하지 않음
+ */
+@Slf4j
+@Component
+@Profile("jfr")
+@RequiredArgsConstructor
+public class ContinuousFlightRecording {
+
+    private static final String RECORDING_NAME = "autoever-continuous";
+    private static final DateTimeFormatter DUMP_SUFFIX =
+        DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneId.systemDefault());
+
+    private final FlightRecorderProperties properties;
+
+    private Recording recording;
+
+    /**
+     * 상시 레코딩 시작
+     */
+    @PostConstruct
+    public void start() throws IOException, ParseException {
+        Recording continuous = new Recording(Configuration.getConfiguration(properties.settings()));
+        continuous.setName(RECORDING_NAME);
+        continuous.setToDisk(true);
+        continuous.setMaxAge(properties.maxAge());
+        continuous.setMaxSize(properties.maxSize().toBytes());
+        continuous.start();
+        recording = continuous;
+        log.info("JFR 상시 레코딩 시작 - 설정: {}, 최대 보관: {} / {}",
+            properties.settings(), properties.maxAge(), properties.maxSize());
+    }
+
+    /**
+     * 현재까지 보관된 레코딩을 파일로 저장 (레코딩은 계속 진행)
+     *
+     * @return 저장한 파일 정보
+     */
+    public synchronized DumpResult dump() throws IOException {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("진행 중인 JFR 레코딩이 없습니다");
+        }
+        Path directory = Path.of(properties.dumpDirectory());
+        Files.createDirectories(directory);
+        Path file = directory.resolve(RECORDING_NAME + "-" + DUMP_SUFFIX.format(Instant.now()) + ".jfr");
+        recording.dump(file);
+        long size = Files.size(file);
+        log.info("JFR 레코딩 덤프 완료 - 파일: {}, 크기: {}bytes", file, size);
+        return new DumpResult(file.toAbsolutePath().toString(), size, recording.getStartTime());
+    }
+
+    /**
+     * 레코딩 종료
+     */
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * 덤프 결과
+     *
+     * @param path 저장한 파일 경로 (서버 기준)
+     * @param sizeBytes 파일 크기
+     * @param recordingStartedAt 상시 레코딩 시작 시각
+     */
+    public record DumpResult(String path, long sizeBytes, Instant recordingStartedAt) {
+    }
+}
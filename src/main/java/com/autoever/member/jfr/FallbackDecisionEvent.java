@@ -0,0 +1,57 @@
+package com.autoever.member.jfr;
+
+import com.autoever.member.message.ApiType;
+import com.autoever.member.message.result.MessageSendResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 큐 메시지 발송 채널 결정 JFR 이벤트 (지속 시간: 채널 선택부터 발송 완료까지)
+ */
+@Name("com.autoever.member.FallbackDecision")
+@Label("Fallback Decision")
+@Category({"AutoEver", "Messaging"})
+@Description("선호 채널 발송, 대체 채널 전환 여부와 최종 결과")
+@StackTrace(false)
+public class FallbackDecisionEvent extends Event {
+
+    @Label("Message ID")
+    String messageId;
+
+    @Label("Preferred Channel")
+    String preferredChannel;
+
+    @Label("Fallback Channel")
+    @Description("대체 채널로 발송을 시도한 경우 해당 채널")
+    String fallbackChannel;
+
+    @Label("KakaoTalk Available")
+    boolean kakaoAvailable;
+
+    @Label("SMS Available")
+    boolean smsAvailable;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * 레코딩 중일 때만 필드를 채워 기록
+     */
+    public void complete(String messageId, ApiType preferredChannel, ApiType fallbackChannel,
+                         boolean kakaoAvailable, boolean smsAvailable, MessageSendResult outcome) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.messageId = messageId;
+        this.preferredChannel = preferredChannel.name();
+        this.fallbackChannel = fallbackChannel == null ? null : fallbackChannel.name();
+        this.kakaoAvailable = kakaoAvailable;
+        this.smsAvailable = smsAvailable;
+        this.outcome = outcome.name();
+        commit();
+    }
+}
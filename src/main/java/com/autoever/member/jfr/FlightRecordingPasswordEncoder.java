@@ -0,0 +1,35 @@
+package com.autoever.member.jfr;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 검증마다 {@link BcryptVerificationEvent}를 남기는 PasswordEncoder 래퍼
+ * 레코딩이 없으면 위임 호출 외의 비용은 없음
+ */
+public class FlightRecordingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    public FlightRecordingPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        BcryptVerificationEvent event = new BcryptVerificationEvent();
+        event.begin();
+        boolean matched = delegate.matches(rawPassword, encodedPassword);
+        event.complete(matched, encodedPassword);
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,44 @@
+package com.autoever.member.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JWT 토큰 검증 JFR 이벤트 (지속 시간: 서명 검증과 클레임 파싱 소요 시간, 토큰 값은 기록하지 않음)
+ */
+@Name("com.autoever.member.JwtValidation")
+@Label("JWT Validation")
+@Category({"AutoEver", "Auth"})
+@Description("JWT 서명/만료 검증 결과와 실패 사유")
+@StackTrace(false)
+public class JwtValidationEvent extends Event {
+
+    @Label("Valid")
+    boolean valid;
+
+    @Label("Username Checked")
+    boolean usernameChecked;
+
+    @Label("Failure Reason")
+    @Description("검증 실패 예외 이름 또는 EXPIRED, USERNAME_MISMATCH")
+    String failureReason;
+
+    /**
+     * 레코딩 중일 때만 필드를 채워 기록
+     *
+     * @param failureReason 실패 사유 (유효하면 null)
+     */
+    public void complete(boolean usernameChecked, String failureReason) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.valid = failureReason == null;
+        this.usernameChecked = usernameChecked;
+        this.failureReason = failureReason;
+        commit();
+    }
+}
@@ -0,0 +1,57 @@
+package com.autoever.member.jfr;
+
+import com.autoever.member.message.ApiType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.UUID;
+
+/**
+ * 메시지 큐 꺼내기 JFR 이벤트 (지속 시간: 기한 경과 항목 폐기를 포함한 꺼내기 소요 시간)
+ */
+@Name("com.autoever.member.MessageDequeue")
+@Label("Message Dequeue")
+@Category({"AutoEver", "Messaging"})
+@Description("큐에서 꺼낸 메시지의 대기 시간, 기한 경과로 건너뛴 항목 수와 꺼낸 직후 큐 깊이")
+@StackTrace(false)
+public class MessageDequeueEvent extends Event {
+
+    @Label("Channel")
+    String channel;
+
+    @Label("Job ID")
+    String jobId;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.MICROSECONDS)
+    long queueWaitMicros;
+
+    @Label("Expired Skipped")
+    int expiredSkipped;
+
+    @Label("Queue Depth")
+    int queueDepth;
+
+    /**
+     * 레코딩 중일 때만 필드를 채워 기록
+     *
+     * @param channel 꺼낸 메시지의 선호 채널 (큐가 비어 기한 경과 항목만 버린 경우 null)
+     * @param queueWaitMicros 적재부터 꺼낼 때까지 대기 시간 (꺼낸 메시지가 없으면 -1)
+     */
+    public void complete(ApiType channel, UUID jobId, long queueWaitMicros, int expiredSkipped, int queueDepth) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.channel = channel == null ? null : channel.name();
+        this.jobId = jobId == null ? null : jobId.toString();
+        this.queueWaitMicros = queueWaitMicros;
+        this.expiredSkipped = expiredSkipped;
+        this.queueDepth = queueDepth;
+        commit();
+    }
+}
@@ -0,0 +1,52 @@
+package com.autoever.member.jfr;
+
+import com.autoever.member.message.ApiType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.UUID;
+
+/**
+ * 메시지 큐 적재 JFR 이벤트 (지속 시간: 큐 적재 소요 시간)
+ */
+@Name("com.autoever.member.MessageEnqueue")
+@Label("Message Enqueue")
+@Category({"AutoEver", "Messaging"})
+@Description("메시지 큐 적재 결과와 적재 직후 큐 깊이")
+@StackTrace(false)
+public class MessageEnqueueEvent extends Event {
+
+    @Label("Channel")
+    String channel;
+
+    @Label("Job ID")
+    String jobId;
+
+    @Label("Accepted")
+    boolean accepted;
+
+    @Label("Queue Depth")
+    int queueDepth;
+
+    @Label("Queue Capacity")
+    int queueCapacity;
+
+    /**
+     * 레코딩 중일 때만 필드를 채워 기록
+     */
+    public void complete(ApiType channel, UUID jobId, boolean accepted, int queueDepth, int queueCapacity) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.channel = channel.name();
+        this.jobId = jobId == null ? null : jobId.toString();
+        this.accepted = accepted;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        commit();
+    }
+}
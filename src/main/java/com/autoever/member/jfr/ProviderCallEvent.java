@@ -0,0 +1,49 @@
+package com.autoever.member.jfr;
+
+import com.autoever.member.message.ApiType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 외부 메시지 API HTTP 호출 JFR 이벤트 (지속 시간: 요청부터 응답 또는 예외까지)
+ */
+@Name("com.autoever.member.ProviderCall")
+@Label("Provider HTTP Call")
+@Category({"AutoEver", "Messaging"})
+@Description("카카오톡/SMS API 발송 호출의 응답 상태와 소요 시간")
+@StackTrace(false)
+public class ProviderCallEvent extends Event {
+
+    @Label("Channel")
+    String channel;
+
+    @Label("HTTP Status")
+    @Description("응답 상태 코드 (연결 실패 등 응답이 없으면 0)")
+    int httpStatus;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Error Type")
+    String errorType;
+
+    /**
+     * 레코딩 중일 때만 필드를 채워 기록
+     *
+     * @param errorType 실패 분류 (성공이면 null)
+     */
+    public void complete(ApiType channel, int httpStatus, String errorType) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.channel = channel.name();
+        this.httpStatus = httpStatus;
+        this.success = errorType == null;
+        this.errorType = errorType;
+        commit();
+    }
+}
@@ -0,0 +1,49 @@
+package com.autoever.member.jfr;
+
+import com.autoever.member.message.ApiType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 외부 API Rate Limit 거부 JFR 이벤트
+ */
+@Name("com.autoever.member.RateLimitDenied")
+@Label("Rate Limit Denied")
+@Category({"AutoEver", "Messaging"})
+@Description("윈도우 허용량을 모두 사용해 외부 API 호출을 거부")
+@StackTrace(false)
+public class RateLimitDeniedEvent extends Event {
+
+    @Label("Channel")
+    String channel;
+
+    @Label("Current Count")
+    int currentCount;
+
+    @Label("Limit")
+    int limit;
+
+    @Label("Window Remaining")
+    @Timespan(Timespan.SECONDS)
+    long windowRemainingSeconds;
+
+    /**
+     * 레코딩 중일 때만 기록
+     */
+    public static void emit(ApiType channel, int currentCount, int limit, long windowRemainingSeconds) {
+        RateLimitDeniedEvent event = new RateLimitDeniedEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.channel = channel.name();
+        event.currentCount = currentCount;
+        event.limit = limit;
+        event.windowRemainingSeconds = windowRemainingSeconds;
+        event.commit();
+    }
+}
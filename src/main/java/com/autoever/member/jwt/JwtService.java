@@ -1,6 +1,7 @@
 package com.autoever.member.jwt;
 
 import com.autoever.member.config.JwtProperties;
+import com.autoever.member.jfr.JwtValidationEvent;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -120,10 +121,19 @@ public class JwtService {
      * @return 토큰 유효성 여부
      */
     public Boolean validateToken(String token, String username) {
+        JwtValidationEvent event = new JwtValidationEvent();
+        event.begin();
         try {
             final String extractedUsername = extractUsername(token);
-            return (extractedUsername.equals(username) && !isTokenExpired(token));
+            if (!extractedUsername.equals(username)) {
+                event.complete(true, "USERNAME_MISMATCH");
+                return false;
+            }
+            boolean expired = isTokenExpired(token);
+            event.complete(true, expired ? "EXPIRED" : null);
+            return !expired;
         } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+            event.complete(true, e.getClass().getSimpleName());
             log.error("JWT 토큰 검증 실패: {}", e.getMessage());
             return false;
         }
@@ -136,13 +146,18 @@ public class JwtService {
      * @return 토큰 유효성 여부
      */
     public Boolean validateToken(String token) {
+        JwtValidationEvent event = new JwtValidationEvent();
+        event.begin();
         try {
             Jwts.parser()
                     .verifyWith(getSigningKey())
                     .build()
                     .parseSignedClaims(token);
-            return !isTokenExpired(token);
+            boolean expired = isTokenExpired(token);
+            event.complete(false, expired ? "EXPIRED" : null);
+            return !expired;
         } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+            event.complete(false, e.getClass().getSimpleName());
             log.error("JWT 토큰 검증 실패: {}", e.getMessage());
             return false;
         }
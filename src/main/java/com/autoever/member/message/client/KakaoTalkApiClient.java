@@ -1,13 +1,18 @@
 package com.autoever.member.message.client;
 
+import com.autoever.member.jfr.ProviderCallEvent;
 import com.autoever.member.message.ApiType;
 import com.autoever.member.message.config.MessageApiConfig;
 import com.autoever.member.message.dto.MessageRequest;
 import com.autoever.member.message.dto.MessageResponse;
 import com.autoever.member.message.exception.ApiConnectionException;
 import com.autoever.member.message.exception.MessageSendException;
+import com.autoever.member.message.logging.LogSampler;
+import com.autoever.member.message.trace.SpanTracer;
+import com.autoever.member.message.trace.SpanType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
@@ -27,25 +32,35 @@ import java.util.Map;
 public class KakaoTalkApiClient implements MessageApiClient {
     
     private static final Logger log = LoggerFactory.getLogger(KakaoTalkApiClient.class);
+    private static final LogSampler sampler = LogSampler.of(log);
     
     private final RestTemplate restTemplate;
     private final MessageApiConfig.KakaoTalkConfig config;
     private final String authHeader;
+    private final SpanTracer spanTracer;
     
-    public KakaoTalkApiClient(MessageApiConfig messageApiConfig, RestTemplateBuilder restTemplateBuilder) {
+    public KakaoTalkApiClient(MessageApiConfig messageApiConfig, RestTemplateBuilder restTemplateBuilder,
+                              SpanTracer spanTracer) {
         this.config = messageApiConfig.getKakaotalk();
         this.authHeader = createBasicAuthHeader(config.getUsername(), config.getPassword());
         this.restTemplate = restTemplateBuilder
             .setConnectTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
             .setReadTimeout(Duration.ofMillis(config.getReadTimeoutMs()))
             .build();
+        this.spanTracer = spanTracer;
     }
     
     @Override
     public MessageResponse sendMessage(MessageRequest request) {
-        log.info("카카오톡 메시지 발송 시작: recipient={}", maskPhoneNumber(request.recipient()));
+        if (sampler.sample(Level.INFO, "카카오톡 메시지 발송 시작")) {
+            log.info("카카오톡 메시지 발송 시작: recipient={}", maskPhoneNumber(request.recipient()));
+        }
         
-        try {
+        ProviderCallEvent callEvent = new ProviderCallEvent();
+        callEvent.begin();
+        int httpStatus = 0;
+        String errorType = "UNEXPECTED_ERROR";
+        try (SpanTracer.Span callSpan = spanTracer.start(SpanType.PROVIDER_CALL, "kakaotalk.send")) {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.set("Authorization", authHeader);
@@ -60,34 +75,48 @@ public class KakaoTalkApiClient implements MessageApiClient {
             
             String url = config.getBaseUrl() + "/kakaotalk-messages";
             ResponseEntity<Void> response = restTemplate.postForEntity(url, entity, Void.class);
+            httpStatus = response.getStatusCode().value();
             
             if (response.getStatusCode().is2xxSuccessful()) {
                 // Mock 서버는 응답 바디 없이 HTTP 200만 반환
                 String messageId = "kakao_" + System.currentTimeMillis();
                 
-                log.info("카카오톡 메시지 발송 성공: recipient={}, messageId={}", 
-                    maskPhoneNumber(request.recipient()), messageId);
+                if (sampler.sample(Level.INFO, "카카오톡 메시지 발송 성공")) {
+                    log.info("카카오톡 메시지 발송 성공: recipient={}, messageId={}", 
+                        maskPhoneNumber(request.recipient()), messageId);
+                }
                 
+                errorType = null;
                 return MessageResponse.success(messageId, ApiType.KAKAOTALK);
             } else {
-                log.warn("카카오톡 메시지 발송 실패: 응답 상태={}", response.getStatusCode());
+                if (sampler.sample(Level.WARN, "카카오톡 메시지 발송 실패")) {
+                    log.warn("카카오톡 메시지 발송 실패: 응답 상태={}", response.getStatusCode());
+                }
+                errorType = "API_ERROR";
                 return MessageResponse.failure("API_ERROR", 
                     "카카오톡 API 오류: " + response.getStatusCode(), ApiType.KAKAOTALK);
             }
             
         } catch (HttpClientErrorException e) {
-            log.warn("카카오톡 메시지 발송 클라이언트 오류: status={}, body={}", 
-                e.getStatusCode(), e.getResponseBodyAsString());
+            httpStatus = e.getStatusCode().value();
+            errorType = "CLIENT_ERROR";
+            if (sampler.sample(Level.WARN, "카카오톡 메시지 발송 클라이언트 오류")) {
+                log.warn("카카오톡 메시지 발송 클라이언트 오류: status={}, body={}", 
+                    e.getStatusCode(), e.getResponseBodyAsString());
+            }
             return MessageResponse.failure("CLIENT_ERROR", 
                 "클라이언트 오류: " + e.getStatusCode(), ApiType.KAKAOTALK);
                 
         } catch (HttpServerErrorException e) {
+            httpStatus = e.getStatusCode().value();
+            errorType = "SERVER_ERROR";
             log.error("카카오톡 메시지 발송 서버 오류: status={}, body={}", 
                 e.getStatusCode(), e.getResponseBodyAsString());
             return MessageResponse.failure("SERVER_ERROR", 
                 "서버 오류: " + e.getStatusCode(), ApiType.KAKAOTALK);
                 
         } catch (ResourceAccessException e) {
+            errorType = "CONNECTION_ERROR";
             log.error("카카오톡 API 연결 실패", e);
             throw new ApiConnectionException(ApiType.KAKAOTALK, "카카오톡 API 서버에 연결할 수 없습니다", e);
             
@@ -95,6 +124,8 @@ public class KakaoTalkApiClient implements MessageApiClient {
             log.error("카카오톡 메시지 발송 중 예상하지 못한 오류 발생", e);
             throw new MessageSendException(ApiType.KAKAOTALK, "UNEXPECTED_ERROR", 
                 "메시지 발송 중 예상하지 못한 오류가 발생했습니다", e);
+        } finally {
+            callEvent.complete(ApiType.KAKAOTALK, httpStatus, errorType);
         }
     }
     
@@ -121,7 +152,9 @@ public class KakaoTalkApiClient implements MessageApiClient {
                 healthCheckUrl, HttpMethod.GET, entity, String.class);
                 
             boolean isHealthy = response.getStatusCode().is2xxSuccessful();
-            log.debug("카카오톡 API 연결 상태 확인: healthy={}", isHealthy);
+            if (sampler.sample(Level.DEBUG, "카카오톡 API 연결 상태 확인")) {
+                log.debug("카카오톡 API 연결 상태 확인: healthy={}", isHealthy);
+            }
             
             return isHealthy;
             
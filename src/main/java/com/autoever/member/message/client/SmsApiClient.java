@@ -1,13 +1,18 @@
 package com.autoever.member.message.client;
 
+import com.autoever.member.jfr.ProviderCallEvent;
 import com.autoever.member.message.ApiType;
 import com.autoever.member.message.config.MessageApiConfig;
 import com.autoever.member.message.dto.MessageRequest;
 import com.autoever.member.message.dto.MessageResponse;
 import com.autoever.member.message.exception.ApiConnectionException;
 import com.autoever.member.message.exception.MessageSendException;
+import com.autoever.member.message.logging.LogSampler;
+import com.autoever.member.message.trace.SpanTracer;
+import com.autoever.member.message.trace.SpanType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
@@ -27,25 +32,35 @@ import java.util.Map;
 public class SmsApiClient implements MessageApiClient {
     
     private static final Logger log = LoggerFactory.getLogger(SmsApiClient.class);
+    private static final LogSampler sampler = LogSampler.of(log);
     
     private final RestTemplate restTemplate;
     private final MessageApiConfig.SmsConfig config;
     private final String authHeader;
+    private final SpanTracer spanTracer;
     
-    public SmsApiClient(MessageApiConfig messageApiConfig, RestTemplateBuilder restTemplateBuilder) {
+    public SmsApiClient(MessageApiConfig messageApiConfig, RestTemplateBuilder restTemplateBuilder,
+                        SpanTracer spanTracer) {
         this.config = messageApiConfig.getSms();
         this.authHeader = createBasicAuthHeader(config.getUsername(), config.getPassword());
         this.restTemplate = restTemplateBuilder
             .setConnectTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
             .setReadTimeout(Duration.ofMillis(config.getReadTimeoutMs()))
             .build();
+        this.spanTracer = spanTracer;
     }
     
     @Override
     public MessageResponse sendMessage(MessageRequest request) {
-        log.info("SMS 메시지 발송 시작: recipient={}", maskPhoneNumber(request.recipient()));
+        if (sampler.sample(Level.INFO, "SMS 메시지 발송 시작")) {
+            log.info("SMS 메시지 발송 시작: recipient={}", maskPhoneNumber(request.recipient()));
+        }
         
-        try {
+        ProviderCallEvent callEvent = new ProviderCallEvent();
+        callEvent.begin();
+        int httpStatus = 0;
+        String errorType = "UNEXPECTED_ERROR";
+        try (SpanTracer.Span callSpan = spanTracer.start(SpanType.PROVIDER_CALL, "sms.send")) {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.set("Authorization", authHeader);
@@ -60,6 +75,7 @@ public class SmsApiClient implements MessageApiClient {
             // URL 패턴: /sms?phone={phone}
             String url = config.getBaseUrl() + "/sms?phone=" + request.recipient();
             ResponseEntity<Map> response = restTemplate.postForEntity(url, entity, Map.class);
+            httpStatus = response.getStatusCode().value();
             
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 Map<String, Object> responseBody = response.getBody();
@@ -67,35 +83,51 @@ public class SmsApiClient implements MessageApiClient {
                 String messageId = (String) responseBody.get("messageId");
                 
                 if ("OK".equals(result) && messageId != null) {
-                    log.info("SMS 메시지 발송 성공: recipient={}, messageId={}", 
-                        maskPhoneNumber(request.recipient()), messageId);
+                    if (sampler.sample(Level.INFO, "SMS 메시지 발송 성공")) {
+                        log.info("SMS 메시지 발송 성공: recipient={}, messageId={}", 
+                            maskPhoneNumber(request.recipient()), messageId);
+                    }
                     
+                    errorType = null;
                     return MessageResponse.success(messageId, ApiType.SMS);
                 } else {
                     String errorMessage = (String) responseBody.get("message");
-                    log.warn("SMS 메시지 발송 실패: result={}, message={}", result, errorMessage);
+                    if (sampler.sample(Level.WARN, "SMS 메시지 발송 실패")) {
+                        log.warn("SMS 메시지 발송 실패: result={}, message={}", result, errorMessage);
+                    }
+                    errorType = "API_ERROR";
                     return MessageResponse.failure("API_ERROR", 
                         errorMessage != null ? errorMessage : "SMS 발송 실패", ApiType.SMS);
                 }
             } else {
-                log.warn("SMS 메시지 발송 실패: 예상하지 못한 응답 상태={}", response.getStatusCode());
+                if (sampler.sample(Level.WARN, "SMS 메시지 발송 실패")) {
+                    log.warn("SMS 메시지 발송 실패: 예상하지 못한 응답 상태={}", response.getStatusCode());
+                }
+                errorType = "UNEXPECTED_RESPONSE";
                 return MessageResponse.failure("UNEXPECTED_RESPONSE", 
                     "예상하지 못한 응답: " + response.getStatusCode(), ApiType.SMS);
             }
             
         } catch (HttpClientErrorException e) {
-            log.warn("SMS 메시지 발송 클라이언트 오류: status={}, body={}", 
-                e.getStatusCode(), e.getResponseBodyAsString());
+            httpStatus = e.getStatusCode().value();
+            errorType = "CLIENT_ERROR";
+            if (sampler.sample(Level.WARN, "SMS 메시지 발송 클라이언트 오류")) {
+                log.warn("SMS 메시지 발송 클라이언트 오류: status={}, body={}", 
+                    e.getStatusCode(), e.getResponseBodyAsString());
+            }
             return MessageResponse.failure("CLIENT_ERROR", 
                 "클라이언트 오류: " + e.getStatusCode(), ApiType.SMS);
                 
         } catch (HttpServerErrorException e) {
+            httpStatus = e.getStatusCode().value();
+            errorType = "SERVER_ERROR";
             log.error("SMS 메시지 발송 서버 오류: status={}, body={}", 
                 e.getStatusCode(), e.getResponseBodyAsString());
             return MessageResponse.failure("SERVER_ERROR", 
                 "서버 오류: " + e.getStatusCode(), ApiType.SMS);
                 
         } catch (ResourceAccessException e) {
+            errorType = "CONNECTION_ERROR";
             log.error("SMS API 연결 실패", e);
             throw new ApiConnectionException(ApiType.SMS, "SMS API 서버에 연결할 수 없습니다", e);
             
@@ -103,6 +135,8 @@ public class SmsApiClient implements MessageApiClient {
             log.error("SMS 메시지 발송 중 예상하지 못한 오류 발생", e);
             throw new MessageSendException(ApiType.SMS, "UNEXPECTED_ERROR", 
                 "메시지 발송 중 예상하지 못한 오류가 발생했습니다", e);
+        } finally {
+            callEvent.complete(ApiType.SMS, httpStatus, errorType);
         }
     }
     
@@ -129,7 +163,9 @@ public class SmsApiClient implements MessageApiClient {
                 healthCheckUrl, HttpMethod.GET, entity, String.class);
                 
             boolean isHealthy = response.getStatusCode().is2xxSuccessful();
-            log.debug("SMS API 연결 상태 확인: healthy={}", isHealthy);
+            if (sampler.sample(Level.DEBUG, "SMS API 연결 상태 확인")) {
+                log.debug("SMS API 연결 상태 확인: healthy={}", isHealthy);
+            }
             
             return isHealthy;
             
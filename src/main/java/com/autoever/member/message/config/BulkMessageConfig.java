@@ -0,0 +1,285 @@
+package com.autoever.member.message.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 대량 메시지 발송 설정 클래스
+ */
+@Component
+@ConfigurationProperties(prefix = "message.bulk")
+public class BulkMessageConfig {
+
+    // 수신자 커서 조회 시 JDBC fetch size
+    private int fetchSize = 500;
+    
+    // 작업 체크포인트 저장 주기 (큐 적재 완료 수신자 수 기준)
+    private int checkpointInterval = 1000;
+    
+    // 기동 시 미완료 작업 재개 여부
+    private boolean resumeOnStartup = true;
+    
+    // 큐 최대 대기 시간 (초과한 대량 발송 메시지는 발송하지 않음, 0이면 제한 없음)
+    private Duration queueMaxAge = Duration.ofMinutes(30);
+    
+    private PipelineConfig pipeline = new PipelineConfig();
+    private ScanConfig scan = new ScanConfig();
+    private ProgressConfig progress = new ProgressConfig();
+    private AdmissionConfig admission = new AdmissionConfig();
+    private SnapshotConfig snapshot = new SnapshotConfig();
+    private BatchSizingConfig batchSizing = new BatchSizingConfig();
+    private StatisticsConfig statistics = new StatisticsConfig();
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+    
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+    
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+    
+    public boolean isResumeOnStartup() {
+        return resumeOnStartup;
+    }
+    
+    public void setResumeOnStartup(boolean resumeOnStartup) {
+        this.resumeOnStartup = resumeOnStartup;
+    }
+    
+    public Duration getQueueMaxAge() {
+        return queueMaxAge;
+    }
+    
+    public void setQueueMaxAge(Duration queueMaxAge) {
+        this.queueMaxAge = queueMaxAge;
+    }
+    
+    public PipelineConfig getPipeline() {
+        return pipeline;
+    }
+    
+    public void setPipeline(PipelineConfig pipeline) {
+        this.pipeline = pipeline;
+    }
+    
+    public ScanConfig getScan() {
+        return scan;
+    }
+    
+    public void setScan(ScanConfig scan) {
+        this.scan = scan;
+    }
+    
+    public ProgressConfig getProgress() {
+        return progress;
+    }
+    
+    public void setProgress(ProgressConfig progress) {
+        this.progress = progress;
+    }
+    
+    public AdmissionConfig getAdmission() {
+        return admission;
+    }
+    
+    public void setAdmission(AdmissionConfig admission) {
+        this.admission = admission;
+    }
+    
+    public SnapshotConfig getSnapshot() {
+        return snapshot;
+    }
+    
+    public void setSnapshot(SnapshotConfig snapshot) {
+        this.snapshot = snapshot;
+    }
+    
+    public BatchSizingConfig getBatchSizing() {
+        return batchSizing;
+    }
+    
+    public void setBatchSizing(BatchSizingConfig batchSizing) {
+        this.batchSizing = batchSizing;
+    }
+    
+    public StatisticsConfig getStatistics() {
+        return statistics;
+    }
+    
+    public void setStatistics(StatisticsConfig statistics) {
+        this.statistics = statistics;
+    }
+    
+    /**
+     * 조회 → 렌더링 → 큐 적재 파이프라인 설정
+     */
+    public static class PipelineConfig {
+        private int batchSize = 1000;
+        private int prefetchDepth = 4;
+        private int renderQueueDepth = 4;
+        
+        // getters and setters
+        public int getBatchSize() { return batchSize; }
+        public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+        
+        public int getPrefetchDepth() { return prefetchDepth; }
+        public void setPrefetchDepth(int prefetchDepth) { this.prefetchDepth = prefetchDepth; }
+        
+        public int getRenderQueueDepth() { return renderQueueDepth; }
+        public void setRenderQueueDepth(int renderQueueDepth) { this.renderQueueDepth = renderQueueDepth; }
+    }
+    
+    /**
+     * ID 범위 파티션 병렬 조회 설정
+     */
+    public static class ScanConfig {
+        // 동시에 열 수 있는 파티션 커서 수 (Hikari 풀 20개 중 점유 상한)
+        private int maxParallelism = 4;
+        // 파티션 하나가 담당할 최소 예상 수신자 수 (이보다 적으면 단일 커서로 조회)
+        private int minPartitionSize = 20000;
+        
+        // getters and setters
+        public int getMaxParallelism() { return maxParallelism; }
+        public void setMaxParallelism(int maxParallelism) { this.maxParallelism = maxParallelism; }
+        
+        public int getMinPartitionSize() { return minPartitionSize; }
+        public void setMinPartitionSize(int minPartitionSize) { this.minPartitionSize = minPartitionSize; }
+    }
+    
+    /**
+     * 작업 진행 상태 스트리밍 설정
+     */
+    public static class ProgressConfig {
+        // 진행 상태 이벤트 전송 주기 (작업당 초당 최대 1000/publishIntervalMs회로 병합)
+        private long publishIntervalMs = 250;
+        // SSE 연결 최대 유지 시간
+        private long emitterTimeoutMs = 1800000;
+        // 종료된 작업을 메모리에 보관하는 시간
+        private long retentionSeconds = 600;
+        
+        // getters and setters
+        public long getPublishIntervalMs() { return publishIntervalMs; }
+        public void setPublishIntervalMs(long publishIntervalMs) { this.publishIntervalMs = publishIntervalMs; }
+        
+        public long getEmitterTimeoutMs() { return emitterTimeoutMs; }
+        public void setEmitterTimeoutMs(long emitterTimeoutMs) { this.emitterTimeoutMs = emitterTimeoutMs; }
+        
+        public long getRetentionSeconds() { return retentionSeconds; }
+        public void setRetentionSeconds(long retentionSeconds) { this.retentionSeconds = retentionSeconds; }
+    }
+    
+    /**
+     * 동시 실행 작업 수 제한 및 작업별 큐 슬롯 할당 설정
+     */
+    public static class AdmissionConfig {
+        // 동시에 큐 적재를 진행하는 최대 작업 수
+        private int maxActiveJobs = 2;
+        // 실행 대기 가능한 최대 작업 수 (초과 시 접수 거절)
+        private int maxWaitingJobs = 20;
+        // 대량 발송 작업들이 나눠 쓰는 큐 용량 비율 (나머지는 단건 발송용)
+        private int queueSharePercent = 80;
+        // 큐 슬롯 확보 최대 대기 시간 (초과 시 해당 메시지는 큐 용량 초과로 실패 처리)
+        private long slotWaitTimeoutMs = 60000;
+        
+        // getters and setters
+        public int getMaxActiveJobs() { return maxActiveJobs; }
+        public void setMaxActiveJobs(int maxActiveJobs) { this.maxActiveJobs = maxActiveJobs; }
+        
+        public int getMaxWaitingJobs() { return maxWaitingJobs; }
+        public void setMaxWaitingJobs(int maxWaitingJobs) { this.maxWaitingJobs = maxWaitingJobs; }
+        
+        public int getQueueSharePercent() { return queueSharePercent; }
+        public void setQueueSharePercent(int queueSharePercent) { this.queueSharePercent = queueSharePercent; }
+        
+        public long getSlotWaitTimeoutMs() { return slotWaitTimeoutMs; }
+        public void setSlotWaitTimeoutMs(long slotWaitTimeoutMs) { this.slotWaitTimeoutMs = slotWaitTimeoutMs; }
+    }
+    
+    /**
+     * 작업별 수신 대상 스냅샷 파일 설정
+     */
+    public static class SnapshotConfig {
+        // 스냅샷 파일 저장 디렉터리
+        private String directory = System.getProperty("java.io.tmpdir") + "/autoever-audience-snapshots";
+        // 작업 종료 후에도 스냅샷 파일 유지 여부 (기본은 종료 시 삭제)
+        private boolean retainAfterCompletion = false;
+        
+        // getters and setters
+        public String getDirectory() { return directory; }
+        public void setDirectory(String directory) { this.directory = directory; }
+        
+        public boolean isRetainAfterCompletion() { return retainAfterCompletion; }
+        public void setRetainAfterCompletion(boolean retainAfterCompletion) { this.retainAfterCompletion = retainAfterCompletion; }
+    }
+    
+    /**
+     * 작업별 조회/서브 배치 크기 자동 조정 설정
+     * 페이지 크기 범위는 2의 거듭제곱으로 내림하여 적용
+     */
+    public static class BatchSizingConfig {
+        // 자동 조정 여부 (false면 기존 고정 크기 사용)
+        private boolean enabled = true;
+        private int minPageSize = 128;
+        private int maxPageSize = 4096;
+        private int initialPageSize = 1024;
+        private int minSubBatchSize = 25;
+        private int maxSubBatchSize = 500;
+        // 페이지 하나의 목표 조회 시간
+        private long targetFetchMs = 200;
+        // 메시지 큐 여유 공간이 이 비율 미만이면 페이지 크기 축소
+        private int minQueueHeadroomPercent = 20;
+        
+        // getters and setters
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        
+        public int getMinPageSize() { return minPageSize; }
+        public void setMinPageSize(int minPageSize) { this.minPageSize = minPageSize; }
+        
+        public int getMaxPageSize() { return maxPageSize; }
+        public void setMaxPageSize(int maxPageSize) { this.maxPageSize = maxPageSize; }
+        
+        public int getInitialPageSize() { return initialPageSize; }
+        public void setInitialPageSize(int initialPageSize) { this.initialPageSize = initialPageSize; }
+        
+        public int getMinSubBatchSize() { return minSubBatchSize; }
+        public void setMinSubBatchSize(int minSubBatchSize) { this.minSubBatchSize = minSubBatchSize; }
+        
+        public int getMaxSubBatchSize() { return maxSubBatchSize; }
+        public void setMaxSubBatchSize(int maxSubBatchSize) { this.maxSubBatchSize = maxSubBatchSize; }
+        
+        public long getTargetFetchMs() { return targetFetchMs; }
+        public void setTargetFetchMs(long targetFetchMs) { this.targetFetchMs = targetFetchMs; }
+        
+        public int getMinQueueHeadroomPercent() { return minQueueHeadroomPercent; }
+        public void setMinQueueHeadroomPercent(int minQueueHeadroomPercent) { this.minQueueHeadroomPercent = minQueueHeadroomPercent; }
+    }
+    
+    /**
+     * 작업별 발송 통계 보관 설정
+     * 보관 시간이 지났거나 최대 개수를 넘으면 가장 오래 갱신되지 않은 작업부터 제거
+     */
+    public static class StatisticsConfig {
+        // 마지막 갱신 후 작업별 통계 보관 시간
+        private Duration jobTtl = Duration.ofHours(1);
+        // 보관할 최대 작업 수
+        private int maxJobs = 500;
+        
+        // getters and setters
+        public Duration getJobTtl() { return jobTtl; }
+        public void setJobTtl(Duration jobTtl) { this.jobTtl = jobTtl; }
+        
+        public int getMaxJobs() { return maxJobs; }
+        public void setMaxJobs(int maxJobs) { this.maxJobs = maxJobs; }
+    }
+}
@@ -0,0 +1,83 @@
+package com.autoever.member.message.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 수신자별 발송 빈도 제한 설정 클래스
+ */
+@Component
+@ConfigurationProperties(prefix = "message.frequency-cap")
+public class FrequencyCapConfig {
+
+    // 빈도 제한 적용 여부
+    private boolean enabled = true;
+
+    // 집계 시간 단위 (윈도우는 이 단위의 배수여야 함)
+    private Duration bucketDuration = Duration.ofHours(4);
+
+    // 추적할 최대 수신자 수 (메모리 상한 결정)
+    private int maxRecipients = 1_000_000;
+
+    // 윈도우별 최대 발송 수
+    private List<CapRule> caps = new ArrayList<>(List.of(new CapRule(Duration.ofHours(24), 2)));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getBucketDuration() {
+        return bucketDuration;
+    }
+
+    public void setBucketDuration(Duration bucketDuration) {
+        this.bucketDuration = bucketDuration;
+    }
+
+    public int getMaxRecipients() {
+        return maxRecipients;
+    }
+
+    public void setMaxRecipients(int maxRecipients) {
+        this.maxRecipients = maxRecipients;
+    }
+
+    public List<CapRule> getCaps() {
+        return caps;
+    }
+
+    public void setCaps(List<CapRule> caps) {
+        this.caps = caps;
+    }
+
+    /**
+     * 윈도우별 발송 제한
+     */
+    public static class CapRule {
+        private Duration window;
+        private int maxMessages;
+
+        public CapRule() {
+        }
+
+        public CapRule(Duration window, int maxMessages) {
+            this.window = window;
+            this.maxMessages = maxMessages;
+        }
+
+        // getters and setters
+        public Duration getWindow() { return window; }
+        public void setWindow(Duration window) { this.window = window; }
+
+        public int getMaxMessages() { return maxMessages; }
+        public void setMaxMessages(int maxMessages) { this.maxMessages = maxMessages; }
+    }
+}
@@ -0,0 +1,74 @@
+package com.autoever.member.message.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 발송 경로 반복 로그 표본 추출 설정 클래스
+ */
+@Component
+@ConfigurationProperties(prefix = "message.log-sampling")
+public class LogSamplingConfig {
+
+    // 표본 추출 여부 (false면 모든 로그를 기존처럼 출력)
+    private boolean enabled = true;
+
+    // 키별 요약 구간의 첫 건 이후 상세 로그를 남길 비율 (0.0 ~ 1.0)
+    private double sampleRate = 0.01;
+
+    // 요약 로그 출력 주기
+    private long summaryIntervalMs = 1000;
+
+    // 로거별 설정 (키: 클래스 단순 이름 또는 전체 로거 이름)
+    private Map<String, LoggerConfig> loggers = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public long getSummaryIntervalMs() {
+        return summaryIntervalMs;
+    }
+
+    public void setSummaryIntervalMs(long summaryIntervalMs) {
+        this.summaryIntervalMs = summaryIntervalMs;
+    }
+
+    public Map<String, LoggerConfig> getLoggers() {
+        return loggers;
+    }
+
+    public void setLoggers(Map<String, LoggerConfig> loggers) {
+        this.loggers = loggers;
+    }
+
+    /**
+     * 로거별 설정 (지정하지 않은 값은 전역 설정을 따름)
+     */
+    public static class LoggerConfig {
+        private Boolean enabled;
+        private Double sampleRate;
+
+        // getters and setters
+        public Boolean getEnabled() { return enabled; }
+        public void setEnabled(Boolean enabled) { this.enabled = enabled; }
+
+        public Double getSampleRate() { return sampleRate; }
+        public void setSampleRate(Double sampleRate) { this.sampleRate = sampleRate; }
+    }
+}
@@ -0,0 +1,146 @@
+package com.autoever.member.message.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 구조화 이벤트(작업 시작/배치/발송 실패 등) 비동기 기록 설정 클래스
+ */
+@Component
+@ConfigurationProperties(prefix = "message.events")
+public class StructuredEventConfig {
+
+    // 구조화 이벤트 기록 여부 (끄면 이벤트를 만들지 않음)
+    private boolean enabled = true;
+
+    // 발송 스레드와 기록 스레드 사이 링 버퍼 크기 (2의 거듭제곱으로 올림)
+    private int bufferCapacity = 8192;
+
+    // 버퍼가 가득 찼을 때 처리 방식
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    // BLOCK 정책에서 빈 자리를 기다리는 최대 시간 (초과 시 버림)
+    private long blockTimeoutMs = 100;
+
+    // 기록 스레드가 한 번에 꺼내 인코딩하는 최대 이벤트 수
+    private int batchSize = 256;
+
+    // NDJSON 파일 기록 여부
+    private boolean fileEnabled = true;
+
+    // NDJSON 파일 위치
+    private String directory = System.getProperty("java.io.tmpdir") + "/autoever-events";
+
+    // 파일 하나의 최대 크기 (초과 시 교체)
+    private DataSize maxFileSize = DataSize.ofMegabytes(64);
+
+    // 파일 교체 주기
+    private Duration rotationInterval = Duration.ofHours(1);
+
+    // 보관할 교체된 파일 수 (초과 시 오래된 파일부터 삭제)
+    private int maxHistory = 24;
+
+    // 애플리케이션 로그에도 출력할지 여부 (기록 스레드에서 StructuredMessageLogger 로거의 레벨에 따라 출력)
+    private boolean logEnabled = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public void setBufferCapacity(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public long getBlockTimeoutMs() {
+        return blockTimeoutMs;
+    }
+
+    public void setBlockTimeoutMs(long blockTimeoutMs) {
+        this.blockTimeoutMs = blockTimeoutMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public boolean isFileEnabled() {
+        return fileEnabled;
+    }
+
+    public void setFileEnabled(boolean fileEnabled) {
+        this.fileEnabled = fileEnabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public DataSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    public void setMaxFileSize(DataSize maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    public Duration getRotationInterval() {
+        return rotationInterval;
+    }
+
+    public void setRotationInterval(Duration rotationInterval) {
+        this.rotationInterval = rotationInterval;
+    }
+
+    public int getMaxHistory() {
+        return maxHistory;
+    }
+
+    public void setMaxHistory(int maxHistory) {
+        this.maxHistory = maxHistory;
+    }
+
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    /**
+     * 버퍼가 가득 찼을 때 처리 방식
+     */
+    public enum OverflowPolicy {
+        // 즉시 버리고 카운트 (발송 스레드 지연 없음)
+        DROP,
+        // blockTimeoutMs까지 빈 자리를 기다린 뒤 버림
+        BLOCK
+    }
+}
@@ -0,0 +1,58 @@
+package com.autoever.member.message.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 대량 발송 작업 구간(span) 추적 설정 클래스
+ */
+@Component
+@ConfigurationProperties(prefix = "message.tracing")
+public class TracingConfig {
+
+    // 구간 추적 여부
+    private boolean enabled = true;
+
+    // 최근 구간 링 버퍼 크기 (2의 거듭제곱으로 올림, 가득 차면 오래된 구간부터 덮어씀)
+    private int bufferCapacity = 16384;
+
+    // 작업별 구간 집계 최대 보관 수
+    private int maxJobs = 100;
+
+    // 마지막 구간 기록 후 작업별 집계 보관 시간
+    private Duration jobTtl = Duration.ofHours(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public void setBufferCapacity(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public int getMaxJobs() {
+        return maxJobs;
+    }
+
+    public void setMaxJobs(int maxJobs) {
+        this.maxJobs = maxJobs;
+    }
+
+    public Duration getJobTtl() {
+        return jobTtl;
+    }
+
+    public void setJobTtl(Duration jobTtl) {
+        this.jobTtl = jobTtl;
+    }
+}
@@ -0,0 +1,55 @@
+package com.autoever.member.message.dto;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 대량 발송 작업 실행 허가 결과
+ * 
+ * @param jobId 작업 ID
+ * @param state 허가 상태
+ * @param position 대기 순번 (실행 중이면 0)
+ * @param estimatedWait 실행 시작까지 예상 대기 시간
+ */
+public record BulkJobAdmission(
+    UUID jobId,
+    State state,
+    int position,
+    Duration estimatedWait
+) {
+    
+    public enum State {
+        ACTIVE("실행 중"),
+        WAITING("실행 대기"),
+        REJECTED("접수 거절");
+        
+        private final String description;
+        
+        State(String description) {
+            this.description = description;
+        }
+        
+        public String getDescription() {
+            return description;
+        }
+    }
+    
+    /**
+     * 실행 허가 현황
+     * 
+     * @param maxActiveJobs 최대 동시 실행 작업 수
+     * @param queueSlotsPerJob 작업당 할당 큐 슬롯 수
+     * @param activeJobs 실행 중인 작업
+     * @param waitingJobs 대기 중인 작업 (순번 순)
+     * @param throughputPerSecond ETA 계산에 사용한 초당 처리량
+     */
+    public record Status(
+        int maxActiveJobs,
+        int queueSlotsPerJob,
+        List<UUID> activeJobs,
+        List<BulkJobAdmission> waitingJobs,
+        double throughputPerSecond
+    ) {
+    }
+}
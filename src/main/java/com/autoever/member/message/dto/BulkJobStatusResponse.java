@@ -0,0 +1,67 @@
+package com.autoever.member.message.dto;
+
+import com.autoever.member.message.metrics.LatencyHistogram;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 대량 메시지 발송 작업 진행 상태 DTO
+ */
+public record BulkJobStatusResponse(
+    UUID jobId,
+    AgeGroup ageGroup,
+    BulkMessageResponse.JobStatus status,
+    int totalUsers,
+    int processedCount,
+    int successCount,
+    int failureCount,
+    double progressRate,
+    DeliveryStats delivery,
+    LocalDateTime startedAt,
+    LocalDateTime completedAt
+) {
+    
+    /**
+     * 진행률(%) 계산 후 응답 생성
+     */
+    public static BulkJobStatusResponse of(UUID jobId, AgeGroup ageGroup, BulkMessageResponse.JobStatus status,
+                                           int totalUsers, int processedCount, int successCount, int failureCount,
+                                           DeliveryStats delivery, LocalDateTime startedAt, LocalDateTime completedAt) {
+        double progressRate = totalUsers == 0 ? 100.0 : Math.min(100.0, (double) processedCount / totalUsers * 100);
+        return new BulkJobStatusResponse(jobId, ageGroup, status, totalUsers, processedCount,
+            successCount, failureCount, progressRate, delivery, startedAt, completedAt);
+    }
+    
+    /**
+     * 종료 상태 여부
+     */
+    public boolean isFinished() {
+        return switch (status) {
+            case COMPLETED, PARTIALLY_FAILED, FAILED, CANCELLED -> true;
+            default -> false;
+        };
+    }
+    
+    /**
+     * 큐 처리 단계 집계 (이 노드에서 실행 중이거나 최근 종료된 작업만 제공)
+     * 
+     * @param enqueuedCount 이번 실행에서 큐에 적재된 메시지 수
+     * @param deliveredCount 발송 성공 수
+     * @param deliveryFailureCount 발송 실패 수 (Rate limit 소진 포함)
+     * @param frequencyCappedCount 수신자별 발송 빈도 제한으로 적재하지 않은 메시지 수
+     * @param expiredCount 큐 대기 중 발송 기한이 지나 버린 메시지 수
+     * @param queueWait 큐 적재 → 발송 시작 대기 시간 분포
+     * @param sendLatency 발송 시작 → 외부 API 응답 시간 분포
+     */
+    public record DeliveryStats(
+        int enqueuedCount,
+        int deliveredCount,
+        int deliveryFailureCount,
+        int frequencyCappedCount,
+        int expiredCount,
+        LatencyHistogram.Snapshot queueWait,
+        LatencyHistogram.Snapshot sendLatency
+    ) {
+    }
+}
@@ -12,9 +12,15 @@ public record BulkMessageResponse(
     int totalUsers,
     Duration estimatedDuration,
     JobStatus status,
-    LocalDateTime startedAt
+    LocalDateTime startedAt,
+    Integer waitingPosition
 ) {
     
+    public BulkMessageResponse(UUID jobId, int totalUsers, Duration estimatedDuration,
+                               JobStatus status, LocalDateTime startedAt) {
+        this(jobId, totalUsers, estimatedDuration, status, startedAt, null);
+    }
+    
     /**
      * 대량 메시지 발송 작업 상태
      */
@@ -54,6 +60,24 @@ public record BulkMessageResponse(
         );
     }
     
+    /**
+     * 동시 실행 작업 수 초과로 대기열에 등록된 응답 생성
+     * 
+     * @param waitingPosition 대기 순번 (1부터 시작)
+     * @param estimatedWait 실행 시작까지 예상 대기 시간
+     */
+    public static BulkMessageResponse waiting(UUID jobId, int totalUsers, int waitingPosition, Duration estimatedWait) {
+        BulkMessageResponse inProgress = inProgress(jobId, totalUsers);
+        return new BulkMessageResponse(
+            jobId,
+            totalUsers,
+            estimatedWait.plus(inProgress.estimatedDuration()),
+            JobStatus.CREATED,
+            LocalDateTime.now(),
+            waitingPosition
+        );
+    }
+    
     /**
      * 큐 가득참으로 인한 실패 응답 생성
      */
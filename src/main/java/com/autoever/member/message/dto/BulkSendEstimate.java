@@ -0,0 +1,57 @@
+package com.autoever.member.message.dto;
+
+import com.autoever.member.message.ApiType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대량 메시지 발송 예상 결과 (dry run)
+ * 
+ * @param ageGroup 대상 연령대
+ * @param audienceSize 발송 대상 회원 수
+ * @param backlogAhead 먼저 처리될 메시지 수 (큐 적재분 + 진행 중인 작업의 미적재분)
+ * @param throughputPerMinute 예상 분당 처리량
+ * @param estimatedDuration 마지막 메시지 처리까지 예상 소요 시간
+ * @param estimatedCompletionAt 예상 완료 시각
+ * @param expectedSuccessCount 예상 성공 수
+ * @param expectedFailureCount 예상 실패 수
+ * @param fallbackShare 성공 메시지 중 SMS로 발송되는 비율(%)
+ * @param channels 채널별 예상 발송량
+ */
+public record BulkSendEstimate(
+    AgeGroup ageGroup,
+    long audienceSize,
+    long backlogAhead,
+    double throughputPerMinute,
+    Duration estimatedDuration,
+    LocalDateTime estimatedCompletionAt,
+    long expectedSuccessCount,
+    long expectedFailureCount,
+    double fallbackShare,
+    List<ChannelProjection> channels
+) {
+    
+    /**
+     * 채널별 예상 발송량
+     * 
+     * @param apiType API 타입
+     * @param rateLimitPerMinute 분당 요청 제한
+     * @param projectedVolume 예상 호출 수
+     * @param projectedSuccess 예상 성공 수
+     * @param successRate 적용한 성공률 (0.0 ~ 1.0)
+     * @param meanLatencyMs 적용한 평균 응답 시간
+     * @param observed 관측값 사용 여부 (관측 이력이 부족하면 기본값 사용)
+     */
+    public record ChannelProjection(
+        ApiType apiType,
+        int rateLimitPerMinute,
+        long projectedVolume,
+        long projectedSuccess,
+        double successRate,
+        double meanLatencyMs,
+        boolean observed
+    ) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.autoever.member.message.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 ID 범위 (양 끝 포함)
+ *
+ * @param lowerId 시작 ID
+ * @param upperId 끝 ID
+ */
+public record IdRange(long lowerId, long upperId) {
+
+    /**
+     * ID 범위를 연속된 구간으로 균등 분할
+     *
+     * @param parts 분할 개수
+     * @return 분할된 ID 범위 목록 (범위 폭보다 많이 분할하지 않음)
+     */
+    public List<IdRange> split(int parts) {
+        long width = upperId - lowerId + 1;
+        int count = (int) Math.max(1, Math.min(parts, width));
+        long step = width / count;
+        long remainder = width % count;
+
+        List<IdRange> ranges = new ArrayList<>(count);
+        long start = lowerId;
+        for (int i = 0; i < count; i++) {
+            long size = step + (i < remainder ? 1 : 0);
+            ranges.add(new IdRange(start, start + size - 1));
+            start += size;
+        }
+        return ranges;
+    }
+}
@@ -6,6 +6,8 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
+import java.util.Map;
+
 /**
  * 대량 메시지 발송 요청 DTO
  */
@@ -21,9 +23,49 @@ public record MessageSendDto(
             example = "신제품 출시 기념 20% 할인 혜택을 놓치지 마세요!")
     @NotBlank(message = "메시지 내용은 필수입니다")
     @Size(min = 1, max = 1000, message = "메시지는 1자 이상 1000자 이하로 작성해주세요")
-    String message
+    String message,
+    
+    @Schema(description = "추가 대상 조건 (세그먼트 표현식, 선택). 연령대 대상 중 조건에 맞는 회원에게만 발송합니다. " +
+                          "속성: region(시/도), gender(MALE/FEMALE), age(연령대), signup(가입일 yyyy-MM-dd 또는 기간 from..to), " +
+                          "연산자: AND, OR, NOT, 괄호", 
+            example = "region:서울특별시 AND gender:FEMALE AND NOT signup:..2023-12-31")
+    @Size(max = 1000, message = "세그먼트 표현식은 1000자 이하로 작성해주세요")
+    String segment,
+    
+    @Schema(description = "사용자 정의 필드 값 (선택). 메시지의 {custom.이름} 치환자를 이 값으로 바꿉니다", 
+            example = "{\"coupon\": \"WELCOME20\"}")
+    @Size(max = 20, message = "사용자 정의 필드는 20개 이하로 지정해주세요")
+    Map<@NotBlank(message = "사용자 정의 필드 이름은 필수입니다") @Size(max = 100) String,
+        @NotNull(message = "사용자 정의 필드 값은 필수입니다") @Size(max = 1000) String> customFields
 ) {
     
+    public MessageSendDto {
+        customFields = customFields != null ? customFields : Map.of();
+    }
+    
+    /**
+     * 세그먼트 조건 없이 연령대 전체를 대상으로 하는 요청
+     */
+    public MessageSendDto(String ageGroup, String message) {
+        this(ageGroup, message, null);
+    }
+    
+    /**
+     * 사용자 정의 필드 없이 세그먼트 조건만 지정한 요청
+     */
+    public MessageSendDto(String ageGroup, String message, String segment) {
+        this(ageGroup, message, segment, null);
+    }
+    
+    /**
+     * 세그먼트 조건 지정 여부
+     */
+    @Schema(hidden = true)
+    public boolean hasSegment() {
+        return segment != null && !segment.isBlank();
+    }
+    
+
     /**
      * 연령대 열거형 반환
      */
@@ -0,0 +1,12 @@
+package com.autoever.member.message.dto;
+
+/**
+ * 메시지 수신자 프로젝션
+ * 대량 발송에 필요한 최소 정보(ID, 이름, 전화번호)만 담는 읽기 전용 레코드
+ */
+public record Recipient(
+    Long id,
+    String name,
+    String phoneNumber
+) {
+}
@@ -0,0 +1,105 @@
+package com.autoever.member.message.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 잠금 없는 고정 크기 링 버퍼 (다중 생산자, 단일 소비자)
+ *
+ * 칸마다 순번(sequence)을 두어 생산자는 tail CAS로 자리를 확보한 뒤 값을 쓰고 순번을 올려 공개하며,
+ * 소비자는 공개된 칸만 꺼낸 뒤 순번을 한 바퀴 뒤로 옮겨 다음 생산자에게 돌려줌.
+ * 가득 차면 offer가 즉시 false를 반환하므로 대기 여부는 호출자가 정함
+ */
+public final class EventRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity 최소 크기 (2의 거듭제곱으로 올림)
+     */
+    public EventRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("버퍼 크기는 1 이상 2^30 이하여야 합니다: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 값 추가 (여러 스레드에서 동시 호출 가능)
+     *
+     * @return 가득 차서 추가하지 못하면 false
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                // 다른 생산자가 먼저 자리를 가져감
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 공개된 값을 순서대로 꺼내 전달 (단일 소비자 스레드에서만 호출)
+     *
+     * @param consumer 꺼낸 값 처리
+     * @param maxElements 최대 꺼낼 개수
+     * @return 꺼낸 개수
+     */
+    public int drain(Consumer<? super E> consumer, int maxElements) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                // 비었거나 생산자가 아직 값을 공개하지 않음
+                break;
+            }
+            E element = elements.get(index);
+            elements.lazySet(index, null);
+            sequences.set(index, position + mask + 1);
+            position++;
+            drained++;
+            head.lazySet(position);
+            consumer.accept(element);
+        }
+        return drained;
+    }
+
+    /**
+     * 현재 대기 중인 값 수 (근사치)
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(tail.get() - head.get(), mask + 1));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,142 @@
+package com.autoever.member.message.event;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * 크기/시간 기준으로 교체되는 NDJSON 파일 작성기 (기록 스레드 전용, 스레드 안전하지 않음)
+ *
+ * 현재 파일은 {baseName}.ndjson이며, 최대 크기를 넘거나 교체 주기가 지나면
+ * {baseName}-{yyyyMMdd-HHmmss-SSS}-{일련번호}.ndjson으로 이름을 바꾸고 새 파일을 엶.
+ * 교체된 파일은 maxHistory개만 남기고 오래된 것부터 삭제
+ */
+class RollingNdjsonWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String EXTENSION = ".ndjson";
+    private static final DateTimeFormatter ROTATED_SUFFIX =
+        DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneId.systemDefault());
+
+    private final Path directory;
+    private final String baseName;
+    private final long maxFileSize;
+    private final long rotationIntervalMillis;
+    private final int maxHistory;
+    private final LongSupplier clockMillis;
+
+    private OutputStream output;
+    private long currentSize;
+    private long openedAtMillis;
+
+    RollingNdjsonWriter(Path directory, String baseName, long maxFileSize, long rotationIntervalMillis,
+                        int maxHistory, LongSupplier clockMillis) {
+        this.directory = directory;
+        this.baseName = baseName;
+        this.maxFileSize = Math.max(1, maxFileSize);
+        this.rotationIntervalMillis = rotationIntervalMillis;
+        this.maxHistory = Math.max(0, maxHistory);
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * 한 줄 기록 (줄바꿈은 호출자가 포함)
+     * 줄 중간에서 파일이 나뉘지 않도록 쓰기 전에 교체 여부를 판단
+     */
+    void write(byte[] line, int offset, int length) throws IOException {
+        if (output == null) {
+            open();
+        } else if (currentSize > 0 && (currentSize + length > maxFileSize || rotationDue())) {
+            rotate();
+        }
+        output.write(line, offset, length);
+        currentSize += length;
+    }
+
+    void flush() throws IOException {
+        if (output != null) {
+            output.flush();
+        }
+    }
+
+    /**
+     * 기록이 없는 동안에도 교체 주기가 지나면 파일 교체
+     */
+    void rotateIfDue() throws IOException {
+        if (output != null && currentSize > 0 && rotationDue()) {
+            rotate();
+        }
+    }
+
+    Path currentFile() {
+        return directory.resolve(baseName + EXTENSION);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (output != null) {
+            try {
+                output.close();
+            } finally {
+                output = null;
+            }
+        }
+    }
+
+    private boolean rotationDue() {
+        return rotationIntervalMillis > 0 && clockMillis.getAsLong() - openedAtMillis >= rotationIntervalMillis;
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        Path file = currentFile();
+        output = new BufferedOutputStream(Files.newOutputStream(file,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND), BUFFER_SIZE);
+        currentSize = Files.size(file);
+        openedAtMillis = clockMillis.getAsLong();
+    }
+
+    private void rotate() throws IOException {
+        close();
+        String suffix = ROTATED_SUFFIX.format(Instant.ofEpochMilli(clockMillis.getAsLong()));
+        // 같은 밀리초에 여러 번 교체되어도 이름순 정렬이 생성 순서가 되도록 일련번호를 붙임
+        Path rotated;
+        int sequence = 0;
+        do {
+            rotated = directory.resolve(String.format("%s-%s-%03d%s", baseName, suffix, sequence++, EXTENSION));
+        } while (Files.exists(rotated));
+        Files.move(currentFile(), rotated, StandardCopyOption.ATOMIC_MOVE);
+        deleteOldFiles();
+        open();
+    }
+
+    private void deleteOldFiles() throws IOException {
+        List<Path> rotatedFiles = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(baseName + "-") && name.endsWith(EXTENSION);
+            }).forEach(rotatedFiles::add);
+        }
+        if (rotatedFiles.size() <= maxHistory) {
+            return;
+        }
+        // 접미사가 시각 순이므로 이름순 정렬이 생성 순서
+        rotatedFiles.sort(null);
+        for (Path file : rotatedFiles.subList(0, rotatedFiles.size() - maxHistory)) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.autoever.member.message.event;
+
+import org.slf4j.event.Level;
+
+import java.util.Map;
+
+/**
+ * 구조화 이벤트
+ * 발송 스레드에서는 필드만 담아 넘기고, 시각 포맷과 JSON 직렬화는 기록 스레드에서 수행
+ *
+ * @param timestampMillis 발생 시각 (epoch 밀리초)
+ * @param level 로그 레벨
+ * @param message 로그 메시지
+ * @param eventType 이벤트 종류 (JOB_START, MESSAGE_FAILURE 등)
+ * @param fields JSON으로 기록할 필드
+ */
+public record StructuredEvent(
+    long timestampMillis,
+    Level level,
+    String message,
+    String eventType,
+    Map<String, Object> fields
+) {
+}
@@ -0,0 +1,336 @@
+package com.autoever.member.message.event;
+
+import com.autoever.member.message.config.StructuredEventConfig;
+import com.autoever.member.message.metrics.PrometheusCollector;
+import com.autoever.member.message.metrics.PrometheusTextWriter;
+import com.autoever.member.message.service.StructuredMessageLogger;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 구조화 이벤트 비동기 기록기
+ *
+ * 발송 스레드는 이벤트를 잠금 없는 링 버퍼에 넣기만 하고, 전용 기록 스레드가 배치 단위로 꺼내
+ * JSON 한 줄씩 인코딩해 NDJSON 파일(크기/시간 기준 교체)과 애플리케이션 로그에 기록함.
+ * 버퍼가 가득 차면 설정된 정책(DROP/BLOCK)에 따라 버리고 이벤트 종류별로 카운트하며
+ * 버림/기록 건수는 /internal/metrics로 노출.
+ * 파일 기록은 설정(enabled, fileEnabled)으로만 결정하고, 애플리케이션 로그 출력은 기존과 같이
+ * StructuredMessageLogger 로거 이름과 레벨을 따름
+ */
+@Slf4j
+@Component
+public class StructuredEventSink implements PrometheusCollector {
+
+    // 애플리케이션 로그 출력용 로거 (기존 로그 설정과 수집 규칙을 유지하기 위해 StructuredMessageLogger 이름 사용)
+    private static final Logger eventLog = LoggerFactory.getLogger(StructuredMessageLogger.class);
+
+    private static final String FILE_BASE_NAME = "structured-events";
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    // 버퍼가 비었을 때 기록 스레드 대기 시간
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    // BLOCK 정책에서 빈 자리 재확인 간격
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final StructuredEventConfig config;
+    private final ObjectMapper objectMapper;
+    private final EventRingBuffer<StructuredEvent> buffer;
+    private final RollingNdjsonWriter fileWriter;
+
+    // 기록 스레드 전용 재사용 버퍼
+    private final List<StructuredEvent> batch;
+    private final LineBuffer line = new LineBuffer();
+
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder encodeFailureCount = new LongAdder();
+    private final LongAdder writeFailureCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final Map<String, LongAdder> droppedByEventType = new ConcurrentHashMap<>();
+
+    private volatile Thread writerThread;
+    private volatile boolean running;
+
+    public StructuredEventSink(StructuredEventConfig config, ObjectMapper objectMapper) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.buffer = new EventRingBuffer<>(config.getBufferCapacity());
+        this.batch = new ArrayList<>(Math.max(1, config.getBatchSize()));
+        this.fileWriter = config.isEnabled() && config.isFileEnabled()
+            ? new RollingNdjsonWriter(Path.of(config.getDirectory()), FILE_BASE_NAME,
+                config.getMaxFileSize().toBytes(), config.getRotationInterval().toMillis(),
+                config.getMaxHistory(), System::currentTimeMillis)
+            : null;
+    }
+
+    /**
+     * 기록 스레드 시작
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runWriter, "structured-event-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+    }
+
+    /**
+     * 남은 이벤트를 모두 기록한 뒤 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        closeFile();
+    }
+
+    /**
+     * 이벤트 발행 (발송 스레드에서 호출)
+     *
+     * @return 버퍼가 가득 차 버려졌으면 false
+     */
+    public boolean publish(StructuredEvent event) {
+        if (buffer.offer(event)) {
+            publishedCount.increment();
+            return true;
+        }
+        if (config.getOverflowPolicy() == StructuredEventConfig.OverflowPolicy.BLOCK && awaitCapacity(event)) {
+            publishedCount.increment();
+            return true;
+        }
+        droppedCount.increment();
+        droppedByEventType.computeIfAbsent(event.eventType(), key -> new LongAdder()).increment();
+        return false;
+    }
+
+    /**
+     * 해당 레벨 이벤트를 기록할 대상이 있는지 확인 (없으면 발행 측에서 이벤트를 만들지 않음)
+     * 파일은 레벨과 관계없이 모든 이벤트를 기록하고, 애플리케이션 로그는 로거 레벨에 따름
+     */
+    public boolean isEnabled(Level level) {
+        if (!config.isEnabled()) {
+            return false;
+        }
+        return fileWriter != null || (config.isLogEnabled() && isLogEnabled(level));
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    @Override
+    public void collect(PrometheusTextWriter writer) {
+        writer.counter("structured_events_published_total", "버퍼에 넣은 구조화 이벤트 수", publishedCount.sum());
+        writer.counter("structured_events_written_total", "기록 완료한 구조화 이벤트 수", writtenCount.sum());
+        writer.counter("structured_events_encode_failures_total", "직렬화에 실패한 구조화 이벤트 수",
+            encodeFailureCount.sum());
+        writer.counter("structured_events_write_failures_total", "파일 기록에 실패한 배치 수",
+            writeFailureCount.sum());
+        writer.counter("structured_events_dropped_total", "버퍼가 가득 차 버린 구조화 이벤트 수", droppedCount.sum());
+        droppedByEventType.forEach((eventType, count) ->
+            writer.counter("structured_events_dropped_by_type_total", "이벤트 종류별 버린 구조화 이벤트 수",
+                count.sum(), "event_type", eventType));
+        writer.gauge("structured_events_pending", "기록 대기 중인 구조화 이벤트 수", buffer.size());
+        writer.gauge("structured_events_buffer_capacity", "구조화 이벤트 버퍼 크기", buffer.capacity());
+    }
+
+    /**
+     * 대기 중인 이벤트를 배치 단위로 모두 기록 (기록 스레드 전용)
+     *
+     * @return 기록한 이벤트 수
+     */
+    int drain() {
+        int total = 0;
+        int drained;
+        while ((drained = buffer.drain(batch::add, Math.max(1, config.getBatchSize()))) > 0) {
+            writeBatch();
+            total += drained;
+        }
+        flushFile();
+        return total;
+    }
+
+    private void runWriter() {
+        while (running) {
+            try {
+                if (drain() == 0) {
+                    if (fileWriter != null) {
+                        fileWriter.rotateIfDue();
+                    }
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+            } catch (Exception e) {
+                // 예외로 기록 스레드가 종료되지 않도록 기록만 함
+                log.warn("구조화 이벤트 기록 중 오류 발생 - error: {}", e.getMessage());
+            }
+        }
+        // 종료 전 남은 이벤트 기록
+        drain();
+    }
+
+    private boolean awaitCapacity(StructuredEvent event) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getBlockTimeoutMs());
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (buffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeBatch() {
+        boolean fileFailed = false;
+        for (StructuredEvent event : batch) {
+            if (!encode(event)) {
+                continue;
+            }
+            if (fileWriter != null && !fileFailed) {
+                try {
+                    fileWriter.write(line.array(), 0, line.size());
+                } catch (IOException e) {
+                    // 같은 배치의 나머지는 파일 기록을 건너뛰고 다음 배치에서 다시 시도
+                    fileFailed = true;
+                    writeFailureCount.increment();
+                    log.warn("구조화 이벤트 파일 기록 실패 - error: {}", e.getMessage());
+                    closeFile();
+                }
+            }
+            if (config.isLogEnabled() && isLogEnabled(event.level())) {
+                logEvent(event);
+            }
+            writtenCount.increment();
+        }
+        batch.clear();
+    }
+
+    /**
+     * 이벤트를 JSON 한 줄로 인코딩 (line 버퍼에 기록, 줄바꿈 포함)
+     */
+    private boolean encode(StructuredEvent event) {
+        line.reset();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(line)) {
+            generator.writeStartObject();
+            generator.writeStringField("timestamp",
+                TIMESTAMP_FORMATTER.format(Instant.ofEpochMilli(event.timestampMillis())));
+            generator.writeStringField("level", event.level().name());
+            generator.writeStringField("message", event.message());
+            for (Map.Entry<String, Object> field : event.fields().entrySet()) {
+                generator.writeFieldName(field.getKey());
+                generator.writeObject(field.getValue());
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            encodeFailureCount.increment();
+            log.error("구조화 이벤트 직렬화 실패 - eventType: {}, error: {}", event.eventType(), e.getMessage());
+            return false;
+        }
+        line.write('\n');
+        return true;
+    }
+
+    private void logEvent(StructuredEvent event) {
+        // 애플리케이션 로그에는 기존과 같이 "메시지 | JSON" 형식으로 출력 (줄바꿈 제외)
+        String json = new String(line.array(), 0, line.size() - 1, StandardCharsets.UTF_8);
+        Object jobId = event.fields().get("jobId");
+        if (jobId != null) {
+            MDC.put("jobId", jobId.toString());
+        }
+        try {
+            switch (event.level()) {
+                case DEBUG, TRACE -> eventLog.debug("{} | {}", event.message(), json);
+                case WARN -> eventLog.warn("{} | {}", event.message(), json);
+                case ERROR -> eventLog.error("{} | {}", event.message(), json);
+                default -> eventLog.info("{} | {}", event.message(), json);
+            }
+        } finally {
+            MDC.remove("jobId");
+        }
+    }
+
+    private static boolean isLogEnabled(Level level) {
+        return switch (level) {
+            case DEBUG, TRACE -> eventLog.isDebugEnabled();
+            case WARN -> eventLog.isWarnEnabled();
+            case ERROR -> eventLog.isErrorEnabled();
+            default -> eventLog.isInfoEnabled();
+        };
+    }
+
+    private void flushFile() {
+        if (fileWriter == null) {
+            return;
+        }
+        try {
+            fileWriter.flush();
+        } catch (IOException e) {
+            writeFailureCount.increment();
+            log.warn("구조화 이벤트 파일 flush 실패 - error: {}", e.getMessage());
+            closeFile();
+        }
+    }
+
+    private void closeFile() {
+        if (fileWriter == null) {
+            return;
+        }
+        try {
+            fileWriter.close();
+        } catch (IOException e) {
+            log.warn("구조화 이벤트 파일 닫기 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 인코딩 결과를 복사 없이 파일에 쓰기 위해 내부 배열을 노출하는 버퍼
+     */
+    private static final class LineBuffer extends ByteArrayOutputStream {
+        LineBuffer() {
+            super(512);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+}
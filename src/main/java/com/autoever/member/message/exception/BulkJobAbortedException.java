@@ -0,0 +1,22 @@
+package com.autoever.member.message.exception;
+
+import java.util.UUID;
+
+/**
+ * 대량 발송 작업 중단 예외
+ * 큐 슬롯을 기한 내에 확보하지 못하는 등 남은 수신자를 더 이상 적재할 수 없을 때 발생하며,
+ * 수신자별 오류 처리에서 삼키지 않고 파이프라인까지 전달되어 작업을 실패로 종료시킴
+ */
+public class BulkJobAbortedException extends RuntimeException {
+    
+    private final UUID jobId;
+    
+    public BulkJobAbortedException(UUID jobId, String message) {
+        super(message);
+        this.jobId = jobId;
+    }
+    
+    public UUID getJobId() {
+        return jobId;
+    }
+}
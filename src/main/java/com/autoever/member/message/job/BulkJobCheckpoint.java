@@ -0,0 +1,150 @@
+package com.autoever.member.message.job;
+
+import com.autoever.member.entity.BulkMessageJob;
+import com.autoever.member.entity.BulkMessageJobPartition;
+import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.IdRange;
+import com.autoever.member.message.dto.Recipient;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 실행 중인 대량 발송 작업의 체크포인트 (메모리 상태)
+ * 파티션별로 큐 적재까지 완료된 마지막 사용자 ID를 추적
+ *
+ * 파티션 내부 수신자는 ID 오름차순으로 큐 적재 단계에 도달하므로
+ * 파티션별 최대 ID가 곧 재개 지점이 됨. 큐 적재 단계 스레드에서만 갱신
+ */
+@Getter
+public class BulkJobCheckpoint {
+
+    private final UUID jobId;
+    private final AgeGroup ageGroup;
+    private final String message;
+    private final String segment;
+    private final Map<String, String> customFields;
+    private final int totalUsers;
+    private final List<IdRange> partitions;
+    private final long[] lastProcessedIds;
+    private final int processedCount;
+    private final int successCount;
+    private final int failureCount;
+    private int uncheckpointedCount;
+
+    private BulkJobCheckpoint(UUID jobId, AgeGroup ageGroup, String message, String segment,
+                              Map<String, String> customFields, int totalUsers,
+                              List<IdRange> partitions, long[] lastProcessedIds,
+                              int processedCount, int successCount, int failureCount) {
+        this.jobId = jobId;
+        this.ageGroup = ageGroup;
+        this.message = message;
+        this.segment = segment;
+        this.customFields = customFields != null ? Map.copyOf(customFields) : Map.of();
+        this.totalUsers = totalUsers;
+        this.partitions = List.copyOf(partitions);
+        this.lastProcessedIds = lastProcessedIds;
+        this.processedCount = processedCount;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+    }
+
+    /**
+     * 새 작업의 체크포인트 생성 (모든 파티션이 시작 전 상태)
+     */
+    public static BulkJobCheckpoint start(UUID jobId, AgeGroup ageGroup, String message, int totalUsers,
+                                          List<IdRange> partitions) {
+        return start(jobId, ageGroup, message, null, Map.of(), totalUsers, partitions);
+    }
+
+    /**
+     * 세그먼트 조건과 사용자 정의 필드 값이 있는 새 작업의 체크포인트 생성
+     */
+    public static BulkJobCheckpoint start(UUID jobId, AgeGroup ageGroup, String message, String segment,
+                                          Map<String, String> customFields, int totalUsers,
+                                          List<IdRange> partitions) {
+        long[] lastProcessedIds = partitions.stream().mapToLong(partition -> partition.lowerId() - 1).toArray();
+        return new BulkJobCheckpoint(jobId, ageGroup, message, segment, customFields, totalUsers, partitions,
+            lastProcessedIds, 0, 0, 0);
+    }
+
+    /**
+     * 저장된 작업으로부터 체크포인트 복원
+     */
+    public static BulkJobCheckpoint restore(BulkMessageJob job) {
+        List<IdRange> partitions = new ArrayList<>(job.getPartitions().size());
+        long[] lastProcessedIds = new long[job.getPartitions().size()];
+        for (int i = 0; i < job.getPartitions().size(); i++) {
+            BulkMessageJobPartition partition = job.getPartitions().get(i);
+            partitions.add(new IdRange(partition.getLowerId(), partition.getUpperId()));
+            lastProcessedIds[i] = partition.getLastProcessedId();
+        }
+        return new BulkJobCheckpoint(job.getJobId(), job.getAgeGroup(), job.getMessage(), job.getSegment(),
+            job.getCustomFields(), job.getTotalUsers(), partitions, lastProcessedIds, job.getProcessedCount(), job.getSuccessCount(), job.getFailureCount());
+    }
+
+    /**
+     * 아직 처리되지 않은 ID 범위 (완료된 파티션 제외)
+     */
+    public List<IdRange> remainingPartitions() {
+        List<IdRange> remaining = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            IdRange partition = partitions.get(i);
+            if (lastProcessedIds[i] < partition.upperId()) {
+                remaining.add(new IdRange(lastProcessedIds[i] + 1, partition.upperId()));
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * 큐 적재가 끝난 수신자로 파티션별 마지막 처리 ID 갱신
+     *
+     * @return 마지막 저장 이후 누적된 미저장 수신자 수
+     */
+    public int advance(List<Recipient> recipients) {
+        for (Recipient recipient : recipients) {
+            int index = partitionIndexOf(recipient.id());
+            if (index >= 0 && recipient.id() > lastProcessedIds[index]) {
+                lastProcessedIds[index] = recipient.id();
+            }
+        }
+        uncheckpointedCount += recipients.size();
+        return uncheckpointedCount;
+    }
+
+    /**
+     * 체크포인트 저장 완료 표시
+     */
+    public void markCheckpointed() {
+        uncheckpointedCount = 0;
+    }
+
+    public List<Long> lastProcessedIds() {
+        return Arrays.stream(lastProcessedIds).boxed().toList();
+    }
+
+    /**
+     * 파티션은 ID 오름차순의 서로소 구간이므로 이진 탐색으로 소속 파티션을 찾음
+     */
+    private int partitionIndexOf(long id) {
+        int low = 0;
+        int high = partitions.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            IdRange partition = partitions.get(mid);
+            if (id < partition.lowerId()) {
+                high = mid - 1;
+            } else if (id > partition.upperId()) {
+                low = mid + 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+}
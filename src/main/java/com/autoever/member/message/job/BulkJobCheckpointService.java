@@ -0,0 +1,136 @@
+package com.autoever.member.message.job;
+
+import com.autoever.member.entity.BulkMessageJob;
+import com.autoever.member.entity.BulkMessageJobPartition;
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.BulkMessageResponse.JobStatus;
+import com.autoever.member.message.dto.IdRange;
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.repository.BulkMessageJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 대량 발송 작업 체크포인트 저장 서비스
+ * 작업 시작 시 명세와 파티션을 저장하고, 큐 적재가 끝난 수신자가 N건 쌓일 때마다 체크포인트를 기록
+ *
+ * 체크포인트는 큐 적재 기준이므로 재시작 시점에 메모리 큐에 남아 있던 메시지는 재발송되지 않음 (최대 1회 발송)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkJobCheckpointService {
+
+    private final BulkMessageJobRepository bulkMessageJobRepository;
+    private final BulkMessageConfig bulkMessageConfig;
+
+    /**
+     * 접수된 작업 명세 저장 (실행 대기 중 재시작되어도 다시 접수할 수 있도록 실행 허가 전에 저장)
+     */
+    @Transactional
+    public void accept(UUID jobId, AgeGroup ageGroup, String message, String segment,
+                       Map<String, String> customFields, int totalUsers) {
+        bulkMessageJobRepository.save(newJob(jobId, ageGroup, message, segment, customFields, totalUsers));
+    }
+
+    /**
+     * 작업 시작 및 초기 체크포인트 저장 (접수 시 저장한 작업이 없으면 새로 생성)
+     */
+    @Transactional
+    public BulkJobCheckpoint start(UUID jobId, AgeGroup ageGroup, String message, String segment,
+                                   Map<String, String> customFields, int totalUsers, List<IdRange> partitions) {
+        BulkMessageJob job = bulkMessageJobRepository.findById(jobId)
+            .orElseGet(() -> bulkMessageJobRepository.save(
+                newJob(jobId, ageGroup, message, segment, customFields, totalUsers)));
+        job.start(partitions.stream()
+            .map(partition -> new BulkMessageJobPartition(
+                partition.lowerId(), partition.upperId(), partition.lowerId() - 1))
+            .toList());
+
+        log.info("대량 발송 작업 저장 - jobId: {}, 파티션 수: {}", jobId, partitions.size());
+        return BulkJobCheckpoint.start(jobId, ageGroup, message, segment, customFields, totalUsers, partitions);
+    }
+
+    /**
+     * 큐 적재가 끝난 배치 반영 후, 체크포인트 주기에 도달하면 저장
+     */
+    @Transactional
+    public void recordProgress(BulkJobCheckpoint checkpoint, List<Recipient> recipients,
+                               int processedCount, int successCount, int failureCount) {
+        int uncheckpointed = checkpoint.advance(recipients);
+        if (uncheckpointed < bulkMessageConfig.getCheckpointInterval()) {
+            return;
+        }
+        saveCheckpoint(checkpoint, processedCount, successCount, failureCount);
+    }
+
+    /**
+     * 작업 종료 상태와 최종 체크포인트 저장
+     */
+    @Transactional
+    public void complete(BulkJobCheckpoint checkpoint, JobStatus status,
+                         int processedCount, int successCount, int failureCount) {
+        bulkMessageJobRepository.findById(checkpoint.getJobId()).ifPresent(job -> {
+            job.updateCheckpoint(checkpoint.lastProcessedIds(), processedCount, successCount, failureCount);
+            job.complete(status);
+        });
+        checkpoint.markCheckpointed();
+    }
+
+    /**
+     * 시작 전이나 첫 체크포인트 저장 전에 실패한 작업을 실패로 종료 (이미 종료된 작업은 무시)
+     */
+    @Transactional
+    public void fail(UUID jobId) {
+        bulkMessageJobRepository.findById(jobId)
+            .filter(job -> !job.isFinished())
+            .ifPresent(job -> job.complete(JobStatus.FAILED));
+    }
+
+    /**
+     * 재개 대상 작업 조회 (처리 중 상태로 남아 있는 작업)
+     */
+    @Transactional(readOnly = true)
+    public List<BulkJobCheckpoint> findResumableJobs() {
+        return bulkMessageJobRepository.findByStatusOrderByCreatedAtAsc(JobStatus.IN_PROGRESS).stream()
+            .map(BulkJobCheckpoint::restore)
+            .toList();
+    }
+
+    /**
+     * 다시 접수할 작업 조회 (접수 후 실행 허가를 기다리던 중 중단된 작업, 파티션 없음)
+     */
+    @Transactional(readOnly = true)
+    public List<BulkJobCheckpoint> findWaitingJobs() {
+        return bulkMessageJobRepository.findByStatusOrderByCreatedAtAsc(JobStatus.CREATED).stream()
+            .map(BulkJobCheckpoint::restore)
+            .toList();
+    }
+
+    private BulkMessageJob newJob(UUID jobId, AgeGroup ageGroup, String message, String segment,
+                                  Map<String, String> customFields, int totalUsers) {
+        return BulkMessageJob.builder()
+            .jobId(jobId)
+            .ageGroup(ageGroup)
+            .message(message)
+            .segment(segment)
+            .customFields(customFields)
+            .totalUsers(totalUsers)
+            .build();
+    }
+
+    private void saveCheckpoint(BulkJobCheckpoint checkpoint, int processedCount, int successCount, int failureCount) {
+        bulkMessageJobRepository.findById(checkpoint.getJobId()).ifPresent(job ->
+            job.updateCheckpoint(checkpoint.lastProcessedIds(), processedCount, successCount, failureCount));
+        checkpoint.markCheckpointed();
+
+        log.debug("체크포인트 저장 - jobId: {}, processed: {}", checkpoint.getJobId(), processedCount);
+    }
+}
@@ -0,0 +1,54 @@
+package com.autoever.member.message.job;
+
+import com.autoever.member.message.config.BulkMessageConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 발송 작업 전용 실행기
+ * 작업 본문(스냅샷 생성, 파이프라인 실행)과 완료 처리를 공용 ForkJoin 풀 대신 이름 있는 전용 스레드에서 실행.
+ * 동시에 실행되는 작업 수는 BulkJobScheduler가 제한하므로 스레드 수도 같은 값으로 고정
+ */
+@Slf4j
+@Component
+public class BulkJobExecutor implements Executor {
+
+    private final ExecutorService executor;
+
+    public BulkJobExecutor(BulkMessageConfig bulkMessageConfig) {
+        int threads = Math.max(1, bulkMessageConfig.getAdmission().getMaxActiveJobs());
+        this.executor = Executors.newFixedThreadPool(threads, new JobThreadFactory());
+        log.info("대량 발송 작업 실행기 초기화 - 스레드 수: {}", threads);
+    }
+
+    /**
+     * 작업 실행 (스레드가 모두 사용 중이면 대기열에서 순서대로 실행)
+     */
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class JobThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "bulk-job-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.autoever.member.message.job;
+
+import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.BulkJobStatusResponse;
+import com.autoever.member.message.dto.BulkMessageResponse.JobStatus;
+import com.autoever.member.message.metrics.LatencyHistogram;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행 중인 대량 발송 작업의 진행 상태
+ * 발송 경로에서는 카운터 증가만 수행하고, 조회/스트리밍은 스냅샷으로 읽음
+ *
+ * 큐 적재(processed/success/failure)와 큐 처리(delivered/deliveryFailure)를 따로 집계하며,
+ * 큐 적재가 끝난 뒤 적재된 마지막 메시지가 처리되는 시점에 작업 종료 콜백을 실행
+ */
+public class BulkJobProgress {
+
+    @Getter
+    private final UUID jobId;
+    @Getter
+    private final AgeGroup ageGroup;
+    @Getter
+    private final int totalUsers;
+    private final AtomicInteger processedCount = new AtomicInteger(0);
+    private final AtomicInteger successCount = new AtomicInteger(0);
+    private final AtomicInteger failureCount = new AtomicInteger(0);
+    private final AtomicInteger batchNumber = new AtomicInteger(0);
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private volatile JobStatus status = JobStatus.IN_PROGRESS;
+    private volatile LocalDateTime completedAt;
+
+    // 큐 처리 단계 집계 (이번 실행에서 큐에 적재된 메시지 기준)
+    private final AtomicInteger enqueuedCount = new AtomicInteger(0);
+    private final AtomicInteger deliveredCount = new AtomicInteger(0);
+    private final AtomicInteger deliveryFailureCount = new AtomicInteger(0);
+    // 수신자별 발송 빈도 제한으로 적재하지 않은 수 (성공/실패 어느 쪽에도 포함하지 않음)
+    private final AtomicInteger frequencyCappedCount = new AtomicInteger(0);
+    // 큐 대기 중 발송 기한이 지나 버린 수
+    private final AtomicInteger expiredCount = new AtomicInteger(0);
+    private final LatencyHistogram queueWaitHistogram = new LatencyHistogram();
+    private final LatencyHistogram sendLatencyHistogram = new LatencyHistogram();
+    private final AtomicBoolean allDeliveredFired = new AtomicBoolean(false);
+    private volatile long startedNanos = System.nanoTime();
+    // 큐 적재 종료 후 확정되는 발송 대상 수 (-1: 적재 진행 중)
+    private volatile int expectedDeliveries = -1;
+    private volatile Runnable onAllDelivered;
+    // 작업에 할당된 큐 슬롯 (null: 제한 없음)
+    private volatile Semaphore queueSlots;
+
+    public BulkJobProgress(UUID jobId, AgeGroup ageGroup, int totalUsers) {
+        this.jobId = jobId;
+        this.ageGroup = ageGroup;
+        this.totalUsers = totalUsers;
+    }
+
+    /**
+     * 저장된 누적 카운터부터 이어서 집계 (작업 재개용)
+     */
+    public BulkJobProgress(UUID jobId, AgeGroup ageGroup, int totalUsers,
+                           int processedCount, int successCount, int failureCount) {
+        this(jobId, ageGroup, totalUsers);
+        this.processedCount.set(processedCount);
+        this.successCount.set(successCount);
+        this.failureCount.set(failureCount);
+    }
+
+    public void incrementProcessed() { processedCount.incrementAndGet(); }
+    public void incrementSuccess() { successCount.incrementAndGet(); }
+    public void incrementFailure() { failureCount.incrementAndGet(); }
+    public int nextBatchNumber() { return batchNumber.incrementAndGet(); }
+    public void incrementEnqueued() { enqueuedCount.incrementAndGet(); }
+    public void incrementFrequencyCapped() { frequencyCappedCount.incrementAndGet(); }
+
+    public int getProcessedCount() { return processedCount.get(); }
+    public int getSuccessCount() { return successCount.get(); }
+    public int getFailureCount() { return failureCount.get(); }
+    public JobStatus getStatus() { return status; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public int getEnqueuedCount() { return enqueuedCount.get(); }
+    public int getDeliveredCount() { return deliveredCount.get(); }
+    public int getDeliveryFailureCount() { return deliveryFailureCount.get(); }
+    public int getFrequencyCappedCount() { return frequencyCappedCount.get(); }
+    public int getExpiredCount() { return expiredCount.get(); }
+    public long getElapsedMillis() { return (System.nanoTime() - startedNanos) / 1_000_000; }
+
+    /**
+     * 작업 대기 상태로 전환 (동시 실행 작업 수 초과)
+     */
+    public void markWaiting() {
+        this.status = JobStatus.CREATED;
+    }
+
+    /**
+     * 실행 시작 - 작업이 동시에 큐에 올려 둘 수 있는 메시지 수(슬롯) 할당
+     */
+    public void start(int queueSlotCount) {
+        this.queueSlots = new Semaphore(Math.max(1, queueSlotCount));
+        this.startedNanos = System.nanoTime();
+        this.status = JobStatus.IN_PROGRESS;
+    }
+
+    /**
+     * 큐 슬롯 확보 (다른 작업과 큐를 나눠 쓰도록 할당량 내에서만 적재)
+     *
+     * @return 제한 시간 내 확보 여부
+     */
+    public boolean tryAcquireQueueSlot(long timeoutMs) {
+        Semaphore slots = queueSlots;
+        if (slots == null) {
+            return true;
+        }
+        try {
+            return slots.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 큐 슬롯 반환 (메시지 처리 완료 또는 적재 실패 시)
+     */
+    public void releaseQueueSlot() {
+        Semaphore slots = queueSlots;
+        if (slots != null) {
+            slots.release();
+        }
+    }
+
+    /**
+     * 큐 적재 종료 - 이번 실행에서 적재된 메시지가 모두 처리되면 콜백 실행
+     * 적재된 메시지가 없거나 이미 모두 처리된 경우 호출 스레드에서 바로 실행
+     *
+     * @param callback 마지막 메시지 처리 완료 시 실행할 작업 (큐 처리 스레드에서 호출될 수 있음)
+     */
+    public void awaitDeliveries(Runnable callback) {
+        this.onAllDelivered = callback;
+        this.status = JobStatus.SENDING_MESSAGES;
+        this.expectedDeliveries = enqueuedCount.get();
+        fireIfAllDelivered();
+    }
+
+    /**
+     * 큐 처리 결과 기록
+     *
+     * @param success 발송 성공 여부
+     * @param queueWaitMicros 큐 대기 시간
+     * @param sendLatencyMicros 외부 API 호출 시간 (호출하지 않았으면 음수)
+     */
+    public void recordDelivery(boolean success, long queueWaitMicros, long sendLatencyMicros) {
+        queueWaitHistogram.record(queueWaitMicros);
+        if (sendLatencyMicros >= 0) {
+            sendLatencyHistogram.record(sendLatencyMicros);
+        }
+        if (success) {
+            deliveredCount.incrementAndGet();
+        } else {
+            deliveryFailureCount.incrementAndGet();
+        }
+        releaseQueueSlot();
+        fireIfAllDelivered();
+    }
+
+    /**
+     * 발송 기한이 지나 큐에서 버린 메시지 기록 (외부 API 호출 없음)
+     *
+     * @param queueWaitMicros 큐 대기 시간
+     */
+    public void recordExpired(long queueWaitMicros) {
+        queueWaitHistogram.record(queueWaitMicros);
+        expiredCount.incrementAndGet();
+        releaseQueueSlot();
+        fireIfAllDelivered();
+    }
+
+    /**
+     * 작업 종료 처리
+     */
+    public void complete(JobStatus finalStatus) {
+        this.completedAt = LocalDateTime.now();
+        this.status = finalStatus;
+    }
+
+    public boolean isFinished() {
+        return completedAt != null;
+    }
+
+    public BulkJobStatusResponse snapshot() {
+        BulkJobStatusResponse.DeliveryStats delivery = new BulkJobStatusResponse.DeliveryStats(
+            enqueuedCount.get(), deliveredCount.get(), deliveryFailureCount.get(), frequencyCappedCount.get(),
+            expiredCount.get(),
+            queueWaitHistogram.snapshot(), sendLatencyHistogram.snapshot());
+        return BulkJobStatusResponse.of(jobId, ageGroup, status, totalUsers,
+            processedCount.get(), successCount.get(), failureCount.get(), delivery, startedAt, completedAt);
+    }
+
+    private void fireIfAllDelivered() {
+        int expected = expectedDeliveries;
+        if (expected < 0 || deliveredCount.get() + deliveryFailureCount.get() + expiredCount.get() < expected) {
+            return;
+        }
+        // 큐 적재 종료와 마지막 처리 결과가 동시에 도착해도 한 번만 실행
+        if (allDeliveredFired.compareAndSet(false, true)) {
+            onAllDelivered.run();
+        }
+    }
+}
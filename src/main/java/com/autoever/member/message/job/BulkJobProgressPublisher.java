@@ -0,0 +1,158 @@
+package com.autoever.member.message.job;
+
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.dto.BulkJobStatusResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 발송 작업 진행 상태 SSE 스트리밍
+ *
+ * 발송 경로는 진행 카운터만 갱신하고, 전용 스레드가 주기적으로 구독 중인 작업의 스냅샷을 읽어
+ * 변경된 경우에만 전송함. 따라서 작업당 이벤트는 초당 최대 1000/publishIntervalMs회로 병합되며
+ * 구독자 수가 늘어도 메시지당 비용은 증가하지 않음
+ * (메시지 큐 처리 스케줄러와 스레드를 공유하지 않도록 전용 스레드 사용)
+ */
+@Slf4j
+@Component
+public class BulkJobProgressPublisher {
+
+    private static final String EVENT_NAME = "progress";
+
+    private final BulkJobRegistry bulkJobRegistry;
+    private final BulkMessageConfig.ProgressConfig progressConfig;
+    private final ScheduledExecutorService scheduler;
+
+    // 작업별 구독자
+    private final Map<UUID, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    // 작업별 마지막 전송 스냅샷 (변경 감지용)
+    private final Map<UUID, BulkJobStatusResponse> lastPublished = new ConcurrentHashMap<>();
+
+    public BulkJobProgressPublisher(BulkJobRegistry bulkJobRegistry, BulkMessageConfig bulkMessageConfig) {
+        this.bulkJobRegistry = bulkJobRegistry;
+        this.progressConfig = bulkMessageConfig.getProgress();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bulk-job-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(50, progressConfig.getPublishIntervalMs());
+        scheduler.scheduleWithFixedDelay(this::publishSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 작업 진행 상태 구독
+     * 현재 상태를 즉시 전송하고, 이미 종료된 작업이면 바로 스트림을 닫음
+     *
+     * @throws com.autoever.member.exception.BulkJobNotFoundException 작업이 없는 경우
+     */
+    public SseEmitter subscribe(UUID jobId) {
+        BulkJobStatusResponse current = bulkJobRegistry.getStatus(jobId);
+
+        SseEmitter emitter = new SseEmitter(progressConfig.getEmitterTimeoutMs());
+        if (!send(emitter, current)) {
+            return emitter;
+        }
+        if (current.isFinished()) {
+            emitter.complete();
+            return emitter;
+        }
+
+        List<SseEmitter> emitters = subscribers.computeIfAbsent(jobId, key -> new CopyOnWriteArrayList<>());
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(error -> emitters.remove(emitter));
+
+        log.debug("작업 진행 상태 구독 - jobId: {}, 구독자 수: {}", jobId, emitters.size());
+        return emitter;
+    }
+
+    /**
+     * 구독 중인 작업의 변경된 진행 상태를 전송 (주기 실행)
+     */
+    void publish() {
+        for (Map.Entry<UUID, List<SseEmitter>> entry : subscribers.entrySet()) {
+            UUID jobId = entry.getKey();
+            List<SseEmitter> emitters = entry.getValue();
+
+            Optional<BulkJobStatusResponse> snapshot = bulkJobRegistry.find(jobId).map(BulkJobProgress::snapshot);
+            if (emitters.isEmpty() || snapshot.isEmpty()) {
+                // 구독자가 모두 떠났거나 레지스트리에서 제거된 작업
+                emitters.forEach(SseEmitter::complete);
+                subscribers.remove(jobId);
+                lastPublished.remove(jobId);
+                continue;
+            }
+
+            BulkJobStatusResponse current = snapshot.get();
+            BulkJobStatusResponse previous = lastPublished.put(jobId, current);
+            if (previous != null && !hasChanged(previous, current)) {
+                continue;
+            }
+
+            for (SseEmitter emitter : emitters) {
+                if (!send(emitter, current)) {
+                    emitters.remove(emitter);
+                }
+            }
+
+            if (current.isFinished()) {
+                emitters.forEach(SseEmitter::complete);
+                subscribers.remove(jobId);
+                lastPublished.remove(jobId);
+            }
+        }
+
+        bulkJobRegistry.evictFinished();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    private void publishSafely() {
+        try {
+            publish();
+        } catch (Exception e) {
+            // 예외로 주기 실행이 중단되지 않도록 기록만 함
+            log.warn("작업 진행 상태 전송 중 오류 발생 - error: {}", e.getMessage());
+        }
+    }
+
+    private boolean hasChanged(BulkJobStatusResponse previous, BulkJobStatusResponse current) {
+        return previous.processedCount() != current.processedCount()
+            || previous.status() != current.status()
+            || !Objects.equals(previous.delivery(), current.delivery());
+    }
+
+    private boolean send(SseEmitter emitter, BulkJobStatusResponse status) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(status, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
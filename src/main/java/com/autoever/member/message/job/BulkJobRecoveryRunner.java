@@ -0,0 +1,60 @@
+package com.autoever.member.message.job;
+
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.service.BulkMessageService;
+import com.autoever.member.message.snapshot.AudienceSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 기동 시 미완료 대량 발송 작업 재개
+ * 처리 중 상태로 저장된 작업을 마지막 체크포인트부터 다시 발송하고,
+ * 실행 허가를 기다리던 작업은 그 뒤에 접수 순서대로 다시 접수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkJobRecoveryRunner {
+
+    private final BulkJobCheckpointService bulkJobCheckpointService;
+    private final BulkMessageService bulkMessageService;
+    private final AudienceSnapshotService audienceSnapshotService;
+    private final BulkMessageConfig bulkMessageConfig;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        if (!bulkMessageConfig.isResumeOnStartup()) {
+            log.info("미완료 대량 발송 작업 재개 비활성화");
+            return;
+        }
+
+        List<BulkJobCheckpoint> checkpoints = bulkJobCheckpointService.findResumableJobs();
+        List<BulkJobCheckpoint> waitingJobs = bulkJobCheckpointService.findWaitingJobs();
+
+        // 재개하지 않는 작업의 스냅샷 파일은 이전 실행에서 남은 것이므로 정리
+        Set<UUID> resumableJobIds = checkpoints.stream()
+            .map(BulkJobCheckpoint::getJobId)
+            .collect(Collectors.toSet());
+        audienceSnapshotService.purgeExcept(resumableJobIds);
+
+        if (checkpoints.isEmpty() && waitingJobs.isEmpty()) {
+            return;
+        }
+
+        log.info("미완료 대량 발송 작업 재개 - 작업 수: {}, 대기 작업 수: {}", checkpoints.size(), waitingJobs.size());
+        for (BulkJobCheckpoint checkpoint : checkpoints) {
+            bulkMessageService.resumeJob(checkpoint);
+        }
+        for (BulkJobCheckpoint waitingJob : waitingJobs) {
+            bulkMessageService.requeueJob(waitingJob);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.autoever.member.message.job;
+
+import com.autoever.member.entity.BulkMessageJob;
+import com.autoever.member.exception.BulkJobNotFoundException;
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.BulkJobStatusResponse;
+import com.autoever.member.repository.BulkMessageJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대량 발송 작업 레지스트리
+ * 이 노드에서 실행 중이거나 최근 종료된 작업의 진행 상태를 보관하고,
+ * 보관 기간이 지났거나 다른 노드/이전 기동에서 실행된 작업은 저장된 작업 정보로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkJobRegistry {
+
+    private final BulkMessageJobRepository bulkMessageJobRepository;
+    private final BulkMessageConfig bulkMessageConfig;
+
+    private final Map<UUID, BulkJobProgress> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * 새 작업 등록
+     */
+    public BulkJobProgress register(UUID jobId, AgeGroup ageGroup, int totalUsers) {
+        return register(new BulkJobProgress(jobId, ageGroup, totalUsers));
+    }
+
+    /**
+     * 재개 작업 등록 (체크포인트의 누적 카운터부터 집계)
+     */
+    public BulkJobProgress register(BulkJobCheckpoint checkpoint) {
+        return register(new BulkJobProgress(checkpoint.getJobId(), checkpoint.getAgeGroup(),
+            checkpoint.getTotalUsers(), checkpoint.getProcessedCount(),
+            checkpoint.getSuccessCount(), checkpoint.getFailureCount()));
+    }
+
+    public Optional<BulkJobProgress> find(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public Collection<BulkJobProgress> getJobs() {
+        return jobs.values();
+    }
+
+    /**
+     * 작업 진행 상태 조회 (메모리 → 저장소 순)
+     *
+     * @throws BulkJobNotFoundException 작업이 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public BulkJobStatusResponse getStatus(UUID jobId) {
+        BulkJobProgress progress = jobs.get(jobId);
+        if (progress != null) {
+            return progress.snapshot();
+        }
+        return bulkMessageJobRepository.findById(jobId)
+            .map(this::toStatusResponse)
+            .orElseThrow(() -> new BulkJobNotFoundException(jobId));
+    }
+
+    /**
+     * 종료 후 보관 기간이 지난 작업 제거
+     */
+    public void evictFinished() {
+        LocalDateTime threshold = LocalDateTime.now()
+            .minusSeconds(bulkMessageConfig.getProgress().getRetentionSeconds());
+        jobs.values().removeIf(progress -> progress.isFinished()
+            && progress.getCompletedAt().isBefore(threshold));
+    }
+
+    private BulkJobProgress register(BulkJobProgress progress) {
+        jobs.put(progress.getJobId(), progress);
+        log.debug("대량 발송 작업 등록 - jobId: {}, totalUsers: {}", progress.getJobId(), progress.getTotalUsers());
+        return progress;
+    }
+
+    private BulkJobStatusResponse toStatusResponse(BulkMessageJob job) {
+        return BulkJobStatusResponse.of(job.getJobId(), job.getAgeGroup(), job.getStatus(), job.getTotalUsers(),
+            job.getProcessedCount(), job.getSuccessCount(), job.getFailureCount(),
+            null, job.getCreatedAt(), job.getCompletedAt());
+    }
+}
@@ -0,0 +1,187 @@
+package com.autoever.member.message.job;
+
+import com.autoever.member.message.ApiType;
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.dto.BulkJobAdmission;
+import com.autoever.member.message.queue.MessageQueueService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 대량 발송 작업 실행 허가(admission) 스케줄러
+ *
+ * 동시에 큐 적재를 진행하는 작업 수를 제한하고, 초과 작업은 접수 순서대로 대기시킴.
+ * 실행 중인 작업에는 공유 큐 용량 중 고정 몫(슬롯)을 할당하여 한 작업이 큐를 독점하지 못하게 함.
+ * 큐 처리기는 FIFO로 꺼내므로 큐에 올라간 몫만큼 Rate limit 허용량도 작업 간에 나눠 쓰게 됨
+ */
+@Slf4j
+@Component
+public class BulkJobScheduler {
+
+    private final BulkMessageConfig.AdmissionConfig admissionConfig;
+    private final MessageQueueService messageQueueService;
+
+    // 실행 중인 작업 (시작 순)
+    private final Map<UUID, BulkJobProgress> activeJobs = new LinkedHashMap<>();
+
+    // 실행 대기 중인 작업 (접수 순)
+    private final Deque<PendingJob> waitingJobs = new ArrayDeque<>();
+
+    public BulkJobScheduler(BulkMessageConfig bulkMessageConfig, MessageQueueService messageQueueService) {
+        this.admissionConfig = bulkMessageConfig.getAdmission();
+        this.messageQueueService = messageQueueService;
+    }
+
+    /**
+     * 작업 접수 - 실행 여유가 있으면 바로 시작하고, 없으면 대기열에 등록
+     *
+     * @param progress 작업 진행 상태
+     * @param starter 실행 허가 시 작업을 시작하는 함수 (비동기로 실행을 넘겨야 함)
+     * @return 허가 결과 (대기 순번과 예상 대기 시간 포함)
+     */
+    public BulkJobAdmission submit(BulkJobProgress progress, Runnable starter) {
+        BulkJobAdmission admission;
+        synchronized (this) {
+            if (activeJobs.size() < maxActiveJobs()) {
+                activate(progress);
+                admission = new BulkJobAdmission(progress.getJobId(), BulkJobAdmission.State.ACTIVE, 0, Duration.ZERO);
+            } else if (waitingJobs.size() >= admissionConfig.getMaxWaitingJobs()) {
+                log.warn("대량 발송 작업 대기열 초과 - jobId: {}, 대기 작업 수: {}", progress.getJobId(), waitingJobs.size());
+                return new BulkJobAdmission(progress.getJobId(), BulkJobAdmission.State.REJECTED, -1, Duration.ZERO);
+            } else {
+                progress.markWaiting();
+                waitingJobs.addLast(new PendingJob(progress, starter));
+                int position = waitingJobs.size();
+                log.info("대량 발송 작업 대기 - jobId: {}, 순번: {}", progress.getJobId(), position);
+                return new BulkJobAdmission(progress.getJobId(), BulkJobAdmission.State.WAITING,
+                    position, estimateWait(position));
+            }
+        }
+        starter.run();
+        return admission;
+    }
+
+    /**
+     * 작업 종료 - 실행 자리를 반환하고 다음 대기 작업을 시작 (중복 호출 무시)
+     */
+    public void release(UUID jobId) {
+        List<PendingJob> toStart = new ArrayList<>();
+        synchronized (this) {
+            if (activeJobs.remove(jobId) == null) {
+                // 대기 중 취소/실패한 작업
+                waitingJobs.removeIf(pending -> pending.progress().getJobId().equals(jobId));
+                return;
+            }
+            while (activeJobs.size() < maxActiveJobs() && !waitingJobs.isEmpty()) {
+                PendingJob next = waitingJobs.pollFirst();
+                activate(next.progress());
+                toStart.add(next);
+            }
+        }
+        for (PendingJob pending : toStart) {
+            log.info("대기 중이던 대량 발송 작업 시작 - jobId: {}", pending.progress().getJobId());
+            pending.starter().run();
+        }
+    }
+
+    /**
+     * 실행 허가 현황 조회
+     */
+    public synchronized BulkJobAdmission.Status getStatus() {
+        List<BulkJobAdmission> waiting = new ArrayList<>(waitingJobs.size());
+        int position = 1;
+        for (Iterator<PendingJob> it = waitingJobs.iterator(); it.hasNext(); position++) {
+            waiting.add(new BulkJobAdmission(it.next().progress().getJobId(),
+                BulkJobAdmission.State.WAITING, position, estimateWait(position)));
+        }
+        return new BulkJobAdmission.Status(maxActiveJobs(), queueSlotsPerJob(),
+            List.copyOf(activeJobs.keySet()), waiting, throughputPerSecond());
+    }
+
+    /**
+     * 작업당 할당 큐 슬롯 수 = 대량 발송 몫의 큐 용량 / 최대 동시 실행 작업 수
+     */
+    public int queueSlotsPerJob() {
+        int bulkCapacity = messageQueueService.getQueueStatus().getMaxSize()
+            * admissionConfig.getQueueSharePercent() / 100;
+        return Math.max(1, bulkCapacity / maxActiveJobs());
+    }
+
+    private void activate(BulkJobProgress progress) {
+        activeJobs.put(progress.getJobId(), progress);
+        progress.start(queueSlotsPerJob());
+    }
+
+    private int maxActiveJobs() {
+        return Math.max(1, admissionConfig.getMaxActiveJobs());
+    }
+
+    /**
+     * 대기 순번의 작업이 시작되기까지 예상 시간
+     * (앞선 작업들의 남은 메시지 수 / 초당 처리량, 실행 자리 수만큼은 병렬로 빠짐)
+     */
+    private Duration estimateWait(int position) {
+        List<Long> remaining = new ArrayList<>();
+        for (BulkJobProgress progress : activeJobs.values()) {
+            remaining.add(remainingMessages(progress));
+        }
+        Iterator<PendingJob> it = waitingJobs.iterator();
+        for (int i = 1; i < position && it.hasNext(); i++) {
+            remaining.add((long) it.next().progress().getTotalUsers());
+        }
+
+        // 실행 자리(slot)별 누적 작업량을 시뮬레이션하여 해당 순번이 자리를 얻는 시점 계산
+        long[] slotBacklog = new long[maxActiveJobs()];
+        for (long work : remaining) {
+            int earliest = 0;
+            for (int i = 1; i < slotBacklog.length; i++) {
+                if (slotBacklog[i] < slotBacklog[earliest]) {
+                    earliest = i;
+                }
+            }
+            slotBacklog[earliest] += work;
+        }
+        long backlogBeforeStart = Arrays.stream(slotBacklog).min().orElse(0);
+
+        // 실행 중인 작업들은 처리량을 나눠 쓰므로 자리 하나의 처리량 = 전체 / 최대 동시 실행 수
+        double perSlotThroughput = throughputPerSecond() / maxActiveJobs();
+        return Duration.ofSeconds((long) Math.ceil(backlogBeforeStart / perSlotThroughput));
+    }
+
+    private long remainingMessages(BulkJobProgress progress) {
+        long finished = (long) progress.getFailureCount() + progress.getFrequencyCappedCount()
+            + progress.getDeliveredCount() + progress.getDeliveryFailureCount() + progress.getExpiredCount();
+        return Math.max(0, progress.getTotalUsers() - finished);
+    }
+
+    /**
+     * 실행 중인 작업들의 관측 처리량 (관측값이 없으면 API Rate limit 합계)
+     */
+    private double throughputPerSecond() {
+        double observed = 0;
+        for (BulkJobProgress progress : activeJobs.values()) {
+            long elapsedMillis = progress.getElapsedMillis();
+            if (elapsedMillis > 0) {
+                observed += (progress.getDeliveredCount() + progress.getDeliveryFailureCount()) * 1000.0 / elapsedMillis;
+            }
+        }
+        if (observed > 0) {
+            return observed;
+        }
+        return Arrays.stream(ApiType.values()).mapToInt(ApiType::getRateLimit).sum() / 60.0;
+    }
+
+    private record PendingJob(BulkJobProgress progress, Runnable starter) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.autoever.member.message.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 메시지마다 반복되는 로그의 표본 추출 및 구간별 요약
+ *
+ * 호출부는 기존 로그 문장을 {@code if (sampler.sample(Level.INFO, "키")) { log.info(...); }}로 감싸며,
+ * 인자(마스킹 등) 계산은 표본으로 뽑힌 경우에만 수행됨.
+ * 키별로 요약 구간의 첫 건과 sampleRate 비율만 상세 로그를 남기고, 나머지는 건수만 세어
+ * 요약 주기마다 "키 ×건수 (최근 1초)" 한 줄로 출력. ERROR는 항상 상세 로그를 남김
+ */
+public final class LogSampler {
+
+    private static final Map<String, LogSampler> SAMPLERS = new ConcurrentHashMap<>();
+    private static volatile Function<String, Settings> settingsSource = name -> Settings.DEFAULT;
+
+    private final Logger logger;
+    private final Map<String, KeyCounter> counters = new ConcurrentHashMap<>();
+    private volatile Settings settings;
+
+    LogSampler(Logger logger, Settings settings) {
+        this.logger = logger;
+        this.settings = settings;
+    }
+
+    /**
+     * 로거별 표본 추출기 (같은 로거 이름이면 같은 인스턴스)
+     */
+    public static LogSampler of(Logger logger) {
+        return SAMPLERS.computeIfAbsent(logger.getName(),
+            name -> new LogSampler(logger, settingsSource.apply(name)));
+    }
+
+    /**
+     * 로거 이름별 설정 적용 (이미 만들어진 표본 추출기와 이후 생성분 모두)
+     */
+    static void configure(Function<String, Settings> source) {
+        settingsSource = source;
+        SAMPLERS.values().forEach(sampler -> sampler.settings = source.apply(sampler.logger.getName()));
+    }
+
+    static Collection<LogSampler> samplers() {
+        return SAMPLERS.values();
+    }
+
+    /**
+     * 상세 로그를 남길지 결정하고 키별 건수 집계
+     *
+     * @param level 로그 레벨
+     * @param key 요약 단위 (고정 문자열, 수신자 등 가변 값을 넣지 않음)
+     * @return 상세 로그를 남겨야 하면 true
+     */
+    public boolean sample(Level level, String key) {
+        if (!logger.isEnabledForLevel(level)) {
+            return false;
+        }
+        Settings current = settings;
+        if (!current.enabled() || level == Level.ERROR) {
+            return true;
+        }
+        KeyCounter counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new KeyCounter(level));
+        }
+        long count = counter.count.incrementAndGet();
+        return count == 1 || ThreadLocalRandom.current().nextDouble() < current.sampleRate();
+    }
+
+    /**
+     * 구간 동안 2건 이상 발생한 키를 요약 로그로 출력하고 건수 초기화
+     *
+     * @param intervalLabel 요약 구간 표기 (예: 1초)
+     */
+    void flush(String intervalLabel) {
+        counters.forEach((key, counter) -> {
+            long count = counter.count.getAndSet(0);
+            if (count > 1) {
+                logger.atLevel(counter.level).log("{} ×{} (최근 {})", key, count, intervalLabel);
+            }
+        });
+    }
+
+    /**
+     * 표본 추출 설정
+     *
+     * @param enabled false면 모든 로그를 기존처럼 출력
+     * @param sampleRate 첫 건 이후 상세 로그를 남길 비율 (0.0 ~ 1.0)
+     */
+    record Settings(boolean enabled, double sampleRate) {
+        static final Settings DEFAULT = new Settings(true, 0.01);
+    }
+
+    private static final class KeyCounter {
+        // 요약 로그 레벨 (키를 처음 기록한 레벨)
+        private final Level level;
+        private final AtomicLong count = new AtomicLong();
+
+        private KeyCounter(Level level) {
+            this.level = level;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.autoever.member.message.logging;
+
+import com.autoever.member.message.config.LogSamplingConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 표본 추출 설정 적용 및 구간별 요약 로그 출력
+ */
+@Component
+@RequiredArgsConstructor
+public class LogSamplingScheduler {
+
+    private final LogSamplingConfig config;
+
+    /**
+     * 로거별 설정 적용
+     */
+    @PostConstruct
+    public void configure() {
+        LogSampler.configure(this::settingsFor);
+    }
+
+    /**
+     * 요약 로그 출력 (요약 주기마다)
+     */
+    @Scheduled(fixedRateString = "${message.log-sampling.summary-interval-ms:1000}")
+    public void flushSummaries() {
+        String intervalLabel = intervalLabel(config.getSummaryIntervalMs());
+        LogSampler.samplers().forEach(sampler -> sampler.flush(intervalLabel));
+    }
+
+    LogSampler.Settings settingsFor(String loggerName) {
+        String simpleName = loggerName.substring(loggerName.lastIndexOf('.') + 1);
+        LogSamplingConfig.LoggerConfig loggerConfig = config.getLoggers().get(loggerName);
+        if (loggerConfig == null) {
+            loggerConfig = config.getLoggers().get(simpleName);
+        }
+        boolean enabled = config.isEnabled();
+        double sampleRate = config.getSampleRate();
+        if (loggerConfig != null) {
+            if (loggerConfig.getEnabled() != null) {
+                enabled = loggerConfig.getEnabled();
+            }
+            if (loggerConfig.getSampleRate() != null) {
+                sampleRate = loggerConfig.getSampleRate();
+            }
+        }
+        return new LogSampler.Settings(enabled, sampleRate);
+    }
+
+    private static String intervalLabel(long intervalMs) {
+        return intervalMs % 1000 == 0 ? (intervalMs / 1000) + "초" : intervalMs + "ms";
+    }
+}
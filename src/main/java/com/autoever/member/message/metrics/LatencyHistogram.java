@@ -0,0 +1,206 @@
+package com.autoever.member.message.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잠금 없는 로그-선형(log-linear) 지연 시간 히스토그램 (마이크로초 단위)
+ *
+ * 2의 거듭제곱 구간마다 8개의 선형 하위 버킷을 두어 상대 오차 12.5% 이내로 백분위를 계산함.
+ * 기록은 버킷 카운터 하나의 원자적 증가뿐이라 발송 경로에서 여러 스레드가 동시에 호출해도 됨.
+ * 버킷 280개(약 2.2KB)로 0µs ~ 약 19시간을 표현하며, 상한을 넘는 값은 마지막 버킷에 기록
+ */
+public class LatencyHistogram {
+
+    // 2의 거듭제곱 구간당 하위 버킷 수 = 2^SUB_BUCKET_BITS
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // 표현 가능한 최대 지수 (2^36µs ≈ 19시간)
+    private static final int MAX_EXPONENT = 36;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 지연 시간 기록
+     *
+     * @param micros 지연 시간 (마이크로초, 음수는 0으로 기록)
+     */
+    public void record(long micros) {
+        long value = Math.max(0, micros);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        long currentMax;
+        while (value > (currentMax = max.get())) {
+            if (max.compareAndSet(currentMax, value)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 나노초 구간으로 지연 시간 기록
+     */
+    public void recordNanos(long startNanos, long endNanos) {
+        record((endNanos - startNanos) / 1_000);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 백분위 값 계산 (해당 버킷의 상한값, 마이크로초)
+     *
+     * @param percentile 0 ~ 100
+     */
+    public long percentile(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return percentile(counts, total, percentile);
+    }
+
+    /**
+     * 여러 백분위를 한 번의 버킷 스캔으로 계산 (각 버킷의 상한값, 마이크로초)
+     *
+     * @param percentiles 0 ~ 100
+     * @return 입력 순서대로의 백분위 값
+     */
+    public long[] percentiles(double... percentiles) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long[] result = new long[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            result[i] = percentile(counts, total, percentiles[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 현재 분포 스냅샷 (밀리초 단위)
+     * 기록과 동시에 읽으므로 버킷 간 약간의 불일치는 허용
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return Snapshot.EMPTY;
+        }
+        return new Snapshot(
+            total,
+            toMillis(sum.sum() / Math.max(1, count.sum())),
+            toMillis(percentile(counts, total, 50)),
+            toMillis(percentile(counts, total, 95)),
+            toMillis(percentile(counts, total, 99)),
+            toMillis(max.get())
+        );
+    }
+
+    /**
+     * 누적 버킷 카운트 조회 (Prometheus 등 외부 노출용)
+     *
+     * @return 각 버킷 상한값(µs)과 누적 카운트
+     */
+    public long[][] cumulativeBuckets() {
+        long[][] result = new long[BUCKET_COUNT][2];
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += buckets.get(i);
+            result[i][0] = bucketUpperBound(i);
+            result[i][1] = cumulative;
+        }
+        return result;
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 기록 초기화 (기록과 동시에 호출되면 일부 기록이 남거나 사라질 수 있음)
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * width - 1;
+    }
+
+    private static long percentile(long[] counts, long total, double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(counts.length - 1);
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    /**
+     * 지연 시간 분포 요약 (밀리초)
+     */
+    public record Snapshot(
+        long count,
+        double meanMs,
+        double p50Ms,
+        double p95Ms,
+        double p99Ms,
+        double maxMs
+    ) {
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,16 @@
+package com.autoever.member.message.metrics;
+
+/**
+ * Prometheus 텍스트 형식으로 지표를 내보내는 컴포넌트
+ * 빈으로 등록하면 /internal/metrics 응답에 포함됨
+ */
+public interface PrometheusCollector {
+
+    /**
+     * 현재 지표 기록
+     * 같은 이름의 지표(라벨만 다른 시계열)는 연달아 기록해야 함
+     *
+     * @param writer 지표 출력 대상
+     */
+    void collect(PrometheusTextWriter writer);
+}
@@ -0,0 +1,117 @@
+package com.autoever.member.message.metrics;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Prometheus 텍스트 노출 형식(version 0.0.4) 작성기
+ *
+ * 지표 이름별 HELP/TYPE 줄은 처음 기록할 때 한 번만 출력함.
+ * 라벨은 이름, 값 순서의 가변 인자로 전달하며 지연 시간 히스토그램은 초 단위 summary(분위수, 합계, 건수)로 출력
+ */
+public final class PrometheusTextWriter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    // summary로 내보내는 분위수
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final StringBuilder out = new StringBuilder(8 * 1024);
+    private final Set<String> declared = new HashSet<>();
+
+    /**
+     * 누적 카운터
+     */
+    public PrometheusTextWriter counter(String name, String help, double value, String... labels) {
+        declare(name, help, "counter");
+        sample(name, labels, null, value);
+        return this;
+    }
+
+    /**
+     * 현재 값
+     */
+    public PrometheusTextWriter gauge(String name, String help, double value, String... labels) {
+        declare(name, help, "gauge");
+        sample(name, labels, null, value);
+        return this;
+    }
+
+    /**
+     * 지연 시간 분포 (마이크로초 기록을 초 단위로 변환)
+     */
+    public PrometheusTextWriter summary(String name, String help, LatencyHistogram histogram, String... labels) {
+        declare(name, help, "summary");
+        long[] values = histogram.percentiles(PERCENTILES);
+        for (int i = 0; i < QUANTILES.length; i++) {
+            sample(name, labels, Double.toString(QUANTILES[i]), values[i] / 1_000_000.0);
+        }
+        sample(name + "_sum", labels, null, histogram.getSum() / 1_000_000.0);
+        sample(name + "_count", labels, null, histogram.getCount());
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+
+    private void declare(String name, String help, String type) {
+        if (declared.add(name)) {
+            out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        }
+    }
+
+    private void sample(String name, String[] labels, String quantile, double value) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("라벨은 이름과 값의 쌍이어야 합니다: " + name);
+        }
+        out.append(name);
+        if (labels.length > 0 || quantile != null) {
+            out.append('{');
+            for (int i = 0; i < labels.length; i += 2) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                label(labels[i], labels[i + 1]);
+            }
+            if (quantile != null) {
+                if (labels.length > 0) {
+                    out.append(',');
+                }
+                label("quantile", quantile);
+            }
+            out.append('}');
+        }
+        out.append(' ').append(format(value)).append('\n');
+    }
+
+    private void label(String name, String value) {
+        out.append(name).append("=\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+        out.append('"');
+    }
+
+    private static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+}
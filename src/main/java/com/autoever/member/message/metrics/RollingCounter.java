@@ -0,0 +1,107 @@
+package com.autoever.member.message.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 잠금 없는 초 단위 링 버퍼 카운터
+ *
+ * 최근 windowSeconds초를 1초 버킷으로 나누어 분류(category)별 건수를 집계함.
+ * 각 칸은 (기록 시각(초) << 24 | 건수)를 하나의 long에 담아 CAS로 갱신하므로,
+ * 지난 시각의 칸은 다음 기록 시점에 그 자리에서 0부터 다시 세며 별도의 정리 작업이 필요 없음.
+ * 메모리는 windowSeconds × 분류 수 × 8바이트로 고정
+ */
+public class RollingCounter {
+
+    // 칸 하나가 표현하는 초당 최대 건수 = 2^COUNT_BITS - 1 (초과분은 버림)
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final int categories;
+    private final int windowSeconds;
+    private final AtomicLongArray cells;
+    private final LongSupplier clockMillis;
+
+    public RollingCounter(int categories, int windowSeconds) {
+        this(categories, windowSeconds, System::currentTimeMillis);
+    }
+
+    RollingCounter(int categories, int windowSeconds, LongSupplier clockMillis) {
+        if (categories <= 0 || windowSeconds <= 0) {
+            throw new IllegalArgumentException("분류 수와 보관 시간은 1 이상이어야 합니다.");
+        }
+        this.categories = categories;
+        this.windowSeconds = windowSeconds;
+        this.cells = new AtomicLongArray(categories * windowSeconds);
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * 현재 초의 건수 1 증가
+     *
+     * @param category 0 ~ categories - 1
+     */
+    public void increment(int category) {
+        long second = currentSecond();
+        int index = (int) (second % windowSeconds) * categories + category;
+        while (true) {
+            long current = cells.get(index);
+            long cellSecond = current >>> COUNT_BITS;
+            long next;
+            if (cellSecond == second) {
+                if ((current & COUNT_MASK) == COUNT_MASK) {
+                    return;
+                }
+                next = current + 1;
+            } else if (cellSecond < second) {
+                // 한 바퀴 전 시각의 칸은 현재 초로 덮어씀
+                next = (second << COUNT_BITS) | 1;
+            } else {
+                // 시계가 되돌아간 경우 더 최근 칸을 훼손하지 않도록 버림
+                return;
+            }
+            if (cells.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 최근 seconds초(현재 초 포함) 동안의 분류별 건수
+     *
+     * @param seconds 1 ~ windowSeconds (초과하면 windowSeconds로 제한)
+     * @return 분류 순서의 건수 배열
+     */
+    public long[] sums(int seconds) {
+        long now = currentSecond();
+        long oldest = now - Math.min(seconds, windowSeconds) + 1;
+        long[] sums = new long[categories];
+        for (int slot = 0; slot < windowSeconds; slot++) {
+            for (int category = 0; category < categories; category++) {
+                long cell = cells.get(slot * categories + category);
+                long cellSecond = cell >>> COUNT_BITS;
+                if (cellSecond >= oldest && cellSecond <= now) {
+                    sums[category] += cell & COUNT_MASK;
+                }
+            }
+        }
+        return sums;
+    }
+
+    /**
+     * 전체 칸 초기화
+     */
+    public void clear() {
+        for (int i = 0; i < cells.length(); i++) {
+            cells.set(i, 0);
+        }
+    }
+
+    public int getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    private long currentSecond() {
+        return clockMillis.getAsLong() / 1000;
+    }
+}
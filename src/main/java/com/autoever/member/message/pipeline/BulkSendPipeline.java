@@ -0,0 +1,346 @@
+package com.autoever.member.message.pipeline;
+
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.dto.AgeRange;
+import com.autoever.member.message.dto.IdRange;
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.message.service.AdaptiveBatchSizer;
+import com.autoever.member.message.service.BatchSizeController;
+import com.autoever.member.message.service.UserQueryService;
+import com.autoever.member.message.snapshot.AudienceSnapshot;
+import com.autoever.member.message.template.CompiledTemplate;
+import com.autoever.member.message.template.MessageTemplateService;
+import com.autoever.member.message.trace.SpanTracer;
+import com.autoever.member.message.trace.SpanType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+
+/**
+ * 대량 발송 파이프라인
+ * 조회(fetch) → 렌더링(render) → 큐 적재(enqueue) 단계를 유한 큐로 연결하여
+ * DB 조회와 템플릿 적용, 큐 적재가 동시에 진행되도록 함
+ * 렌더링 단계는 수신자별로 템플릿 적용 가능 여부만 확인하고, 본문은 큐에서 꺼내 발송할 때 만듦
+ * 조회 배치 크기는 작업별 {@link BatchSizeController}가 행당 조회 시간과 메시지 큐 여유 공간에 따라 정하며,
+ * 큐 적재와 체크포인트 저장은 조회 배치 단위로 수행
+ *
+ * 조회/렌더링 단계는 작업 전용 스레드에서, 큐 적재 단계는 호출 스레드에서 실행
+ * (공용 messageTaskExecutor를 쓰지 않아 CallerRuns 정책으로 인한 교착을 피함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkSendPipeline {
+
+    // 단계 간 큐 대기 시 취소 여부 확인 주기
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final UserQueryService userQueryService;
+    private final MessageTemplateService messageTemplateService;
+    private final BulkMessageConfig bulkMessageConfig;
+    private final AdaptiveBatchSizer adaptiveBatchSizer;
+    private final SpanTracer spanTracer;
+
+    // 실행 중인 작업별 단계 지표
+    private final Map<UUID, List<PipelineStageMetrics>> activeStages = new ConcurrentHashMap<>();
+
+    /**
+     * 파이프라인 실행 (큐 적재 단계가 끝날 때까지 블록)
+     *
+     * @param jobId 작업 ID
+     * @param ageRange 대상 연령 범위
+     * @param message 원본 메시지
+     * @param enqueueStage 렌더링된 배치를 큐에 적재하는 함수 (예외 시 전체 파이프라인 중단)
+     * @return 단계별 지표를 포함한 실행 결과
+     */
+    public PipelineResult run(UUID jobId, AgeRange ageRange, String message,
+                              Consumer<List<RenderedMessage>> enqueueStage) {
+        BatchSizeController batchSizeController = batchSizeController(jobId);
+        // ID 범위 파티션을 병렬 조회하여 하나의 수신자 흐름으로 합침
+        return run(jobId, messageTemplateService.compile(message, null, Map.of()), batchSizeController, enqueueStage,
+            sink -> userQueryService.processRecipientsByAgeRangeInPartitions(ageRange, batchSizeController, sink));
+    }
+
+    /**
+     * 지정한 ID 범위 파티션만 조회하여 파이프라인 실행 (체크포인트 이후 구간 재개용)
+     *
+     * @param jobId 작업 ID
+     * @param ageRange 대상 연령 범위
+     * @param partitions 조회할 ID 범위 파티션
+     * @param template 작업 시작 시 분석한 메시지 템플릿
+     * @param enqueueStage 렌더링된 배치를 큐에 적재하는 함수 (예외 시 전체 파이프라인 중단)
+     * @return 단계별 지표를 포함한 실행 결과
+     */
+    public PipelineResult run(UUID jobId, AgeRange ageRange, List<IdRange> partitions, CompiledTemplate template,
+                              Consumer<List<RenderedMessage>> enqueueStage) {
+        return run(jobId, ageRange, partitions, template, id -> true, enqueueStage);
+    }
+
+    /**
+     * 지정한 ID 범위 파티션 중 조건에 맞는 수신자만 발송 (세그먼트 대상 발송용)
+     * 조회 단계에서 걸러내므로 제외된 수신자는 렌더링/큐 적재 단계로 넘어가지 않음
+     *
+     * @param jobId 작업 ID
+     * @param ageRange 대상 연령 범위
+     * @param partitions 조회할 ID 범위 파티션
+     * @param template 작업 시작 시 분석한 메시지 템플릿
+     * @param recipientFilter 발송 대상 회원 ID 판별 함수
+     * @param enqueueStage 렌더링된 배치를 큐에 적재하는 함수 (예외 시 전체 파이프라인 중단)
+     * @return 단계별 지표를 포함한 실행 결과
+     */
+    public PipelineResult run(UUID jobId, AgeRange ageRange, List<IdRange> partitions, CompiledTemplate template,
+                              LongPredicate recipientFilter, Consumer<List<RenderedMessage>> enqueueStage) {
+        BatchSizeController batchSizeController = batchSizeController(jobId);
+        return run(jobId, template, batchSizeController, enqueueStage,
+            sink -> userQueryService.processRecipientPartitions(ageRange, partitions, batchSizeController,
+                batch -> {
+                    List<Recipient> selected = select(batch, recipientFilter);
+                    if (!selected.isEmpty()) {
+                        sink.accept(selected);
+                    }
+                }));
+    }
+
+    /**
+     * 작업 시작 시 고정한 수신 대상 스냅샷에서 지정한 ID 범위만 읽어 파이프라인 실행
+     * 조회 단계가 메모리 매핑된 파일을 읽으므로 발송 중에는 DB를 조회하지 않음
+     *
+     * @param jobId 작업 ID
+     * @param snapshot 수신 대상 스냅샷
+     * @param partitions 읽을 ID 범위 (체크포인트 이후 남은 파티션)
+     * @param template 작업 시작 시 분석한 메시지 템플릿
+     * @param enqueueStage 렌더링된 배치를 큐에 적재하는 함수 (예외 시 전체 파이프라인 중단)
+     * @return 단계별 지표를 포함한 실행 결과
+     */
+    public PipelineResult run(UUID jobId, AudienceSnapshot snapshot, List<IdRange> partitions, CompiledTemplate template,
+                              Consumer<List<RenderedMessage>> enqueueStage) {
+        BatchSizeController batchSizeController = batchSizeController(jobId);
+        return run(jobId, template, batchSizeController, enqueueStage,
+            sink -> snapshot.forEachBatch(partitions, batchSizeController, sink));
+    }
+
+    /**
+     * 작업별 배치 크기 제어기 (자동 조정이 꺼져 있으면 message.bulk.pipeline.batch-size 고정)
+     */
+    private BatchSizeController batchSizeController(UUID jobId) {
+        return adaptiveBatchSizer.create(jobId, bulkMessageConfig.getPipeline().getBatchSize());
+    }
+
+    private PipelineResult run(UUID jobId, CompiledTemplate template, BatchSizeController batchSizeController,
+                               Consumer<List<RenderedMessage>> enqueueStage,
+                               Consumer<Consumer<List<Recipient>>> recipientSource) {
+        BulkMessageConfig.PipelineConfig config = bulkMessageConfig.getPipeline();
+        BlockingQueue<List<Recipient>> fetchedQueue = new ArrayBlockingQueue<>(config.getPrefetchDepth());
+        BlockingQueue<List<RenderedMessage>> renderedQueue = new ArrayBlockingQueue<>(config.getRenderQueueDepth());
+
+        // 종료 표식 (식별자 비교)
+        List<Recipient> endOfFetch = new ArrayList<>(0);
+        List<RenderedMessage> endOfRender = new ArrayList<>(0);
+
+        PipelineStageMetrics fetchMetrics = new PipelineStageMetrics("fetch", null);
+        PipelineStageMetrics renderMetrics = new PipelineStageMetrics("render", fetchedQueue);
+        PipelineStageMetrics enqueueMetrics = new PipelineStageMetrics("enqueue", renderedQueue);
+        activeStages.put(jobId, List.of(fetchMetrics, renderMetrics, enqueueMetrics));
+
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long startTime = System.currentTimeMillis();
+        String threadSuffix = jobId.toString().substring(0, 8);
+
+        Thread fetcher = startStage("bulk-fetch-" + threadSuffix, jobId, fetchMetrics, cancelled, failure, () -> {
+            recipientSource.accept(batch -> {
+                put(fetchedQueue, batch, fetchMetrics, cancelled);
+                fetchMetrics.recordProcessed(batch.size());
+            });
+            put(fetchedQueue, endOfFetch, fetchMetrics, cancelled);
+        });
+
+        Thread renderer = startStage("bulk-render-" + threadSuffix, jobId, renderMetrics, cancelled, failure, () -> {
+            while (true) {
+                List<Recipient> batch = take(fetchedQueue, renderMetrics, cancelled);
+                if (batch == endOfFetch) {
+                    break;
+                }
+                List<RenderedMessage> rendered = new ArrayList<>(batch.size());
+                try (SpanTracer.Span span = spanTracer.start(SpanType.TEMPLATE_RENDER, "pipeline.render")) {
+                    for (Recipient recipient : batch) {
+                        rendered.add(render(recipient, template));
+                    }
+                }
+                renderMetrics.recordProcessed(rendered.size());
+                put(renderedQueue, rendered, renderMetrics, cancelled);
+            }
+            put(renderedQueue, endOfRender, renderMetrics, cancelled);
+        });
+
+        try {
+            while (true) {
+                List<RenderedMessage> batch = take(renderedQueue, enqueueMetrics, cancelled);
+                if (batch == endOfRender) {
+                    break;
+                }
+                enqueueStage.accept(batch);
+                enqueueMetrics.recordProcessed(batch.size());
+            }
+        } catch (CancellationException e) {
+            // 상류 단계 실패로 취소된 경우 원인 예외를 전달
+            throw stageFailure(failure.get(), e);
+        } catch (RuntimeException e) {
+            cancelled.set(true);
+            throw e;
+        } finally {
+            enqueueMetrics.markFinished();
+            joinQuietly(fetcher);
+            joinQuietly(renderer);
+            activeStages.remove(jobId);
+        }
+
+        if (failure.get() != null) {
+            throw stageFailure(failure.get(), null);
+        }
+
+        PipelineResult result = new PipelineResult(
+            jobId,
+            enqueueMetrics.snapshot().processedItems(),
+            System.currentTimeMillis() - startTime,
+            List.of(fetchMetrics.snapshot(), renderMetrics.snapshot(), enqueueMetrics.snapshot())
+        );
+        log.info("파이프라인 처리 완료 - jobId: {}, 처리: {}건, 소요시간: {}ms, 단계: {}",
+            jobId, result.processedItems(), result.durationMs(), result.stages());
+        return result;
+    }
+
+    private static List<Recipient> select(List<Recipient> batch, LongPredicate recipientFilter) {
+        List<Recipient> selected = new ArrayList<>(batch.size());
+        for (Recipient recipient : batch) {
+            if (recipientFilter.test(recipient.id())) {
+                selected.add(recipient);
+            }
+        }
+        return selected.size() == batch.size() ? batch : selected;
+    }
+
+    /**
+     * 실행 중인 작업의 단계별 지표 조회
+     *
+     * @param jobId 작업 ID
+     * @return 단계 지표 스냅샷 (실행 중이 아니면 빈 리스트)
+     */
+    public List<PipelineStageMetrics.StageSnapshot> getStageSnapshots(UUID jobId) {
+        List<PipelineStageMetrics> stages = activeStages.get(jobId);
+        if (stages == null) {
+            return List.of();
+        }
+        return stages.stream().map(PipelineStageMetrics::snapshot).toList();
+    }
+
+    private RenderedMessage render(Recipient recipient, CompiledTemplate template) {
+        try {
+            template.validate(recipient.name());
+            return new RenderedMessage(recipient, template);
+        } catch (IllegalArgumentException e) {
+            // 수신자 단위 실패는 큐 적재 단계에서 실패로 집계되도록 본문 없이 전달
+            log.warn("템플릿 적용 실패 - userId: {}, error: {}", recipient.id(), e.getMessage());
+            return new RenderedMessage(recipient, null);
+        }
+    }
+
+    private Thread startStage(String name, UUID jobId, PipelineStageMetrics metrics, AtomicBoolean cancelled,
+                              AtomicReference<Throwable> failure, Runnable body) {
+        return Thread.ofPlatform().name(name).daemon(true).start(() -> {
+            try (SpanTracer.Scope jobScope = spanTracer.bindJob(jobId)) {
+                body.run();
+            } catch (CancellationException e) {
+                log.debug("파이프라인 단계 취소 - stage: {}", name);
+            } catch (Throwable t) {
+                log.error("파이프라인 단계 실패 - stage: {}", name, t);
+                failure.compareAndSet(null, t);
+                cancelled.set(true);
+            } finally {
+                metrics.markFinished();
+            }
+        });
+    }
+
+    private <T> void put(BlockingQueue<T> queue, T item, PipelineStageMetrics metrics, AtomicBoolean cancelled) {
+        long waitStart = System.nanoTime();
+        try {
+            while (!queue.offer(item, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                if (cancelled.get()) {
+                    throw new CancellationException("파이프라인이 취소되었습니다");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("파이프라인 대기 중 인터럽트 발생");
+        } finally {
+            metrics.recordOutputStall(System.nanoTime() - waitStart);
+        }
+    }
+
+    private <T> T take(BlockingQueue<T> queue, PipelineStageMetrics metrics, AtomicBoolean cancelled) {
+        long waitStart = System.nanoTime();
+        try {
+            T item;
+            while ((item = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) == null) {
+                if (cancelled.get()) {
+                    throw new CancellationException("파이프라인이 취소되었습니다");
+                }
+            }
+            return item;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("파이프라인 대기 중 인터럽트 발생");
+        } finally {
+            metrics.recordInputStall(System.nanoTime() - waitStart);
+        }
+    }
+
+    private RuntimeException stageFailure(Throwable cause, RuntimeException fallback) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause != null) {
+            return new IllegalStateException("파이프라인 단계 처리 실패", cause);
+        }
+        return fallback;
+    }
+
+    private void joinQuietly(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 파이프라인 실행 결과
+     *
+     * @param jobId 작업 ID
+     * @param processedItems 큐 적재 단계까지 처리된 수신자 수
+     * @param durationMs 전체 소요 시간
+     * @param stages 단계별 지표
+     */
+    public record PipelineResult(
+        UUID jobId,
+        long processedItems,
+        long durationMs,
+        List<PipelineStageMetrics.StageSnapshot> stages
+    ) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.autoever.member.message.pipeline;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파이프라인 단계별 지표
+ * 처리량, 입력 큐 깊이, 입력 대기(상류 부족)/출력 대기(하류 포화) 시간을 기록
+ */
+public class PipelineStageMetrics {
+
+    private final String stage;
+    private final BlockingQueue<?> inputQueue;
+    private final LongAdder processedItems = new LongAdder();
+    private final LongAdder inputStallNanos = new LongAdder();
+    private final LongAdder outputStallNanos = new LongAdder();
+    private final long startNanos = System.nanoTime();
+    private volatile long endNanos;
+
+    public PipelineStageMetrics(String stage, BlockingQueue<?> inputQueue) {
+        this.stage = stage;
+        this.inputQueue = inputQueue;
+    }
+
+    public void recordProcessed(int items) {
+        processedItems.add(items);
+    }
+
+    public void recordInputStall(long nanos) {
+        inputStallNanos.add(nanos);
+    }
+
+    public void recordOutputStall(long nanos) {
+        outputStallNanos.add(nanos);
+    }
+
+    public void markFinished() {
+        endNanos = System.nanoTime();
+    }
+
+    public StageSnapshot snapshot() {
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        long elapsedNanos = Math.max(end - startNanos, 1);
+        long processed = processedItems.sum();
+
+        return new StageSnapshot(
+            stage,
+            processed,
+            processed * 1_000_000_000.0 / elapsedNanos,
+            inputQueue != null ? inputQueue.size() : 0,
+            TimeUnit.NANOSECONDS.toMillis(inputStallNanos.sum()),
+            TimeUnit.NANOSECONDS.toMillis(outputStallNanos.sum())
+        );
+    }
+
+    /**
+     * 단계 지표 스냅샷
+     *
+     * @param stage 단계 이름
+     * @param processedItems 처리한 수신자 수
+     * @param throughputPerSecond 초당 처리량
+     * @param queueDepth 현재 입력 큐에 대기 중인 배치 수
+     * @param inputStallMillis 상류 배치를 기다린 시간
+     * @param outputStallMillis 하류 큐가 가득 차 기다린 시간
+     */
+    public record StageSnapshot(
+        String stage,
+        long processedItems,
+        double throughputPerSecond,
+        int queueDepth,
+        long inputStallMillis,
+        long outputStallMillis
+    ) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.autoever.member.message.pipeline;
+
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.message.template.CompiledTemplate;
+
+/**
+ * 템플릿 적용 준비가 끝난 발송 대상 메시지
+ * 본문은 큐에서 꺼내 발송할 때 렌더링하므로 작업 공유 템플릿 참조만 보관
+ *
+ * @param recipient 수신자
+ * @param template 수신자 정보로 렌더링 가능함을 확인한 템플릿 (템플릿 적용 실패 시 null)
+ */
+public record RenderedMessage(Recipient recipient, CompiledTemplate template) {
+
+    /**
+     * 렌더링된 메시지 본문 (템플릿 적용 실패 시 null)
+     */
+    public String content() {
+        return template != null ? template.render(recipient.name(), recipient.phoneNumber()) : null;
+    }
+}
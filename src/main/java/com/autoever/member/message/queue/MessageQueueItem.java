@@ -1,41 +1,120 @@
 package com.autoever.member.message.queue;
 
 import com.autoever.member.message.ApiType;
+import com.autoever.member.message.template.CompiledTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
 
 /**
  * 큐에 저장될 메시지 요청 정보
+ *
+ * 본문 대신 여러 항목이 공유하는 분석된 템플릿과 수신자 정보만 보관하고,
+ * 발송 시점({@link #getMessage()} 최초 호출)에 렌더링함 (기한 경과로 버린 항목은 렌더링하지 않음)
  */
 public class MessageQueueItem {
     private final String id;
     private final String memberName;
     private final String phoneNumber;
-    private final String message;
+    // 발송 시점에 채워짐
+    private String message;
+    // 발송 시점 렌더링용 공유 템플릿
+    private final CompiledTemplate template;
     private final ApiType preferredApiType;
     private final Instant queuedAt;
+    // 대량 발송 작업 ID (단건 발송은 null)
+    private final UUID jobId;
+    // 지연 시간 측정용 단조 시각 (나노초)
+    private final long enqueuedNanos;
+    private long dispatchedNanos;
+    // 적재 시점의 큐 Rate limit 대기 누적 시간 (대기 구간 분리용)
+    private long rateLimitedNanosAtEnqueue;
+    // 발송 기한 (null이면 기한 없음), 만료 판단은 단조 시각으로 수행
+    private final Instant expiresAt;
+    private final long expiresAtNanos;
+    // 적재 전에 확보한 수신자 빈도 제한 발송 허가 (발송하지 않고 버리면 되돌림)
+    private final int frequencyCapPermit;
 
-    public MessageQueueItem(String memberName, String phoneNumber, String message, ApiType preferredApiType) {
+    /**
+     * 발송 시점에 렌더링할 템플릿 메시지
+     *
+     * @param template 분석된 공유 템플릿 (수신자 정보로 렌더링 가능한지 적재 전에 확인해야 함)
+     * @param expiresAt 발송 기한 (null이면 기한 없음)
+     * @param frequencyCapPermit 수신자 빈도 제한 발송 허가 (RecipientFrequencyCap.tryAcquire 반환값)
+     */
+    public MessageQueueItem(UUID jobId, String memberName, String phoneNumber, CompiledTemplate template,
+                            ApiType preferredApiType, Instant expiresAt, int frequencyCapPermit) {
         this.id = UUID.randomUUID().toString();
+        this.jobId = jobId;
         this.memberName = memberName;
         this.phoneNumber = phoneNumber;
-        this.message = message;
+        this.template = template;
         this.preferredApiType = preferredApiType;
         this.queuedAt = Instant.now();
+        this.enqueuedNanos = System.nanoTime();
+        this.expiresAt = expiresAt;
+        this.frequencyCapPermit = frequencyCapPermit;
+        this.expiresAtNanos = expiresAt == null ? 0 : enqueuedNanos + saturatedNanos(Duration.between(queuedAt, expiresAt));
+    }
+
+    /**
+     * 발송 기한 경과 여부
+     *
+     * @param nowNanos 현재 단조 시각 (System.nanoTime)
+     */
+    public boolean isExpired(long nowNanos) {
+        return expiresAt != null && nowNanos - expiresAtNanos >= 0;
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return duration.isNegative() ? Long.MIN_VALUE / 2 : Long.MAX_VALUE / 2;
+        }
+    }
+
+    /**
+     * 발송할 메시지 본문 (처음 호출할 때 렌더링, 큐 처리 스레드에서만 호출)
+     */
+    public String getMessage() {
+        if (message == null) {
+            message = template.render(memberName, phoneNumber);
+        }
+        return message;
+    }
+
+    /**
+     * 큐에서 꺼내 발송을 시작한 시각 기록 (큐 처리 스레드에서 호출)
+     */
+    public void markDispatched() {
+        this.dispatchedNanos = System.nanoTime();
+    }
+
+    /**
+     * 적재 시점의 큐 Rate limit 대기 누적 시간 기록 (큐에 넣기 전에 호출)
+     */
+    void markEnqueued(long rateLimitedNanos) {
+        this.rateLimitedNanosAtEnqueue = rateLimitedNanos;
     }
 
     // Getters
     public String getId() { return id; }
     public String getMemberName() { return memberName; }
     public String getPhoneNumber() { return phoneNumber; }
-    public String getMessage() { return message; }
     public ApiType getPreferredApiType() { return preferredApiType; }
     public Instant getQueuedAt() { return queuedAt; }
+    public UUID getJobId() { return jobId; }
+    public long getEnqueuedNanos() { return enqueuedNanos; }
+    public long getDispatchedNanos() { return dispatchedNanos; }
+    public long getRateLimitedNanosAtEnqueue() { return rateLimitedNanosAtEnqueue; }
+    public Instant getExpiresAt() { return expiresAt; }
+    public int getFrequencyCapPermit() { return frequencyCapPermit; }
 
     @Override
     public String toString() {
-        return String.format("MessageQueueItem{id='%s', phone='%s', apiType=%s, queuedAt=%s}", 
-            id, phoneNumber, preferredApiType, queuedAt);
+        return String.format("MessageQueueItem{id='%s', jobId=%s, phone='%s', apiType=%s, queuedAt=%s}", 
+            id, jobId, phoneNumber, preferredApiType, queuedAt);
     }
 }
\ No newline at end of file
@@ -1,15 +1,22 @@
 package com.autoever.member.message.queue;
 
+import com.autoever.member.jfr.FallbackDecisionEvent;
 import com.autoever.member.message.ApiType;
 import com.autoever.member.message.client.KakaoTalkApiClient;
 import com.autoever.member.message.client.SmsApiClient;
 import com.autoever.member.message.dto.MessageRequest;
 import com.autoever.member.message.dto.MessageResponse;
+import com.autoever.member.message.job.BulkJobRegistry;
+import com.autoever.member.message.logging.LogSampler;
 import com.autoever.member.message.ratelimit.ApiRateLimiter;
+import com.autoever.member.message.ratelimit.RecipientFrequencyCap;
 import com.autoever.member.message.result.MessageSendResult;
 import com.autoever.member.message.result.MessageSendTracker;
+import com.autoever.member.message.trace.SpanTracer;
+import com.autoever.member.message.trace.SpanType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -20,23 +27,33 @@ import org.springframework.stereotype.Service;
 public class MessageQueueProcessor {
     
     private static final Logger log = LoggerFactory.getLogger(MessageQueueProcessor.class);
+    private static final LogSampler sampler = LogSampler.of(log);
     
     private final MessageQueueService messageQueueService;
     private final ApiRateLimiter apiRateLimiter;
     private final KakaoTalkApiClient kakaoTalkApiClient;
     private final SmsApiClient smsApiClient;
     private final MessageSendTracker messageSendTracker;
+    private final RecipientFrequencyCap recipientFrequencyCap;
+    private final BulkJobRegistry bulkJobRegistry;
+    private final SpanTracer spanTracer;
     
     public MessageQueueProcessor(MessageQueueService messageQueueService, 
                                ApiRateLimiter apiRateLimiter,
                                KakaoTalkApiClient kakaoTalkApiClient,
                                SmsApiClient smsApiClient,
-                               MessageSendTracker messageSendTracker) {
+                               MessageSendTracker messageSendTracker,
+                               RecipientFrequencyCap recipientFrequencyCap,
+                               BulkJobRegistry bulkJobRegistry,
+                               SpanTracer spanTracer) {
         this.messageQueueService = messageQueueService;
         this.apiRateLimiter = apiRateLimiter;
         this.kakaoTalkApiClient = kakaoTalkApiClient;
         this.smsApiClient = smsApiClient;
         this.messageSendTracker = messageSendTracker;
+        this.recipientFrequencyCap = recipientFrequencyCap;
+        this.bulkJobRegistry = bulkJobRegistry;
+        this.spanTracer = spanTracer;
         log.info("MessageQueueProcessor 초기화 완료");
     }
     
@@ -48,6 +65,7 @@ public class MessageQueueProcessor {
         // 큐 상태 확인
         MessageQueueService.QueueStatus status = messageQueueService.getQueueStatus();
         if (status.getCurrentSize() == 0) {
+            messageQueueService.markRateLimited(false);
             return; // 큐가 비어있음
         }
         
@@ -55,88 +73,199 @@ public class MessageQueueProcessor {
         boolean kakaoAvailable = apiRateLimiter.hasCapacity(ApiType.KAKAOTALK);
         boolean smsAvailable = apiRateLimiter.hasCapacity(ApiType.SMS);
         
+        // 대기 메시지가 있는데 발송할 채널이 없는 시간을 Rate limit 대기로 집계
+        messageQueueService.markRateLimited(!kakaoAvailable && !smsAvailable);
         if (!kakaoAvailable && !smsAvailable) {
-            log.debug("모든 API Rate limit 초과 - 대기");
+            if (sampler.sample(Level.DEBUG, "모든 API Rate limit 초과 - 대기")) {
+                log.debug("모든 API Rate limit 초과 - 대기");
+            }
             return;
         }
         
-        // 큐에서 항목을 확인하되, rate limit이 가능한 것만 처리
-        MessageQueueItem item = messageQueueService.dequeue();
+        // 큐에서 항목을 확인하되, rate limit이 가능한 것만 처리 (발송 기한이 지난 항목은 건너뜀)
+        MessageQueueItem item = messageQueueService.dequeue(this::recordExpired);
         
         if (item == null) {
             return; // 큐가 비어있음
         }
         
-        try {
+        item.markDispatched();
+        FallbackDecisionEvent decisionEvent = new FallbackDecisionEvent();
+        decisionEvent.begin();
+        MessageSendResult outcome = MessageSendResult.RATE_LIMITED;
+        ApiType fallbackApiType = null;
+        boolean apiCalled = false;
+        
+        // 렌더링/외부 API 호출 구간이 메시지의 대량 발송 작업에 기록되도록 연결
+        try (SpanTracer.Scope jobScope = spanTracer.bindJob(item.getJobId())) {
             boolean processed = false;
             
             // 선호하는 API 타입으로 시도
             if (item.getPreferredApiType() == ApiType.KAKAOTALK && kakaoAvailable) {
                 if (apiRateLimiter.tryAcquire(ApiType.KAKAOTALK)) {
-                    log.info("큐 메시지 카카오톡 발송 - ID: {}", item.getId());
-                    processed = sendKakaoTalk(item);
+                    if (sampler.sample(Level.INFO, "큐 메시지 카카오톡 발송")) {
+                        log.info("큐 메시지 카카오톡 발송 - ID: {}", item.getId());
+                    }
+                    outcome = sendKakaoTalk(item);
+                    apiCalled = true;
+                    processed = outcome.isSuccess();
                 }
             } else if (item.getPreferredApiType() == ApiType.SMS && smsAvailable) {
                 if (apiRateLimiter.tryAcquire(ApiType.SMS)) {
-                    log.info("큐 메시지 SMS 발송 - ID: {}", item.getId());
-                    processed = sendSms(item);
+                    if (sampler.sample(Level.INFO, "큐 메시지 SMS 발송")) {
+                        log.info("큐 메시지 SMS 발송 - ID: {}", item.getId());
+                    }
+                    outcome = sendSms(item);
+                    apiCalled = true;
+                    processed = outcome.isSuccess();
                 }
             }
             
             // 선호 API가 불가능한 경우 대체 API 시도
             if (!processed && item.getPreferredApiType() == ApiType.KAKAOTALK && smsAvailable) {
                 if (apiRateLimiter.tryAcquire(ApiType.SMS)) {
-                    log.info("큐 메시지 카카오톡->SMS Fallback - ID: {}", item.getId());
-                    processed = sendSms(item);
+                    if (sampler.sample(Level.INFO, "큐 메시지 카카오톡->SMS Fallback")) {
+                        log.info("큐 메시지 카카오톡->SMS Fallback - ID: {}", item.getId());
+                    }
+                    outcome = sendSms(item);
+                    fallbackApiType = ApiType.SMS;
+                    apiCalled = true;
+                    processed = outcome.isSuccess();
                 }
             }
             
             // 처리되지 못한 경우 큐에서 소비하고 실패 처리
             if (!processed) {
-                log.warn("Rate limit으로 처리 불가 - 메시지 소비 및 실패 처리: {}", item.getId());
+                if (sampler.sample(Level.WARN, "Rate limit으로 처리 불가")) {
+                    log.warn("Rate limit으로 처리 불가 - 메시지 소비 및 실패 처리: {}", item.getId());
+                }
                 messageSendTracker.recordResult(MessageSendResult.RATE_LIMITED, item.getPreferredApiType());
             }
             
         } catch (Exception e) {
             log.error("큐 메시지 처리 중 오류 발생 - ID: " + item.getId(), e);
+            outcome = MessageSendResult.FAILED_BOTH;
+        } finally {
+            decisionEvent.complete(item.getId(), item.getPreferredApiType(), fallbackApiType,
+                kakaoAvailable, smsAvailable, outcome);
+            recordDelivery(item, outcome, apiCalled);
+        }
+    }
+    
+    /**
+     * 발송 기한이 지나 버린 메시지 기록 (외부 API를 호출하지 않으므로 발송 허용량을 쓰지 않음)
+     * 적재 시 잡아 둔 수신자 빈도 제한 발송 수도 실제로 발송하지 않았으므로 되돌림
+     */
+    private void recordExpired(MessageQueueItem item) {
+        long nowNanos = System.nanoTime();
+        long queueWaitMicros = (nowNanos - item.getEnqueuedNanos()) / 1_000;
+        if (sampler.sample(Level.DEBUG, "발송 기한 경과로 큐 메시지 폐기")) {
+            log.debug("발송 기한 경과로 큐 메시지 폐기 - ID: {}, 대기: {}ms, 기한: {}", 
+                item.getId(), queueWaitMicros / 1_000, item.getExpiresAt());
+        }
+        recipientFrequencyCap.release(item.getPhoneNumber(), item.getFrequencyCapPermit());
+        messageSendTracker.recordResult(MessageSendResult.EXPIRED, item.getPreferredApiType());
+        messageSendTracker.recordQueueDwell(item.getPreferredApiType(), MessageSendResult.EXPIRED, queueWaitMicros);
+        
+        if (item.getJobId() == null) {
+            return;
+        }
+        recordQueueSpans(item, nowNanos);
+        messageSendTracker.recordJobResult(item.getJobId(), MessageSendResult.EXPIRED);
+        bulkJobRegistry.find(item.getJobId())
+            .ifPresent(progress -> progress.recordExpired(queueWaitMicros));
+    }
+    
+    /**
+     * 큐 대기 시간을 결과별로 기록하고, 대량 발송 작업 메시지는 최종 처리 결과와 지연 시간을 작업별로 집계
+     * (큐 대기: 적재 → 발송 시작, 발송 지연: 발송 시작 → 외부 API 응답)
+     */
+    private void recordDelivery(MessageQueueItem item, MessageSendResult outcome, boolean apiCalled) {
+        long ackNanos = System.nanoTime();
+        long queueWaitMicros = (item.getDispatchedNanos() - item.getEnqueuedNanos()) / 1_000;
+        messageSendTracker.recordQueueDwell(item.getPreferredApiType(), outcome, queueWaitMicros);
+        if (item.getJobId() == null) {
+            return;
+        }
+        long sendLatencyMicros = apiCalled ? (ackNanos - item.getDispatchedNanos()) / 1_000 : -1;
+        
+        recordQueueSpans(item, item.getDispatchedNanos());
+        messageSendTracker.recordJobResult(item.getJobId(), outcome);
+        bulkJobRegistry.find(item.getJobId())
+            .ifPresent(progress -> progress.recordDelivery(outcome.isSuccess(), queueWaitMicros, sendLatencyMicros));
+    }
+    
+    /**
+     * 큐 대기 시간을 Rate limit 대기와 나머지 대기(앞선 메시지 처리)로 나누어 작업 구간에 기록
+     * Rate limit 대기는 적재 이후 모든 채널이 막혀 있던 시간으로, 큐 대기 시간을 넘지 않음
+     */
+    private void recordQueueSpans(MessageQueueItem item, long leftQueueNanos) {
+        long dwellNanos = leftQueueNanos - item.getEnqueuedNanos();
+        long rateLimitedNanos = messageQueueService.rateLimitedNanos() - item.getRateLimitedNanosAtEnqueue();
+        rateLimitedNanos = Math.max(0, Math.min(dwellNanos, rateLimitedNanos));
+        if (rateLimitedNanos > 0) {
+            spanTracer.record(item.getJobId(), SpanType.RATE_LIMIT_WAIT, "queue.rate-limit-wait",
+                item.getEnqueuedNanos(), rateLimitedNanos);
+        }
+        spanTracer.record(item.getJobId(), SpanType.QUEUE_WAIT, "queue.dwell",
+            item.getEnqueuedNanos() + rateLimitedNanos, dwellNanos - rateLimitedNanos);
+    }
+    
+    /**
+     * 발송 시점 본문 렌더링 (템플릿으로 적재한 경우 첫 호출에서만 렌더링)
+     */
+    private String renderMessage(MessageQueueItem item) {
+        try (SpanTracer.Span span = spanTracer.start(SpanType.TEMPLATE_RENDER, "queue.render")) {
+            return item.getMessage();
         }
     }
     
     /**
      * 카카오톡 메시지 발송
      */
-    private boolean sendKakaoTalk(MessageQueueItem item) {
+    private MessageSendResult sendKakaoTalk(MessageQueueItem item) {
+        long startNanos = System.nanoTime();
         try {
-            MessageRequest request = new MessageRequest(item.getPhoneNumber(), item.getMessage());
+            MessageRequest request = new MessageRequest(item.getPhoneNumber(), renderMessage(item));
             MessageResponse response = kakaoTalkApiClient.sendMessage(request);
+            messageSendTracker.recordApiCall(ApiType.KAKAOTALK, response.success(), elapsedMicros(startNanos));
             
             if (response.success()) {
-                log.info("카카오톡 발송 성공 - ID: {}, MessageId: {}", item.getId(), response.messageId());
+                if (sampler.sample(Level.INFO, "카카오톡 발송 성공")) {
+                    log.info("카카오톡 발송 성공 - ID: {}, MessageId: {}", item.getId(), response.messageId());
+                }
                 messageSendTracker.recordResult(MessageSendResult.SUCCESS_KAKAO, ApiType.KAKAOTALK);
-                return true;
+                return MessageSendResult.SUCCESS_KAKAO;
             } else {
-                log.warn("카카오톡 발송 실패 - ID: {}, Error: {}", item.getId(), response.errorMessage());
+                if (sampler.sample(Level.WARN, "카카오톡 발송 실패")) {
+                    log.warn("카카오톡 발송 실패 - ID: {}, Error: {}", item.getId(), response.errorMessage());
+                }
                 messageSendTracker.recordResult(MessageSendResult.FAILED_BOTH, ApiType.KAKAOTALK);
-                return false;
+                return MessageSendResult.FAILED_BOTH;
             }
             
         } catch (Exception e) {
             log.error("카카오톡 발송 중 오류 - ID: " + item.getId(), e);
+            messageSendTracker.recordApiCall(ApiType.KAKAOTALK, false, elapsedMicros(startNanos));
             messageSendTracker.recordResult(MessageSendResult.FAILED_BOTH, ApiType.KAKAOTALK);
-            return false;
+            return MessageSendResult.FAILED_BOTH;
         }
     }
     
     /**
      * SMS 메시지 발송
      */
-    private boolean sendSms(MessageQueueItem item) {
+    private MessageSendResult sendSms(MessageQueueItem item) {
+        long startNanos = System.nanoTime();
         try {
-            MessageRequest request = new MessageRequest(item.getPhoneNumber(), item.getMessage());
+            MessageRequest request = new MessageRequest(item.getPhoneNumber(), renderMessage(item));
             MessageResponse response = smsApiClient.sendMessage(request);
+            messageSendTracker.recordApiCall(ApiType.SMS, response.success(), elapsedMicros(startNanos));
             
             if (response.success()) {
-                log.info("SMS 발송 성공 - ID: {}, MessageId: {}", item.getId(), response.messageId());
+                if (sampler.sample(Level.INFO, "SMS 발송 성공")) {
+                    log.info("SMS 발송 성공 - ID: {}, MessageId: {}", item.getId(), response.messageId());
+                }
                 // 카카오톡에서 SMS로 fallback된 경우와 처음부터 SMS인 경우 구분
                 if (item.getPreferredApiType() == ApiType.KAKAOTALK) {
                     messageSendTracker.recordResult(MessageSendResult.SUCCESS_SMS_FALLBACK, ApiType.SMS);
@@ -144,20 +273,27 @@ public class MessageQueueProcessor {
                     // 처음부터 SMS로 요청된 경우는 SMS 성공으로 처리하되, 별도 결과 타입 필요
                     messageSendTracker.recordResult(MessageSendResult.SUCCESS_SMS_FALLBACK, ApiType.SMS);
                 }
-                return true;
+                return MessageSendResult.SUCCESS_SMS_FALLBACK;
             } else {
-                log.warn("SMS 발송 실패 - ID: {}, Error: {}", item.getId(), response.errorMessage());
+                if (sampler.sample(Level.WARN, "SMS 발송 실패")) {
+                    log.warn("SMS 발송 실패 - ID: {}, Error: {}", item.getId(), response.errorMessage());
+                }
                 messageSendTracker.recordResult(MessageSendResult.FAILED_BOTH, ApiType.SMS);
-                return false;
+                return MessageSendResult.FAILED_BOTH;
             }
             
         } catch (Exception e) {
             log.error("SMS 발송 중 오류 - ID: " + item.getId(), e);
+            messageSendTracker.recordApiCall(ApiType.SMS, false, elapsedMicros(startNanos));
             messageSendTracker.recordResult(MessageSendResult.FAILED_BOTH, ApiType.SMS);
-            return false;
+            return MessageSendResult.FAILED_BOTH;
         }
     }
     
+    private static long elapsedMicros(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000;
+    }
+    
     /**
      * 현재 큐 상태 로깅 (1분마다)
      */
@@ -165,9 +301,9 @@ public class MessageQueueProcessor {
     public void logQueueStatus() {
         MessageQueueService.QueueStatus status = messageQueueService.getQueueStatus();
         if (status.getCurrentSize() > 0) {
-            log.info("큐 상태 - 현재: {}/{} ({}%)", 
+            log.info("큐 상태 - 현재: {}/{} ({}%), 기한 경과 폐기 누적: {}", 
                 status.getCurrentSize(), status.getMaxSize(), 
-                String.format("%.1f", status.getUsagePercent()));
+                String.format("%.1f", status.getUsagePercent()), status.getExpiredCount());
         }
     }
 }
\ No newline at end of file
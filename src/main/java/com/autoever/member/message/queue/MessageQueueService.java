@@ -1,67 +1,163 @@
 package com.autoever.member.message.queue;
 
+import com.autoever.member.jfr.MessageDequeueEvent;
+import com.autoever.member.jfr.MessageEnqueueEvent;
 import com.autoever.member.message.ApiType;
+import com.autoever.member.message.logging.LogSampler;
+import com.autoever.member.message.metrics.PrometheusCollector;
+import com.autoever.member.message.metrics.PrometheusTextWriter;
+import com.autoever.member.message.template.CompiledTemplate;
 import com.autoever.member.message.result.MessageSendResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * 메시지 큐 서비스 - Rate Limit 초과 시 대기열 관리
  */
 @Service
-public class MessageQueueService {
+public class MessageQueueService implements PrometheusCollector {
     
     private static final Logger log = LoggerFactory.getLogger(MessageQueueService.class);
+    private static final LogSampler sampler = LogSampler.of(log);
     
     // 큐 최대 크기 설정 - 1분 처리량(600)의 2.5배로 peak load 대응
     private static final int MAX_QUEUE_SIZE = 1500;
     
     private final BlockingQueue<MessageQueueItem> messageQueue;
     
+    // 발송 기한이 지나 발송하지 않고 버린 메시지 수 (절약한 발송 허용량)
+    private final AtomicLong expiredCount = new AtomicLong(0);
+    
+    // 모든 채널이 Rate limit에 걸려 큐 처리가 멈춘 누적 시간 (메시지별 대기 구간 분리용)
+    private final AtomicLong rateLimitedNanos = new AtomicLong(0);
+    // 현재 멈춘 구간의 시작 시각 (0이면 처리 가능 상태)
+    private volatile long rateLimitedSince;
+    
     public MessageQueueService() {
         this.messageQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
         log.info("MessageQueueService 초기화 완료 - MAX_QUEUE_SIZE: {}", MAX_QUEUE_SIZE);
     }
     
     /**
-     * Rate limit 초과 시 메시지를 큐에 추가
+     * 본문 대신 공유 템플릿을 참조하는 메시지를 큐에 추가 (발송 시점에 렌더링)
+     * 같은 캠페인 메시지가 큐 깊이만큼 복제되지 않도록 항목에는 템플릿 참조와 수신자 정보만 보관
      * 
+     * @param jobId 대량 발송 작업 ID (단건 발송은 null)
      * @param memberName 회원명
      * @param phoneNumber 전화번호
-     * @param message 메시지
+     * @param template 분석된 공유 템플릿
      * @param apiType API 타입
+     * @param expiresAt 발송 기한 (null이면 기한 없음)
+     * @param frequencyCapPermit 적재 전에 확보한 수신자 빈도 제한 발송 허가 (기한 경과로 버릴 때 되돌림)
      * @return 큐 추가 성공 여부
      */
-    public QueueResult enqueue(String memberName, String phoneNumber, String message, ApiType apiType) {
-        MessageQueueItem item = new MessageQueueItem(memberName, phoneNumber, message, apiType);
-        
+    public QueueResult enqueue(UUID jobId, String memberName, String phoneNumber, CompiledTemplate template,
+                               ApiType apiType, Instant expiresAt, int frequencyCapPermit) {
+        return enqueue(new MessageQueueItem(jobId, memberName, phoneNumber, template, apiType, expiresAt,
+            frequencyCapPermit));
+    }
+    
+    private QueueResult enqueue(MessageQueueItem item) {
+        item.markEnqueued(rateLimitedNanos());
+        MessageEnqueueEvent event = new MessageEnqueueEvent();
+        event.begin();
         boolean added = messageQueue.offer(item); // non-blocking add
+        event.complete(item.getPreferredApiType(), item.getJobId(), added, messageQueue.size(), MAX_QUEUE_SIZE);
         
         if (added) {
-            log.info("메시지 큐에 추가 성공 - {} (현재 큐 크기: {})", item, messageQueue.size());
+            if (sampler.sample(Level.INFO, "메시지 큐에 추가 성공")) {
+                log.info("메시지 큐에 추가 성공 - {} (현재 큐 크기: {})", item, messageQueue.size());
+            }
             return QueueResult.queued(item.getId(), messageQueue.size());
         } else {
-            log.warn("메시지 큐 용량 초과 - 큐 크기: {}, MAX: {}", messageQueue.size(), MAX_QUEUE_SIZE);
+            if (sampler.sample(Level.WARN, "메시지 큐 용량 초과")) {
+                log.warn("메시지 큐 용량 초과 - 큐 크기: {}, MAX: {}", messageQueue.size(), MAX_QUEUE_SIZE);
+            }
             return QueueResult.queueFull();
         }
     }
     
     /**
      * 큐에서 메시지 하나 가져오기 (처리용)
+     * 발송 기한이 지난 메시지는 건너뜀
      */
     public MessageQueueItem dequeue() {
-        return messageQueue.poll(); // non-blocking get
+        return dequeue(expired -> { });
+    }
+    
+    /**
+     * 큐에서 발송 기한이 남은 메시지 하나 가져오기 (처리용)
+     * 맨 앞 항목만 확인하며 버린 항목은 발송 허용량을 쓰지 않음 (큐 전체를 검사하지 않음)
+     * 
+     * @param expiredHandler 기한이 지나 버린 메시지 처리 함수 (작업별 집계용)
+     * @return 발송할 메시지 (큐가 비었으면 null)
+     */
+    public MessageQueueItem dequeue(Consumer<MessageQueueItem> expiredHandler) {
+        MessageDequeueEvent event = new MessageDequeueEvent();
+        event.begin();
+        long nowNanos = System.nanoTime();
+        int expiredSkipped = 0;
+        MessageQueueItem item;
+        while ((item = messageQueue.poll()) != null && item.isExpired(nowNanos)) { // non-blocking get
+            expiredCount.incrementAndGet();
+            expiredSkipped++;
+            expiredHandler.accept(item);
+        }
+        if (item != null) {
+            event.complete(item.getPreferredApiType(), item.getJobId(), (nowNanos - item.getEnqueuedNanos()) / 1_000,
+                expiredSkipped, messageQueue.size());
+        } else if (expiredSkipped > 0) {
+            event.complete(null, null, -1, expiredSkipped, messageQueue.size());
+        }
+        return item;
+    }
+    
+    /**
+     * 큐 처리 가능 여부 기록 (큐 처리 스레드에서만 호출)
+     * 
+     * @param limited 모든 채널이 Rate limit에 걸려 발송할 수 없으면 true
+     */
+    public void markRateLimited(boolean limited) {
+        long since = rateLimitedSince;
+        if (limited && since == 0) {
+            rateLimitedSince = System.nanoTime() | 1;
+        } else if (!limited && since != 0) {
+            rateLimitedSince = 0;
+            rateLimitedNanos.addAndGet(System.nanoTime() - since);
+        }
+    }
+    
+    /**
+     * Rate limit으로 큐 처리가 멈춘 누적 시간 (진행 중인 구간 포함)
+     * 두 시점의 차이가 그 사이 큐에서 기다린 시간 중 Rate limit 대기 시간
+     */
+    public long rateLimitedNanos() {
+        long since = rateLimitedSince;
+        long total = rateLimitedNanos.get();
+        return since == 0 ? total : total + (System.nanoTime() - since);
     }
     
     /**
      * 현재 큐 상태 정보
      */
     public QueueStatus getQueueStatus() {
-        return new QueueStatus(messageQueue.size(), MAX_QUEUE_SIZE);
+        return new QueueStatus(messageQueue.size(), MAX_QUEUE_SIZE, expiredCount.get());
+    }
+    
+    @Override
+    public void collect(PrometheusTextWriter writer) {
+        writer.gauge("message_queue_size", "메시지 큐 대기 건수", messageQueue.size());
+        writer.gauge("message_queue_capacity", "메시지 큐 최대 크기", MAX_QUEUE_SIZE);
+        writer.counter("message_queue_expired_total", "발송 기한 경과로 버린 메시지 수", expiredCount.get());
     }
     
     /**
@@ -101,14 +197,22 @@ public class MessageQueueService {
     public static class QueueStatus {
         private final int currentSize;
         private final int maxSize;
+        private final long expiredCount;
         
         public QueueStatus(int currentSize, int maxSize) {
+            this(currentSize, maxSize, 0);
+        }
+        
+        public QueueStatus(int currentSize, int maxSize, long expiredCount) {
             this.currentSize = currentSize;
             this.maxSize = maxSize;
+            this.expiredCount = expiredCount;
         }
         
         public int getCurrentSize() { return currentSize; }
         public int getMaxSize() { return maxSize; }
+        // 발송 기한이 지나 버린 누적 메시지 수 = 절약한 외부 API 발송 허용량
+        public long getExpiredCount() { return expiredCount; }
         public boolean isFull() { return currentSize >= maxSize; }
         public double getUsagePercent() { return (double) currentSize / maxSize * 100; }
     }
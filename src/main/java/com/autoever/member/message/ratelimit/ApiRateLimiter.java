@@ -1,5 +1,6 @@
 package com.autoever.member.message.ratelimit;
 
+import com.autoever.member.jfr.RateLimitDeniedEvent;
 import com.autoever.member.message.ApiType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,6 +74,8 @@ public class ApiRateLimiter {
             } else {
                 log.warn("{}의 Rate Limit 초과: {}/{} (윈도우 시작: {})", 
                     apiType, current, limit, windowStart);
+                RateLimitDeniedEvent.emit(apiType, current, limit,
+                    RATE_LIMIT_WINDOW_SECONDS - ChronoUnit.SECONDS.between(windowStart, now));
                 return false;
             }
             
@@ -0,0 +1,338 @@
+package com.autoever.member.message.ratelimit;
+
+import com.autoever.member.message.config.FrequencyCapConfig;
+import com.autoever.member.message.metrics.PrometheusCollector;
+import com.autoever.member.message.metrics.PrometheusTextWriter;
+import com.autoever.member.message.snapshot.PhoneNumberCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 수신자(전화번호)별 발송 빈도 제한
+ *
+ * 겹치는 연령대 작업과 개별 발송으로 같은 번호에 하루 여러 번 발송되는 것을 큐 적재 전에 차단함.
+ * 전화번호를 하이픈을 제거해 64비트 키로 압축하고, 선형 탐사 방식의 원시 배열 해시 맵에
+ * 수신자별로 집계 시간 단위(버킷)의 발송 수 링을 저장함. 윈도우 발송 수는 현재 버킷을 포함한
+ * 최근 (윈도우 / 버킷) 개 버킷의 합이며, 오래된 버킷은 조회 시점에 0으로 지워짐 (실제 윈도우는 최대 버킷 하나만큼 짧아질 수 있음)
+ *
+ * 메모리: 슬롯당 8(키) + 4(최근 버킷) + 버킷 수 바이트, 슬롯 수 = 최대 수신자 수 / 0.75로 기동 시 고정 할당.
+ * 기본 설정(4시간 버킷, 24시간 윈도우 → 버킷 6개)에서 수신자 100만 명당 약 18 × 1,333,334 ≈ 24MB.
+ * 최대 수신자 수에 도달하면 모든 버킷이 만료된 수신자를 정리하고, 그래도 공간이 없으면 새 수신자는 제한 없이 통과시킴
+ *
+ * 추적 수신자 수, 차단/미추적 통과 건수와 메모리 크기는 /internal/metrics로 노출
+ */
+@Component
+public class RecipientFrequencyCap implements PrometheusCollector {
+
+    // 제한 초과로 발송할 수 없음
+    public static final int CAPPED = -1;
+    // 제한 대상이 아니어서 집계하지 않고 통과 (비활성, 형식을 알 수 없는 번호, 추적 수신자 수 상한)
+    public static final int UNCOUNTED = 0;
+
+    private static final Logger log = LoggerFactory.getLogger(RecipientFrequencyCap.class);
+
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    // 빈 슬롯 표시 (하이픈을 제거한 번호의 압축 값은 0이 될 수 없음)
+    private static final long EMPTY = PhoneNumberCodec.NULL;
+    private static final int MAX_CAP = Byte.MAX_VALUE;
+
+    private final boolean enabled;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int[] ruleBuckets;
+    private final int[] ruleLimits;
+    private final int maxEntries;
+    private final int capacity;
+    private final LongSupplier clock;
+    private final long baseEpoch;
+
+    private final long[] keys;
+    // 슬롯별 마지막으로 기록한 버킷 번호
+    private final int[] latestEpochs;
+    // 슬롯별 버킷 발송 수 (slot * bucketCount + epoch % bucketCount)
+    private final byte[] counts;
+
+    private int size;
+    private int lastPurgeEpoch = -1;
+    private long cappedCount;
+    private long untrackedCount;
+
+    @Autowired
+    public RecipientFrequencyCap(FrequencyCapConfig config) {
+        this(config, System::currentTimeMillis);
+    }
+
+    RecipientFrequencyCap(FrequencyCapConfig config, LongSupplier clock) {
+        this.clock = clock;
+        this.bucketMillis = config.getBucketDuration().toMillis();
+        if (bucketMillis <= 0) {
+            throw new IllegalArgumentException("빈도 제한 집계 시간 단위는 0보다 커야 합니다");
+        }
+        this.baseEpoch = clock.getAsLong() / bucketMillis;
+
+        List<FrequencyCapConfig.CapRule> caps = config.getCaps();
+        this.ruleBuckets = new int[caps.size()];
+        this.ruleLimits = new int[caps.size()];
+        int maxBuckets = 1;
+        for (int i = 0; i < caps.size(); i++) {
+            FrequencyCapConfig.CapRule cap = caps.get(i);
+            long windowMillis = cap.getWindow().toMillis();
+            if (windowMillis <= 0 || windowMillis % bucketMillis != 0) {
+                throw new IllegalArgumentException("빈도 제한 윈도우는 집계 시간 단위의 배수여야 합니다 - window: " + cap.getWindow());
+            }
+            if (cap.getMaxMessages() < 1 || cap.getMaxMessages() > MAX_CAP) {
+                throw new IllegalArgumentException("윈도우별 최대 발송 수는 1~" + MAX_CAP + " 사이여야 합니다");
+            }
+            ruleBuckets[i] = (int) (windowMillis / bucketMillis);
+            ruleLimits[i] = cap.getMaxMessages();
+            maxBuckets = Math.max(maxBuckets, ruleBuckets[i]);
+        }
+
+        this.enabled = config.isEnabled() && !caps.isEmpty();
+        this.bucketCount = maxBuckets;
+        this.maxEntries = enabled ? Math.max(1, config.getMaxRecipients()) : 0;
+        this.capacity = enabled ? (int) Math.ceil(maxEntries / MAX_LOAD_FACTOR) + 1 : 0;
+        this.keys = new long[capacity];
+        this.latestEpochs = new int[capacity];
+        this.counts = new byte[Math.multiplyExact(capacity, bucketCount)];
+
+        if (enabled) {
+            log.info("수신자 빈도 제한 초기화 완료 - 최대 수신자: {}, 버킷: {} x {}개, 메모리: {}KB",
+                maxEntries, config.getBucketDuration(), bucketCount, getMemoryBytes() / 1024);
+        }
+    }
+
+    /**
+     * 발송 가능 여부를 확인하고 가능하면 발송 수를 1 증가
+     * 형식을 알 수 없는 번호는 제한하지 않음 (번호 검증은 발송 단계에서 수행)
+     *
+     * @param phoneNumber 전화번호
+     * @return 발송 허가 ({@link #CAPPED}면 제한 초과, 그 외에는 발송 수를 늘린 버킷으로 {@link #release}에 전달)
+     */
+    public int tryAcquire(String phoneNumber) {
+        if (!enabled) {
+            return UNCOUNTED;
+        }
+        long key = keyOf(phoneNumber);
+        if (key == EMPTY) {
+            return UNCOUNTED;
+        }
+        int epoch = currentEpoch();
+
+        synchronized (this) {
+            int slot = probe(key);
+            if (keys[slot] == key) {
+                epoch = advance(slot, epoch);
+            } else {
+                if (size >= maxEntries && lastPurgeEpoch != epoch) {
+                    lastPurgeEpoch = epoch;
+                    purgeExpired(epoch);
+                    slot = probe(key);
+                }
+                if (size >= maxEntries) {
+                    if (untrackedCount++ % 10_000 == 0) {
+                        log.warn("빈도 제한 추적 수신자 수 상한 도달 - 새 수신자는 제한 없이 발송 (누적: {})", untrackedCount);
+                    }
+                    return UNCOUNTED;
+                }
+                keys[slot] = key;
+                latestEpochs[slot] = epoch;
+                Arrays.fill(counts, slot * bucketCount, (slot + 1) * bucketCount, (byte) 0);
+                size++;
+            }
+
+            for (int i = 0; i < ruleBuckets.length; i++) {
+                if (windowCount(slot, epoch, ruleBuckets[i]) >= ruleLimits[i]) {
+                    cappedCount++;
+                    return CAPPED;
+                }
+            }
+            counts[slot * bucketCount + epoch % bucketCount]++;
+            return epoch + 1;
+        }
+    }
+
+    /**
+     * {@link #tryAcquire(String)}로 늘린 발송 수를 되돌림 (큐 적재 실패 또는 발송 기한 경과로 발송하지 않은 경우)
+     * 허가가 가리키는 버킷만 줄이며, 그 버킷이 이미 만료되어 다른 시간 단위에 재사용 중이면 아무것도 하지 않음
+     *
+     * @param phoneNumber 전화번호
+     * @param permit {@link #tryAcquire(String)}가 반환한 발송 허가
+     */
+    public void release(String phoneNumber, int permit) {
+        if (permit <= UNCOUNTED) {
+            return;
+        }
+        long key = keyOf(phoneNumber);
+        if (key == EMPTY) {
+            return;
+        }
+        int epoch = permit - 1;
+        synchronized (this) {
+            int slot = probe(key);
+            if (keys[slot] != key || latestEpochs[slot] - epoch >= bucketCount) {
+                return;
+            }
+            int index = slot * bucketCount + epoch % bucketCount;
+            if (counts[index] > 0) {
+                counts[index]--;
+            }
+        }
+    }
+
+    /**
+     * 현재 상태
+     */
+    public synchronized Stats getStats() {
+        return new Stats(enabled, size, maxEntries, cappedCount, untrackedCount, getMemoryBytes());
+    }
+
+    @Override
+    public void collect(PrometheusTextWriter writer) {
+        Stats stats = getStats();
+        writer.gauge("message_frequency_cap_tracked_recipients", "빈도 제한 추적 중인 수신자 수", stats.trackedRecipients());
+        writer.gauge("message_frequency_cap_max_recipients", "빈도 제한 추적 가능한 최대 수신자 수", stats.maxRecipients());
+        writer.counter("message_frequency_cap_capped_total", "빈도 제한으로 차단된 발송 수", stats.cappedCount());
+        writer.counter("message_frequency_cap_untracked_total", "수신자 수 상한으로 제한 없이 통과된 발송 수",
+            stats.untrackedCount());
+        writer.gauge("message_frequency_cap_memory_bytes", "빈도 제한 할당 메모리 크기", stats.memoryBytes());
+    }
+
+    /**
+     * 고정 할당된 메모리 크기
+     */
+    public long getMemoryBytes() {
+        return (long) capacity * (Long.BYTES + Integer.BYTES + bucketCount);
+    }
+
+    private int currentEpoch() {
+        return (int) Math.max(0, clock.getAsLong() / bucketMillis - baseEpoch);
+    }
+
+    /**
+     * 슬롯의 버킷 링을 현재 버킷까지 진행하며 지나간 버킷을 0으로 지움
+     *
+     * @return 적용된 현재 버킷 번호 (시계가 뒤로 간 경우 마지막 기록 버킷)
+     */
+    private int advance(int slot, int epoch) {
+        int latest = latestEpochs[slot];
+        if (epoch <= latest) {
+            return latest;
+        }
+        int base = slot * bucketCount;
+        if (epoch - latest >= bucketCount) {
+            Arrays.fill(counts, base, base + bucketCount, (byte) 0);
+        } else {
+            for (int e = latest + 1; e <= epoch; e++) {
+                counts[base + e % bucketCount] = 0;
+            }
+        }
+        latestEpochs[slot] = epoch;
+        return epoch;
+    }
+
+    private int windowCount(int slot, int epoch, int windowBuckets) {
+        int base = slot * bucketCount;
+        int sum = 0;
+        for (int e = epoch - windowBuckets + 1; e <= epoch; e++) {
+            sum += counts[base + Math.floorMod(e, bucketCount)];
+        }
+        return sum;
+    }
+
+    /**
+     * 모든 버킷이 만료된 수신자 제거 (뒤쪽 항목을 당겨 채우므로 같은 위치를 다시 검사)
+     */
+    private void purgeExpired(int epoch) {
+        int before = size;
+        for (int slot = 0; slot < capacity; ) {
+            if (keys[slot] != EMPTY && epoch - latestEpochs[slot] >= bucketCount) {
+                delete(slot);
+            } else {
+                slot++;
+            }
+        }
+        log.info("빈도 제한 만료 수신자 정리 - 제거: {}, 남은 수신자: {}", before - size, size);
+    }
+
+    private void delete(int hole) {
+        int slot = hole;
+        while (true) {
+            slot = next(slot);
+            if (keys[slot] == EMPTY) {
+                break;
+            }
+            int home = home(keys[slot]);
+            boolean reachable = hole <= slot ? (hole < home && home <= slot) : (hole < home || home <= slot);
+            if (reachable) {
+                continue;
+            }
+            keys[hole] = keys[slot];
+            latestEpochs[hole] = latestEpochs[slot];
+            System.arraycopy(counts, slot * bucketCount, counts, hole * bucketCount, bucketCount);
+            hole = slot;
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    /**
+     * 키가 있는 슬롯 또는 키를 넣을 빈 슬롯
+     */
+    private int probe(long key) {
+        int slot = home(key);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = next(slot);
+        }
+        return slot;
+    }
+
+    private int home(long key) {
+        long mixed = (key * 0x9E3779B97F4A7C15L) >>> 32;
+        return (int) ((mixed * capacity) >>> 32);
+    }
+
+    private int next(int slot) {
+        return slot + 1 == capacity ? 0 : slot + 1;
+    }
+
+    /**
+     * 하이픈을 제거한 번호의 압축 값 (같은 번호의 표기 차이를 하나로 집계)
+     */
+    private static long keyOf(String phoneNumber) {
+        if (phoneNumber == null) {
+            return EMPTY;
+        }
+        String digits = phoneNumber.indexOf('-') < 0 ? phoneNumber : phoneNumber.replace("-", "");
+        if (digits.isEmpty() || !PhoneNumberCodec.isPackable(digits)) {
+            return EMPTY;
+        }
+        return PhoneNumberCodec.pack(digits);
+    }
+
+    /**
+     * 빈도 제한 상태
+     *
+     * @param enabled 적용 여부
+     * @param trackedRecipients 추적 중인 수신자 수
+     * @param maxRecipients 추적 가능한 최대 수신자 수
+     * @param cappedCount 제한으로 차단된 발송 수
+     * @param untrackedCount 수신자 수 상한으로 제한 없이 통과된 발송 수
+     * @param memoryBytes 할당된 메모리 크기
+     */
+    public record Stats(
+        boolean enabled,
+        int trackedRecipients,
+        int maxRecipients,
+        long cappedCount,
+        long untrackedCount,
+        long memoryBytes
+    ) {
+    }
+}
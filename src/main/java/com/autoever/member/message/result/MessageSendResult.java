@@ -38,7 +38,17 @@ public enum MessageSendResult {
     /**
      * 잘못된 수신자 정보
      */
-    INVALID_RECIPIENT("잘못된 수신자 정보");
+    INVALID_RECIPIENT("잘못된 수신자 정보"),
+    
+    /**
+     * 수신자별 발송 빈도 제한 초과로 발송하지 않음
+     */
+    FREQUENCY_CAPPED("수신자 발송 빈도 제한 초과 - 발송 생략"),
+    
+    /**
+     * 큐 대기 중 발송 기한이 지나 발송하지 않음
+     */
+    EXPIRED("발송 기한 경과 - 발송 생략");
     
     private final String description;
     
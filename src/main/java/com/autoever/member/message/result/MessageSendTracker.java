@@ -1,53 +1,86 @@
 package com.autoever.member.message.result;
 
 import com.autoever.member.message.ApiType;
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.metrics.LatencyHistogram;
+import com.autoever.member.message.metrics.PrometheusCollector;
+import com.autoever.member.message.metrics.PrometheusTextWriter;
+import com.autoever.member.message.metrics.RollingCounter;
 import com.autoever.member.message.queue.MessageQueueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 메시지 발송 결과 추적 시스템
  * 발송 성공률, Fallback 비율 등의 통계를 실시간으로 추적합니다.
+ * 
+ * 큐 처리 스레드와 발송 스레드가 동시에 갱신하는 카운터는 스트라이프 카운터(LongAdder)로,
+ * 외부 API 응답 시간과 큐 대기 시간은 API 타입 × 결과별 잠금 없는 히스토그램으로 집계하며
+ * /internal/metrics에 Prometheus 형식으로 노출합니다.
+ * 
+ * 누적 통계와 별도로 최근 15분을 초 단위 링 버퍼로 집계해 1/5/15분 처리율을 제공하며,
+ * 작업별 통계는 보관 시간과 최대 개수를 넘으면 가장 오래 갱신되지 않은 작업부터 제거하여
+ * 장기간 가동해도 메모리 사용량이 일정하게 유지됩니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class MessageSendTracker {
+public class MessageSendTracker implements PrometheusCollector {
+    
+    private static final ApiType[] API_TYPES = ApiType.values();
+    private static final MessageSendResult[] RESULTS = MessageSendResult.values();
+    
+    // 처리율 집계 구간 (분)
+    private static final int[] THROUGHPUT_WINDOW_MINUTES = {1, 5, 15};
+    
+    // 최근 처리율 집계 분류
+    private static final int OUTCOME_SUCCESS = 0;
+    private static final int OUTCOME_FALLBACK = 1;
+    private static final int OUTCOME_FAILURE = 2;
     
     private final MessageQueueService messageQueueService;
+    private final BulkMessageConfig bulkMessageConfig;
     
-    // 결과별 카운터
-    private final Map<MessageSendResult, AtomicInteger> resultCounters = new ConcurrentHashMap<>();
+    // API 타입 × 결과별 카운터 [apiType.ordinal][result.ordinal]
+    private final LongAdder[][] resultCounters = new LongAdder[API_TYPES.length][RESULTS.length];
     
-    // API 타입별 발송 시도 카운터
-    private final Map<ApiType, AtomicInteger> apiAttemptCounters = new ConcurrentHashMap<>();
+    // API 타입 × 결과별 큐 대기 시간 (적재 → 발송 시작 또는 기한 경과로 폐기)
+    private final LatencyHistogram[][] queueDwell = new LatencyHistogram[API_TYPES.length][RESULTS.length];
     
-    // 전체 발송 시도 수
-    private final AtomicLong totalAttempts = new AtomicLong(0);
+    // 전체 발송 시도 수 (발송 기한 경과로 폐기한 메시지는 발송을 시도하지 않았으므로 제외)
+    private final LongAdder totalAttempts = new LongAdder();
+    
+    // 최근 15분 초 단위 성공/대체 발송 성공/실패 건수
+    private final RollingCounter recentOutcomes = new RollingCounter(3, 15 * 60);
     
     // 통계 시작 시간
     private final LocalDateTime startTime = LocalDateTime.now();
     
-    // 진행 중인 작업별 통계
+    // 작업별 통계 (보관 시간/최대 개수 초과 시 제거)
     private final Map<UUID, JobStatistics> jobStatistics = new ConcurrentHashMap<>();
     
+    // API 타입별 외부 호출 결과와 응답 시간 (발송 예상치 산출에 사용)
+    private final Map<ApiType, ApiCallStatistics> apiCallStatistics = new ConcurrentHashMap<>();
+    
     {
-        // 모든 결과 타입에 대한 카운터 초기화
-        for (MessageSendResult result : MessageSendResult.values()) {
-            resultCounters.put(result, new AtomicInteger(0));
-        }
-        
-        // API 타입별 카운터 초기화
-        for (ApiType apiType : ApiType.values()) {
-            apiAttemptCounters.put(apiType, new AtomicInteger(0));
+        // API 타입 × 결과별 카운터와 히스토그램 초기화
+        for (ApiType apiType : API_TYPES) {
+            for (MessageSendResult result : RESULTS) {
+                resultCounters[apiType.ordinal()][result.ordinal()] = new LongAdder();
+                queueDwell[apiType.ordinal()][result.ordinal()] = new LatencyHistogram();
+            }
+            apiCallStatistics.put(apiType, new ApiCallStatistics());
         }
     }
     
@@ -58,29 +91,58 @@ public class MessageSendTracker {
      * @param apiType 시도한 API 타입
      */
     public void recordResult(MessageSendResult result, ApiType apiType) {
-        resultCounters.get(result).incrementAndGet();
-        apiAttemptCounters.get(apiType).incrementAndGet();
-        totalAttempts.incrementAndGet();
+        resultCounters[apiType.ordinal()][result.ordinal()].increment();
+        if (result != MessageSendResult.EXPIRED) {
+            totalAttempts.increment();
+        }
+        
+        int outcome = outcomeOf(result);
+        if (outcome >= 0) {
+            recentOutcomes.increment(outcome);
+        }
         
         log.debug("메시지 발송 결과 기록 - 결과: {}, API: {}", result, apiType);
     }
     
+    /**
+     * 큐 대기 시간을 기록합니다.
+     * 
+     * @param apiType 선호 API 타입
+     * @param result 큐 처리 결과
+     * @param dwellMicros 적재부터 발송 시작(또는 폐기)까지의 시간 (마이크로초)
+     */
+    public void recordQueueDwell(ApiType apiType, MessageSendResult result, long dwellMicros) {
+        queueDwell[apiType.ordinal()][result.ordinal()].record(dwellMicros);
+    }
+    
+    /**
+     * 외부 메시지 API 호출 결과와 응답 시간을 기록합니다.
+     * Rate limit으로 호출하지 못한 경우는 기록하지 않습니다.
+     * 
+     * @param apiType 호출한 API 타입
+     * @param success 발송 성공 여부
+     * @param latencyMicros 호출 응답 시간 (마이크로초)
+     */
+    public void recordApiCall(ApiType apiType, boolean success, long latencyMicros) {
+        apiCallStatistics.get(apiType).record(success, latencyMicros);
+    }
+    
     /**
      * 특정 작업의 발송 결과를 기록합니다.
+     * 전체 통계는 큐 처리 시 recordResult로 이미 집계되므로 작업별 통계만 갱신합니다.
      * 
      * @param jobId 작업 ID
      * @param result 발송 결과
      */
     public void recordJobResult(UUID jobId, MessageSendResult result) {
-        JobStatistics stats = jobStatistics.computeIfAbsent(jobId, k -> new JobStatistics());
+        JobStatistics stats = jobStatistics.get(jobId);
+        if (stats == null) {
+            stats = jobStatistics.computeIfAbsent(jobId, k -> new JobStatistics());
+            evictOverflowJobStatistics();
+        }
         stats.recordResult(result);
-        
-        // 전체 통계에도 반영
-        resultCounters.get(result).incrementAndGet();
-        totalAttempts.incrementAndGet();
     }
     
-    
     /**
      * 현재 통계 정보를 반환합니다.
      * 
@@ -90,17 +152,17 @@ public class MessageSendTracker {
         MessageQueueService.QueueStatus queueStatus = messageQueueService.getQueueStatus();
         
         // 성공 카운트
-        int kakaoSuccessCount = resultCounters.get(MessageSendResult.SUCCESS_KAKAO).get();
-        int smsSuccessCount = resultCounters.get(MessageSendResult.SUCCESS_SMS_FALLBACK).get();
+        int kakaoSuccessCount = resultCount(MessageSendResult.SUCCESS_KAKAO);
+        int smsSuccessCount = resultCount(MessageSendResult.SUCCESS_SMS_FALLBACK);
         
         // 실패 카운트 계산 (카카오톡과 SMS 실패를 합산)
-        int failureCount = resultCounters.get(MessageSendResult.FAILED_BOTH).get() +
-                          resultCounters.get(MessageSendResult.RATE_LIMITED).get() +
-                          resultCounters.get(MessageSendResult.QUEUE_FULL).get() +
-                          resultCounters.get(MessageSendResult.INVALID_RECIPIENT).get();
+        int failureCount = resultCount(MessageSendResult.FAILED_BOTH) +
+                          resultCount(MessageSendResult.RATE_LIMITED) +
+                          resultCount(MessageSendResult.QUEUE_FULL) +
+                          resultCount(MessageSendResult.INVALID_RECIPIENT);
         
         return new SendStatistics(
-            totalAttempts.get(),
+            totalAttempts.sum(),
             kakaoSuccessCount,
             smsSuccessCount,
             failureCount,
@@ -109,6 +171,21 @@ public class MessageSendTracker {
         );
     }
     
+    /**
+     * 최근 1/5/15분 처리율을 반환합니다.
+     * 
+     * @return 구간별 처리율 (짧은 구간부터)
+     */
+    public List<ThroughputWindow> getThroughput() {
+        List<ThroughputWindow> windows = new ArrayList<>(THROUGHPUT_WINDOW_MINUTES.length);
+        for (int minutes : THROUGHPUT_WINDOW_MINUTES) {
+            long[] counts = recentOutcomes.sums(minutes * 60);
+            windows.add(ThroughputWindow.of(minutes,
+                counts[OUTCOME_SUCCESS], counts[OUTCOME_FALLBACK], counts[OUTCOME_FAILURE]));
+        }
+        return windows;
+    }
+    
     /**
      * 특정 작업의 통계를 반환합니다.
      * 
@@ -119,18 +196,131 @@ public class MessageSendTracker {
         return jobStatistics.get(jobId);
     }
     
+    /**
+     * API 타입별 외부 호출 통계를 반환합니다.
+     * 
+     * @param apiType API 타입
+     * @return 호출 통계
+     */
+    public ApiCallStatistics getApiCallStatistics(ApiType apiType) {
+        return apiCallStatistics.get(apiType);
+    }
+    
     /**
      * 통계를 초기화합니다.
      */
     public void reset() {
-        resultCounters.values().forEach(counter -> counter.set(0));
-        apiAttemptCounters.values().forEach(counter -> counter.set(0));
-        totalAttempts.set(0);
+        for (ApiType apiType : API_TYPES) {
+            for (MessageSendResult result : RESULTS) {
+                resultCounters[apiType.ordinal()][result.ordinal()].reset();
+                queueDwell[apiType.ordinal()][result.ordinal()].reset();
+            }
+            apiCallStatistics.put(apiType, new ApiCallStatistics());
+        }
+        totalAttempts.reset();
+        recentOutcomes.clear();
         jobStatistics.clear();
         
         log.info("메시지 발송 통계 초기화 완료");
     }
     
+    /**
+     * 보관 시간이 지난 작업별 통계 제거 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredJobStatistics() {
+        long threshold = System.currentTimeMillis() - bulkMessageConfig.getStatistics().getJobTtl().toMillis();
+        int before = jobStatistics.size();
+        jobStatistics.values().removeIf(stats -> stats.getLastUpdatedMillis() < threshold);
+        int evicted = before - jobStatistics.size();
+        if (evicted > 0) {
+            log.debug("보관 시간이 지난 작업별 발송 통계 제거 - {}건, 남은 작업: {}", evicted, jobStatistics.size());
+        }
+    }
+    
+    /**
+     * 최대 보관 수를 넘으면 가장 오래 갱신되지 않은 작업부터 제거
+     * 새 작업이 등록될 때만 호출되므로 정렬 비용은 작업 수 기준으로 제한됨
+     */
+    private void evictOverflowJobStatistics() {
+        int overflow = jobStatistics.size() - bulkMessageConfig.getStatistics().getMaxJobs();
+        if (overflow <= 0) {
+            return;
+        }
+        jobStatistics.entrySet().stream()
+            .sorted(Comparator.comparingLong(entry -> entry.getValue().getLastUpdatedMillis()))
+            .limit(overflow)
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(jobStatistics::remove);
+        log.debug("최대 보관 수 초과로 작업별 발송 통계 제거 - {}건", overflow);
+    }
+    
+    @Override
+    public void collect(PrometheusTextWriter writer) {
+        for (ApiType apiType : API_TYPES) {
+            for (MessageSendResult result : RESULTS) {
+                writer.counter("message_send_results_total", "API 타입별 메시지 발송 결과 수",
+                    resultCounters[apiType.ordinal()][result.ordinal()].sum(),
+                    "api", apiType.name(), "result", result.name());
+            }
+        }
+        for (ApiType apiType : API_TYPES) {
+            ApiCallStatistics statistics = apiCallStatistics.get(apiType);
+            writer.counter("message_provider_calls_total", "외부 메시지 API 호출 수",
+                statistics.getSuccessCount(), "api", apiType.name(), "outcome", "success");
+            writer.counter("message_provider_calls_total", "외부 메시지 API 호출 수",
+                statistics.getCallCount() - statistics.getSuccessCount(), "api", apiType.name(), "outcome", "failure");
+        }
+        for (ApiType apiType : API_TYPES) {
+            ApiCallStatistics statistics = apiCallStatistics.get(apiType);
+            writer.summary("message_provider_call_seconds", "외부 메시지 API 응답 시간",
+                statistics.successLatency, "api", apiType.name(), "outcome", "success");
+            writer.summary("message_provider_call_seconds", "외부 메시지 API 응답 시간",
+                statistics.failureLatency, "api", apiType.name(), "outcome", "failure");
+        }
+        for (ApiType apiType : API_TYPES) {
+            for (MessageSendResult result : RESULTS) {
+                LatencyHistogram histogram = queueDwell[apiType.ordinal()][result.ordinal()];
+                // 큐를 거치지 않는 결과(QUEUED, QUEUE_FULL 등)는 시계열을 만들지 않음
+                if (histogram.getCount() > 0) {
+                    writer.summary("message_queue_dwell_seconds", "큐 대기 시간 (적재 → 발송 시작 또는 폐기)",
+                        histogram, "api", apiType.name(), "result", result.name());
+                }
+            }
+        }
+        for (ThroughputWindow window : getThroughput()) {
+            String label = window.windowMinutes() + "m";
+            writer.gauge("message_send_rate_per_second", "최근 구간 초당 발송 결과 수",
+                window.successCount() / (window.windowMinutes() * 60.0), "window", label, "outcome", "success");
+            writer.gauge("message_send_rate_per_second", "최근 구간 초당 발송 결과 수",
+                window.fallbackCount() / (window.windowMinutes() * 60.0), "window", label, "outcome", "fallback");
+            writer.gauge("message_send_rate_per_second", "최근 구간 초당 발송 결과 수",
+                window.failureCount() / (window.windowMinutes() * 60.0), "window", label, "outcome", "failure");
+        }
+        writer.gauge("message_job_statistics_tracked", "보관 중인 작업별 발송 통계 수", jobStatistics.size());
+    }
+    
+    /**
+     * 최근 처리율 집계 분류 (getStatistics의 성공/실패 기준과 동일, 그 외 결과는 -1)
+     */
+    private static int outcomeOf(MessageSendResult result) {
+        return switch (result) {
+            case SUCCESS_KAKAO -> OUTCOME_SUCCESS;
+            case SUCCESS_SMS_FALLBACK -> OUTCOME_FALLBACK;
+            case FAILED_BOTH, RATE_LIMITED, QUEUE_FULL, INVALID_RECIPIENT -> OUTCOME_FAILURE;
+            default -> -1;
+        };
+    }
+    
+    private int resultCount(MessageSendResult result) {
+        long count = 0;
+        for (LongAdder[] counters : resultCounters) {
+            count += counters[result.ordinal()].sum();
+        }
+        return (int) count;
+    }
+    
     /**
      * 발송 통계 정보
      */
@@ -153,45 +343,136 @@ public class MessageSendTracker {
         }
     }
     
+    /**
+     * 최근 구간 처리율
+     * 
+     * @param windowMinutes 집계 구간 (분)
+     * @param messagesPerSecond 구간 내 초당 처리 건수
+     * @param successRate 카카오톡 성공 비율 (%)
+     * @param fallbackRate SMS 대체 발송 성공 비율 (%)
+     * @param failureRate 실패 비율 (%)
+     */
+    public record ThroughputWindow(
+        int windowMinutes,
+        long successCount,
+        long fallbackCount,
+        long failureCount,
+        double messagesPerSecond,
+        double successRate,
+        double fallbackRate,
+        double failureRate
+    ) {
+        static ThroughputWindow of(int windowMinutes, long successCount, long fallbackCount, long failureCount) {
+            long total = successCount + fallbackCount + failureCount;
+            return new ThroughputWindow(
+                windowMinutes,
+                successCount,
+                fallbackCount,
+                failureCount,
+                total / (windowMinutes * 60.0),
+                percent(successCount, total),
+                percent(fallbackCount, total),
+                percent(failureCount, total)
+            );
+        }
+        
+        private static double percent(long count, long total) {
+            return total == 0 ? 0.0 : (double) count / total * 100;
+        }
+    }
+    
     /**
      * 작업별 통계
      */
     public static class JobStatistics {
-        private final Map<MessageSendResult, AtomicInteger> resultCounts = new ConcurrentHashMap<>();
-        private final AtomicInteger totalCount = new AtomicInteger(0);
+        private final LongAdder[] resultCounts = new LongAdder[RESULTS.length];
+        private final LongAdder totalCount = new LongAdder();
         private final LocalDateTime startTime = LocalDateTime.now();
+        // 마지막 갱신 시각 (보관 시간/최대 개수 초과 시 제거 기준)
+        private volatile long lastUpdatedMillis = System.currentTimeMillis();
         
         public JobStatistics() {
-            for (MessageSendResult result : MessageSendResult.values()) {
-                resultCounts.put(result, new AtomicInteger(0));
+            for (int i = 0; i < resultCounts.length; i++) {
+                resultCounts[i] = new LongAdder();
             }
         }
         
         public void recordResult(MessageSendResult result) {
-            resultCounts.get(result).incrementAndGet();
-            totalCount.incrementAndGet();
+            resultCounts[result.ordinal()].increment();
+            // 발송 기한 경과는 발송 시도가 아니므로 성공률 분모에서 제외
+            if (result != MessageSendResult.EXPIRED) {
+                totalCount.increment();
+            }
+            lastUpdatedMillis = System.currentTimeMillis();
         }
         
         public int getTotal() {
-            return totalCount.get();
+            return totalCount.intValue();
         }
         
         public int getSuccessCount() {
-            return resultCounts.get(MessageSendResult.SUCCESS_KAKAO).get() +
-                   resultCounts.get(MessageSendResult.SUCCESS_SMS_FALLBACK).get();
+            return resultCounts[MessageSendResult.SUCCESS_KAKAO.ordinal()].intValue() +
+                   resultCounts[MessageSendResult.SUCCESS_SMS_FALLBACK.ordinal()].intValue();
         }
         
         public double getSuccessRate() {
-            int total = totalCount.get();
+            int total = getTotal();
             return total == 0 ? 0.0 : (double) getSuccessCount() / total * 100;
         }
         
         public int getFallbackCount() {
-            return resultCounts.get(MessageSendResult.SUCCESS_SMS_FALLBACK).get();
+            return resultCounts[MessageSendResult.SUCCESS_SMS_FALLBACK.ordinal()].intValue();
         }
         
         public LocalDateTime getStartTime() {
             return startTime;
         }
+        
+        public long getLastUpdatedMillis() {
+            return lastUpdatedMillis;
+        }
+    }
+    
+    /**
+     * API 타입별 외부 호출 통계
+     */
+    public static class ApiCallStatistics {
+        private final LongAdder callCount = new LongAdder();
+        private final LongAdder successCount = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        // 결과별 응답 시간 (실패 호출은 타임아웃 등으로 분포가 달라 따로 집계)
+        private final LatencyHistogram successLatency = new LatencyHistogram();
+        private final LatencyHistogram failureLatency = new LatencyHistogram();
+        
+        void record(boolean success, long latencyMicros) {
+            callCount.increment();
+            if (success) {
+                successCount.increment();
+                successLatency.record(latencyMicros);
+            } else {
+                failureLatency.record(latencyMicros);
+            }
+            latency.record(latencyMicros);
+        }
+        
+        public long getCallCount() {
+            return callCount.sum();
+        }
+        
+        public long getSuccessCount() {
+            return successCount.sum();
+        }
+        
+        /**
+         * 호출 대비 성공 비율 (0.0 ~ 1.0, 호출 이력이 없으면 0)
+         */
+        public double getSuccessRate() {
+            long calls = callCount.sum();
+            return calls == 0 ? 0.0 : (double) successCount.sum() / calls;
+        }
+        
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency.snapshot();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,361 @@
+package com.autoever.member.message.segment;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongConsumer;
+
+/**
+ * 사용자 ID 집합용 압축 비트맵 (Roaring 방식)
+ *
+ * ID 상위 비트(id >>> 16)별로 컨테이너를 두고, 컨테이너는 값이 적으면 정렬된 char 배열(2바이트/건),
+ * 많으면 65536비트 비트맵(8KB 고정)으로 저장. 희소한 속성값도 밀집한 속성값도 작은 메모리로 표현되고
+ * AND/OR/NOT 연산은 컨테이너 단위로 수행됨
+ *
+ * 스레드 안전하지 않음 (SegmentIndex가 잠금으로 보호하고, 연산 결과는 항상 새 객체로 반환)
+ */
+public final class IdBitmap {
+
+    private final TreeMap<Long, Container> containers = new TreeMap<>();
+
+    /**
+     * ID 추가
+     */
+    public void add(long id) {
+        containers.computeIfAbsent(id >>> 16, key -> new Container()).add((char) id);
+    }
+
+    /**
+     * ID 제거
+     */
+    public void remove(long id) {
+        Long key = id >>> 16;
+        Container container = containers.get(key);
+        if (container != null && container.remove((char) id) && container.cardinality() == 0) {
+            containers.remove(key);
+        }
+    }
+
+    public boolean contains(long id) {
+        Container container = containers.get(id >>> 16);
+        return container != null && container.contains((char) id);
+    }
+
+    public long cardinality() {
+        long sum = 0;
+        for (Container container : containers.values()) {
+            sum += container.cardinality();
+        }
+        return sum;
+    }
+
+    public boolean isEmpty() {
+        return containers.isEmpty();
+    }
+
+    /**
+     * 교집합 (새 비트맵 반환)
+     */
+    public IdBitmap and(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        for (Map.Entry<Long, Container> entry : containers.entrySet()) {
+            Container otherContainer = other.containers.get(entry.getKey());
+            if (otherContainer != null) {
+                result.putIfNotEmpty(entry.getKey(), Container.combine(entry.getValue(), otherContainer, Operation.AND));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 합집합 (새 비트맵 반환)
+     */
+    public IdBitmap or(IdBitmap other) {
+        IdBitmap result = copy();
+        for (Map.Entry<Long, Container> entry : other.containers.entrySet()) {
+            Container mine = containers.get(entry.getKey());
+            result.containers.put(entry.getKey(), mine == null
+                ? entry.getValue().copy()
+                : Container.combine(mine, entry.getValue(), Operation.OR));
+        }
+        return result;
+    }
+
+    /**
+     * 차집합 (새 비트맵 반환)
+     */
+    public IdBitmap andNot(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        for (Map.Entry<Long, Container> entry : containers.entrySet()) {
+            Container otherContainer = other.containers.get(entry.getKey());
+            result.putIfNotEmpty(entry.getKey(), otherContainer == null
+                ? entry.getValue().copy()
+                : Container.combine(entry.getValue(), otherContainer, Operation.AND_NOT));
+        }
+        return result;
+    }
+
+    public IdBitmap copy() {
+        IdBitmap result = new IdBitmap();
+        containers.forEach((key, container) -> result.containers.put(key, container.copy()));
+        return result;
+    }
+
+    /**
+     * ID 오름차순 순회
+     */
+    public void forEach(LongConsumer consumer) {
+        for (Map.Entry<Long, Container> entry : containers.entrySet()) {
+            entry.getValue().forEach(entry.getKey() << 16, consumer);
+        }
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (바이트, 컨테이너 데이터 기준)
+     */
+    public long sizeInBytes() {
+        long sum = 0;
+        for (Container container : containers.values()) {
+            sum += container.sizeInBytes();
+        }
+        return sum;
+    }
+
+    private void putIfNotEmpty(long key, Container container) {
+        if (container.cardinality() > 0) {
+            containers.put(key, container);
+        }
+    }
+
+    private enum Operation {
+        AND, OR, AND_NOT
+    }
+
+    /**
+     * 하위 16비트 값 집합 - 배열(희소) 또는 비트맵(밀집) 표현
+     */
+    private static final class Container {
+
+        // 배열 표현이 비트맵(8KB)보다 커지는 지점
+        private static final int ARRAY_MAX_SIZE = 4096;
+        private static final int WORD_COUNT = 1 << 10;
+
+        private char[] values = new char[4];
+        private int size;
+        private long[] words;
+
+        boolean contains(char value) {
+            if (words != null) {
+                return (words[value >>> 6] & (1L << value)) != 0;
+            }
+            return binarySearch(value) >= 0;
+        }
+
+        void add(char value) {
+            if (words != null) {
+                long before = words[value >>> 6];
+                words[value >>> 6] = before | (1L << value);
+                if (before != words[value >>> 6]) {
+                    size++;
+                }
+                return;
+            }
+            int index = binarySearch(value);
+            if (index >= 0) {
+                return;
+            }
+            if (size == ARRAY_MAX_SIZE) {
+                toBitmap();
+                add(value);
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == values.length) {
+                char[] grown = new char[Math.min(ARRAY_MAX_SIZE, values.length * 2)];
+                System.arraycopy(values, 0, grown, 0, size);
+                values = grown;
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = value;
+            size++;
+        }
+
+        boolean remove(char value) {
+            if (words != null) {
+                long before = words[value >>> 6];
+                words[value >>> 6] = before & ~(1L << value);
+                if (before == words[value >>> 6]) {
+                    return false;
+                }
+                size--;
+                if (size <= ARRAY_MAX_SIZE) {
+                    toArray();
+                }
+                return true;
+            }
+            int index = binarySearch(value);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        int cardinality() {
+            return size;
+        }
+
+        void forEach(long base, LongConsumer consumer) {
+            if (words == null) {
+                for (int i = 0; i < size; i++) {
+                    consumer.accept(base | values[i]);
+                }
+                return;
+            }
+            for (int i = 0; i < WORD_COUNT; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    consumer.accept(base | ((long) i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        long sizeInBytes() {
+            return words != null ? (long) WORD_COUNT * Long.BYTES : (long) values.length * Character.BYTES;
+        }
+
+        Container copy() {
+            Container copy = new Container();
+            copy.size = size;
+            if (words != null) {
+                copy.words = words.clone();
+            } else {
+                copy.values = Arrays.copyOf(values, Math.max(4, size));
+            }
+            return copy;
+        }
+
+        static Container combine(Container left, Container right, Operation operation) {
+            if (left.words == null && right.words == null) {
+                return mergeArrays(left, right, operation);
+            }
+            long[] leftWords = left.asWords();
+            long[] rightWords = right.asWords();
+            Container result = new Container();
+            result.words = new long[WORD_COUNT];
+            int cardinality = 0;
+            for (int i = 0; i < WORD_COUNT; i++) {
+                long word = switch (operation) {
+                    case AND -> leftWords[i] & rightWords[i];
+                    case OR -> leftWords[i] | rightWords[i];
+                    case AND_NOT -> leftWords[i] & ~rightWords[i];
+                };
+                result.words[i] = word;
+                cardinality += Long.bitCount(word);
+            }
+            result.size = cardinality;
+            if (cardinality <= ARRAY_MAX_SIZE) {
+                result.toArray();
+            }
+            return result;
+        }
+
+        private static Container mergeArrays(Container left, Container right, Operation operation) {
+            char[] merged = new char[operation == Operation.OR ? left.size + right.size : left.size];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+            while (i < left.size && j < right.size) {
+                char a = left.values[i];
+                char b = right.values[j];
+                if (a == b) {
+                    if (operation != Operation.AND_NOT) {
+                        merged[count++] = a;
+                    }
+                    i++;
+                    j++;
+                } else if (a < b) {
+                    if (operation != Operation.AND) {
+                        merged[count++] = a;
+                    }
+                    i++;
+                } else {
+                    if (operation == Operation.OR) {
+                        merged[count++] = b;
+                    }
+                    j++;
+                }
+            }
+            if (operation != Operation.AND) {
+                while (i < left.size) {
+                    merged[count++] = left.values[i++];
+                }
+            }
+            if (operation == Operation.OR) {
+                while (j < right.size) {
+                    merged[count++] = right.values[j++];
+                }
+            }
+
+            Container result = new Container();
+            if (count > ARRAY_MAX_SIZE) {
+                result.values = merged;
+                result.size = count;
+                result.toBitmap();
+            } else {
+                result.values = Arrays.copyOf(merged, Math.max(4, count));
+                result.size = count;
+            }
+            return result;
+        }
+
+        private long[] asWords() {
+            if (words != null) {
+                return words;
+            }
+            long[] converted = new long[WORD_COUNT];
+            for (int i = 0; i < size; i++) {
+                converted[values[i] >>> 6] |= 1L << values[i];
+            }
+            return converted;
+        }
+
+        private void toBitmap() {
+            words = asWords();
+            values = null;
+        }
+
+        private void toArray() {
+            char[] converted = new char[Math.max(4, size)];
+            int count = 0;
+            for (int i = 0; i < WORD_COUNT; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    converted[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = converted;
+            words = null;
+        }
+
+        private int binarySearch(char value) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midValue = values[mid];
+                if (midValue < value) {
+                    low = mid + 1;
+                } else if (midValue > value) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
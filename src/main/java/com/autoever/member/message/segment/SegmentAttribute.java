@@ -0,0 +1,125 @@
+package com.autoever.member.message.segment;
+
+import com.autoever.member.message.dto.AgeGroup;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 세그먼트 조건으로 사용할 수 있는 회원 속성
+ */
+public enum SegmentAttribute {
+    
+    REGION("region", "주소의 최상위 행정구역 (예: region:서울특별시)"),
+    GENDER("gender", "주민등록번호 성별 (gender:MALE | gender:FEMALE)"),
+    AGE("age", "연령대 (예: age:TWENTIES)"),
+    SIGNUP("signup", "가입일 또는 기간 (예: signup:2024-01-01, signup:2024-01-01..2024-06-30, signup:..2024-06-30)");
+    
+    // 가입 기간 구분자
+    private static final String RANGE_SEPARATOR = "..";
+    
+    private final String key;
+    private final String description;
+    
+    SegmentAttribute(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+    
+    public String getKey() {
+        return key;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public static Optional<SegmentAttribute> fromKey(String key) {
+        return Arrays.stream(values())
+            .filter(attribute -> attribute.key.equalsIgnoreCase(key))
+            .findFirst();
+    }
+    
+    /**
+     * 속성 값 형식 검증
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    void validate(String value) {
+        switch (this) {
+            case REGION -> {
+                if (value == null || value.isBlank()) {
+                    throw new IllegalArgumentException("지역 값이 비어 있습니다");
+                }
+            }
+            case GENDER -> Gender.parse(value);
+            case AGE -> parseAgeGroup(value);
+            case SIGNUP -> parseSignupRange(value);
+        }
+    }
+    
+    static AgeGroup parseAgeGroup(String value) {
+        try {
+            return AgeGroup.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 연령대 '" + value + "'");
+        }
+    }
+    
+    /**
+     * 가입 기간 파싱 (양 끝 포함, 생략한 쪽은 null)
+     *
+     * @return [시작일, 종료일]
+     */
+    static LocalDate[] parseSignupRange(String value) {
+        int separator = value.indexOf(RANGE_SEPARATOR);
+        try {
+            if (separator < 0) {
+                LocalDate date = LocalDate.parse(value);
+                return new LocalDate[]{date, date};
+            }
+            String from = value.substring(0, separator);
+            String to = value.substring(separator + RANGE_SEPARATOR.length());
+            if (from.isEmpty() && to.isEmpty()) {
+                throw new IllegalArgumentException("가입 기간의 시작일과 종료일이 모두 비어 있습니다");
+            }
+            return new LocalDate[]{
+                from.isEmpty() ? null : LocalDate.parse(from),
+                to.isEmpty() ? null : LocalDate.parse(to)
+            };
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("가입일은 yyyy-MM-dd 형식이어야 합니다 - '" + value + "'");
+        }
+    }
+    
+    /**
+     * 주민등록번호 성별 구분
+     */
+    public enum Gender {
+        MALE, FEMALE;
+        
+        static Gender parse(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("성별은 MALE 또는 FEMALE이어야 합니다 - '" + value + "'");
+            }
+        }
+        
+        /**
+         * 주민등록번호 뒷자리 첫 숫자로 성별 판별 (홀수: 남성, 짝수: 여성)
+         *
+         * @param socialNumber 주민등록번호 (YYMMDD-NNNNNNN)
+         * @return 성별 (형식이 맞지 않으면 null)
+         */
+        static Gender fromSocialNumber(String socialNumber) {
+            if (socialNumber == null || socialNumber.length() < 8 || !Character.isDigit(socialNumber.charAt(7))) {
+                return null;
+            }
+            return (socialNumber.charAt(7) - '0') % 2 == 1 ? MALE : FEMALE;
+        }
+    }
+}
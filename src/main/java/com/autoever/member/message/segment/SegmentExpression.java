@@ -0,0 +1,69 @@
+package com.autoever.member.message.segment;
+
+import com.autoever.member.exception.InvalidSegmentExpressionException;
+import com.autoever.member.message.dto.AgeGroup;
+
+import java.util.List;
+
+/**
+ * 수신 대상 세그먼트 표현식
+ *
+ * 문법 (AND가 OR보다 먼저 결합, 괄호로 우선순위 지정, 연산자는 대소문자 무관):
+ * <pre>
+ * expression := or
+ * or         := and ("OR" and)*
+ * and        := not ("AND" not)*
+ * not        := "NOT" not | "(" expression ")" | term
+ * term       := attribute ":" value
+ * </pre>
+ * 예) {@code region:서울특별시 AND gender:FEMALE AND NOT (age:TEENS OR signup:2024-01-01..)}
+ */
+public sealed interface SegmentExpression {
+
+    /**
+     * 표현식 문자열 파싱
+     *
+     * @param text 표현식
+     * @return 파싱된 표현식 트리
+     * @throws InvalidSegmentExpressionException 문법 또는 속성 값이 잘못된 경우
+     */
+    static SegmentExpression parse(String text) {
+        if (text == null || text.isBlank()) {
+            throw new InvalidSegmentExpressionException(text, "표현식이 비어 있습니다");
+        }
+        return new SegmentExpressionParser(text).parse();
+    }
+
+    /**
+     * 대량 발송 대상 표현식 - 연령대 조건과 세그먼트 조건의 교집합
+     *
+     * @param ageGroup 대상 연령대
+     * @param segment 세그먼트 표현식 문자열
+     * @throws InvalidSegmentExpressionException 세그먼트 표현식이 잘못된 경우
+     */
+    static SegmentExpression forAudience(AgeGroup ageGroup, String segment) {
+        return new And(List.of(new Term(SegmentAttribute.AGE, ageGroup.name()), parse(segment)));
+    }
+
+    record And(List<SegmentExpression> operands) implements SegmentExpression {
+    }
+
+    record Or(List<SegmentExpression> operands) implements SegmentExpression {
+    }
+
+    record Not(SegmentExpression operand) implements SegmentExpression {
+    }
+
+    /**
+     * 단일 속성 조건
+     *
+     * @param attribute 속성
+     * @param value 속성 값 (속성별 형식 검증을 마친 원본 문자열)
+     */
+    record Term(SegmentAttribute attribute, String value) implements SegmentExpression {
+
+        public Term {
+            attribute.validate(value);
+        }
+    }
+}
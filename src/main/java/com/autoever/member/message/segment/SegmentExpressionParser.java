@@ -0,0 +1,119 @@
+package com.autoever.member.message.segment;
+
+import com.autoever.member.exception.InvalidSegmentExpressionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 세그먼트 표현식 재귀 하강 파서 (문법은 SegmentExpression 참고)
+ */
+final class SegmentExpressionParser {
+
+    private final String text;
+    private final List<String> tokens;
+    private int position;
+
+    SegmentExpressionParser(String text) {
+        this.text = text;
+        this.tokens = tokenize(text);
+    }
+
+    SegmentExpression parse() {
+        SegmentExpression expression = parseOr();
+        if (position < tokens.size()) {
+            throw error("예상하지 못한 토큰 '" + tokens.get(position) + "'");
+        }
+        return expression;
+    }
+
+    private SegmentExpression parseOr() {
+        List<SegmentExpression> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (acceptKeyword("OR")) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new SegmentExpression.Or(List.copyOf(operands));
+    }
+
+    private SegmentExpression parseAnd() {
+        List<SegmentExpression> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (acceptKeyword("AND")) {
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new SegmentExpression.And(List.copyOf(operands));
+    }
+
+    private SegmentExpression parseNot() {
+        if (acceptKeyword("NOT")) {
+            return new SegmentExpression.Not(parseNot());
+        }
+        String token = next();
+        if (token.equals("(")) {
+            SegmentExpression inner = parseOr();
+            if (!")".equals(next())) {
+                throw error("닫는 괄호가 없습니다");
+            }
+            return inner;
+        }
+        return parseTerm(token);
+    }
+
+    private SegmentExpression parseTerm(String token) {
+        int separator = token.indexOf(':');
+        if (separator <= 0 || separator == token.length() - 1) {
+            throw error("조건은 '속성:값' 형식이어야 합니다 - '" + token + "'");
+        }
+        String key = token.substring(0, separator);
+        SegmentAttribute attribute = SegmentAttribute.fromKey(key)
+            .orElseThrow(() -> error("알 수 없는 속성 '" + key + "'"));
+        try {
+            return new SegmentExpression.Term(attribute, token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw error(e.getMessage());
+        }
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        if (position < tokens.size() && tokens.get(position).toUpperCase(Locale.ROOT).equals(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private String next() {
+        if (position >= tokens.size()) {
+            throw error("표현식이 완결되지 않았습니다");
+        }
+        return tokens.get(position++);
+    }
+
+    private InvalidSegmentExpressionException error(String reason) {
+        return new InvalidSegmentExpressionException(text, reason);
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else {
+                int start = i;
+                while (i < text.length() && !Character.isWhitespace(text.charAt(i))
+                    && text.charAt(i) != '(' && text.charAt(i) != ')') {
+                    i++;
+                }
+                tokens.add(text.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+}
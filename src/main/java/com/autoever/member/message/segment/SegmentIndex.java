@@ -0,0 +1,288 @@
+package com.autoever.member.message.segment;
+
+import com.autoever.member.entity.User;
+import com.autoever.member.message.dto.AgeRange;
+import com.autoever.member.repository.RecipientCursorRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 수신 대상 세그먼트 색인
+ * 속성 값(지역, 성별, 출생연도, 가입일)별로 회원 ID 압축 비트맵을 메모리에 유지하여
+ * 세그먼트 표현식을 DB 조회 없이 비트맵 연산으로 평가
+ *
+ * 시작 시 한 번 전체 회원을 커서로 읽어 구성하고, 이후 회원 가입/수정/삭제 트랜잭션이 커밋된 뒤에만 반영
+ */
+@Slf4j
+@Service
+@DependsOn("userBirthYearBackfillService")
+@RequiredArgsConstructor
+public class SegmentIndex {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final RecipientCursorRepository recipientCursorRepository;
+
+    // 평가(읽기)는 동시에, 색인 갱신(쓰기)은 단독으로 수행
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Bitmaps bitmaps = new Bitmaps();
+
+    /**
+     * 애플리케이션 시작 시 전체 회원으로 색인 구성
+     */
+    @PostConstruct
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 전체 회원 조회로 색인 재구성
+     */
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Bitmaps rebuilt = new Bitmaps();
+        try (Stream<UserSegmentAttributes> attributes = recipientCursorRepository.streamSegmentAttributes(FETCH_SIZE)) {
+            attributes.forEach(rebuilt::add);
+        }
+
+        write(() -> this.bitmaps = rebuilt);
+        log.info("세그먼트 색인 구성 완료 - 회원 수: {}, 지역 수: {}, 비트맵 크기: {}KB, 소요시간: {}ms",
+            rebuilt.all.cardinality(), rebuilt.regions.size(), rebuilt.sizeInBytes() / 1024,
+            System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 회원 가입 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void recordRegistration(User user) {
+        UserSegmentAttributes attributes = UserSegmentAttributes.from(user);
+        afterCommit(() -> write(() -> bitmaps.add(attributes)));
+    }
+
+    /**
+     * 회원 정보 수정 반영 (트랜잭션 커밋 후 적용)
+     *
+     * @param previous 수정 전 속성
+     * @param user 수정된 회원
+     */
+    public void recordUpdate(UserSegmentAttributes previous, User user) {
+        UserSegmentAttributes current = UserSegmentAttributes.from(user);
+        if (previous.equals(current)) {
+            return;
+        }
+        afterCommit(() -> write(() -> {
+            bitmaps.remove(previous);
+            bitmaps.add(current);
+        }));
+    }
+
+    /**
+     * 회원 삭제 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void recordDeletion(User user) {
+        UserSegmentAttributes attributes = UserSegmentAttributes.from(user);
+        afterCommit(() -> write(() -> bitmaps.remove(attributes)));
+    }
+
+    /**
+     * 전체 회원 삭제 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void recordDeletionOfAll() {
+        afterCommit(() -> write(() -> this.bitmaps = new Bitmaps()));
+    }
+
+    /**
+     * 세그먼트 표현식을 회원 ID 집합으로 평가
+     *
+     * @param expression 세그먼트 표현식
+     * @return 해당 회원 ID 비트맵 (호출자 소유의 새 객체)
+     */
+    public IdBitmap evaluate(SegmentExpression expression) {
+        return read(() -> {
+            IdBitmap result = bitmaps.evaluate(expression);
+            // 단일 조건은 색인 내부 비트맵을 그대로 반환하므로 복사
+            return expression instanceof SegmentExpression.Term ? result.copy() : result;
+        });
+    }
+
+    /**
+     * 세그먼트 표현식에 해당하는 회원 수
+     */
+    public long count(SegmentExpression expression) {
+        return read(() -> bitmaps.evaluate(expression).cardinality());
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable writer) {
+        lock.writeLock().lock();
+        try {
+            writer.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    /**
+     * 속성 값별 비트맵 묶음
+     */
+    private static final class Bitmaps {
+
+        private static final IdBitmap EMPTY = new IdBitmap();
+
+        private final IdBitmap all = new IdBitmap();
+        private final Map<String, IdBitmap> regions = new HashMap<>();
+        private final Map<SegmentAttribute.Gender, IdBitmap> genders = new EnumMap<>(SegmentAttribute.Gender.class);
+        private final NavigableMap<Integer, IdBitmap> birthYears = new TreeMap<>();
+        private final NavigableMap<LocalDate, IdBitmap> signupDates = new TreeMap<>();
+
+        void add(UserSegmentAttributes attributes) {
+            if (attributes.id() == null) {
+                return;
+            }
+            long id = attributes.id();
+            all.add(id);
+            if (attributes.region() != null) {
+                regions.computeIfAbsent(attributes.region(), key -> new IdBitmap()).add(id);
+            }
+            SegmentAttribute.Gender gender = SegmentAttribute.Gender.fromSocialNumber(attributes.socialNumber());
+            if (gender != null) {
+                genders.computeIfAbsent(gender, key -> new IdBitmap()).add(id);
+            }
+            if (attributes.birthYear() != null) {
+                birthYears.computeIfAbsent(attributes.birthYear(), key -> new IdBitmap()).add(id);
+            }
+            if (attributes.signupDate() != null) {
+                signupDates.computeIfAbsent(attributes.signupDate(), key -> new IdBitmap()).add(id);
+            }
+        }
+
+        void remove(UserSegmentAttributes attributes) {
+            if (attributes.id() == null) {
+                return;
+            }
+            long id = attributes.id();
+            all.remove(id);
+            removeFrom(regions, attributes.region(), id);
+            removeFrom(genders, SegmentAttribute.Gender.fromSocialNumber(attributes.socialNumber()), id);
+            removeFrom(birthYears, attributes.birthYear(), id);
+            removeFrom(signupDates, attributes.signupDate(), id);
+        }
+
+        IdBitmap evaluate(SegmentExpression expression) {
+            return switch (expression) {
+                case SegmentExpression.And and -> {
+                    IdBitmap result = evaluate(and.operands().get(0));
+                    for (int i = 1; i < and.operands().size(); i++) {
+                        result = result.and(evaluate(and.operands().get(i)));
+                    }
+                    yield result;
+                }
+                case SegmentExpression.Or or -> {
+                    IdBitmap result = new IdBitmap();
+                    for (SegmentExpression operand : or.operands()) {
+                        result = result.or(evaluate(operand));
+                    }
+                    yield result;
+                }
+                case SegmentExpression.Not not -> all.andNot(evaluate(not.operand()));
+                case SegmentExpression.Term term -> evaluateTerm(term);
+            };
+        }
+
+        private IdBitmap evaluateTerm(SegmentExpression.Term term) {
+            return switch (term.attribute()) {
+                case REGION -> regions.getOrDefault(term.value(), EMPTY);
+                case GENDER -> genders.getOrDefault(SegmentAttribute.Gender.parse(term.value()), EMPTY);
+                case AGE -> {
+                    // 나이는 (현재 연도 - 출생연도) 기준으로 연령대 조회 쿼리와 동일
+                    AgeRange ageRange = SegmentAttribute.parseAgeGroup(term.value()).getAgeRange();
+                    int currentYear = Year.now().getValue();
+                    yield union(birthYears.subMap(currentYear - ageRange.getMaxAge(), true,
+                        currentYear - ageRange.getMinAge(), true));
+                }
+                case SIGNUP -> {
+                    LocalDate[] range = SegmentAttribute.parseSignupRange(term.value());
+                    NavigableMap<LocalDate, IdBitmap> dates = signupDates;
+                    if (range[0] != null) {
+                        dates = dates.tailMap(range[0], true);
+                    }
+                    if (range[1] != null) {
+                        dates = dates.headMap(range[1], true);
+                    }
+                    yield union(dates);
+                }
+            };
+        }
+
+        private static IdBitmap union(Map<?, IdBitmap> bitmaps) {
+            IdBitmap result = new IdBitmap();
+            for (IdBitmap bitmap : bitmaps.values()) {
+                result = result.or(bitmap);
+            }
+            return result;
+        }
+
+        private static <K> void removeFrom(Map<K, IdBitmap> bitmaps, K key, long id) {
+            if (key == null) {
+                return;
+            }
+            IdBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+
+        long sizeInBytes() {
+            long sum = all.sizeInBytes();
+            for (Map<?, IdBitmap> bitmaps : List.of(regions, genders, birthYears, signupDates)) {
+                for (IdBitmap bitmap : bitmaps.values()) {
+                    sum += bitmap.sizeInBytes();
+                }
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.autoever.member.message.segment;
+
+import com.autoever.member.entity.User;
+
+import java.time.LocalDate;
+
+/**
+ * 세그먼트 색인에 필요한 회원 속성 프로젝션
+ *
+ * @param id 회원 ID
+ * @param address 주소
+ * @param socialNumber 주민등록번호
+ * @param birthYear 출생연도
+ * @param signupDate 가입일
+ */
+public record UserSegmentAttributes(
+    Long id,
+    String address,
+    String socialNumber,
+    Integer birthYear,
+    LocalDate signupDate
+) {
+    
+    public static UserSegmentAttributes from(User user) {
+        LocalDate signupDate = user.getCreatedAt() != null ? user.getCreatedAt().toLocalDate() : LocalDate.now();
+        return new UserSegmentAttributes(user.getId(), user.getAddress(), user.getSocialNumber(),
+            user.getBirthYear(), signupDate);
+    }
+    
+    /**
+     * 주소의 최상위 행정구역 (첫 번째 공백 구분 토큰)
+     */
+    public String region() {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        return address.trim().split("\\s+", 2)[0];
+    }
+}
@@ -0,0 +1,98 @@
+package com.autoever.member.message.service;
+
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.queue.MessageQueueService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 작업별 {@link BatchSizeController} 생성
+ *
+ * 메시지 큐 여유 공간과 발송 스레드 풀 상태를 부하 신호로 연결하고, 크기 변경은 구조화 로그로 남김.
+ * 발송 스레드 풀 신호는 서브 배치를 그 풀에 넘기는 작업({@link #create(UUID)})에만 연결하고,
+ * 호출 스레드에서 큐에 적재하는 대량 발송 파이프라인({@link #create(UUID, int)})은 메시지 큐 여유 공간만 반영함.
+ * 스냅샷 생성 조회는 {@link #createForScan(UUID, int)}로 사용하며 자동 조정이 꺼져 있으면 호출자가 지정한 고정 크기를 사용
+ */
+@Component
+public class AdaptiveBatchSizer {
+
+    static final int FIXED_PAGE_SIZE = 1000;
+    static final int FIXED_SUB_BATCH_SIZE = 100;
+
+    private final BulkMessageConfig bulkMessageConfig;
+    private final MessageQueueService messageQueueService;
+    private final ThreadPoolTaskExecutor taskExecutor;
+    private final StructuredMessageLogger structuredLogger;
+
+    public AdaptiveBatchSizer(BulkMessageConfig bulkMessageConfig,
+                              MessageQueueService messageQueueService,
+                              @Qualifier("messageTaskExecutor") ThreadPoolTaskExecutor taskExecutor,
+                              StructuredMessageLogger structuredLogger) {
+        this.bulkMessageConfig = bulkMessageConfig;
+        this.messageQueueService = messageQueueService;
+        this.taskExecutor = taskExecutor;
+        this.structuredLogger = structuredLogger;
+    }
+
+    /**
+     * 조회 결과를 서브 배치로 나누어 발송 스레드 풀에 넘기는 작업용 제어기 (큐/스레드 풀 부하 반영)
+     */
+    public BatchSizeController create(UUID jobId) {
+        if (!bulkMessageConfig.getBatchSizing().isEnabled()) {
+            return BatchSizeController.fixed(FIXED_PAGE_SIZE, FIXED_SUB_BATCH_SIZE);
+        }
+        return start(BatchSizeController.adaptive(jobId, bulkMessageConfig.getBatchSizing(),
+            this::currentLoad, structuredLogger::logBatchSizing));
+    }
+
+    /**
+     * 대량 발송 파이프라인용 제어기 (큐 부하만 반영)
+     * 큐 적재는 파이프라인 호출 스레드에서 조회 배치 단위로 수행하므로 발송 스레드 풀 상태는 보지 않음
+     *
+     * @param fixedBatchSize 자동 조정이 꺼져 있을 때 사용할 조회 배치 크기
+     */
+    public BatchSizeController create(UUID jobId, int fixedBatchSize) {
+        if (!bulkMessageConfig.getBatchSizing().isEnabled()) {
+            return BatchSizeController.fixed(fixedBatchSize, fixedBatchSize);
+        }
+        return start(BatchSizeController.adaptive(jobId, bulkMessageConfig.getBatchSizing(),
+            this::queueLoad, structuredLogger::logBatchSizing));
+    }
+
+    /**
+     * 조회 결과를 파일 등에 기록하는 작업용 제어기 (조회 시간만 반영)
+     *
+     * @param fixedPageSize 자동 조정이 꺼져 있을 때 사용할 조회 크기
+     */
+    public BatchSizeController createForScan(UUID jobId, int fixedPageSize) {
+        if (!bulkMessageConfig.getBatchSizing().isEnabled()) {
+            return BatchSizeController.fixed(fixedPageSize, FIXED_SUB_BATCH_SIZE);
+        }
+        return start(BatchSizeController.adaptive(jobId, bulkMessageConfig.getBatchSizing(),
+            () -> BatchSizeController.LoadSnapshot.UNCONSTRAINED, structuredLogger::logBatchSizing));
+    }
+
+    private BatchSizeController start(BatchSizeController controller) {
+        structuredLogger.logBatchSizing(controller.current(BatchSizeController.Reason.INITIAL));
+        return controller;
+    }
+
+    private BatchSizeController.LoadSnapshot queueLoad() {
+        MessageQueueService.QueueStatus queueStatus = messageQueueService.getQueueStatus();
+        return BatchSizeController.LoadSnapshot.ofQueue(
+            queueStatus.getMaxSize() - queueStatus.getCurrentSize(), queueStatus.getMaxSize());
+    }
+
+    private BatchSizeController.LoadSnapshot currentLoad() {
+        MessageQueueService.QueueStatus queueStatus = messageQueueService.getQueueStatus();
+        int idleThreads = Math.max(0, taskExecutor.getMaxPoolSize() - taskExecutor.getActiveCount());
+        return new BatchSizeController.LoadSnapshot(
+            queueStatus.getMaxSize() - queueStatus.getCurrentSize(),
+            queueStatus.getMaxSize(),
+            idleThreads,
+            taskExecutor.getQueueSize());
+    }
+}
@@ -54,6 +54,32 @@ public class AgeCalculationService {
         return age;
     }
     
+    /**
+     * 주민등록번호로부터 출생연도 계산
+     * 회원가입 시 한 번 계산하여 users.birth_year 컬럼에 저장하는 용도
+     * 
+     * @param socialNumber 주민등록번호 (형식: YYMMDD-GXXXXXX)
+     * @return 출생연도 (성별 코드로 세기를 판단할 수 없으면 null)
+     */
+    public Integer calculateBirthYear(String socialNumber) {
+        if (socialNumber == null || socialNumber.length() < 8) {
+            throw new IllegalArgumentException("유효하지 않은 주민등록번호입니다");
+        }
+        
+        int yearPrefix = Integer.parseInt(socialNumber.substring(0, 2));
+        char genderCode = socialNumber.charAt(7);
+        
+        // 성별 코드로 세기 판단 (1,2: 1900년대, 3,4: 2000년대)
+        if (genderCode == '1' || genderCode == '2') {
+            return 1900 + yearPrefix;
+        } else if (genderCode == '3' || genderCode == '4') {
+            return 2000 + yearPrefix;
+        }
+        
+        log.debug("출생연도 계산 불가 - 지원하지 않는 성별 코드: {}", maskSocialNumber(socialNumber));
+        return null;
+    }
+    
     /**
      * 연령대로부터 연령 범위 계산
      * 
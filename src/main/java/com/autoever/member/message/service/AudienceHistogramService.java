@@ -0,0 +1,223 @@
+package com.autoever.member.message.service;
+
+import com.autoever.member.entity.User;
+import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.AgeRange;
+import com.autoever.member.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 수신 대상 집계 서비스
+ * 출생연도별, 가입일별 사용자 수를 메모리에 유지하여 연령대/일별 카운트를 DB 조회 없이 응답
+ *
+ * 시작 시 한 번 DB 집계로 구성하고, 이후 회원 가입/수정/삭제 트랜잭션이 커밋된 뒤에만 반영
+ */
+@Slf4j
+@Service
+@DependsOn("userBirthYearBackfillService")
+@RequiredArgsConstructor
+public class AudienceHistogramService {
+
+    // 주민등록번호 성별 코드로 표현 가능한 출생연도 범위
+    private static final int MIN_BIRTH_YEAR = 1900;
+    private static final int MAX_BIRTH_YEAR = 2099;
+
+    private final UserRepository userRepository;
+
+    private volatile Histogram histogram = new Histogram();
+
+    /**
+     * 애플리케이션 시작 시 DB 집계로 히스토그램 구성
+     */
+    @PostConstruct
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * DB 집계로 히스토그램 전체 재구성
+     */
+    public void rebuild() {
+        Histogram rebuilt = new Histogram();
+
+        for (Object[] row : userRepository.countGroupByBirthYear()) {
+            rebuilt.addBirthYear(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+        }
+        for (Object[] row : userRepository.countGroupBySignupDate()) {
+            rebuilt.addSignupDate(toLocalDate(row[0]), ((Number) row[1]).longValue());
+        }
+
+        this.histogram = rebuilt;
+        log.info("수신 대상 집계 구성 완료 - 출생연도 기준 사용자 수: {}", rebuilt.totalByBirthYear());
+    }
+
+    /**
+     * 회원 가입 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void recordRegistration(User user) {
+        Integer birthYear = user.getBirthYear();
+        LocalDate signupDate = signupDate(user);
+        afterCommit(() -> {
+            Histogram current = histogram;
+            current.addBirthYear(birthYear, 1);
+            current.addSignupDate(signupDate, 1);
+        });
+    }
+
+    /**
+     * 회원 정보 수정 반영 (트랜잭션 커밋 후 적용)
+     * 출생연도가 바뀐 경우에만 카운트를 이동 (가입일은 수정 불가)
+     */
+    public void recordUpdate(Integer previousBirthYear, User user) {
+        Integer birthYear = user.getBirthYear();
+        if (Objects.equals(previousBirthYear, birthYear)) {
+            return;
+        }
+        afterCommit(() -> {
+            Histogram current = histogram;
+            current.addBirthYear(previousBirthYear, -1);
+            current.addBirthYear(birthYear, 1);
+        });
+    }
+
+    /**
+     * 회원 삭제 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void recordDeletion(User user) {
+        Integer birthYear = user.getBirthYear();
+        LocalDate signupDate = signupDate(user);
+        afterCommit(() -> {
+            Histogram current = histogram;
+            current.addBirthYear(birthYear, -1);
+            current.addSignupDate(signupDate, -1);
+        });
+    }
+
+    /**
+     * 전체 회원 삭제 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void recordDeletionOfAll() {
+        afterCommit(() -> this.histogram = new Histogram());
+    }
+
+    /**
+     * 연령대별 사용자 수
+     */
+    public long countByAgeGroup(AgeGroup ageGroup) {
+        return countByAgeRange(ageGroup.getAgeRange());
+    }
+
+    /**
+     * 연령 범위별 사용자 수
+     * 나이는 (현재 연도 - 출생연도) 기준으로 연령대 조회 쿼리와 동일
+     */
+    public long countByAgeRange(AgeRange ageRange) {
+        int currentYear = Year.now().getValue();
+        return histogram.countBirthYears(currentYear - ageRange.getMaxAge(), currentYear - ageRange.getMinAge());
+    }
+
+    /**
+     * 특정 일자 가입자 수
+     */
+    public long countSignupsOn(LocalDate date) {
+        return histogram.countSignupDate(date);
+    }
+
+    /**
+     * 특정 일자 이후(당일 포함) 가입자 수
+     */
+    public long countSignupsSince(LocalDate fromDate) {
+        return histogram.countSignupsSince(fromDate);
+    }
+
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    private LocalDate signupDate(User user) {
+        return user.getCreatedAt() != null ? user.getCreatedAt().toLocalDate() : LocalDate.now();
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    /**
+     * 출생연도 배열 + 가입일 맵 집계 구조
+     */
+    private static final class Histogram {
+
+        private final AtomicLongArray birthYearCounts = new AtomicLongArray(MAX_BIRTH_YEAR - MIN_BIRTH_YEAR + 1);
+        private final Map<LocalDate, LongAdder> signupDateCounts = new ConcurrentHashMap<>();
+
+        void addBirthYear(Integer birthYear, long delta) {
+            if (birthYear == null || birthYear < MIN_BIRTH_YEAR || birthYear > MAX_BIRTH_YEAR) {
+                return;
+            }
+            birthYearCounts.addAndGet(birthYear - MIN_BIRTH_YEAR, delta);
+        }
+
+        void addSignupDate(LocalDate date, long delta) {
+            if (date == null) {
+                return;
+            }
+            signupDateCounts.computeIfAbsent(date, key -> new LongAdder()).add(delta);
+        }
+
+        long countBirthYears(int fromYear, int toYear) {
+            int from = Math.max(fromYear, MIN_BIRTH_YEAR) - MIN_BIRTH_YEAR;
+            int to = Math.min(toYear, MAX_BIRTH_YEAR) - MIN_BIRTH_YEAR;
+            long sum = 0;
+            for (int i = from; i <= to; i++) {
+                sum += birthYearCounts.get(i);
+            }
+            return sum;
+        }
+
+        long countSignupDate(LocalDate date) {
+            LongAdder counter = signupDateCounts.get(date);
+            return counter != null ? counter.sum() : 0L;
+        }
+
+        long countSignupsSince(LocalDate fromDate) {
+            long sum = 0;
+            for (Map.Entry<LocalDate, LongAdder> entry : signupDateCounts.entrySet()) {
+                if (!entry.getKey().isBefore(fromDate)) {
+                    sum += entry.getValue().sum();
+                }
+            }
+            return sum;
+        }
+
+        long totalByBirthYear() {
+            return countBirthYears(MIN_BIRTH_YEAR, MAX_BIRTH_YEAR);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.autoever.member.message.service;
+
+import com.autoever.member.message.config.BulkMessageConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 수신자 파티션 조회 전용 실행기
+ * 스레드 수가 곧 동시에 열리는 커서(커넥션) 수의 상한이므로,
+ * 작업이 여러 개 동시에 실행되어도 Hikari 풀을 모두 점유하지 않도록 전역으로 공유
+ */
+@Slf4j
+@Component
+public class AudiencePartitionExecutor {
+
+    private final ExecutorService executor;
+    private final int maxParallelism;
+
+    public AudiencePartitionExecutor(BulkMessageConfig bulkMessageConfig) {
+        this.maxParallelism = Math.max(1, bulkMessageConfig.getScan().getMaxParallelism());
+        this.executor = Executors.newFixedThreadPool(maxParallelism, new ScanThreadFactory());
+        log.info("수신자 파티션 조회 실행기 초기화 - 최대 병렬도: {}", maxParallelism);
+    }
+
+    /**
+     * 파티션 조회 작업 제출 (스레드가 모두 사용 중이면 대기열에서 순서대로 실행)
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    public int getMaxParallelism() {
+        return maxParallelism;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class ScanThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "audience-scan-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
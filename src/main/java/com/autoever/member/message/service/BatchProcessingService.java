@@ -3,6 +3,9 @@ package com.autoever.member.message.service;
 import com.autoever.member.entity.User;
 import com.autoever.member.message.dto.AgeGroup;
 import com.autoever.member.message.dto.AgeRange;
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.message.trace.SpanTracer;
+import com.autoever.member.message.trace.SpanType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -31,8 +34,10 @@ public class BatchProcessingService {
     @Qualifier("messageTaskExecutor")
     private final ThreadPoolTaskExecutor taskExecutor;
     
-    // 메시지 발송을 위한 서브 배치 크기
-    private static final int MESSAGE_SUB_BATCH_SIZE = 100;
+    // 작업별 조회/서브 배치 크기 제어기 생성
+    private final AdaptiveBatchSizer adaptiveBatchSizer;
+    
+    private final SpanTracer spanTracer;
     
     /**
      * 연령대별 사용자 대상 배치 작업 실행
@@ -47,8 +52,18 @@ public class BatchProcessingService {
             UUID jobId,
             BiConsumer<List<User>, BatchProgress> batchProcessor) {
         
+        try (SpanTracer.Scope jobScope = spanTracer.bindJob(jobId)) {
+            return runUsersByAgeGroup(ageGroup, jobId, batchProcessor);
+        }
+    }
+    
+    private BatchProcessingResult runUsersByAgeGroup(
+            AgeGroup ageGroup,
+            UUID jobId,
+            BiConsumer<List<User>, BatchProgress> batchProcessor) {
+        
         AgeRange ageRange = ageCalculationService.calculateAgeRange(ageGroup);
-        long totalUsers = userQueryService.countUsersByAgeRange(ageRange);
+        long totalUsers = userQueryService.countUsersByAgeGroup(ageGroup);
         
         log.info("배치 작업 시작 - jobId: {}, 연령대: {}, 예상 사용자: {}", 
                 jobId, ageGroup, totalUsers);
@@ -58,15 +73,17 @@ public class BatchProcessingService {
         AtomicInteger failureCount = new AtomicInteger(0);
         
         long startTime = System.currentTimeMillis();
+        BatchSizeController batchSizeController = adaptiveBatchSizer.create(jobId);
         
-        // 페이지 단위로 사용자 처리
-        userQueryService.processUsersByAgeRangeInBatches(ageRange, users -> {
-            // 서브 배치로 분할하여 처리
+        // 페이지 단위로 사용자 처리 (페이지 크기는 조회 시간과 큐/스레드 풀 상태에 따라 조정)
+        userQueryService.processUsersByAgeRangeInBatches(ageRange, batchSizeController, users -> {
+            // 놀고 있는 스레드 수에 맞춘 서브 배치로 분할하여 처리
             List<CompletableFuture<Void>> futures = new ArrayList<>();
             
-            userQueryService.processInSubBatches(users, MESSAGE_SUB_BATCH_SIZE, subBatch -> {
+            userQueryService.processInSubBatches(users, batchSizeController.subBatchSize(users.size()), subBatch -> {
                 CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                    try {
+                    try (SpanTracer.Scope scope = spanTracer.bindJob(jobId);
+                         SpanTracer.Span span = spanTracer.start(SpanType.BATCH_PROCESS, "batch.sub-batch")) {
                         BatchProgress progress = new BatchProgress(
                             jobId,
                             totalUsers,
@@ -121,30 +138,32 @@ public class BatchProcessingService {
     /**
      * 콜백 기반 배치 처리 (BulkMessageService용)
      * 
+     * 수신자 프로젝션 커서로 스트리밍하여 User 엔티티를 적재하지 않음
+     * 
      * @param ageGroup 연령대
-     * @param batchCallback 배치별 콜백 (사용자 리스트 처리)
+     * @param batchCallback 배치별 콜백 (수신자 리스트 처리)
      * @param progressCallback 진행률 콜백
      */
     public void processBatchWithCallback(
             AgeGroup ageGroup,
-            Consumer<List<User>> batchCallback,
+            Consumer<List<Recipient>> batchCallback,
             Consumer<BatchProgress> progressCallback) {
         
         UUID jobId = UUID.randomUUID(); // 임시 ID
         AgeRange ageRange = ageCalculationService.calculateAgeRange(ageGroup);
-        long totalUsers = userQueryService.countUsersByAgeRange(ageRange);
+        long totalUsers = userQueryService.countUsersByAgeGroup(ageGroup);
         
         log.info("콜백 배치 처리 시작 - 연령대: {}, 총 사용자: {}", ageGroup, totalUsers);
         
         AtomicInteger processedCount = new AtomicInteger(0);
         
-        // 페이지 단위로 사용자 처리
-        userQueryService.processUsersByAgeRangeInBatches(ageRange, users -> {
+        // 커서 스트리밍으로 배치 단위 수신자 처리
+        userQueryService.processRecipientsByAgeRangeInBatches(ageRange, adaptiveBatchSizer.create(jobId), recipients -> {
             // 배치 콜백 실행
-            batchCallback.accept(users);
+            batchCallback.accept(recipients);
             
             // 진행률 업데이트
-            int processed = processedCount.addAndGet(users.size());
+            int processed = processedCount.addAndGet(recipients.size());
             BatchProgress progress = new BatchProgress(
                 jobId, totalUsers, processed, processed, 0 // success는 외부에서 관리
             );
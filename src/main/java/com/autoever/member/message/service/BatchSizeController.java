@@ -0,0 +1,231 @@
+package com.autoever.member.message.service;
+
+import com.autoever.member.message.config.BulkMessageConfig;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 작업별 배치 크기 피드백 제어기
+ *
+ * 조회 배치(페이지) 크기는 관측된 행당 조회 시간으로 예상한 페이지 조회 시간이 목표의 2배를 넘으면 절반으로,
+ * 목표의 절반에 못 미치고 하류(메시지 큐, 발송 스레드 풀)에 여유가 있으면 2배로 조정함.
+ * 메시지 큐 여유 공간이 기준 미만이면 조회 시간과 관계없이 줄임.
+ * 대량 발송 파이프라인에서는 스냅샷/커서 조회 배치 크기로 쓰이며, 크기는 2의 거듭제곱으로만 바뀌므로
+ * OFFSET 페이징 조회(processUsersByAgeRangeInBatches)에서도 페이지 경계를 맞출 수 있음 ({@link #pageSizeAt(long)})
+ *
+ * 서브 배치 크기는 페이지를 놀고 있는 발송 스레드 수만큼 나눈 크기이며, 스레드 풀 대기열이 쌓여 있으면
+ * 작업 수를 줄이기 위해 상한까지 키움. 서브 배치를 발송 스레드 풀에 넘기는 작업에서만 의미가 있음
+ *
+ * 파티션 병렬 조회 시 여러 스레드에서 호출되므로 스레드 안전
+ */
+public final class BatchSizeController {
+
+    // 행당 조회 시간 지수 이동 평균 가중치
+    private static final double SMOOTHING = 0.3;
+    // 페이지 크기를 늘리기 위한 최소 메시지 큐 여유 비율
+    private static final double GROWTH_QUEUE_HEADROOM = 0.5;
+
+    private final UUID jobId;
+    private final int minPageSize;
+    private final int maxPageSize;
+    private final int minSubBatchSize;
+    private final int maxSubBatchSize;
+    private final long targetFetchNanos;
+    private final double minQueueHeadroom;
+    private final Supplier<LoadSnapshot> loadSignals;
+    private final Consumer<Adjustment> listener;
+
+    private int pageSize;
+    private double fetchNanosPerRow = -1;
+
+    private BatchSizeController(UUID jobId, int minPageSize, int maxPageSize, int initialPageSize,
+                                int minSubBatchSize, int maxSubBatchSize, long targetFetchNanos,
+                                double minQueueHeadroom, Supplier<LoadSnapshot> loadSignals,
+                                Consumer<Adjustment> listener) {
+        this.jobId = jobId;
+        this.minPageSize = minPageSize;
+        this.maxPageSize = maxPageSize;
+        this.pageSize = initialPageSize;
+        this.minSubBatchSize = minSubBatchSize;
+        this.maxSubBatchSize = maxSubBatchSize;
+        this.targetFetchNanos = targetFetchNanos;
+        this.minQueueHeadroom = minQueueHeadroom;
+        this.loadSignals = loadSignals;
+        this.listener = listener;
+    }
+
+    /**
+     * 설정 범위 안에서 조정되는 제어기 (범위 값은 2의 거듭제곱으로 내림)
+     *
+     * @param jobId 작업 ID
+     * @param config 크기 범위와 목표 조회 시간
+     * @param loadSignals 하류 부하 상태 조회 함수
+     * @param listener 크기가 바뀔 때 호출되는 함수
+     */
+    public static BatchSizeController adaptive(UUID jobId, BulkMessageConfig.BatchSizingConfig config,
+                                               Supplier<LoadSnapshot> loadSignals, Consumer<Adjustment> listener) {
+        int minPageSize = Integer.highestOneBit(Math.max(1, config.getMinPageSize()));
+        int maxPageSize = Math.max(minPageSize, Integer.highestOneBit(Math.max(1, config.getMaxPageSize())));
+        int initialPageSize = clamp(Integer.highestOneBit(Math.max(1, config.getInitialPageSize())), minPageSize, maxPageSize);
+        int minSubBatchSize = Math.max(1, config.getMinSubBatchSize());
+        return new BatchSizeController(jobId, minPageSize, maxPageSize, initialPageSize,
+            minSubBatchSize, Math.max(minSubBatchSize, config.getMaxSubBatchSize()),
+            config.getTargetFetchMs() * 1_000_000L, config.getMinQueueHeadroomPercent() / 100.0,
+            loadSignals, listener);
+    }
+
+    /**
+     * 크기가 바뀌지 않는 제어기 (배치 크기를 직접 지정하는 호출용)
+     */
+    public static BatchSizeController fixed(int pageSize, int subBatchSize) {
+        return new BatchSizeController(null, pageSize, pageSize, pageSize, subBatchSize, subBatchSize,
+            Long.MAX_VALUE, 0.0, () -> LoadSnapshot.UNCONSTRAINED, adjustment -> { });
+    }
+
+    /**
+     * 다음 조회 배치 크기
+     */
+    public synchronized int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 지정한 OFFSET에서 시작할 수 있는 페이지 크기 (현재 크기 이하 중 OFFSET을 나누어떨어지게 하는 최대 크기)
+     * 크기를 늘린 직후 경계가 맞지 않으면 한두 페이지 동안 이전 크기를 유지함
+     */
+    public synchronized int pageSizeAt(long offset) {
+        int size = pageSize;
+        while (size > 1 && offset % size != 0) {
+            size >>>= 1;
+        }
+        return size;
+    }
+
+    /**
+     * 조회 결과 반영
+     *
+     * @param rows 조회된 행 수
+     * @param elapsedNanos 조회 소요 시간
+     */
+    public void recordFetch(int rows, long elapsedNanos) {
+        if (rows <= 0 || minPageSize == maxPageSize) {
+            return;
+        }
+        LoadSnapshot load = loadSignals.get();
+        Adjustment adjustment;
+        synchronized (this) {
+            double perRow = (double) elapsedNanos / rows;
+            fetchNanosPerRow = fetchNanosPerRow < 0 ? perRow : fetchNanosPerRow + SMOOTHING * (perRow - fetchNanosPerRow);
+            double projectedFetchNanos = fetchNanosPerRow * pageSize;
+
+            int previousPageSize = pageSize;
+            Reason reason = null;
+            if (load.queueHeadroom() < minQueueHeadroom && pageSize > minPageSize) {
+                pageSize >>>= 1;
+                reason = Reason.QUEUE_PRESSURE;
+            } else if (projectedFetchNanos > targetFetchNanos * 2.0 && pageSize > minPageSize) {
+                pageSize >>>= 1;
+                reason = Reason.SLOW_FETCH;
+            } else if (projectedFetchNanos < targetFetchNanos / 2.0 && pageSize < maxPageSize
+                && load.queueHeadroom() >= GROWTH_QUEUE_HEADROOM && !load.executorSaturated()) {
+                pageSize <<= 1;
+                reason = Reason.FAST_FETCH;
+            }
+            if (reason == null) {
+                return;
+            }
+            adjustment = new Adjustment(jobId, reason, previousPageSize, pageSize, subBatchSize(pageSize, load),
+                projectedFetchNanos / 1_000_000.0, load);
+        }
+        listener.accept(adjustment);
+    }
+
+    /**
+     * 페이지를 발송 작업으로 나눌 서브 배치 크기
+     *
+     * @param rows 페이지 행 수
+     */
+    public int subBatchSize(int rows) {
+        return subBatchSize(rows, loadSignals.get());
+    }
+
+    /**
+     * 현재 크기 (로그용)
+     */
+    public Adjustment current(Reason reason) {
+        LoadSnapshot load = loadSignals.get();
+        synchronized (this) {
+            double projectedFetchMs = fetchNanosPerRow < 0 ? 0.0 : fetchNanosPerRow * pageSize / 1_000_000.0;
+            return new Adjustment(jobId, reason, pageSize, pageSize, subBatchSize(pageSize, load), projectedFetchMs, load);
+        }
+    }
+
+    private int subBatchSize(int rows, LoadSnapshot load) {
+        int parallelism = load.executorQueueDepth() > 0 ? 1 : Math.max(1, load.executorIdleThreads());
+        return clamp((rows + parallelism - 1) / parallelism, minSubBatchSize, maxSubBatchSize);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * 크기 조정 사유
+     */
+    public enum Reason {
+        INITIAL, SLOW_FETCH, FAST_FETCH, QUEUE_PRESSURE
+    }
+
+    /**
+     * 하류 부하 상태
+     *
+     * @param queueFreeSlots 메시지 큐 여유 공간
+     * @param queueCapacity 메시지 큐 용량
+     * @param executorIdleThreads 발송 스레드 풀의 놀고 있는 스레드 수 (최대 스레드 수 기준)
+     * @param executorQueueDepth 발송 스레드 풀 대기 작업 수
+     */
+    public record LoadSnapshot(int queueFreeSlots, int queueCapacity, int executorIdleThreads, int executorQueueDepth) {
+
+        // 하류 제약이 없는 상태 (조회 결과를 파일 등에 기록하는 경우)
+        public static final LoadSnapshot UNCONSTRAINED = new LoadSnapshot(1, 1, 1, 0);
+
+        /**
+         * 메시지 큐 상태만 반영하는 부하 상태 (발송 스레드 풀을 쓰지 않는 작업용, 스레드 풀 신호는 0)
+         */
+        public static LoadSnapshot ofQueue(int queueFreeSlots, int queueCapacity) {
+            return new LoadSnapshot(queueFreeSlots, queueCapacity, 0, 0);
+        }
+
+        public double queueHeadroom() {
+            return queueCapacity == 0 ? 1.0 : (double) queueFreeSlots / queueCapacity;
+        }
+
+        public boolean executorSaturated() {
+            return executorIdleThreads == 0 && executorQueueDepth > 0;
+        }
+    }
+
+    /**
+     * 크기 조정 결과
+     *
+     * @param jobId 작업 ID
+     * @param reason 조정 사유
+     * @param previousPageSize 이전 페이지 크기
+     * @param pageSize 새 페이지 크기
+     * @param subBatchSize 새 페이지 기준 서브 배치 크기
+     * @param projectedFetchMs 새 크기 적용 전 예상 페이지 조회 시간
+     * @param load 판단에 사용한 하류 부하 상태
+     */
+    public record Adjustment(
+        UUID jobId,
+        Reason reason,
+        int previousPageSize,
+        int pageSize,
+        int subBatchSize,
+        double projectedFetchMs,
+        LoadSnapshot load
+    ) {
+    }
+}
@@ -1,9 +1,31 @@
 package com.autoever.member.message.service;
 
-import com.autoever.member.entity.User;
+import com.autoever.member.message.config.BulkMessageConfig;
 import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.AgeRange;
+import com.autoever.member.message.dto.BulkJobAdmission;
 import com.autoever.member.message.dto.BulkMessageResponse;
+import com.autoever.member.message.dto.IdRange;
 import com.autoever.member.message.dto.MessageSendDto;
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.message.exception.BulkJobAbortedException;
+import com.autoever.member.message.job.BulkJobCheckpoint;
+import com.autoever.member.message.job.BulkJobCheckpointService;
+import com.autoever.member.message.job.BulkJobExecutor;
+import com.autoever.member.message.job.BulkJobProgress;
+import com.autoever.member.message.job.BulkJobRegistry;
+import com.autoever.member.message.job.BulkJobScheduler;
+import com.autoever.member.message.pipeline.BulkSendPipeline;
+import com.autoever.member.message.pipeline.RenderedMessage;
+import com.autoever.member.message.segment.IdBitmap;
+import com.autoever.member.message.segment.SegmentExpression;
+import com.autoever.member.message.segment.SegmentIndex;
+import com.autoever.member.message.snapshot.AudienceSnapshot;
+import com.autoever.member.message.snapshot.AudienceSnapshotService;
+import com.autoever.member.message.template.CompiledTemplate;
+import com.autoever.member.message.template.MessageTemplateService;
+import com.autoever.member.message.trace.SpanTracer;
+import com.autoever.member.message.trace.SpanType;
 import com.autoever.member.service.ExternalMessageService;
 import com.autoever.member.message.result.MessageSendResult;
 import com.autoever.member.message.result.MessageSendTracker;
@@ -12,16 +34,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
 
 /**
  * 대량 메시지 발송 서비스
@@ -33,12 +57,22 @@ public class BulkMessageService {
     
     private final AgeCalculationService ageCalculationService;
     private final UserQueryService userQueryService;
-    private final BatchProcessingService batchProcessingService;
     private final ExternalMessageService externalMessageService;
     private final FallbackMessageService fallbackMessageService;
     private final MessageSendTracker messageSendTracker;
     private final StructuredMessageLogger structuredLogger;
     private final MessageQueueService messageQueueService;
+    private final BulkSendPipeline bulkSendPipeline;
+    private final BulkJobCheckpointService bulkJobCheckpointService;
+    private final BulkJobRegistry bulkJobRegistry;
+    private final BulkJobScheduler bulkJobScheduler;
+    private final BulkJobExecutor bulkJobExecutor;
+    private final BulkMessageConfig bulkMessageConfig;
+    private final BulkSendEstimator bulkSendEstimator;
+    private final SegmentIndex segmentIndex;
+    private final AudienceSnapshotService audienceSnapshotService;
+    private final MessageTemplateService messageTemplateService;
+    private final SpanTracer spanTracer;
     
     
     /**
@@ -48,8 +82,16 @@ public class BulkMessageService {
         UUID jobId = UUID.randomUUID();
         AgeGroup ageGroup = request.getAgeGroupEnum();
         
-        log.info("대량 메시지 발송 작업 시작 - jobId: {}, ageGroup: {}", 
-                 jobId, request.ageGroup());
+        log.info("대량 메시지 발송 작업 시작 - jobId: {}, ageGroup: {}, segment: {}", 
+                 jobId, request.ageGroup(), request.segment());
+        
+        // 세그먼트 표현식은 작업 접수 전에 검증 (잘못된 경우 400 응답)
+        SegmentExpression audience = request.hasSegment()
+            ? SegmentExpression.forAudience(ageGroup, request.segment())
+            : null;
+        
+        // 템플릿 치환자도 작업 접수 전에 검증 (참조하는 사용자 정의 필드 값이 요청에 없으면 400 응답)
+        messageTemplateService.compile(request.message(), ageGroup, request.customFields());
         
         // 큐 상태 확인 - 큐가 꽉 찬 경우 즉시 실패 응답 반환
         MessageQueueService.QueueStatus queueStatus = messageQueueService.getQueueStatus();
@@ -57,75 +99,247 @@ public class BulkMessageService {
             log.error("큐가 가득참 - 대량 메시지 발송 작업 실패 - jobId: {}, 현재큐크기: {}, 최대큐크기: {}", 
                      jobId, queueStatus.getCurrentSize(), queueStatus.getMaxSize());
             
-            structuredLogger.logJobStart(jobId, request.ageGroup(), request.message(), 0);
+            structuredLogger.logJobStart(jobId, request.ageGroup(), request.message(), 0, Duration.ZERO);
             
             return BulkMessageResponse.queueFull(jobId);
         }
         
-        // 실제 사용자 수 조회
-        int totalUsers = userQueryService.countUsersByAgeGroup(ageGroup);
+        // 실제 사용자 수 조회 (세그먼트 조건이 있으면 색인 비트맵으로 계산)
+        int totalUsers = audience == null
+            ? userQueryService.countUsersByAgeGroup(ageGroup)
+            : (int) segmentIndex.count(audience);
         
         // 구조화된 로그 기록 (실제 사용자 수 포함)
-        structuredLogger.logJobStart(jobId, request.ageGroup(), request.message(), totalUsers);
+        structuredLogger.logJobStart(jobId, request.ageGroup(), request.message(), totalUsers,
+            bulkSendEstimator.estimateDuration(totalUsers));
         
         if (totalUsers == 0) {
             log.warn("해당 연령대에 사용자가 없습니다 - ageGroup: {}", ageGroup);
             return createEmptyResponse(jobId);
         }
         
-        BulkMessageResponse response = BulkMessageResponse.inProgress(jobId, totalUsers);
+        // 응답 직후부터 진행 상태를 조회할 수 있도록 먼저 등록
+        BulkJobProgress progress = bulkJobRegistry.register(jobId, ageGroup, totalUsers);
+        
+        // 실행 대기 중 재시작되어도 다시 접수할 수 있도록 실행 허가 전에 작업 명세 저장
+        bulkJobCheckpointService.accept(jobId, ageGroup, request.message(), request.segment(),
+            request.customFields(), totalUsers);
         
-        // 비동기 발송 시작
-        processMessageSendingAsync(jobId, ageGroup, request.message(), totalUsers);
+        // 동시 실행 작업 수 이내면 바로 비동기 발송 시작, 초과하면 대기열에 등록
+        BulkJobAdmission admission = submit(progress, jobId, ageGroup, request.message(), request.segment(),
+            request.customFields(), totalUsers);
         
-        return response;
+        return switch (admission.state()) {
+            case ACTIVE -> BulkMessageResponse.inProgress(jobId, totalUsers);
+            case WAITING -> BulkMessageResponse.waiting(jobId, totalUsers, 
+                admission.position(), admission.estimatedWait());
+            case REJECTED -> BulkMessageResponse.queueFull(jobId);
+        };
+    }
+    
+    /**
+     * 실행 허가를 기다리던 중 중단된 작업을 다시 접수 (시작 전이었으므로 처음부터 발송)
+     */
+    public BulkJobAdmission requeueJob(BulkJobCheckpoint checkpoint) {
+        UUID jobId = checkpoint.getJobId();
+        log.info("실행 대기 중이던 메시지 발송 작업 재접수 - jobId: {}", jobId);
+        BulkJobProgress progress = bulkJobRegistry.register(
+            jobId, checkpoint.getAgeGroup(), checkpoint.getTotalUsers());
+        return submit(progress, jobId, checkpoint.getAgeGroup(), checkpoint.getMessage(), checkpoint.getSegment(),
+            checkpoint.getCustomFields(), checkpoint.getTotalUsers());
+    }
+    
+    /**
+     * 실행 허가 요청 (대기열까지 가득 차 거절되면 작업을 실패로 종료)
+     */
+    private BulkJobAdmission submit(BulkJobProgress progress, UUID jobId, AgeGroup ageGroup, String message,
+                                    String segment, Map<String, String> customFields, int totalUsers) {
+        BulkJobAdmission admission = bulkJobScheduler.submit(progress,
+            () -> processMessageSendingAsync(jobId, ageGroup, message, segment, customFields, totalUsers));
+        if (admission.state() == BulkJobAdmission.State.REJECTED) {
+            progress.complete(BulkMessageResponse.JobStatus.FAILED);
+            bulkJobCheckpointService.fail(jobId);
+        }
+        return admission;
     }
     
     
     /**
      * 비동기 메시지 발송 처리
      */
-    @Async("messageTaskExecutor")
     public CompletableFuture<Void> processMessageSendingAsync(UUID jobId, AgeGroup ageGroup, String message, int totalUsers) {
+        return processMessageSendingAsync(jobId, ageGroup, message, null, Map.of(), totalUsers);
+    }
+    
+    /**
+     * 세그먼트 조건과 사용자 정의 필드 값이 있는 비동기 메시지 발송 처리 (대량 발송 전용 실행기에서 실행)
+     */
+    public CompletableFuture<Void> processMessageSendingAsync(UUID jobId, AgeGroup ageGroup, String message,
+                                                              String segment, Map<String, String> customFields,
+                                                              int totalUsers) {
         return CompletableFuture.runAsync(() -> {
-            try {
+            try (SpanTracer.Scope jobScope = spanTracer.bindJob(jobId)) {
                 log.info("비동기 메시지 발송 시작 - jobId: {}, totalUsers: {}", jobId, totalUsers);
                 
-                // 진행 상태 추적기 초기화
-                JobProgressTracker tracker = new JobProgressTracker(jobId, totalUsers);
+                // 수신자 ID 범위를 파티션으로 나누고, 대상 수신자를 한 번만 조회하여 스냅샷 파일로 고정
+                AgeRange ageRange = ageCalculationService.calculateAgeRange(ageGroup);
+                List<IdRange> partitions = userQueryService.planRecipientPartitions(ageRange);
+                AudienceSnapshot snapshot = audienceSnapshotService.create(
+                    jobId, ageRange, partitions, recipientFilter(jobId, ageGroup, segment));
                 
-                // 배치 처리로 사용자 조회 및 메시지 발송
-                batchProcessingService.processBatchWithCallback(
-                    ageGroup,
-                    users -> sendMessagesToUsers(jobId, users, message, tracker),
-                    progress -> logJobProgress(jobId, progress, tracker)
-                );
+                // 스냅샷이 준비된 뒤 작업 명세 저장 (재개 시 같은 스냅샷을 다시 사용)
+                BulkJobCheckpoint checkpoint = bulkJobCheckpointService.start(
+                    jobId, ageGroup, message, segment, customFields, totalUsers, partitions);
                 
-                // 최종 완료 처리
-                completeJob(jobId, tracker);
+                BulkJobProgress tracker = bulkJobRegistry.find(jobId)
+                    .orElseGet(() -> bulkJobRegistry.register(jobId, ageGroup, totalUsers));
+                runJob(checkpoint, tracker, snapshot);
                 
             } catch (Exception e) {
                 log.error("메시지 발송 중 오류 발생 - jobId: {}", jobId, e);
+                markFailed(jobId);
             }
-        });
+        }, bulkJobExecutor);
+    }
+    
+    /**
+     * 중단된 작업을 마지막 체크포인트부터 재개 (다른 작업과 동일하게 실행 허가를 받아 비동기로 실행)
+     */
+    public BulkJobAdmission resumeJob(BulkJobCheckpoint checkpoint) {
+        UUID jobId = checkpoint.getJobId();
+        
+        // 저장된 누적 카운터부터 이어서 집계
+        BulkJobProgress progress = bulkJobRegistry.register(checkpoint);
+        
+        return bulkJobScheduler.submit(progress, () -> CompletableFuture.runAsync(() -> {
+            try (SpanTracer.Scope jobScope = spanTracer.bindJob(jobId)) {
+                log.info("중단된 메시지 발송 작업 재개 - jobId: {}, 처리완료: {}/{}, 남은 파티션 수: {}", 
+                        jobId, checkpoint.getProcessedCount(), checkpoint.getTotalUsers(), 
+                        checkpoint.remainingPartitions().size());
+                
+                // 작업 시작 시 만든 스냅샷이 있으면 DB를 다시 조회하지 않고 이어서 발송
+                AudienceSnapshot snapshot = audienceSnapshotService.open(jobId).orElse(null);
+                if (snapshot == null) {
+                    log.warn("수신 대상 스냅샷이 없어 DB에서 다시 조회합니다 - jobId: {}", jobId);
+                }
+                runJob(checkpoint, progress, snapshot);
+                
+            } catch (Exception e) {
+                log.error("메시지 발송 작업 재개 중 오류 발생 - jobId: {}", jobId, e);
+                markFailed(jobId);
+            }
+        }, bulkJobExecutor));
+    }
+    
+    /**
+     * 체크포인트 이후 남은 파티션을 파이프라인으로 발송하고 작업 종료 상태를 저장
+     *
+     * @param snapshot 수신 대상 스냅샷 (없으면 DB에서 조회)
+     */
+    private void runJob(BulkJobCheckpoint checkpoint, BulkJobProgress tracker, AudienceSnapshot snapshot) {
+        UUID jobId = checkpoint.getJobId();
+        try {
+            // 조회 → 렌더링 → 큐 적재 파이프라인으로 발송
+            Consumer<List<RenderedMessage>> enqueueStage = renderedMessages -> {
+                sendMessagesToRecipients(jobId, renderedMessages, tracker);
+                bulkJobCheckpointService.recordProgress(checkpoint,
+                    renderedMessages.stream().map(RenderedMessage::recipient).toList(),
+                    tracker.getProcessedCount(), tracker.getSuccessCount(), tracker.getFailureCount());
+            };
+            // 템플릿은 작업당 한 번만 분석하고 수신자별로는 치환만 수행
+            CompiledTemplate template;
+            try (SpanTracer.Span span = spanTracer.start(SpanType.TEMPLATE_RENDER, "template.compile")) {
+                template = messageTemplateService.compile(
+                    checkpoint.getMessage(), checkpoint.getAgeGroup(), checkpoint.getCustomFields());
+            }
+            BulkSendPipeline.PipelineResult pipelineResult = snapshot != null
+                ? bulkSendPipeline.run(jobId, snapshot, checkpoint.remainingPartitions(), template, enqueueStage)
+                : bulkSendPipeline.run(jobId, ageCalculationService.calculateAgeRange(checkpoint.getAgeGroup()),
+                    checkpoint.remainingPartitions(), template,
+                    recipientFilter(jobId, checkpoint.getAgeGroup(), checkpoint.getSegment()), enqueueStage);
+            structuredLogger.logPipelineStages(jobId, pipelineResult);
+            
+            // 큐에 적재된 마지막 메시지가 처리된 시점에 최종 완료 처리
+            // (큐 처리 스레드에서 호출되므로 저장 작업은 작업 실행기에서 수행)
+            tracker.awaitDeliveries(() -> CompletableFuture
+                .runAsync(() -> completeJob(checkpoint, tracker), bulkJobExecutor)
+                .exceptionally(e -> {
+                    log.error("메시지 발송 작업 완료 처리 중 오류 발생 - jobId: {}", jobId, e);
+                    return null;
+                }));
+            
+        } catch (RuntimeException e) {
+            // 실패 상태로 종료하여 다음 기동 시 재개 대상에서 제외
+            bulkJobCheckpointService.complete(checkpoint, BulkMessageResponse.JobStatus.FAILED,
+                tracker.getProcessedCount(), tracker.getSuccessCount(), tracker.getFailureCount());
+            tracker.complete(BulkMessageResponse.JobStatus.FAILED);
+            throw e;
+        }
+    }
+    
+    /**
+     * 발송 대상 회원 ID 판별 함수 - 세그먼트 조건이 있으면 평가 시점의 색인으로 계산한 ID 집합
+     * (스냅샷 생성 시 한 번 적용되며, 스냅샷 없이 재개하는 경우에만 다시 평가)
+     */
+    private LongPredicate recipientFilter(UUID jobId, AgeGroup ageGroup, String segment) {
+        if (segment == null || segment.isBlank()) {
+            return id -> true;
+        }
+        IdBitmap audience = segmentIndex.evaluate(SegmentExpression.forAudience(ageGroup, segment));
+        log.info("세그먼트 대상 평가 - jobId: {}, 대상 수: {}", jobId, audience.cardinality());
+        return audience::contains;
+    }
+    
+    /**
+     * 파이프라인 시작 전 실패한 작업도 조회 시 실패로 보이도록 종료 처리
+     */
+    private void markFailed(UUID jobId) {
+        bulkJobRegistry.find(jobId)
+            .filter(progress -> !progress.isFinished())
+            .ifPresent(progress -> progress.complete(BulkMessageResponse.JobStatus.FAILED));
+        // 실패한 작업은 재개 대상이 아니므로 저장된 상태를 종료하고 스냅샷도 정리
+        bulkJobCheckpointService.fail(jobId);
+        audienceSnapshotService.release(jobId);
+        bulkJobScheduler.release(jobId);
     }
     
     /**
-     * 사용자 리스트에게 메시지 발송
+     * 템플릿이 적용된 수신자 메시지를 큐에 적재
      */
-    private void sendMessagesToUsers(UUID jobId, List<User> users, String message, JobProgressTracker tracker) {
+    private void sendMessagesToRecipients(UUID jobId, List<RenderedMessage> renderedMessages, BulkJobProgress tracker) {
         long batchStartTime = System.currentTimeMillis();
-        log.debug("배치 메시지 발송 - jobId: {}, userCount: {}", jobId, users.size());
+        long batchStartNanos = System.nanoTime();
+        long slotWaitNanos = 0;
+        log.debug("배치 메시지 발송 - jobId: {}, userCount: {}", jobId, renderedMessages.size());
         
         int batchSuccessCount = 0;
         int batchFailureCount = 0;
+        BulkJobAbortedException aborted = null;
         
-        for (User user : users) {
+        for (RenderedMessage renderedMessage : renderedMessages) {
+            Recipient recipient = renderedMessage.recipient();
             long messageStartTime = System.currentTimeMillis();
             
             try {
-                // FallbackMessageService를 통한 템플릿 적용 및 Fallback 발송
-                MessageSendResult result = fallbackMessageService.sendWithFallback(user, message);
+                if (renderedMessage.template() == null) {
+                    throw new IllegalArgumentException("템플릿 적용 실패");
+                }
+                
+                // 작업에 할당된 큐 슬롯 내에서만 적재 (다른 작업과 큐를 나눠 씀)
+                MessageSendResult result;
+                long slotWaitStart = System.nanoTime();
+                boolean slotAcquired = tracker.tryAcquireQueueSlot(slotWaitTimeoutMs());
+                slotWaitNanos += System.nanoTime() - slotWaitStart;
+                if (slotAcquired) {
+                    // 본문 대신 작업 공유 템플릿 참조를 적재 (발송 시점에 렌더링)
+                    result = fallbackMessageService.enqueueTemplated(
+                        jobId, recipient.name(), recipient.phoneNumber(), renderedMessage.template(), queueDeadline());
+                    if (result != MessageSendResult.QUEUED) {
+                        tracker.releaseQueueSlot();
+                    }
+                } else {
+                    result = MessageSendResult.QUEUE_FULL;
+                }
                 
                 long responseTime = System.currentTimeMillis() - messageStartTime;
                 
@@ -136,20 +350,28 @@ public class BulkMessageService {
                     batchFailureCount++;
                     
                     String errorMessage = "큐 용량 초과로 작업 중단: " + result.getDescription();
-                    structuredLogger.logMessageFailure(jobId, user.getPhoneNumber(), errorMessage, responseTime);
+                    structuredLogger.logMessageFailure(jobId, recipient.phoneNumber(), errorMessage, responseTime);
                     
                     log.error("큐가 가득참 - 대량 발송 작업 중단 - userId: {}, phone: {}, responseTime: {}ms", 
-                            user.getId(), maskPhoneNumber(user.getPhoneNumber()), responseTime);
+                            recipient.id(), maskPhoneNumber(recipient.phoneNumber()), responseTime);
                     
-                    // 큐가 가득 찬 경우 더 이상 발송하지 않고 실패로 처리
-                    throw new RuntimeException("큐 용량 초과로 인한 발송 실패");
+                    // 남은 수신자는 슬롯을 다시 기다리지 않고 배치 집계 후 작업을 실패로 중단
+                    aborted = new BulkJobAbortedException(jobId, "큐 용량 초과로 인한 발송 실패");
+                    
+                } else if (result == MessageSendResult.FREQUENCY_CAPPED) {
+                    // 최근 같은 번호로 발송된 메시지가 제한 수에 도달하여 생략 (실패로 집계하지 않음)
+                    tracker.incrementFrequencyCapped();
+                    
+                    log.trace("발송 빈도 제한으로 생략 - userId: {}, phone: {}", 
+                             recipient.id(), maskPhoneNumber(recipient.phoneNumber()));
                     
                 } else if (result.isSuccess()) {
                     tracker.incrementSuccess();
+                    tracker.incrementEnqueued();
                     batchSuccessCount++;
                     
                     log.trace("메시지 발송 성공 - userId: {}, phone: {}, result: {}, responseTime: {}ms", 
-                             user.getId(), maskPhoneNumber(user.getPhoneNumber()), result, responseTime);
+                             recipient.id(), maskPhoneNumber(recipient.phoneNumber()), result, responseTime);
                     
                 } else {
                     tracker.incrementFailure();
@@ -157,10 +379,10 @@ public class BulkMessageService {
                     
                     // 구조화된 에러 로그
                     String errorMessage = "발송 실패: " + result.getDescription();
-                    structuredLogger.logMessageFailure(jobId, user.getPhoneNumber(), errorMessage, responseTime);
+                    structuredLogger.logMessageFailure(jobId, recipient.phoneNumber(), errorMessage, responseTime);
                     
                     log.warn("메시지 발송 실패 - userId: {}, phone: {}, result: {}, responseTime: {}ms", 
-                            user.getId(), maskPhoneNumber(user.getPhoneNumber()), result, responseTime);
+                            recipient.id(), maskPhoneNumber(recipient.phoneNumber()), result, responseTime);
                 }
                 
             } catch (Exception e) {
@@ -169,48 +391,60 @@ public class BulkMessageService {
                 batchFailureCount++;
                 
                 // 구조화된 에러 로그
-                structuredLogger.logMessageFailure(jobId, user.getPhoneNumber(), e.getMessage(), responseTime);
+                structuredLogger.logMessageFailure(jobId, recipient.phoneNumber(), e.getMessage(), responseTime);
                 
                 log.warn("메시지 발송 중 예외 발생 - userId: {}, phone: {}, error: {}, responseTime: {}ms", 
-                        user.getId(), maskPhoneNumber(user.getPhoneNumber()), e.getMessage(), responseTime);
+                        recipient.id(), maskPhoneNumber(recipient.phoneNumber()), e.getMessage(), responseTime);
             }
             
             tracker.incrementProcessed();
+            if (aborted != null) {
+                break;
+            }
+        }
+        
+        // 큐 슬롯 대기와 나머지 적재 시간을 구분하여 기록 (메시지별이 아닌 배치당 한 번)
+        long batchNanos = System.nanoTime() - batchStartNanos;
+        if (slotWaitNanos > 0) {
+            spanTracer.record(jobId, SpanType.QUEUE_WAIT, "queue.slot-wait", batchStartNanos, slotWaitNanos);
         }
+        spanTracer.record(jobId, SpanType.QUEUE_ENQUEUE, "bulk.enqueue-batch", batchStartNanos,
+            batchNanos - slotWaitNanos);
         
         // 배치 처리 완료 로그
         long batchDuration = System.currentTimeMillis() - batchStartTime;
-        structuredLogger.logBatchProcessing(jobId, tracker.getBatchNumber(), users.size(), 
+        structuredLogger.logBatchProcessing(jobId, tracker.nextBatchNumber(), renderedMessages.size(), 
             batchDuration, batchSuccessCount, batchFailureCount);
-    }
-    
-    /**
-     * 작업 진행 상황 로그
-     */
-    private void logJobProgress(UUID jobId, BatchProcessingService.BatchProgress batchProgress, JobProgressTracker tracker) {
-        double progressPercentage = (double) tracker.getProcessedCount() / tracker.getTotalUsers() * 100.0;
         
-        log.debug("작업 진행 상황 - jobId: {}, progress: {:.1f}%, processed: {}/{}", 
-                 jobId, progressPercentage, tracker.getProcessedCount(), tracker.getTotalUsers());
+        // 수신자별 예외 처리에서 삼키지 않도록 배치 기록 후 파이프라인으로 전달
+        if (aborted != null) {
+            throw aborted;
+        }
     }
     
     /**
      * 작업 완료 처리
      */
-    private void completeJob(UUID jobId, JobProgressTracker tracker) {
+    private void completeJob(BulkJobCheckpoint checkpoint, BulkJobProgress tracker) {
+        UUID jobId = checkpoint.getJobId();
+        
+        // 큐 적재 실패와 큐 처리(외부 API) 실패를 합산
+        // 발송 기한 경과로 버린 메시지는 성공에서 빼되 실패로 보지 않음
+        int successCount = tracker.getSuccessCount() - tracker.getDeliveryFailureCount() - tracker.getExpiredCount();
+        int failureCount = tracker.getFailureCount() + tracker.getDeliveryFailureCount();
+        
         // 작업 상태 결정
         String finalStatus;
-        if (tracker.getFailureCount() == 0) {
+        if (failureCount == 0) {
             finalStatus = "COMPLETED";
-        } else if (tracker.getSuccessCount() > 0) {
+        } else if (successCount > 0) {
             finalStatus = "PARTIALLY_FAILED";
         } else {
             finalStatus = "FAILED";
         }
         
         log.info("메시지 발송 작업 완료 - jobId: {}, status: {}, total: {}, success: {}, failure: {}", 
-                jobId, finalStatus, tracker.getTotalUsers(), tracker.getSuccessCount(), 
-                tracker.getFailureCount());
+                jobId, finalStatus, tracker.getTotalUsers(), successCount, failureCount);
         
         // 구조화된 작업 완료 로그 (발송 통계 포함)
         MessageSendTracker.SendStatistics sendStats = messageSendTracker.getStatistics();
@@ -218,10 +452,36 @@ public class BulkMessageService {
             sendStats.kakaoSuccessCount(), sendStats.smsSuccessCount(), sendStats.failureCount());
             
         structuredLogger.logJobCompletion(jobId, finalStatus, 
-            tracker.getTotalUsers(), tracker.getSuccessCount(), tracker.getFailureCount(), 0L);
+            tracker.getTotalUsers(), successCount, failureCount, tracker.getElapsedMillis());
+        structuredLogger.logJobDeliveryLatency(jobId, tracker.snapshot().delivery());
+        
+        // 작업 종료 상태와 최종 체크포인트 저장
+        BulkMessageResponse.JobStatus jobStatus = BulkMessageResponse.JobStatus.valueOf(finalStatus);
+        bulkJobCheckpointService.complete(checkpoint, jobStatus,
+            tracker.getProcessedCount(), successCount, failureCount);
+        tracker.complete(jobStatus);
+        audienceSnapshotService.release(jobId);
+        
+        // 실행 자리를 반환하여 다음 대기 작업 시작
+        bulkJobScheduler.release(jobId);
     }
     
     
+    private long slotWaitTimeoutMs() {
+        return bulkMessageConfig.getAdmission().getSlotWaitTimeoutMs();
+    }
+    
+    /**
+     * 지금 적재하는 메시지의 발송 기한 (큐 최대 대기 시간 미설정 시 null)
+     */
+    private Instant queueDeadline() {
+        Duration maxAge = bulkMessageConfig.getQueueMaxAge();
+        if (maxAge == null || maxAge.isZero() || maxAge.isNegative()) {
+            return null;
+        }
+        return Instant.now().plus(maxAge);
+    }
+    
     /**
      * 빈 응답 생성 (사용자가 없는 경우)
      */
@@ -233,33 +493,6 @@ public class BulkMessageService {
         );
     }
     
-    /**
-     * 작업 진행 상태 추적기
-     */
-    private static class JobProgressTracker {
-        private final UUID jobId;
-        private final int totalUsers;
-        private final AtomicInteger processedCount = new AtomicInteger(0);
-        private final AtomicInteger successCount = new AtomicInteger(0);
-        private final AtomicInteger failureCount = new AtomicInteger(0);
-        private final AtomicInteger batchNumber = new AtomicInteger(0);
-        
-        public JobProgressTracker(UUID jobId, int totalUsers) {
-            this.jobId = jobId;
-            this.totalUsers = totalUsers;
-        }
-        
-        public void incrementProcessed() { processedCount.incrementAndGet(); }
-        public void incrementSuccess() { successCount.incrementAndGet(); }
-        public void incrementFailure() { failureCount.incrementAndGet(); }
-        public int getBatchNumber() { return batchNumber.incrementAndGet(); }
-        
-        public int getTotalUsers() { return totalUsers; }
-        public int getProcessedCount() { return processedCount.get(); }
-        public int getSuccessCount() { return successCount.get(); }
-        public int getFailureCount() { return failureCount.get(); }
-    }
-    
     /**
      * 전화번호를 마스킹합니다.
      */
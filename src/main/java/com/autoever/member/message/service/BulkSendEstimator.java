@@ -0,0 +1,187 @@
+package com.autoever.member.message.service;
+
+import com.autoever.member.message.ApiType;
+import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.BulkSendEstimate;
+import com.autoever.member.message.job.BulkJobProgress;
+import com.autoever.member.message.job.BulkJobRegistry;
+import com.autoever.member.message.queue.MessageQueueService;
+import com.autoever.member.message.ratelimit.ApiRateLimiter;
+import com.autoever.member.message.result.MessageSendTracker;
+import com.autoever.member.message.segment.SegmentExpression;
+import com.autoever.member.message.segment.SegmentIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대량 메시지 발송 예상치 산출 (dry run)
+ *
+ * 외부 API를 호출하지 않고 대상 수(메모리 집계, 세그먼트 조건이 있으면 색인 비트맵), 현재 큐 적재량, API별 Rate limit,
+ * 최근 관측된 API 성공률/응답 시간으로 채널별 발송량과 완료 시각을 추정.
+ * 큐 처리기의 동작(카카오톡 우선 → 실패·한도 초과 시 SMS)을 분 단위 정상 상태로 모델링함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkSendEstimator {
+
+    // 관측값을 신뢰하기 위한 최소 호출 수 (미만이면 기본값 사용)
+    private static final long MIN_OBSERVED_CALLS = 30;
+
+    // 관측 이력이 없을 때 가정하는 성공률
+    private static final double DEFAULT_SUCCESS_RATE = 1.0;
+
+    // 큐 처리기 폴링 간격(ms) - 메시지 1건당 최소 소요 시간
+    private static final double DISPATCH_INTERVAL_MS = 10.0;
+
+    private final UserQueryService userQueryService;
+    private final MessageQueueService messageQueueService;
+    private final ApiRateLimiter apiRateLimiter;
+    private final MessageSendTracker messageSendTracker;
+    private final BulkJobRegistry bulkJobRegistry;
+    private final SegmentIndex segmentIndex;
+
+    /**
+     * 연령대 대상 대량 발송의 예상 결과 산출
+     *
+     * @param ageGroup 대상 연령대
+     * @return 예상 결과
+     */
+    public BulkSendEstimate estimate(AgeGroup ageGroup) {
+        return estimate(ageGroup, null);
+    }
+
+    /**
+     * 세그먼트 조건이 있는 대량 발송의 예상 결과 산출 (대상 수는 발송 요청과 같은 방식으로 계산)
+     *
+     * @param ageGroup 대상 연령대
+     * @param segment 추가 대상 조건 (세그먼트 표현식, 없으면 null)
+     * @return 예상 결과
+     */
+    public BulkSendEstimate estimate(AgeGroup ageGroup, String segment) {
+        long audienceSize = segment == null || segment.isBlank()
+            ? userQueryService.countUsersByAgeGroup(ageGroup)
+            : segmentIndex.count(SegmentExpression.forAudience(ageGroup, segment));
+        long backlogAhead = backlogAhead();
+        Projection projection = project(audienceSize);
+
+        Duration duration = durationOf(backlogAhead + audienceSize, projection.throughputPerMinute());
+        long expectedSuccess = projection.kakao().projectedSuccess() + projection.sms().projectedSuccess();
+        double fallbackShare = expectedSuccess == 0 ? 0.0
+            : (double) projection.sms().projectedSuccess() / expectedSuccess * 100;
+
+        log.info("대량 발송 예상치 산출 - 연령대: {}, 세그먼트: {}, 대상: {}, 선행 적재량: {}, 분당 처리량: {}, 예상 소요: {}",
+            ageGroup, segment, audienceSize, backlogAhead, String.format("%.1f", projection.throughputPerMinute()), duration);
+
+        return new BulkSendEstimate(
+            ageGroup,
+            audienceSize,
+            backlogAhead,
+            projection.throughputPerMinute(),
+            duration,
+            LocalDateTime.now().plus(duration),
+            expectedSuccess,
+            audienceSize - expectedSuccess,
+            fallbackShare,
+            List.of(projection.kakao(), projection.sms())
+        );
+    }
+
+    /**
+     * 지정한 수의 메시지가 모두 처리되기까지 예상 소요 시간 (작업 시작 로그용)
+     *
+     * @param messageCount 발송할 메시지 수
+     * @return 예상 소요 시간
+     */
+    public Duration estimateDuration(long messageCount) {
+        return durationOf(backlogAhead() + messageCount, project(messageCount).throughputPerMinute());
+    }
+
+    /**
+     * 분당 정상 상태 처리 모델
+     *
+     * 분당 카카오톡 호출 수는 카카오톡 한도, 그중 실패분은 SMS로 Fallback되어 SMS 한도를 먼저 소모하고
+     * 남은 SMS 한도만큼 카카오톡 한도를 넘는 메시지가 바로 SMS로 발송됨.
+     * 처리기는 메시지를 한 건씩 동기 호출하므로 (폴링 간격 + 평균 응답 시간)도 처리량 상한이 됨
+     */
+    private Projection project(long messageCount) {
+        Channel kakao = channel(ApiType.KAKAOTALK);
+        Channel sms = channel(ApiType.SMS);
+
+        double kakaoPerMinute = kakao.limit();
+        double fallbackPerMinute = kakaoPerMinute * (1 - kakao.successRate());
+        double smsDirectPerMinute = Math.max(0, sms.limit() - fallbackPerMinute);
+        double rateLimitedThroughput = kakaoPerMinute + smsDirectPerMinute;
+
+        double callMillisPerMinute = kakaoPerMinute * kakao.meanLatencyMs()
+            + Math.min(sms.limit(), fallbackPerMinute + smsDirectPerMinute) * sms.meanLatencyMs();
+        double meanCallMillis = rateLimitedThroughput == 0 ? 0 : callMillisPerMinute / rateLimitedThroughput;
+        double dispatchThroughput = 60_000 / (DISPATCH_INTERVAL_MS + meanCallMillis);
+
+        double throughputPerMinute = Math.min(rateLimitedThroughput, dispatchThroughput);
+        double kakaoShare = throughputPerMinute == 0 ? 0 : Math.min(kakaoPerMinute, throughputPerMinute) / throughputPerMinute;
+
+        long kakaoVolume = Math.round(messageCount * kakaoShare);
+        long kakaoSuccess = Math.round(kakaoVolume * kakao.successRate());
+        long smsVolume = messageCount - kakaoSuccess;
+        long smsSuccess = Math.round(smsVolume * sms.successRate());
+
+        return new Projection(
+            throughputPerMinute,
+            kakao.toProjection(kakaoVolume, kakaoSuccess),
+            sms.toProjection(smsVolume, smsSuccess)
+        );
+    }
+
+    /**
+     * 채널별 적용 값 - Rate limit과 관측 성공률/응답 시간 (관측 이력이 부족하면 기본값)
+     */
+    private Channel channel(ApiType apiType) {
+        int limit = apiRateLimiter.getCurrentUsage(apiType).getLimit();
+        MessageSendTracker.ApiCallStatistics statistics = messageSendTracker.getApiCallStatistics(apiType);
+
+        if (statistics.getCallCount() < MIN_OBSERVED_CALLS) {
+            return new Channel(apiType, limit, DEFAULT_SUCCESS_RATE, 0.0, false);
+        }
+        return new Channel(apiType, limit, statistics.getSuccessRate(), statistics.getLatency().meanMs(), true);
+    }
+
+    /**
+     * 먼저 처리될 메시지 수 = 큐에 적재된 메시지 + 진행 중인 작업들의 아직 적재되지 않은 메시지
+     */
+    private long backlogAhead() {
+        long backlog = messageQueueService.getQueueStatus().getCurrentSize();
+        for (BulkJobProgress progress : bulkJobRegistry.getJobs()) {
+            if (!progress.isFinished()) {
+                backlog += Math.max(0, progress.getTotalUsers() - progress.getEnqueuedCount()
+                    - progress.getFailureCount() - progress.getFrequencyCappedCount());
+            }
+        }
+        return backlog;
+    }
+
+    private static Duration durationOf(long messageCount, double throughputPerMinute) {
+        if (messageCount == 0 || throughputPerMinute <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofSeconds((long) Math.ceil(messageCount / throughputPerMinute * 60));
+    }
+
+    private record Channel(ApiType apiType, int limit, double successRate, double meanLatencyMs, boolean observed) {
+
+        BulkSendEstimate.ChannelProjection toProjection(long volume, long success) {
+            return new BulkSendEstimate.ChannelProjection(apiType, limit, volume, success,
+                successRate, meanLatencyMs, observed);
+        }
+    }
+
+    private record Projection(double throughputPerMinute,
+                              BulkSendEstimate.ChannelProjection kakao,
+                              BulkSendEstimate.ChannelProjection sms) {
+    }
+}
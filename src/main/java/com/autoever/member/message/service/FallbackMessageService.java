@@ -5,17 +5,24 @@ import com.autoever.member.message.ApiType;
 import com.autoever.member.message.client.KakaoTalkApiClient;
 import com.autoever.member.message.client.MessageApiClient;
 import com.autoever.member.message.client.SmsApiClient;
+import com.autoever.member.message.logging.LogSampler;
 import com.autoever.member.message.ratelimit.ApiRateLimiter;
+import com.autoever.member.message.ratelimit.RecipientFrequencyCap;
 import com.autoever.member.message.queue.MessageQueueService;
 import com.autoever.member.message.dto.MessageRequest;
 import com.autoever.member.message.dto.MessageResponse;
 import com.autoever.member.message.result.MessageSendResult;
 import com.autoever.member.message.result.MessageSendTracker;
+import com.autoever.member.message.template.CompiledTemplate;
 import com.autoever.member.message.template.MessageTemplateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.UUID;
+
 /**
  * 카카오톡 발송 실패 시 SMS로 자동 전환하는 Fallback 메커니즘을 구현하는 서비스
  */
@@ -24,12 +31,15 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class FallbackMessageService {
 
+    private static final LogSampler sampler = LogSampler.of(log);
+
     private final KakaoTalkApiClient kakaoTalkApiClient;
     private final SmsApiClient smsApiClient;
     private final MessageTemplateService messageTemplateService;
     private final MessageSendTracker messageSendTracker;
     private final ApiRateLimiter apiRateLimiter;
     private final MessageQueueService messageQueueService;
+    private final RecipientFrequencyCap recipientFrequencyCap;
 
     /**
      * 템플릿이 적용된 메시지를 Fallback 메커니즘과 함께 발송합니다.
@@ -49,31 +59,24 @@ public class FallbackMessageService {
             throw new IllegalArgumentException("메시지 내용은 필수입니다");
         }
 
-        String maskedPhone = maskPhoneNumber(user.getPhoneNumber());
-        
-        log.info("메시지 발송 요청 - 수신자: {}, 메시지 길이: {}", maskedPhone, originalMessage.length());
+        if (sampler.sample(Level.INFO, "메시지 발송 요청")) {
+            log.info("메시지 발송 요청 - 수신자: {}, 메시지 길이: {}",
+                maskPhoneNumber(user.getPhoneNumber()), originalMessage.length());
+        }
 
-        // 1. 템플릿 적용
-        long templateStartTime = System.currentTimeMillis();
-        String templatedMessage = messageTemplateService.applyTemplate(user, originalMessage);
-        long templateDuration = System.currentTimeMillis() - templateStartTime;
-        
-        log.info("템플릿 적용 완료 - 처리시간: {}ms, 템플릿 후 길이: {}", 
-            templateDuration, templatedMessage.length());
+        // 1. 수신자별 발송 빈도 제한 확인 (제한 초과 시 템플릿 적용도 생략)
+        int permit = recipientFrequencyCap.tryAcquire(user.getPhoneNumber());
+        if (permit == RecipientFrequencyCap.CAPPED) {
+            return frequencyCapped(user.getPhoneNumber());
+        }
+
+        // 2. 인사말 템플릿 분석 (본문은 그대로, 같은 메시지면 공유 템플릿 재사용, 렌더링은 발송 시점에 수행)
+        CompiledTemplate template = compileFor(user.getName(), user.getPhoneNumber(), originalMessage, permit);
 
-        // 2. 큐에 추가 시도 (카카오톡 우선)
+        // 3. 큐에 추가 시도 (카카오톡 우선)
         MessageQueueService.QueueResult queueResult = messageQueueService.enqueue(
-            user.getName(), user.getPhoneNumber(), templatedMessage, ApiType.KAKAOTALK);
-        
-        if (queueResult.isSuccess()) {
-            log.info("메시지 큐에 추가 완료 - QueueId: {}, Position: {}", 
-                queueResult.getQueueId(), queueResult.getQueuePosition());
-            return MessageSendResult.QUEUED;
-        } else {
-            log.error("큐 용량 초과 - {}", queueResult.getMessage());
-            messageSendTracker.recordResult(MessageSendResult.QUEUE_FULL, ApiType.KAKAOTALK);
-            return MessageSendResult.QUEUE_FULL;
-        }
+            null, user.getName(), user.getPhoneNumber(), template, ApiType.KAKAOTALK, null, permit);
+        return toSendResult(user.getPhoneNumber(), permit, queueResult);
     }
 
     /**
@@ -97,34 +100,85 @@ public class FallbackMessageService {
             throw new IllegalArgumentException("메시지 내용은 필수입니다");
         }
 
-        String maskedPhone = maskPhoneNumber(phoneNumber);
-        
-        log.info("메시지 발송 요청 - 수신자: {}, 회원명: {}, 메시지 길이: {}", 
-            maskedPhone, memberName, originalMessage.length());
+        if (sampler.sample(Level.INFO, "메시지 발송 요청")) {
+            log.info("메시지 발송 요청 - 수신자: {}, 회원명: {}, 메시지 길이: {}", 
+                maskPhoneNumber(phoneNumber), memberName, originalMessage.length());
+        }
 
-        // 1. 템플릿 적용
-        long templateStartTime = System.currentTimeMillis();
-        String templatedMessage = messageTemplateService.applyTemplate(memberName, originalMessage);
-        long templateDuration = System.currentTimeMillis() - templateStartTime;
-        
-        log.info("템플릿 적용 완료 - 처리시간: {}ms, 템플릿 후 길이: {}", 
-            templateDuration, templatedMessage.length());
+        // 1. 수신자별 발송 빈도 제한 확인 (제한 초과 시 템플릿 적용도 생략)
+        int permit = recipientFrequencyCap.tryAcquire(phoneNumber);
+        if (permit == RecipientFrequencyCap.CAPPED) {
+            return frequencyCapped(phoneNumber);
+        }
+
+        // 2. 인사말 템플릿 분석 (본문은 그대로, 같은 메시지면 공유 템플릿 재사용, 렌더링은 발송 시점에 수행)
+        CompiledTemplate template = compileFor(memberName, phoneNumber, originalMessage, permit);
 
-        // 2. 큐에 추가 시도 (카카오톡 우선)
+        // 3. 큐에 추가 시도 (카카오톡 우선)
         MessageQueueService.QueueResult queueResult = messageQueueService.enqueue(
-            memberName, phoneNumber, templatedMessage, ApiType.KAKAOTALK);
-        
+            null, memberName, phoneNumber, template, ApiType.KAKAOTALK, null, permit);
+        return toSendResult(phoneNumber, permit, queueResult);
+    }
+
+    /**
+     * 대량 발송 작업의 메시지를 공유 템플릿 참조로 큐에 추가합니다.
+     * 본문은 발송 시점에 렌더링되므로 큐 대기 중에는 수신자 정보만 보관합니다.
+     * 
+     * @param jobId 대량 발송 작업 ID
+     * @param memberName 회원 이름
+     * @param phoneNumber 전화번호
+     * @param template 작업 시작 시 분석한 템플릿 (렌더링 단계에서 수신자 정보 검증 완료)
+     * @param expiresAt 발송 기한 (null이면 기한 없음)
+     * @return 큐 적재 결과
+     */
+    public MessageSendResult enqueueTemplated(UUID jobId, String memberName, String phoneNumber, CompiledTemplate template,
+                                              Instant expiresAt) {
+        int permit = recipientFrequencyCap.tryAcquire(phoneNumber);
+        if (permit == RecipientFrequencyCap.CAPPED) {
+            return frequencyCapped(phoneNumber);
+        }
+        MessageQueueService.QueueResult queueResult = messageQueueService.enqueue(
+            jobId, memberName, phoneNumber, template, ApiType.KAKAOTALK, expiresAt, permit);
+        return toSendResult(phoneNumber, permit, queueResult);
+    }
+
+    /**
+     * 템플릿을 분석하고 수신자 정보로 렌더링할 수 있는지 확인 (실패 시 빈도 제한 집계에서 제외)
+     */
+    private CompiledTemplate compileFor(String memberName, String phoneNumber, String originalMessage, int permit) {
+        try {
+            CompiledTemplate template = messageTemplateService.compile(originalMessage);
+            template.validate(memberName);
+            return template;
+        } catch (RuntimeException e) {
+            recipientFrequencyCap.release(phoneNumber, permit);
+            throw e;
+        }
+    }
+
+    private MessageSendResult toSendResult(String phoneNumber, int permit, MessageQueueService.QueueResult queueResult) {
         if (queueResult.isSuccess()) {
-            log.info("메시지 큐에 추가 완료 - QueueId: {}, Position: {}", 
-                queueResult.getQueueId(), queueResult.getQueuePosition());
+            if (sampler.sample(Level.INFO, "메시지 큐에 추가 완료")) {
+                log.info("메시지 큐에 추가 완료 - QueueId: {}, Position: {}", 
+                    queueResult.getQueueId(), queueResult.getQueuePosition());
+            }
             return MessageSendResult.QUEUED;
         } else {
             log.error("큐 용량 초과 - {}", queueResult.getMessage());
+            // 발송되지 않았으므로 빈도 제한 집계에서 제외
+            recipientFrequencyCap.release(phoneNumber, permit);
             messageSendTracker.recordResult(MessageSendResult.QUEUE_FULL, ApiType.KAKAOTALK);
             return MessageSendResult.QUEUE_FULL;
         }
     }
 
+    private MessageSendResult frequencyCapped(String phoneNumber) {
+        if (sampler.sample(Level.DEBUG, "수신자 발송 빈도 제한 초과")) {
+            log.debug("수신자 발송 빈도 제한 초과 - 큐 적재 생략, 수신자: {}", maskPhoneNumber(phoneNumber));
+        }
+        return MessageSendResult.FREQUENCY_CAPPED;
+    }
+
     /**
      * KakaoTalk 발송을 시도합니다.
      * 
@@ -136,18 +190,24 @@ public class FallbackMessageService {
         long startTime = System.currentTimeMillis();
         
         try {
-            log.debug("KakaoTalk API 호출 시작 - 메시지 길이: {}", message.length());
+            if (sampler.sample(Level.DEBUG, "KakaoTalk API 호출 시작")) {
+                log.debug("KakaoTalk API 호출 시작 - 메시지 길이: {}", message.length());
+            }
             
             // 1. Rate Limiting 사전 검사 - Mock 서버에 불필요한 요청 방지
             if (!apiRateLimiter.tryAcquire(ApiType.KAKAOTALK)) {
                 ApiRateLimiter.RateLimitInfo rateLimitInfo = apiRateLimiter.getCurrentUsage(ApiType.KAKAOTALK);
-                log.warn("KakaoTalk Rate Limit 초과 - Mock 서버 호출 생략: {}", rateLimitInfo);
+                if (sampler.sample(Level.WARN, "KakaoTalk Rate Limit 초과")) {
+                    log.warn("KakaoTalk Rate Limit 초과 - Mock 서버 호출 생략: {}", rateLimitInfo);
+                }
                 return MessageSendResult.RATE_LIMITED;
             }
             
             // 2. 클라이언트 연결 상태 확인
             if (!kakaoTalkApiClient.isAvailable()) {
-                log.warn("KakaoTalk 클라이언트 사용 불가 - 연결 상태 불량");
+                if (sampler.sample(Level.WARN, "KakaoTalk 클라이언트 사용 불가")) {
+                    log.warn("KakaoTalk 클라이언트 사용 불가 - 연결 상태 불량");
+                }
                 return MessageSendResult.FAILED_BOTH;
             }
 
@@ -157,16 +217,22 @@ public class FallbackMessageService {
             long duration = System.currentTimeMillis() - startTime;
 
             if (response.success()) {
-                log.debug("KakaoTalk API 호출 성공 - 처리시간: {}ms, messageId: {}", 
-                    duration, response.messageId());
+                if (sampler.sample(Level.DEBUG, "KakaoTalk API 호출 성공")) {
+                    log.debug("KakaoTalk API 호출 성공 - 처리시간: {}ms, messageId: {}", 
+                        duration, response.messageId());
+                }
                 return MessageSendResult.SUCCESS_KAKAO;
             } else {
-                log.warn("KakaoTalk API 호출 실패 - 처리시간: {}ms, errorCode: {}, errorMessage: {}", 
-                    duration, response.errorCode(), response.errorMessage());
+                if (sampler.sample(Level.WARN, "KakaoTalk API 호출 실패")) {
+                    log.warn("KakaoTalk API 호출 실패 - 처리시간: {}ms, errorCode: {}, errorMessage: {}", 
+                        duration, response.errorCode(), response.errorMessage());
+                }
                 
                 // Rate Limiting 상태 확인
                 if ("RATE_LIMIT_EXCEEDED".equals(response.errorCode())) {
-                    log.info("KakaoTalk Rate Limit 초과 - 다음 API로 전환");
+                    if (sampler.sample(Level.INFO, "KakaoTalk Rate Limit 초과 - 다음 API로 전환")) {
+                        log.info("KakaoTalk Rate Limit 초과 - 다음 API로 전환");
+                    }
                     return MessageSendResult.RATE_LIMITED;
                 }
                 
@@ -192,18 +258,24 @@ public class FallbackMessageService {
         long startTime = System.currentTimeMillis();
         
         try {
-            log.debug("SMS API 호출 시작 - 메시지 길이: {}", message.length());
+            if (sampler.sample(Level.DEBUG, "SMS API 호출 시작")) {
+                log.debug("SMS API 호출 시작 - 메시지 길이: {}", message.length());
+            }
             
             // 1. Rate Limiting 사전 검사 - Mock 서버에 불필요한 요청 방지
             if (!apiRateLimiter.tryAcquire(ApiType.SMS)) {
                 ApiRateLimiter.RateLimitInfo rateLimitInfo = apiRateLimiter.getCurrentUsage(ApiType.SMS);
-                log.warn("SMS Rate Limit 초과 - Mock 서버 호출 생략: {}", rateLimitInfo);
+                if (sampler.sample(Level.WARN, "SMS Rate Limit 초과")) {
+                    log.warn("SMS Rate Limit 초과 - Mock 서버 호출 생략: {}", rateLimitInfo);
+                }
                 return MessageSendResult.RATE_LIMITED;
             }
             
             // 2. 클라이언트 연결 상태 확인
             if (!smsApiClient.isAvailable()) {
-                log.warn("SMS 클라이언트 사용 불가 - 연결 상태 불량");
+                if (sampler.sample(Level.WARN, "SMS 클라이언트 사용 불가")) {
+                    log.warn("SMS 클라이언트 사용 불가 - 연결 상태 불량");
+                }
                 return MessageSendResult.FAILED_BOTH;
             }
 
@@ -213,16 +285,22 @@ public class FallbackMessageService {
             long duration = System.currentTimeMillis() - startTime;
 
             if (response.success()) {
-                log.debug("SMS API 호출 성공 - 처리시간: {}ms, messageId: {}", 
-                    duration, response.messageId());
+                if (sampler.sample(Level.DEBUG, "SMS API 호출 성공")) {
+                    log.debug("SMS API 호출 성공 - 처리시간: {}ms, messageId: {}", 
+                        duration, response.messageId());
+                }
                 return MessageSendResult.SUCCESS_SMS_FALLBACK;
             } else {
-                log.warn("SMS API 호출 실패 - 처리시간: {}ms, errorCode: {}, errorMessage: {}", 
-                    duration, response.errorCode(), response.errorMessage());
+                if (sampler.sample(Level.WARN, "SMS API 호출 실패")) {
+                    log.warn("SMS API 호출 실패 - 처리시간: {}ms, errorCode: {}, errorMessage: {}", 
+                        duration, response.errorCode(), response.errorMessage());
+                }
                 
                 // Rate Limiting 상태 확인
                 if ("RATE_LIMIT_EXCEEDED".equals(response.errorCode())) {
-                    log.info("SMS Rate Limit 초과 - 모든 채널 소진");
+                    if (sampler.sample(Level.INFO, "SMS Rate Limit 초과 - 모든 채널 소진")) {
+                        log.info("SMS Rate Limit 초과 - 모든 채널 소진");
+                    }
                     return MessageSendResult.RATE_LIMITED;
                 }
                 
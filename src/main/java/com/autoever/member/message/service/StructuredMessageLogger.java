@@ -1,40 +1,43 @@
 package com.autoever.member.message.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.autoever.member.message.dto.BulkJobStatusResponse;
+import com.autoever.member.message.event.StructuredEvent;
+import com.autoever.member.message.event.StructuredEventSink;
+import com.autoever.member.message.pipeline.BulkSendPipeline;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.slf4j.MDC;
+import org.slf4j.event.Level;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
 /**
  * 구조화된 메시지 로깅 서비스
+ * 
+ * 호출 스레드에서는 필드만 모아 {@link StructuredEventSink}에 넘기고,
+ * 시각 포맷과 JSON 직렬화, 파일/로그 출력은 기록 스레드에서 배치로 처리합니다.
  */
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StructuredMessageLogger {
     
-    private final ObjectMapper objectMapper;
-    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+    private final StructuredEventSink eventSink;
     
     /**
      * 작업 시작 로그
+     * 
+     * @param estimatedDuration 예상 소요 시간 (BulkSendEstimator 산출값)
      */
-    public void logJobStart(UUID jobId, String ageGroup, String message, int totalUsers) {
+    public void logJobStart(UUID jobId, String ageGroup, String message, int totalUsers, Duration estimatedDuration) {
         Map<String, Object> logData = createBaseLogData("JOB_START", jobId.toString());
         logData.put("ageGroup", ageGroup);
         logData.put("messageLength", message.length());
         logData.put("totalUsers", totalUsers);
-        logData.put("estimatedDuration", calculateEstimatedDuration(totalUsers));
+        logData.put("estimatedDuration", formatDuration(estimatedDuration));
         
-        logStructured("info", "대량 메시지 발송 작업 시작", logData);
+        logStructured(Level.INFO, "대량 메시지 발송 작업 시작", logData);
     }
     
     /**
@@ -50,7 +53,7 @@ public class StructuredMessageLogger {
         logData.put("successRate", successCount + failureCount > 0 ? (double) successCount / (successCount + failureCount) * 100 : 0);
         logData.put("throughputPerSecond", durationMs > 0 ? (double) batchSize / durationMs * 1000 : 0);
         
-        logStructured("info", "배치 처리 완료", logData);
+        logStructured(Level.INFO, "배치 처리 완료", logData);
     }
     
     /**
@@ -62,7 +65,7 @@ public class StructuredMessageLogger {
         logData.put("errorMessage", errorMessage);
         logData.put("responseTimeMs", responseTimeMs);
         
-        logStructured("warn", "메시지 발송 실패", logData);
+        logStructured(Level.WARN, "메시지 발송 실패", logData);
     }
     
     
@@ -79,10 +82,47 @@ public class StructuredMessageLogger {
         logData.put("durationMs", durationMs);
         logData.put("averageTimePerMessage", totalUsers > 0 ? (double) durationMs / totalUsers : 0);
         
-        String level = failureCount > successCount ? "warn" : "info";
+        Level level = failureCount > successCount ? Level.WARN : Level.INFO;
         logStructured(level, "대량 메시지 발송 작업 완료", logData);
     }
     
+    /**
+     * 작업별 큐 대기 및 발송 지연 분포 로그
+     */
+    public void logJobDeliveryLatency(UUID jobId, BulkJobStatusResponse.DeliveryStats delivery) {
+        Map<String, Object> logData = createBaseLogData("JOB_DELIVERY_LATENCY", jobId.toString());
+        logData.put("enqueuedCount", delivery.enqueuedCount());
+        logData.put("deliveredCount", delivery.deliveredCount());
+        logData.put("deliveryFailureCount", delivery.deliveryFailureCount());
+        logData.put("frequencyCappedCount", delivery.frequencyCappedCount());
+        logData.put("expiredCount", delivery.expiredCount());
+        logData.put("queueWait", delivery.queueWait());
+        logData.put("sendLatency", delivery.sendLatency());
+        
+        logStructured(Level.INFO, "대량 메시지 발송 지연 시간 분포", logData);
+    }
+    
+    /**
+     * 발송 파이프라인 단계별 지표 로그
+     */
+    public void logPipelineStages(UUID jobId, BulkSendPipeline.PipelineResult pipelineResult) {
+        Map<String, Object> logData = createBaseLogData("PIPELINE_STAGES", jobId.toString());
+        logData.put("processedItems", pipelineResult.processedItems());
+        logData.put("durationMs", pipelineResult.durationMs());
+        logData.put("stages", pipelineResult.stages().stream()
+            .map(stage -> Map.of(
+                "stage", stage.stage(),
+                "processedItems", stage.processedItems(),
+                "throughputPerSecond", stage.throughputPerSecond(),
+                "queueDepth", stage.queueDepth(),
+                "inputStallMs", stage.inputStallMillis(),
+                "outputStallMs", stage.outputStallMillis()
+            ))
+            .toList());
+        
+        logStructured(Level.INFO, "발송 파이프라인 단계 지표", logData);
+    }
+    
     /**
      * 시스템 리소스 상태 로그
      */
@@ -102,7 +142,26 @@ public class StructuredMessageLogger {
         logData.put("currentBatchSize", currentBatchSize);
         logData.put("memoryUsage", getMemoryUsage());
         
-        logStructured("debug", "시스템 리소스 상태", logData);
+        logStructured(Level.DEBUG, "시스템 리소스 상태", logData);
+    }
+
+    /**
+     * 작업별 조회/서브 배치 크기 조정 로그
+     */
+    public void logBatchSizing(BatchSizeController.Adjustment adjustment) {
+        Map<String, Object> logData = createBaseLogData("BATCH_SIZING",
+            adjustment.jobId() != null ? adjustment.jobId().toString() : null);
+        logData.put("reason", adjustment.reason().name());
+        logData.put("previousPageSize", adjustment.previousPageSize());
+        logData.put("pageSize", adjustment.pageSize());
+        logData.put("subBatchSize", adjustment.subBatchSize());
+        logData.put("projectedFetchMs", adjustment.projectedFetchMs());
+        logData.put("queueFreeSlots", adjustment.load().queueFreeSlots());
+        logData.put("queueCapacity", adjustment.load().queueCapacity());
+        logData.put("executorIdleThreads", adjustment.load().executorIdleThreads());
+        logData.put("executorQueueDepth", adjustment.load().executorQueueDepth());
+
+        logStructured(Level.INFO, "배치 크기 조정", logData);
     }
     
     
@@ -116,15 +175,14 @@ public class StructuredMessageLogger {
         logData.put("errorMessage", error.getMessage());
         logData.put("stackTrace", getStackTraceAsString(error));
         
-        logStructured("error", "작업 중 오류 발생", logData);
+        logStructured(Level.ERROR, "작업 중 오류 발생", logData);
     }
     
     /**
-     * 기본 로그 데이터 생성
+     * 기본 로그 데이터 생성 (timestamp는 기록 스레드에서 발생 시각으로 추가)
      */
     private Map<String, Object> createBaseLogData(String eventType, String jobId) {
         Map<String, Object> logData = new HashMap<>();
-        logData.put("timestamp", LocalDateTime.now().format(TIMESTAMP_FORMATTER));
         logData.put("eventType", eventType);
         logData.put("service", "BulkMessageService");
         if (jobId != null) {
@@ -135,29 +193,15 @@ public class StructuredMessageLogger {
     
     /**
      * 구조화된 로그 출력
+     * 기록할 대상(파일 또는 이 클래스 로거의 활성 레벨)이 없으면 이벤트를 만들지 않으며,
+     * 버퍼가 가득 차면 설정된 정책에 따라 버려집니다.
      */
-    private void logStructured(String level, String message, Map<String, Object> data) {
-        try {
-            String jsonData = objectMapper.writeValueAsString(data);
-            
-            // MDC에 jobId 설정 (로그 추적용)
-            if (data.containsKey("jobId")) {
-                MDC.put("jobId", data.get("jobId").toString());
-            }
-            
-            switch (level.toLowerCase()) {
-                case "debug" -> log.debug("{} | {}", message, jsonData);
-                case "info" -> log.info("{} | {}", message, jsonData);
-                case "warn" -> log.warn("{} | {}", message, jsonData);
-                case "error" -> log.error("{} | {}", message, jsonData);
-                default -> log.info("{} | {}", message, jsonData);
-            }
-        } catch (JsonProcessingException e) {
-            log.error("구조화된 로그 생성 실패: {}", e.getMessage());
-            log.info(message); // 폴백으로 일반 로그 출력
-        } finally {
-            MDC.clear();
+    private void logStructured(Level level, String message, Map<String, Object> data) {
+        if (!eventSink.isEnabled(level)) {
+            return;
         }
+        eventSink.publish(new StructuredEvent(
+            System.currentTimeMillis(), level, message, (String) data.get("eventType"), data));
     }
     
     /**
@@ -171,11 +215,14 @@ public class StructuredMessageLogger {
     }
     
     /**
-     * 예상 소요 시간 계산
+     * 예상 소요 시간 표기
      */
-    private String calculateEstimatedDuration(int totalUsers) {
-        // 사용자 1000명당 약 1분으로 가정
-        long estimatedMinutes = totalUsers / 1000 + 1;
+    private String formatDuration(Duration duration) {
+        if (duration == null) {
+            return "알 수 없음";
+        }
+        // 분 단위 올림
+        long estimatedMinutes = (duration.toSeconds() + 59) / 60;
         if (estimatedMinutes < 60) {
             return estimatedMinutes + "분";
         } else {
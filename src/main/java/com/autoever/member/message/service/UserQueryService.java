@@ -1,8 +1,14 @@
 package com.autoever.member.message.service;
 
 import com.autoever.member.entity.User;
+import com.autoever.member.message.config.BulkMessageConfig;
 import com.autoever.member.message.dto.AgeGroup;
 import com.autoever.member.message.dto.AgeRange;
+import com.autoever.member.message.dto.IdRange;
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.message.trace.SpanTracer;
+import com.autoever.member.message.trace.SpanType;
+import com.autoever.member.repository.RecipientCursorRepository;
 import com.autoever.member.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,10 +16,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 사용자 조회 서비스
@@ -26,6 +40,11 @@ public class UserQueryService {
     
     private final UserRepository userRepository;
     private final AgeCalculationService ageCalculationService;
+    private final RecipientCursorRepository recipientCursorRepository;
+    private final BulkMessageConfig bulkMessageConfig;
+    private final AudienceHistogramService audienceHistogramService;
+    private final AudiencePartitionExecutor audiencePartitionExecutor;
+    private final SpanTracer spanTracer;
     
     // 기본 배치 크기
     private static final int DEFAULT_BATCH_SIZE = 1000;
@@ -41,13 +60,17 @@ public class UserQueryService {
     
     /**
      * 연령대별 사용자 수 조회
+     * DB 집계 대신 메모리 집계(출생연도 히스토그램)로 응답
      * 
      * @param ageGroup 연령대
      * @return 해당 연령대의 사용자 수
      */
     public int countUsersByAgeGroup(AgeGroup ageGroup) {
         AgeRange ageRange = ageCalculationService.calculateAgeRange(ageGroup);
-        long count = countUsersByAgeRange(ageRange);
+        long count;
+        try (SpanTracer.Span span = spanTracer.start(SpanType.AUDIENCE_QUERY, "query.count")) {
+            count = audienceHistogramService.countByAgeRange(ageRange);
+        }
         
         log.debug("연령대별 사용자 수 조회 - 연령대: {}, 사용자 수: {}", ageGroup, count);
         
@@ -79,25 +102,286 @@ public class UserQueryService {
      * @param batchProcessor 각 배치를 처리할 함수
      */
     public void processUsersByAgeRangeInBatches(AgeRange ageRange, int batchSize, Consumer<List<User>> batchProcessor) {
-        int pageNumber = 0;
+        processUsersByAgeRangeInBatches(ageRange, BatchSizeController.fixed(batchSize, batchSize), batchProcessor);
+    }
+    
+    /**
+     * 연령대별 사용자를 배치 단위로 처리 (작업별 배치 크기 자동 조정)
+     * 페이지 크기가 바뀌어도 OFFSET이 새 크기의 배수가 되도록 맞춰 조회하므로 누락/중복 없이 이어서 읽음
+     * 
+     * @param ageRange 연령 범위
+     * @param batchSizeController 페이지 크기 제어기 (조회 시간을 반영)
+     * @param batchProcessor 각 배치를 처리할 함수
+     */
+    public void processUsersByAgeRangeInBatches(AgeRange ageRange, BatchSizeController batchSizeController,
+                                                Consumer<List<User>> batchProcessor) {
+        long offset = 0;
+        int pageCount = 0;
         Page<User> page;
         
-        log.info("연령대 {} 사용자 배치 처리 시작 - 배치 크기: {}", ageRange, batchSize);
+        log.info("연령대 {} 사용자 배치 처리 시작 - 배치 크기: {}", ageRange, batchSizeController.pageSize());
         
         do {
-            Pageable pageable = PageRequest.of(pageNumber, batchSize);
+            int pageSize = batchSizeController.pageSizeAt(offset);
+            Pageable pageable = PageRequest.of((int) (offset / pageSize), pageSize);
+            long fetchStart = System.nanoTime();
             page = getUsersByAgeRange(ageRange, pageable);
+            long fetchNanos = System.nanoTime() - fetchStart;
+            batchSizeController.recordFetch(page.getNumberOfElements(), fetchNanos);
+            spanTracer.record(SpanType.PAGE_FETCH, "query.page", fetchStart, fetchNanos);
             
             if (!page.isEmpty()) {
-                log.debug("페이지 {} 처리 중 - 사용자 수: {}", pageNumber, page.getNumberOfElements());
+                log.debug("페이지 {} 처리 중 - 사용자 수: {}", pageCount, page.getNumberOfElements());
                 batchProcessor.accept(page.getContent());
             }
             
-            pageNumber++;
+            offset += page.getNumberOfElements();
+            pageCount++;
         } while (page.hasNext());
         
         log.info("연령대 {} 사용자 배치 처리 완료 - 총 페이지: {}, 총 사용자: {}", 
-                ageRange, pageNumber, page.getTotalElements());
+                ageRange, pageCount, page.getTotalElements());
+    }
+    
+    /**
+     * 연령대별 수신자 프로젝션을 전방향 커서로 조회
+     * 영속성 컨텍스트 없이 JDBC fetch size 단위로 읽으므로 대상자가 많아도 힙 사용량이 일정함.
+     * 반환된 스트림은 커넥션을 점유하므로 호출자가 반드시 닫아야 함 (try-with-resources)
+     * 
+     * @param ageRange 연령 범위
+     * @return 수신자 스트림
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Stream<Recipient> openRecipientCursor(AgeRange ageRange) {
+        int fetchSize = bulkMessageConfig.getFetchSize();
+        log.debug("연령대 {} 수신자 커서 오픈 - fetchSize: {}", ageRange, fetchSize);
+        return recipientCursorRepository.streamByAgeRange(ageRange.getMinAge(), ageRange.getMaxAge(), fetchSize);
+    }
+    
+    /**
+     * 연령대별 수신자를 커서로 스트리밍하며 배치 단위로 처리
+     * 
+     * @param ageRange 연령 범위
+     * @param batchProcessor 각 배치를 처리할 함수
+     * @return 처리된 수신자 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long processRecipientsByAgeRangeInBatches(AgeRange ageRange, Consumer<List<Recipient>> batchProcessor) {
+        return processRecipientsByAgeRangeInBatches(ageRange, DEFAULT_BATCH_SIZE, batchProcessor);
+    }
+    
+    /**
+     * 연령대별 수신자를 커서로 스트리밍하며 배치 단위로 처리 (배치 크기 지정)
+     * 
+     * @param ageRange 연령 범위
+     * @param batchSize 배치 크기
+     * @param batchProcessor 각 배치를 처리할 함수
+     * @return 처리된 수신자 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long processRecipientsByAgeRangeInBatches(AgeRange ageRange, int batchSize, 
+                                                     Consumer<List<Recipient>> batchProcessor) {
+        return processRecipientsByAgeRangeInBatches(ageRange, BatchSizeController.fixed(batchSize, batchSize), batchProcessor);
+    }
+    
+    /**
+     * 연령대별 수신자를 커서로 스트리밍하며 배치 단위로 처리 (작업별 배치 크기 자동 조정)
+     * 
+     * @param ageRange 연령 범위
+     * @param batchSizeController 배치 크기 제어기 (커서 조회 시간을 반영)
+     * @param batchProcessor 각 배치를 처리할 함수
+     * @return 처리된 수신자 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long processRecipientsByAgeRangeInBatches(AgeRange ageRange, BatchSizeController batchSizeController,
+                                                     Consumer<List<Recipient>> batchProcessor) {
+        log.info("연령대 {} 수신자 스트리밍 처리 시작 - 배치 크기: {}", ageRange, batchSizeController.pageSize());
+        
+        long totalCount;
+        try (Stream<Recipient> cursor = openRecipientCursor(ageRange)) {
+            totalCount = drainInBatches(cursor, batchSizeController, batchProcessor);
+        }
+        
+        log.info("연령대 {} 수신자 스트리밍 처리 완료 - 총 수신자: {}", ageRange, totalCount);
+        
+        return totalCount;
+    }
+    
+    /**
+     * 연령대 수신자를 ID 범위 파티션으로 분할
+     * 예상 대상자 수가 파티션 최소 크기보다 작으면 단일 파티션으로 조회
+     * 
+     * @param ageRange 연령 범위
+     * @return ID 범위 파티션 목록 (대상자가 없으면 빈 리스트)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<IdRange> planRecipientPartitions(AgeRange ageRange) {
+        try (SpanTracer.Span span = spanTracer.start(SpanType.AUDIENCE_QUERY, "query.partition-plan")) {
+            BulkMessageConfig.ScanConfig scanConfig = bulkMessageConfig.getScan();
+            long expectedCount = audienceHistogramService.countByAgeRange(ageRange);
+            long bySize = expectedCount / Math.max(1, scanConfig.getMinPartitionSize());
+            int partitionCount = (int) Math.max(1, Math.min(audiencePartitionExecutor.getMaxParallelism(), bySize));
+            
+            return recipientCursorRepository.findIdRangeByAgeRange(ageRange.getMinAge(), ageRange.getMaxAge())
+                .map(idRange -> idRange.split(partitionCount))
+                .orElse(List.of());
+        }
+    }
+    
+    /**
+     * 연령대별 수신자를 ID 범위 파티션으로 나누어 병렬 조회하며 배치 단위로 처리
+     * 배치 처리 함수는 여러 파티션 스레드에서 동시에 호출되므로 스레드 안전해야 하며,
+     * 파티션 간 배치 순서는 보장되지 않음 (파티션 내부는 ID 오름차순)
+     * 
+     * @param ageRange 연령 범위
+     * @param batchSize 배치 크기
+     * @param batchProcessor 각 배치를 처리할 함수 (스레드 안전)
+     * @return 처리된 수신자 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long processRecipientsByAgeRangeInPartitions(AgeRange ageRange, int batchSize,
+                                                        Consumer<List<Recipient>> batchProcessor) {
+        return processRecipientPartitions(ageRange, planRecipientPartitions(ageRange), batchSize, batchProcessor);
+    }
+    
+    /**
+     * 연령대별 수신자를 ID 범위 파티션으로 나누어 병렬 조회하며 배치 단위로 처리 (작업별 배치 크기 자동 조정)
+     * 
+     * @param ageRange 연령 범위
+     * @param batchSizeController 배치 크기 제어기
+     * @param batchProcessor 각 배치를 처리할 함수 (스레드 안전)
+     * @return 처리된 수신자 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long processRecipientsByAgeRangeInPartitions(AgeRange ageRange, BatchSizeController batchSizeController,
+                                                        Consumer<List<Recipient>> batchProcessor) {
+        return processRecipientPartitions(ageRange, planRecipientPartitions(ageRange), batchSizeController, batchProcessor);
+    }
+    
+    /**
+     * 지정된 ID 범위 파티션을 병렬 조회하며 배치 단위로 처리
+     * 동시 조회 수는 AudiencePartitionExecutor의 스레드 수로 전역 제한되며,
+     * 한 파티션이 실패하면 나머지 파티션을 취소하고 원인 예외를 전달
+     * 
+     * @param ageRange 연령 범위
+     * @param partitions ID 범위 파티션 목록
+     * @param batchSize 배치 크기
+     * @param batchProcessor 각 배치를 처리할 함수 (스레드 안전)
+     * @return 처리된 수신자 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long processRecipientPartitions(AgeRange ageRange, List<IdRange> partitions, int batchSize,
+                                           Consumer<List<Recipient>> batchProcessor) {
+        return processRecipientPartitions(ageRange, partitions, BatchSizeController.fixed(batchSize, batchSize), batchProcessor);
+    }
+    
+    /**
+     * 지정된 ID 범위 파티션을 병렬 조회하며 배치 단위로 처리 (작업별 배치 크기 자동 조정)
+     * 제어기는 모든 파티션이 공유하므로 파티션별 조회 시간이 함께 반영됨
+     * 
+     * @param ageRange 연령 범위
+     * @param partitions ID 범위 파티션 목록
+     * @param batchSizeController 배치 크기 제어기
+     * @param batchProcessor 각 배치를 처리할 함수 (스레드 안전)
+     * @return 처리된 수신자 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long processRecipientPartitions(AgeRange ageRange, List<IdRange> partitions,
+                                           BatchSizeController batchSizeController,
+                                           Consumer<List<Recipient>> batchProcessor) {
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        
+        log.info("연령대 {} 수신자 파티션 조회 시작 - 파티션 수: {}, 배치 크기: {}", 
+                ageRange, partitions.size(), batchSizeController.pageSize());
+        
+        // 단일 파티션은 호출 스레드에서 바로 조회
+        if (partitions.size() == 1) {
+            return scanPartition(ageRange, partitions.get(0), batchSizeController, batchProcessor);
+        }
+        
+        // 파티션 스레드에서도 같은 작업의 구간으로 기록되도록 작업 ID 전달
+        UUID jobId = spanTracer.currentJob();
+        List<Future<Long>> futures = new ArrayList<>(partitions.size());
+        for (IdRange partition : partitions) {
+            futures.add(audiencePartitionExecutor.submit(() -> {
+                try (SpanTracer.Scope scope = spanTracer.bindJob(jobId)) {
+                    return scanPartition(ageRange, partition, batchSizeController, batchProcessor);
+                }
+            }));
+        }
+        
+        long totalCount = 0;
+        RuntimeException failure = null;
+        for (Future<Long> future : futures) {
+            try {
+                totalCount += future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new IllegalStateException("수신자 파티션 조회 실패", e.getCause());
+                    futures.forEach(other -> other.cancel(true));
+                }
+            } catch (CancellationException e) {
+                // 다른 파티션 실패로 취소됨
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(other -> other.cancel(true));
+                throw new CancellationException("수신자 파티션 조회 대기 중 인터럽트 발생");
+            }
+        }
+        
+        if (failure != null) {
+            throw failure;
+        }
+        
+        log.info("연령대 {} 수신자 파티션 조회 완료 - 파티션 수: {}, 총 수신자: {}", 
+                ageRange, partitions.size(), totalCount);
+        return totalCount;
+    }
+    
+    private long scanPartition(AgeRange ageRange, IdRange partition, BatchSizeController batchSizeController, 
+                               Consumer<List<Recipient>> batchProcessor) {
+        try (Stream<Recipient> cursor = recipientCursorRepository.streamByAgeRangeAndIdRange(
+                ageRange.getMinAge(), ageRange.getMaxAge(), partition, bulkMessageConfig.getFetchSize())) {
+            long count = drainInBatches(cursor, batchSizeController, batchProcessor);
+            log.debug("수신자 파티션 조회 완료 - 범위: {}, 수신자: {}", partition, count);
+            return count;
+        }
+    }
+    
+    /**
+     * 커서를 끝까지 읽으며 배치 단위로 전달
+     * 배치마다 커서에서 읽는 데 걸린 시간(처리 함수 실행 시간 제외)을 제어기에 반영하고 다음 배치 크기를 받음
+     */
+    private long drainInBatches(Stream<Recipient> cursor, BatchSizeController batchSizeController,
+                                Consumer<List<Recipient>> batchProcessor) {
+        long totalCount = 0;
+        Iterator<Recipient> iterator = cursor.iterator();
+        
+        while (true) {
+            int batchSize = batchSizeController.pageSize();
+            List<Recipient> batch = new ArrayList<>(batchSize);
+            long fetchStart = System.nanoTime();
+            while (batch.size() < batchSize && iterator.hasNext()) {
+                batch.add(iterator.next());
+            }
+            if (batch.isEmpty()) {
+                break;
+            }
+            long fetchNanos = System.nanoTime() - fetchStart;
+            batchSizeController.recordFetch(batch.size(), fetchNanos);
+            spanTracer.record(SpanType.PAGE_FETCH, "query.cursor-batch", fetchStart, fetchNanos);
+            
+            batchProcessor.accept(batch);
+            totalCount += batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return totalCount;
     }
     
     /**
@@ -0,0 +1,190 @@
+package com.autoever.member.message.snapshot;
+
+import com.autoever.member.message.dto.IdRange;
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.message.service.BatchSizeController;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 대량 발송 작업의 수신 대상 스냅샷 (읽기 전용, 메모리 매핑)
+ *
+ * 파일 구조:
+ * <pre>
+ * header  : magic(4) version(2) reserved(2) recordCount(8) namesOffset(8) namesLength(8)
+ * records : [id(8) nameOffset(4) packedPhone(8)] × recordCount  (ID 오름차순, 고정 폭 20바이트)
+ * names   : [length(2) UTF-8 bytes] ...                          (records의 nameOffset이 가리킴)
+ * </pre>
+ * 작업 시작 시 한 번 기록된 뒤 변경되지 않으므로 여러 스레드가 동시에 읽어도 되며,
+ * 이후 가입/탈퇴와 무관하게 같은 수신자 집합을 ID 순서로 돌려줌
+ */
+public final class AudienceSnapshot {
+
+    static final int MAGIC = 0x41534E50; // "ASNP"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = Long.BYTES + Integer.BYTES + Long.BYTES;
+    static final int NO_NAME = -1;
+
+    private static final int ID_OFFSET = 0;
+    private static final int NAME_OFFSET = Long.BYTES;
+    private static final int PHONE_OFFSET = Long.BYTES + Integer.BYTES;
+
+    private final Path path;
+    private final int recordCount;
+    private final ByteBuffer records;
+    private final ByteBuffer names;
+
+    private AudienceSnapshot(Path path, int recordCount, ByteBuffer records, ByteBuffer names) {
+        this.path = path;
+        this.recordCount = recordCount;
+        this.records = records;
+        this.names = names;
+    }
+
+    /**
+     * 스냅샷 파일을 읽기 전용으로 매핑
+     * 매핑된 영역은 채널을 닫은 뒤에도 유효하며 객체가 GC될 때 해제됨
+     *
+     * @param path 스냅샷 파일 경로
+     * @return 스냅샷
+     * @throws IOException 파일을 읽을 수 없거나 형식이 올바르지 않은 경우
+     */
+    public static AudienceSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // 헤더 전체를 읽을 때까지 반복
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getShort() != VERSION) {
+                throw new IOException("수신 대상 스냅샷 형식이 올바르지 않습니다 - " + path);
+            }
+            header.getShort();
+            long recordCount = header.getLong();
+            long namesOffset = header.getLong();
+            long namesLength = header.getLong();
+
+            long recordsLength = recordCount * RECORD_SIZE;
+            if (recordCount > Integer.MAX_VALUE / RECORD_SIZE || namesLength > Integer.MAX_VALUE
+                || namesOffset != HEADER_SIZE + recordsLength || namesOffset + namesLength != channel.size()) {
+                throw new IOException("수신 대상 스냅샷 크기가 올바르지 않습니다 - " + path);
+            }
+
+            MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, recordsLength);
+            MappedByteBuffer names = channel.map(FileChannel.MapMode.READ_ONLY, namesOffset, namesLength);
+            return new AudienceSnapshot(path, (int) recordCount, records, names);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * index번째 수신자 ID
+     */
+    public long idAt(int index) {
+        return records.getLong(index * RECORD_SIZE + ID_OFFSET);
+    }
+
+    /**
+     * index번째 수신자 복원
+     */
+    public Recipient recipientAt(int index) {
+        int base = index * RECORD_SIZE;
+        return new Recipient(
+            records.getLong(base + ID_OFFSET),
+            nameAt(records.getInt(base + NAME_OFFSET)),
+            PhoneNumberCodec.unpack(records.getLong(base + PHONE_OFFSET))
+        );
+    }
+
+    /**
+     * 지정한 ID 이상인 첫 수신자의 위치 (없으면 recordCount)
+     */
+    public int lowerBound(long id) {
+        int low = 0;
+        int high = recordCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (idAt(mid) < id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 지정한 ID 범위에 속한 수신자를 ID 오름차순으로 배치 단위 전달
+     *
+     * @param ranges 읽을 ID 범위 (체크포인트 이후 남은 파티션)
+     * @param batchSize 배치 크기
+     * @param batchProcessor 각 배치를 처리할 함수
+     * @return 전달된 수신자 수
+     */
+    public long forEachBatch(List<IdRange> ranges, int batchSize, Consumer<List<Recipient>> batchProcessor) {
+        return forEachBatch(ranges, BatchSizeController.fixed(batchSize, batchSize), batchProcessor);
+    }
+
+    /**
+     * 지정한 ID 범위에 속한 수신자를 ID 오름차순으로 배치 단위 전달 (작업별 배치 크기 자동 조정)
+     * 배치마다 파일에서 읽는 데 걸린 시간(처리 함수 실행 시간 제외)을 제어기에 반영하고 다음 배치 크기를 받으므로
+     * 메시지 큐 여유 공간이나 발송 스레드 풀 상태에 따라 배치 크기가 바뀜
+     *
+     * @param ranges 읽을 ID 범위 (체크포인트 이후 남은 파티션)
+     * @param batchSizeController 배치 크기 제어기
+     * @param batchProcessor 각 배치를 처리할 함수
+     * @return 전달된 수신자 수
+     */
+    public long forEachBatch(List<IdRange> ranges, BatchSizeController batchSizeController,
+                             Consumer<List<Recipient>> batchProcessor) {
+        long totalCount = 0;
+        int batchSize = batchSizeController.pageSize();
+        List<Recipient> batch = new ArrayList<>(batchSize);
+        long fetchStart = System.nanoTime();
+        for (IdRange range : ranges) {
+            for (int index = lowerBound(range.lowerId()); index < recordCount && idAt(index) <= range.upperId(); index++) {
+                batch.add(recipientAt(index));
+                if (batch.size() == batchSize) {
+                    batchSizeController.recordFetch(batch.size(), System.nanoTime() - fetchStart);
+                    batchProcessor.accept(batch);
+                    totalCount += batch.size();
+                    batchSize = batchSizeController.pageSize();
+                    batch = new ArrayList<>(batchSize);
+                    fetchStart = System.nanoTime();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchProcessor.accept(batch);
+            totalCount += batch.size();
+        }
+        return totalCount;
+    }
+
+    private String nameAt(int offset) {
+        if (offset == NO_NAME) {
+            return null;
+        }
+        int length = Short.toUnsignedInt(names.getShort(offset));
+        byte[] bytes = new byte[length];
+        names.get(offset + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,176 @@
+package com.autoever.member.message.snapshot;
+
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.dto.AgeRange;
+import com.autoever.member.message.dto.IdRange;
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.message.service.AdaptiveBatchSizer;
+import com.autoever.member.message.service.UserQueryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongPredicate;
+
+/**
+ * 대량 발송 작업별 수신 대상 스냅샷 관리
+ *
+ * 작업 시작 시 대상 수신자를 DB에서 한 번만 조회하여 파일로 고정하고, 발송과 재개는 이 파일만 읽음.
+ * 긴 작업 도중 가입/탈퇴가 일어나도 수신자가 누락되거나 중복 발송되지 않으며 재개 시 DB를 다시 조회하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AudienceSnapshotService {
+
+    private static final String FILE_SUFFIX = ".snap";
+
+    private final UserQueryService userQueryService;
+    private final BulkMessageConfig bulkMessageConfig;
+    private final AdaptiveBatchSizer adaptiveBatchSizer;
+
+    /**
+     * 수신 대상을 조회하여 스냅샷 생성
+     *
+     * @param jobId 작업 ID
+     * @param ageRange 대상 연령 범위
+     * @param partitions 조회할 ID 범위 파티션 (병렬 조회)
+     * @param recipientFilter 발송 대상 회원 ID 판별 함수 (세그먼트 조건)
+     * @return 읽기 전용으로 매핑된 스냅샷
+     */
+    public AudienceSnapshot create(UUID jobId, AgeRange ageRange, List<IdRange> partitions,
+                                   LongPredicate recipientFilter) {
+        long startTime = System.currentTimeMillis();
+        Path path = pathOf(jobId);
+        try {
+            Files.createDirectories(path.getParent());
+            long recordCount;
+            long unpackablePhoneCount;
+            try (AudienceSnapshotWriter writer = new AudienceSnapshotWriter(path, partitions)) {
+                // 파일 기록은 큐에 영향이 없으므로 조회 시간만으로 배치 크기 조정
+                userQueryService.processRecipientPartitions(ageRange, partitions,
+                    adaptiveBatchSizer.createForScan(jobId, bulkMessageConfig.getPipeline().getBatchSize()),
+                    batch -> writer.append(select(batch, recipientFilter)));
+                recordCount = writer.seal();
+                unpackablePhoneCount = writer.getUnpackablePhoneCount();
+            }
+
+            AudienceSnapshot snapshot = AudienceSnapshot.open(path);
+            log.info("수신 대상 스냅샷 생성 - jobId: {}, 수신자: {}, 크기: {}KB, 소요시간: {}ms",
+                jobId, recordCount, Files.size(path) / 1024, System.currentTimeMillis() - startTime);
+            if (unpackablePhoneCount > 0) {
+                log.warn("전화번호 형식 오류로 번호 없이 기록된 수신자 - jobId: {}, 건수: {}", jobId, unpackablePhoneCount);
+            }
+            return snapshot;
+        } catch (IOException e) {
+            throw new UncheckedIOException("수신 대상 스냅샷 생성 실패 - jobId: " + jobId, e);
+        }
+    }
+
+    /**
+     * 저장된 스냅샷 열기 (작업 재개용)
+     *
+     * @param jobId 작업 ID
+     * @return 스냅샷 (파일이 없거나 손상된 경우 빈 값)
+     */
+    public Optional<AudienceSnapshot> open(UUID jobId) {
+        Path path = pathOf(jobId);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(AudienceSnapshot.open(path));
+        } catch (IOException e) {
+            log.warn("수신 대상 스냅샷을 열 수 없습니다 - jobId: {}, error: {}", jobId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 종료된 작업의 스냅샷 삭제 (보관 설정 시 유지)
+     */
+    public void release(UUID jobId) {
+        if (bulkMessageConfig.getSnapshot().isRetainAfterCompletion()) {
+            return;
+        }
+        delete(pathOf(jobId));
+    }
+
+    /**
+     * 재개 대상이 아닌 작업의 스냅샷 삭제 (기동 시 이전 실행에서 남은 파일 정리)
+     *
+     * @param activeJobIds 재개할 작업 ID
+     */
+    public void purgeExcept(Set<UUID> activeJobIds) {
+        if (bulkMessageConfig.getSnapshot().isRetainAfterCompletion()) {
+            return;
+        }
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> orphans = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                int suffixStart = fileName.indexOf(FILE_SUFFIX);
+                UUID jobId = suffixStart < 0 ? null : parseJobId(fileName.substring(0, suffixStart));
+                if (jobId == null || !activeJobIds.contains(jobId)) {
+                    orphans.add(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("수신 대상 스냅샷 디렉터리 조회 실패 - {}, error: {}", directory, e.getMessage());
+            return;
+        }
+        orphans.forEach(this::delete);
+        if (!orphans.isEmpty()) {
+            log.info("이전 실행의 수신 대상 스냅샷 정리 - 파일 수: {}", orphans.size());
+        }
+    }
+
+    private static List<Recipient> select(List<Recipient> batch, LongPredicate recipientFilter) {
+        List<Recipient> selected = new ArrayList<>(batch.size());
+        for (Recipient recipient : batch) {
+            if (recipientFilter.test(recipient.id())) {
+                selected.add(recipient);
+            }
+        }
+        return selected;
+    }
+
+    private static UUID parseJobId(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("수신 대상 스냅샷 삭제 실패 - {}, error: {}", path, e.getMessage());
+        }
+    }
+
+    private Path pathOf(UUID jobId) {
+        return directory().resolve(jobId + FILE_SUFFIX);
+    }
+
+    private Path directory() {
+        return Paths.get(bulkMessageConfig.getSnapshot().getDirectory());
+    }
+}
@@ -0,0 +1,228 @@
+package com.autoever.member.message.snapshot;
+
+import com.autoever.member.message.dto.IdRange;
+import com.autoever.member.message.dto.Recipient;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 수신 대상 스냅샷 파일 작성기
+ *
+ * 파티션이 병렬로 조회되므로 레코드는 파티션별 임시 파일에, 이름은 공용 임시 파일에 이어 쓴 뒤
+ * 완료 시 헤더 + 파티션 순서대로 레코드 + 이름 영역을 하나의 파일로 합침.
+ * 파티션은 ID 오름차순의 서로소 구간이고 파티션 내부도 ID 순으로 조회되므로 합친 레코드는 전체가 ID 순으로 정렬됨
+ */
+class AudienceSnapshotWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path target;
+    private final List<IdRange> partitions;
+    private final List<Path> recordParts = new ArrayList<>();
+    private final List<DataOutputStream> recordOutputs = new ArrayList<>();
+    private final Path namesPart;
+    private final DataOutputStream namesOutput;
+
+    // 이름 영역 크기 (namesOutput 잠금 안에서만 갱신)
+    private long namesLength;
+    private long recordCount;
+    private long unpackablePhoneCount;
+
+    AudienceSnapshotWriter(Path target, List<IdRange> partitions) throws IOException {
+        this.target = target;
+        this.partitions = List.copyOf(partitions);
+        try {
+            for (int i = 0; i < Math.max(1, partitions.size()); i++) {
+                Path part = sibling(".part" + i);
+                recordParts.add(part);
+                recordOutputs.add(open(part));
+            }
+            this.namesPart = sibling(".names");
+            this.namesOutput = open(namesPart);
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * 한 파티션에서 조회된 배치 추가 (파티션 조회 스레드에서 동시에 호출됨)
+     * 배치는 하나의 파티션 커서에서 나오므로 첫 수신자 ID로 소속 파티션을 판단
+     */
+    void append(List<Recipient> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // 이름은 배치 단위로 묶어 한 번의 잠금으로 기록
+        ByteArrayOutputStream encodedNames = new ByteArrayOutputStream(batch.size() * 16);
+        int[] relativeOffsets = new int[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            String name = batch.get(i).name();
+            if (name == null) {
+                relativeOffsets[i] = AudienceSnapshot.NO_NAME;
+                continue;
+            }
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            relativeOffsets[i] = encodedNames.size();
+            encodedNames.write(bytes.length >>> 8);
+            encodedNames.write(bytes.length);
+            encodedNames.write(bytes, 0, bytes.length);
+        }
+
+        long namesBase;
+        try {
+            synchronized (namesOutput) {
+                namesBase = namesLength;
+                if (namesBase + encodedNames.size() > Integer.MAX_VALUE) {
+                    throw new IllegalStateException("수신 대상 스냅샷의 이름 영역이 2GB를 초과합니다");
+                }
+                encodedNames.writeTo(namesOutput);
+                namesLength += encodedNames.size();
+            }
+
+            DataOutputStream records = recordOutputs.get(partitionIndexOf(batch.get(0).id()));
+            synchronized (records) {
+                for (int i = 0; i < batch.size(); i++) {
+                    Recipient recipient = batch.get(i);
+                    records.writeLong(recipient.id());
+                    records.writeInt(relativeOffsets[i] == AudienceSnapshot.NO_NAME
+                        ? AudienceSnapshot.NO_NAME : (int) (namesBase + relativeOffsets[i]));
+                    records.writeLong(packPhone(recipient.phoneNumber()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("수신 대상 스냅샷 기록 실패", e);
+        }
+
+        synchronized (this) {
+            recordCount += batch.size();
+        }
+    }
+
+    /**
+     * 임시 파일을 하나의 스냅샷 파일로 합쳐 원자적으로 배치
+     *
+     * @return 기록된 수신자 수
+     */
+    synchronized long seal() throws IOException {
+        if (recordCount > Integer.MAX_VALUE / AudienceSnapshot.RECORD_SIZE) {
+            throw new IllegalStateException("수신 대상 스냅샷의 레코드 영역이 2GB를 초과합니다 - 수신자: " + recordCount);
+        }
+        for (DataOutputStream output : recordOutputs) {
+            output.close();
+        }
+        namesOutput.close();
+
+        Path temporary = sibling(".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(AudienceSnapshot.HEADER_SIZE)
+                .putInt(AudienceSnapshot.MAGIC)
+                .putShort(AudienceSnapshot.VERSION)
+                .putShort((short) 0)
+                .putLong(recordCount)
+                .putLong(AudienceSnapshot.HEADER_SIZE + recordCount * AudienceSnapshot.RECORD_SIZE)
+                .putLong(namesLength);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            for (Path part : recordParts) {
+                transfer(part, channel);
+            }
+            transfer(namesPart, channel);
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return recordCount;
+    }
+
+    long getUnpackablePhoneCount() {
+        return unpackablePhoneCount;
+    }
+
+    /**
+     * 임시 파일 정리 (완료 여부와 관계없이 호출)
+     */
+    @Override
+    public void close() {
+        for (DataOutputStream output : recordOutputs) {
+            closeQuietly(output);
+        }
+        if (namesOutput != null) {
+            closeQuietly(namesOutput);
+        }
+        List<Path> temporaries = new ArrayList<>(recordParts);
+        temporaries.add(sibling(".names"));
+        temporaries.add(sibling(".tmp"));
+        for (Path temporary : temporaries) {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException e) {
+                // 다음 정리 시 삭제됨
+            }
+        }
+    }
+
+    /**
+     * 형식이 맞지 않는 전화번호는 번호 없음으로 기록 (발송 단계에서 해당 수신자만 실패 처리)
+     */
+    private long packPhone(String phoneNumber) {
+        if (PhoneNumberCodec.isPackable(phoneNumber)) {
+            return PhoneNumberCodec.pack(phoneNumber);
+        }
+        synchronized (this) {
+            unpackablePhoneCount++;
+        }
+        return PhoneNumberCodec.NULL;
+    }
+
+    private int partitionIndexOf(long id) {
+        for (int i = 0; i < partitions.size(); i++) {
+            if (id >= partitions.get(i).lowerId() && id <= partitions.get(i).upperId()) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("파티션 범위를 벗어난 수신자입니다 - id: " + id);
+    }
+
+    private Path sibling(String suffix) {
+        return target.resolveSibling(target.getFileName() + suffix);
+    }
+
+    private static DataOutputStream open(Path path) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+    }
+
+    private static void transfer(Path source, FileChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long position = 0;
+            long size = channel.size();
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // 정리 단계이므로 무시
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.autoever.member.message.snapshot;
+
+/**
+ * 전화번호 64비트 압축 코덱
+ *
+ * 숫자와 하이픈으로 된 최대 15자 전화번호를 문자당 4비트(숫자 0~9, 하이픈 0xA)로 앞에서부터 채우고
+ * 남은 자리는 0xF로 채움. 휴대폰 번호(XXX-XXXX-XXXX)가 String 객체(약 56바이트) 대신 8바이트로 저장되며
+ * 하이픈 위치까지 원래 형식 그대로 복원됨
+ */
+public final class PhoneNumberCodec {
+
+    // 전화번호 없음 (15자 제한으로 마지막 4비트가 항상 0xF이므로 실제 값과 겹치지 않음)
+    public static final long NULL = 0L;
+
+    private static final int MAX_LENGTH = 15;
+    private static final int NIBBLES = Long.SIZE / 4;
+    private static final int HYPHEN = 0xA;
+    private static final int PADDING = 0xF;
+
+    private PhoneNumberCodec() {
+    }
+
+    /**
+     * 압축 가능한 형식인지 확인 (null 허용)
+     */
+    public static boolean isPackable(String phoneNumber) {
+        if (phoneNumber == null) {
+            return true;
+        }
+        if (phoneNumber.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char c = phoneNumber.charAt(i);
+            if (c != '-' && (c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 전화번호 압축
+     *
+     * @param phoneNumber 전화번호 (null이면 {@link #NULL})
+     * @return 압축된 값
+     * @throws IllegalArgumentException 15자를 넘거나 숫자/하이픈 외 문자가 있는 경우
+     */
+    public static long pack(String phoneNumber) {
+        if (phoneNumber == null) {
+            return NULL;
+        }
+        if (!isPackable(phoneNumber)) {
+            throw new IllegalArgumentException("압축할 수 없는 전화번호 형식입니다");
+        }
+        long packed = 0;
+        for (int i = 0; i < NIBBLES; i++) {
+            int nibble;
+            if (i >= phoneNumber.length()) {
+                nibble = PADDING;
+            } else {
+                char c = phoneNumber.charAt(i);
+                nibble = c == '-' ? HYPHEN : c - '0';
+            }
+            packed = (packed << 4) | nibble;
+        }
+        return packed;
+    }
+
+    /**
+     * 전화번호 복원
+     *
+     * @param packed 압축된 값
+     * @return 전화번호 ({@link #NULL}이면 null)
+     */
+    public static String unpack(long packed) {
+        if (packed == NULL) {
+            return null;
+        }
+        char[] chars = new char[MAX_LENGTH];
+        int length = 0;
+        for (int shift = Long.SIZE - 4; shift >= 0; shift -= 4) {
+            int nibble = (int) (packed >>> shift) & 0xF;
+            if (nibble == PADDING) {
+                break;
+            }
+            chars[length++] = nibble == HYPHEN ? '-' : (char) ('0' + nibble);
+        }
+        return new String(chars, 0, length);
+    }
+}
@@ -0,0 +1,282 @@
+package com.autoever.member.message.template;
+
+import com.autoever.member.message.dto.AgeGroup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 분석한 메시지 템플릿
+ *
+ * 템플릿 문자열을 작업당 한 번 고정 문자열과 치환자 구간으로 나누어 두고, 수신자별로는 구간을 순서대로 이어 붙이기만 함.
+ * 지원 치환자:
+ * <ul>
+ *     <li>{@code {memberName}} - 회원 이름 (앞뒤 공백 제거)</li>
+ *     <li>{@code {maskedPhone}} - 가운데 자리를 가린 전화번호 (010-****-5678)</li>
+ *     <li>{@code {ageGroup}} - 발송 대상 연령대 (작업 단위 값, {@link #bind}로 지정)</li>
+ *     <li>{@code {custom.키}} - 사용자 정의 필드 (작업 단위 값, {@link #bind}로 지정)</li>
+ * </ul>
+ * 지원하지 않는 이름의 중괄호는 본문 그대로 둠.
+ *
+ * 렌더링은 결과 길이를 먼저 정확히 계산한 뒤 스레드별로 재사용하는 문자 버퍼에 채워 넣으므로
+ * 수신자당 결과 문자열 외의 중간 객체를 만들지 않음. 인스턴스는 불변이며 여러 스레드에서 공유 가능
+ */
+public final class CompiledTemplate {
+
+    private static final byte LITERAL = 0;
+    private static final byte MEMBER_NAME = 1;
+    private static final byte MASKED_PHONE = 2;
+    private static final byte AGE_GROUP = 3;
+    private static final byte CUSTOM = 4;
+
+    private static final String CUSTOM_PREFIX = "custom.";
+    private static final String MASKED_UNKNOWN = "***-****-****";
+    // 010-1234-5678 형식의 길이 (이 형식만 가운데 자리를 가리고 나머지는 전체를 가림)
+    private static final int FORMATTED_PHONE_LENGTH = 13;
+    private static final int MASKED_PHONE_LENGTH = MASKED_UNKNOWN.length();
+
+    // 이보다 긴 결과는 스레드 버퍼에 남기지 않음 (긴 메시지 한 건으로 버퍼가 계속 커진 채 유지되는 것 방지)
+    private static final int MAX_RETAINED_BUFFER = 8 * 1024;
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[512]);
+
+    private final byte[] kinds;
+    // LITERAL: 고정 문자열, CUSTOM: 필드 키, 그 외: null
+    private final String[] values;
+    private final int literalLength;
+    private final boolean usesMemberName;
+
+    private CompiledTemplate(List<Byte> kinds, List<String> values) {
+        this.kinds = new byte[kinds.size()];
+        this.values = values.toArray(new String[0]);
+        int length = 0;
+        boolean memberName = false;
+        for (int i = 0; i < this.kinds.length; i++) {
+            this.kinds[i] = kinds.get(i);
+            if (this.kinds[i] == LITERAL) {
+                length += this.values[i].length();
+            } else if (this.kinds[i] == MEMBER_NAME) {
+                memberName = true;
+            }
+        }
+        this.literalLength = length;
+        this.usesMemberName = memberName;
+    }
+
+    /**
+     * 템플릿 문자열 분석
+     *
+     * @param template 치환자를 포함한 템플릿
+     * @return 분석된 템플릿
+     */
+    public static CompiledTemplate compile(String template) {
+        if (template == null) {
+            throw new IllegalArgumentException("템플릿은 필수입니다.");
+        }
+        Segments segments = new Segments();
+        int literalStart = 0;
+        int open = template.indexOf('{');
+        while (open >= 0) {
+            int close = template.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            String name = template.substring(open + 1, close);
+            byte kind = kindOf(name);
+            if (kind == LITERAL) {
+                // 치환자가 아닌 중괄호는 본문으로 두고 다음 '{'부터 다시 탐색
+                open = template.indexOf('{', open + 1);
+                continue;
+            }
+            segments.literal(template.substring(literalStart, open));
+            segments.add(kind, kind == CUSTOM ? name.substring(CUSTOM_PREFIX.length()) : null);
+            literalStart = close + 1;
+            open = template.indexOf('{', literalStart);
+        }
+        segments.literal(template.substring(literalStart));
+        return segments.build();
+    }
+
+    /**
+     * 치환 없이 그대로 출력할 문자열을 뒤에 붙인 템플릿 생성
+     *
+     * @param text 본문 그대로 붙일 문자열 (중괄호도 치환자로 해석하지 않음)
+     * @return 문자열이 추가된 템플릿
+     */
+    public CompiledTemplate appendLiteral(String text) {
+        Segments segments = new Segments();
+        for (int i = 0; i < kinds.length; i++) {
+            segments.add(kinds[i], values[i]);
+        }
+        segments.literal(text);
+        return segments.build();
+    }
+
+    /**
+     * 작업 단위 치환자(연령대, 사용자 정의 필드)를 값으로 고정한 템플릿 생성
+     * 고정된 값은 앞뒤 고정 문자열과 합쳐지므로 수신자별 렌더링 구간 수가 줄어듦
+     *
+     * @param ageGroup 발송 대상 연령대 (null이면 연령대 치환자를 본문 그대로 둠)
+     * @param customFields 사용자 정의 필드 값
+     * @return 작업 단위 값이 반영된 템플릿
+     * @throws IllegalArgumentException 템플릿이 참조하는 사용자 정의 필드 값이 없는 경우
+     */
+    public CompiledTemplate bind(AgeGroup ageGroup, Map<String, String> customFields) {
+        Segments segments = new Segments();
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case LITERAL -> segments.literal(values[i]);
+                case AGE_GROUP -> {
+                    segments.literal(ageGroup != null ? ageGroup.getDescription() : "{ageGroup}");
+                }
+                case CUSTOM -> {
+                    String value = customFields != null ? customFields.get(values[i]) : null;
+                    if (value == null) {
+                        throw new IllegalArgumentException("사용자 정의 필드 값이 없습니다: " + values[i]);
+                    }
+                    segments.literal(value);
+                }
+                default -> segments.add(kinds[i], null);
+            }
+        }
+        return segments.build();
+    }
+
+    /**
+     * 수신자 정보로 메시지를 만들 수 있는지 미리 확인 (발송 시점 렌더링 전에 큐 적재 단계에서 호출)
+     *
+     * @param memberName 회원 이름
+     * @throws IllegalArgumentException 템플릿이 회원 이름을 쓰는데 이름이 비어 있는 경우
+     * @throws IllegalStateException 작업 단위 치환자가 {@link #bind}로 고정되지 않은 경우
+     */
+    public void validate(String memberName) {
+        if (usesMemberName && (memberName == null || memberName.trim().isEmpty())) {
+            throw new IllegalArgumentException("회원 이름은 필수입니다.");
+        }
+        for (byte kind : kinds) {
+            if (kind == AGE_GROUP || kind == CUSTOM) {
+                throw new IllegalStateException("작업 단위 치환자가 지정되지 않았습니다.");
+            }
+        }
+    }
+
+    /**
+     * 수신자별 메시지 생성
+     *
+     * @param memberName 회원 이름
+     * @param phoneNumber 전화번호
+     * @return 치환자가 모두 반영된 메시지
+     * @throws IllegalArgumentException 템플릿이 회원 이름을 쓰는데 이름이 비어 있는 경우
+     * @throws IllegalStateException 작업 단위 치환자가 {@link #bind}로 고정되지 않은 경우
+     */
+    public String render(String memberName, String phoneNumber) {
+        // 이름의 앞뒤 공백 구간 (trim 결과 문자열을 만들지 않음)
+        int nameStart = 0;
+        int nameEnd = 0;
+        if (usesMemberName) {
+            if (memberName == null) {
+                throw new IllegalArgumentException("회원 이름은 필수입니다.");
+            }
+            nameEnd = memberName.length();
+            while (nameStart < nameEnd && memberName.charAt(nameStart) <= ' ') {
+                nameStart++;
+            }
+            while (nameEnd > nameStart && memberName.charAt(nameEnd - 1) <= ' ') {
+                nameEnd--;
+            }
+            if (nameStart == nameEnd) {
+                throw new IllegalArgumentException("회원 이름은 필수입니다.");
+            }
+        }
+
+        int length = literalLength;
+        for (byte kind : kinds) {
+            switch (kind) {
+                case LITERAL -> { }
+                case MEMBER_NAME -> length += nameEnd - nameStart;
+                case MASKED_PHONE -> length += MASKED_PHONE_LENGTH;
+                default -> throw new IllegalStateException("작업 단위 치환자가 지정되지 않았습니다.");
+            }
+        }
+
+        char[] buffer = length <= MAX_RETAINED_BUFFER ? threadBuffer(length) : new char[length];
+        int position = 0;
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case LITERAL -> {
+                    String literal = values[i];
+                    literal.getChars(0, literal.length(), buffer, position);
+                    position += literal.length();
+                }
+                case MEMBER_NAME -> {
+                    memberName.getChars(nameStart, nameEnd, buffer, position);
+                    position += nameEnd - nameStart;
+                }
+                default -> position = writeMaskedPhone(phoneNumber, buffer, position);
+            }
+        }
+        return new String(buffer, 0, length);
+    }
+
+    private static char[] threadBuffer(int length) {
+        char[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new char[Math.min(MAX_RETAINED_BUFFER, Math.max(length, buffer.length * 2))];
+            BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * 010-1234-5678 형식이면 가운데 자리만, 그 외 형식은 전체를 가림 (발송 로그의 마스킹 규칙과 동일)
+     */
+    private static int writeMaskedPhone(String phoneNumber, char[] buffer, int position) {
+        if (phoneNumber != null && phoneNumber.length() == FORMATTED_PHONE_LENGTH
+            && phoneNumber.charAt(3) == '-' && phoneNumber.charAt(8) == '-') {
+            phoneNumber.getChars(0, 4, buffer, position);
+            "****".getChars(0, 4, buffer, position + 4);
+            phoneNumber.getChars(8, FORMATTED_PHONE_LENGTH, buffer, position + 8);
+        } else {
+            MASKED_UNKNOWN.getChars(0, MASKED_PHONE_LENGTH, buffer, position);
+        }
+        return position + MASKED_PHONE_LENGTH;
+    }
+
+    private static byte kindOf(String name) {
+        return switch (name) {
+            case "memberName" -> MEMBER_NAME;
+            case "maskedPhone" -> MASKED_PHONE;
+            case "ageGroup" -> AGE_GROUP;
+            default -> name.startsWith(CUSTOM_PREFIX) && name.length() > CUSTOM_PREFIX.length() ? CUSTOM : LITERAL;
+        };
+    }
+
+    /**
+     * 구간 목록 작성 (이어지는 고정 문자열은 하나로 합침)
+     */
+    private static final class Segments {
+        private final List<Byte> kinds = new ArrayList<>();
+        private final List<String> values = new ArrayList<>();
+
+        void literal(String text) {
+            if (text.isEmpty()) {
+                return;
+            }
+            int last = kinds.size() - 1;
+            if (last >= 0 && kinds.get(last) == LITERAL) {
+                values.set(last, values.get(last) + text);
+            } else {
+                add(LITERAL, text);
+            }
+        }
+
+        void add(byte kind, String value) {
+            kinds.add(kind);
+            values.add(value);
+        }
+
+        CompiledTemplate build() {
+            return new CompiledTemplate(kinds, values);
+        }
+    }
+}
@@ -32,6 +32,37 @@ public class MessageTemplate {
         return greeting + MESSAGE_SEPARATOR + originalMessage.trim();
     }
     
+    /**
+     * 표준 인사말과 원본 메시지를 합친 템플릿을 미리 분석합니다.
+     * 대량 발송처럼 같은 메시지를 여러 수신자에게 보낼 때 작업당 한 번 호출하고
+     * 수신자별로는 {@link CompiledTemplate#render}만 호출합니다.
+     * 
+     * @param originalMessage 원본 메시지 (치환자 포함 가능)
+     * @return 분석된 템플릿
+     */
+    public static CompiledTemplate compile(String originalMessage) {
+        if (originalMessage == null || originalMessage.trim().isEmpty()) {
+            throw new IllegalArgumentException("메시지 내용은 필수입니다.");
+        }
+        
+        return CompiledTemplate.compile(GREETING_TEMPLATE + MESSAGE_SEPARATOR + originalMessage.trim());
+    }
+    
+    /**
+     * 표준 인사말만 템플릿으로 분석하고 원본 메시지는 그대로 뒤에 붙입니다.
+     * 단건 발송처럼 본문을 치환자 없이 보내야 할 때 사용하며, 결과는 {@link #applyTemplate}와 같습니다.
+     * 
+     * @param originalMessage 원본 메시지 (중괄호도 본문 그대로 발송)
+     * @return 분석된 템플릿
+     */
+    public static CompiledTemplate compileGreeting(String originalMessage) {
+        if (originalMessage == null || originalMessage.trim().isEmpty()) {
+            throw new IllegalArgumentException("메시지 내용은 필수입니다.");
+        }
+        
+        return CompiledTemplate.compile(GREETING_TEMPLATE).appendLiteral(MESSAGE_SEPARATOR + originalMessage.trim());
+    }
+    
     /**
      * 인사말 템플릿만 생성합니다.
      * 
@@ -1,9 +1,12 @@
 package com.autoever.member.message.template;
 
 import com.autoever.member.entity.User;
+import com.autoever.member.message.dto.AgeGroup;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 /**
  * 메시지 템플릿 서비스
  * 메시지 발송 시 표준 템플릿을 적용하는 서비스입니다.
@@ -12,6 +15,9 @@ import org.springframework.stereotype.Service;
 @Service
 public class MessageTemplateService {
     
+    // 마지막으로 분석한 단건 발송 템플릿 (같은 메시지를 연달아 보낼 때 재사용)
+    private volatile SharedTemplate lastTemplate;
+    
     /**
      * 사용자 정보를 기반으로 템플릿을 적용합니다.
      * 
@@ -49,6 +55,46 @@ public class MessageTemplateService {
         return templatedMessage;
     }
     
+    /**
+     * 대량 발송 작업의 템플릿을 미리 분석합니다.
+     * 수신자별 호출 대신 작업당 한 번 호출하고, 수신자별로는 {@link CompiledTemplate#render}를 사용합니다.
+     * 
+     * @param originalMessage 원본 메시지 (치환자 포함 가능)
+     * @param ageGroup 발송 대상 연령대 (없으면 null)
+     * @param customFields 사용자 정의 필드 값
+     * @return 작업 단위 값이 반영된 템플릿
+     */
+    public CompiledTemplate compile(String originalMessage, AgeGroup ageGroup, Map<String, String> customFields) {
+        CompiledTemplate template = MessageTemplate.compile(originalMessage).bind(ageGroup, customFields);
+        
+        log.debug("메시지 템플릿 분석 완료 - 연령대: {}, 메시지 길이: {}", ageGroup, originalMessage.length());
+        
+        return template;
+    }
+    
+    /**
+     * 단건 발송 메시지의 템플릿을 분석합니다. 직전과 같은 메시지면 분석 결과를 재사용하므로
+     * 같은 캠페인 메시지를 여러 회원에게 보낼 때 큐 항목들이 하나의 템플릿을 공유합니다.
+     * {@link #applyTemplate(String, String)}와 같이 인사말만 치환하고 본문은 입력 그대로 붙입니다.
+     * 
+     * @param originalMessage 원본 메시지
+     * @return 분석된 템플릿
+     * @throws IllegalArgumentException 메시지가 비어 있는 경우
+     */
+    public CompiledTemplate compile(String originalMessage) {
+        SharedTemplate shared = lastTemplate;
+        if (shared != null && shared.originalMessage().equals(originalMessage)) {
+            return shared.template();
+        }
+        
+        CompiledTemplate template = MessageTemplate.compileGreeting(originalMessage);
+        lastTemplate = new SharedTemplate(originalMessage, template);
+        
+        log.debug("메시지 템플릿 분석 완료 - 메시지 길이: {}", originalMessage.length());
+        
+        return template;
+    }
+    
     /**
      * 템플릿이 올바르게 적용되었는지 검증합니다.
      * 
@@ -64,4 +110,7 @@ public class MessageTemplateService {
         String expectedGreeting = MessageTemplate.createGreeting(memberName);
         return message.startsWith(expectedGreeting);
     }
-}
\ No newline at end of file
+    
+    private record SharedTemplate(String originalMessage, CompiledTemplate template) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.autoever.member.message.trace;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 작업별 구간 시간 분석 결과
+ *
+ * 구간 합계는 병렬 실행(파티션 조회, 렌더링, 큐 처리)으로 인해 벽시계 시간보다 클 수 있으므로
+ * 비중은 전체 구간 합계 대비 비율로 계산함
+ *
+ * @param jobId 대량 발송 작업 ID
+ * @param firstSpanAt 첫 구간 시작 시각
+ * @param wallClockMillis 첫 구간 시작부터 마지막 구간 종료까지의 시간
+ * @param spanCount 기록된 구간 수
+ * @param breakdown 구간 종류별 시간 (합계가 큰 순)
+ * @param recentSpans 최근 구간 (링 버퍼에 남아 있는 것만)
+ */
+public record JobTraceSummary(
+    UUID jobId,
+    Instant firstSpanAt,
+    long wallClockMillis,
+    long spanCount,
+    List<Breakdown> breakdown,
+    List<RecordedSpan> recentSpans
+) {
+
+    /**
+     * 구간 종류별 시간
+     *
+     * @param sharePercent 전체 구간 합계 대비 비율 (%)
+     */
+    public record Breakdown(
+        SpanType type,
+        String description,
+        long count,
+        double totalMillis,
+        double avgMillis,
+        double maxMillis,
+        double sharePercent
+    ) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.autoever.member.message.trace;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 종료된 구간
+ *
+ * @param jobId 대량 발송 작업 ID
+ * @param type 구간 종류
+ * @param name 구간 이름 (예: query.partition-plan, kakaotalk.send)
+ * @param thread 기록한 스레드 이름
+ * @param startedAt 시작 시각
+ * @param durationMicros 소요 시간 (마이크로초)
+ */
+public record RecordedSpan(
+    UUID jobId,
+    SpanType type,
+    String name,
+    String thread,
+    Instant startedAt,
+    long durationMicros
+) {
+}
@@ -0,0 +1,67 @@
+package com.autoever.member.message.trace;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 구간을 덮어쓰며 보관하는 고정 크기 링 버퍼 (다중 생산자, 잠금 없음)
+ * 가득 차면 가장 오래된 구간부터 덮어쓰며, 조회는 기록과 동시에 수행되어 일부 칸이 바뀔 수 있음
+ */
+final class SpanRingBuffer {
+
+    private final int mask;
+    private final AtomicReferenceArray<RecordedSpan> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param capacity 최소 크기 (2의 거듭제곱으로 올림)
+     */
+    SpanRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("버퍼 크기는 1 이상 2^30 이하여야 합니다: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    void add(RecordedSpan span) {
+        long position = sequence.getAndIncrement();
+        slots.lazySet((int) (position & mask), span);
+    }
+
+    /**
+     * 작업의 최근 구간 조회
+     *
+     * @param limit 최대 개수
+     * @return 시작 순서대로 정렬된 최근 구간
+     */
+    List<RecordedSpan> latest(UUID jobId, int limit) {
+        List<RecordedSpan> spans = new ArrayList<>(Math.min(Math.max(limit, 0), slots.length()));
+        long end = sequence.get();
+        long start = Math.max(0, end - slots.length());
+        for (long position = end - 1; position >= start && spans.size() < limit; position--) {
+            RecordedSpan span = slots.get((int) (position & mask));
+            if (span != null && span.jobId().equals(jobId)) {
+                spans.add(span);
+            }
+        }
+        Collections.reverse(spans);
+        return spans;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    long recordedCount() {
+        return sequence.get();
+    }
+}
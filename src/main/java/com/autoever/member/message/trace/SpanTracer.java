@@ -0,0 +1,295 @@
+package com.autoever.member.message.trace;
+
+import com.autoever.member.message.config.TracingConfig;
+import com.autoever.member.message.metrics.PrometheusCollector;
+import com.autoever.member.message.metrics.PrometheusTextWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대량 발송 작업 구간(span) 추적기
+ *
+ * 작업 스레드에서 {@link #bindJob(UUID)}로 작업 ID를 연결하면 같은 스레드에서 시작한 구간이
+ * 해당 작업에 기록됨 (다른 스레드로 넘기는 경우 {@link #currentJob()}을 전달해 다시 연결).
+ * 종료된 구간은 최근 구간 링 버퍼에 남기고, 작업별로 구간 종류마다 건수/합계/최대 시간을 집계하여
+ * 작업 시간이 조회, 렌더링, 큐 대기, Rate limit 대기, 외부 API 호출 중 어디에 쓰였는지 보여줌.
+ * 작업이 연결되지 않은 구간은 기록하지 않으며, 작업별 집계는 보관 시간과 최대 개수를 넘으면 제거
+ */
+@Slf4j
+@Component
+public class SpanTracer implements PrometheusCollector {
+
+    private static final SpanType[] SPAN_TYPES = SpanType.values();
+    private static final ThreadLocal<UUID> CURRENT_JOB = new ThreadLocal<>();
+
+    private final TracingConfig config;
+    private final SpanRingBuffer recentSpans;
+
+    // 작업별 구간 집계 (보관 시간/최대 개수 초과 시 제거)
+    private final Map<UUID, JobTrace> jobTraces = new ConcurrentHashMap<>();
+
+    // nanoTime → 시각 변환 기준
+    private final long baseEpochMillis = System.currentTimeMillis();
+    private final long baseNanos = System.nanoTime();
+
+    public SpanTracer(TracingConfig config) {
+        this.config = config;
+        this.recentSpans = new SpanRingBuffer(config.getBufferCapacity());
+    }
+
+    /**
+     * 현재 스레드에 작업 연결 (반환된 Scope를 닫으면 이전 작업으로 복원)
+     *
+     * @param jobId 대량 발송 작업 ID (null이면 연결 해제)
+     */
+    public Scope bindJob(UUID jobId) {
+        UUID previous = CURRENT_JOB.get();
+        if (jobId == null ? previous == null : jobId.equals(previous)) {
+            return Scope.NOOP;
+        }
+        setCurrentJob(jobId);
+        return () -> setCurrentJob(previous);
+    }
+
+    /**
+     * 현재 스레드에 연결된 작업 ID (없으면 null)
+     */
+    public UUID currentJob() {
+        return CURRENT_JOB.get();
+    }
+
+    /**
+     * 현재 스레드에 연결된 작업의 구간 시작 (연결된 작업이 없으면 기록하지 않는 구간 반환)
+     *
+     * @param type 구간 종류
+     * @param name 구간 이름
+     * @return 닫을 때 기록되는 구간 (try-with-resources로 사용)
+     */
+    public Span start(SpanType type, String name) {
+        UUID jobId = CURRENT_JOB.get();
+        if (jobId == null || !config.isEnabled()) {
+            return Span.NOOP;
+        }
+        return new Span(this, jobId, type, name, System.nanoTime());
+    }
+
+    /**
+     * 현재 스레드에 연결된 작업에 이미 측정한 구간 기록
+     */
+    public void record(SpanType type, String name, long startNanos, long durationNanos) {
+        record(CURRENT_JOB.get(), type, name, startNanos, durationNanos);
+    }
+
+    /**
+     * 이미 측정한 구간 기록 (큐 대기처럼 적재/발송 시각으로 계산한 구간)
+     *
+     * @param jobId 대량 발송 작업 ID (null이면 기록하지 않음)
+     * @param startNanos 시작 시각 (System.nanoTime 기준)
+     * @param durationNanos 소요 시간
+     */
+    public void record(UUID jobId, SpanType type, String name, long startNanos, long durationNanos) {
+        if (jobId == null || !config.isEnabled()) {
+            return;
+        }
+        recentSpans.add(new RecordedSpan(jobId, type, name, Thread.currentThread().getName(),
+            toInstant(startNanos), durationNanos / 1_000));
+
+        JobTrace trace = jobTraces.get(jobId);
+        if (trace == null) {
+            trace = jobTraces.computeIfAbsent(jobId, key -> new JobTrace());
+            evictOverflowJobTraces();
+        }
+        trace.record(type, startNanos, durationNanos);
+    }
+
+    /**
+     * 작업별 구간 시간 분석 조회
+     *
+     * @param jobId 대량 발송 작업 ID
+     * @param recentSpanLimit 함께 반환할 최근 구간 최대 개수
+     * @return 구간 집계 (기록된 구간이 없거나 제거되었으면 empty)
+     */
+    public Optional<JobTraceSummary> getJobTrace(UUID jobId, int recentSpanLimit) {
+        JobTrace trace = jobTraces.get(jobId);
+        if (trace == null) {
+            return Optional.empty();
+        }
+        return Optional.of(trace.summarize(jobId, recentSpans.latest(jobId, recentSpanLimit)));
+    }
+
+    /**
+     * 보관 시간이 지난 작업별 구간 집계 제거 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredJobTraces() {
+        long threshold = System.currentTimeMillis() - config.getJobTtl().toMillis();
+        int before = jobTraces.size();
+        jobTraces.values().removeIf(trace -> trace.lastUpdatedMillis < threshold);
+        int evicted = before - jobTraces.size();
+        if (evicted > 0) {
+            log.debug("보관 시간이 지난 작업별 구간 집계 제거 - {}건, 남은 작업: {}", evicted, jobTraces.size());
+        }
+    }
+
+    @Override
+    public void collect(PrometheusTextWriter writer) {
+        writer.counter("trace_spans_recorded_total", "기록한 작업 구간 수", recentSpans.recordedCount());
+        writer.gauge("trace_jobs_tracked", "구간 집계를 보관 중인 작업 수", jobTraces.size());
+        writer.gauge("trace_span_buffer_capacity", "최근 구간 링 버퍼 크기", recentSpans.capacity());
+    }
+
+    /**
+     * 최대 보관 수를 넘으면 가장 오래 갱신되지 않은 작업부터 제거
+     * 새 작업이 등록될 때만 호출되므로 정렬 비용은 작업 수 기준으로 제한됨
+     */
+    private void evictOverflowJobTraces() {
+        int overflow = jobTraces.size() - config.getMaxJobs();
+        if (overflow <= 0) {
+            return;
+        }
+        jobTraces.entrySet().stream()
+            .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUpdatedMillis))
+            .limit(overflow)
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(jobTraces::remove);
+        log.debug("최대 보관 수 초과로 작업별 구간 집계 제거 - {}건", overflow);
+    }
+
+    private Instant toInstant(long nanos) {
+        return Instant.ofEpochMilli(baseEpochMillis + (nanos - baseNanos) / 1_000_000);
+    }
+
+    private static void setCurrentJob(UUID jobId) {
+        if (jobId == null) {
+            CURRENT_JOB.remove();
+        } else {
+            CURRENT_JOB.set(jobId);
+        }
+    }
+
+    /**
+     * 작업 연결 범위 (닫으면 이전 작업으로 복원)
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        Scope NOOP = () -> { };
+
+        @Override
+        void close();
+    }
+
+    /**
+     * 진행 중인 구간 (닫을 때 한 번 기록)
+     */
+    public static final class Span implements AutoCloseable {
+        static final Span NOOP = new Span(null, null, null, null, 0);
+
+        private final SpanTracer tracer;
+        private final UUID jobId;
+        private final SpanType type;
+        private final String name;
+        private final long startNanos;
+
+        private Span(SpanTracer tracer, UUID jobId, SpanType type, String name, long startNanos) {
+            this.tracer = tracer;
+            this.jobId = jobId;
+            this.type = type;
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (tracer != null) {
+                tracer.record(jobId, type, name, startNanos, System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    /**
+     * 작업별 구간 종류마다 건수/합계/최대 시간 집계
+     */
+    private final class JobTrace {
+        private final LongAdder[] counts = new LongAdder[SPAN_TYPES.length];
+        private final LongAdder[] totalNanos = new LongAdder[SPAN_TYPES.length];
+        private final LongAccumulator[] maxNanos = new LongAccumulator[SPAN_TYPES.length];
+        private final LongAccumulator firstStartNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator lastEndNanos = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        private volatile long lastUpdatedMillis = System.currentTimeMillis();
+
+        private JobTrace() {
+            for (int i = 0; i < SPAN_TYPES.length; i++) {
+                counts[i] = new LongAdder();
+                totalNanos[i] = new LongAdder();
+                maxNanos[i] = new LongAccumulator(Math::max, 0);
+            }
+        }
+
+        private void record(SpanType type, long startNanos, long durationNanos) {
+            int index = type.ordinal();
+            counts[index].increment();
+            totalNanos[index].add(durationNanos);
+            maxNanos[index].accumulate(durationNanos);
+            firstStartNanos.accumulate(startNanos);
+            lastEndNanos.accumulate(startNanos + durationNanos);
+            lastUpdatedMillis = System.currentTimeMillis();
+        }
+
+        private JobTraceSummary summarize(UUID jobId, List<RecordedSpan> recent) {
+            long spanCount = 0;
+            long spanNanos = 0;
+            for (int i = 0; i < SPAN_TYPES.length; i++) {
+                spanCount += counts[i].sum();
+                spanNanos += totalNanos[i].sum();
+            }
+
+            List<JobTraceSummary.Breakdown> breakdown = new ArrayList<>();
+            for (SpanType type : SPAN_TYPES) {
+                int index = type.ordinal();
+                long count = counts[index].sum();
+                if (count == 0) {
+                    continue;
+                }
+                long total = totalNanos[index].sum();
+                breakdown.add(new JobTraceSummary.Breakdown(
+                    type,
+                    type.getDescription(),
+                    count,
+                    toMillis(total),
+                    toMillis(total / count),
+                    toMillis(maxNanos[index].get()),
+                    spanNanos == 0 ? 0.0 : Math.round((double) total / spanNanos * 100 * 100) / 100.0
+                ));
+            }
+            breakdown.sort(Comparator.comparingDouble(JobTraceSummary.Breakdown::totalMillis).reversed());
+
+            long firstStart = firstStartNanos.get();
+            long wallClockNanos = spanCount == 0 ? 0 : lastEndNanos.get() - firstStart;
+            return new JobTraceSummary(
+                jobId,
+                spanCount == 0 ? null : toInstant(firstStart),
+                wallClockNanos / 1_000_000,
+                spanCount,
+                breakdown,
+                recent
+            );
+        }
+
+        private static double toMillis(long nanos) {
+            return Math.round(nanos / 10_000.0) / 100.0;
+        }
+    }
+}
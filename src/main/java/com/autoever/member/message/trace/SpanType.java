@@ -0,0 +1,25 @@
+package com.autoever.member.message.trace;
+
+/**
+ * 대량 발송 작업 구간 종류 (작업별 시간 분석 단위)
+ */
+public enum SpanType {
+    AUDIENCE_QUERY("연령대 대상 조회"),
+    PAGE_FETCH("페이지 조회"),
+    BATCH_PROCESS("서브 배치 처리"),
+    TEMPLATE_RENDER("템플릿 렌더링"),
+    QUEUE_ENQUEUE("큐 적재"),
+    QUEUE_WAIT("큐 대기"),
+    RATE_LIMIT_WAIT("Rate limit 대기"),
+    PROVIDER_CALL("외부 API 호출");
+
+    private final String description;
+
+    SpanType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,18 @@
+package com.autoever.member.repository;
+
+import com.autoever.member.entity.BulkMessageJob;
+import com.autoever.member.message.dto.BulkMessageResponse.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BulkMessageJobRepository extends JpaRepository<BulkMessageJob, UUID> {
+
+    /**
+     * 특정 상태의 작업을 생성 순으로 조회 (재시작 시 재개 대상 조회용)
+     */
+    List<BulkMessageJob> findByStatusOrderByCreatedAtAsc(JobStatus status);
+}
@@ -0,0 +1,145 @@
+package com.autoever.member.repository;
+
+import com.autoever.member.message.dto.IdRange;
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.message.segment.UserSegmentAttributes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Year;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 수신자 프로젝션 커서 조회 리포지토리
+ * JPA 영속성 컨텍스트를 거치지 않고 JDBC 커서로 필요한 컬럼만 스트리밍 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecipientCursorRepository {
+
+    private static final String SELECT_RECIPIENTS_BY_BIRTH_YEAR_RANGE =
+        "SELECT u.id, u.name, u.phone_number FROM users u " +
+        "WHERE u.birth_year BETWEEN ? AND ? " +
+        "ORDER BY u.id";
+    
+    private static final String SELECT_RECIPIENTS_BY_BIRTH_YEAR_AND_ID_RANGE =
+        "SELECT u.id, u.name, u.phone_number FROM users u " +
+        "WHERE u.birth_year BETWEEN ? AND ? AND u.id BETWEEN ? AND ? " +
+        "ORDER BY u.id";
+    
+    private static final String SELECT_SEGMENT_ATTRIBUTES =
+        "SELECT u.id, u.address, u.social_number, u.birth_year, u.created_at FROM users u ORDER BY u.id";
+    
+    private static final String SELECT_ID_BOUNDS_BY_BIRTH_YEAR_RANGE =
+        "SELECT MIN(u.id), MAX(u.id) FROM users u WHERE u.birth_year BETWEEN ? AND ?";
+
+    private static final RowMapper<Recipient> RECIPIENT_ROW_MAPPER = (rs, rowNum) -> new Recipient(
+        rs.getLong("id"),
+        rs.getString("name"),
+        rs.getString("phone_number")
+    );
+
+    private static final RowMapper<UserSegmentAttributes> SEGMENT_ATTRIBUTES_ROW_MAPPER = (rs, rowNum) -> {
+        Integer birthYear = rs.getObject("birth_year", Integer.class);
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new UserSegmentAttributes(
+            rs.getLong("id"),
+            rs.getString("address"),
+            rs.getString("social_number"),
+            birthYear,
+            createdAt != null ? createdAt.toLocalDateTime().toLocalDate() : null
+        );
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 특정 연령대의 수신자를 전방향 커서로 조회
+     * 반환된 스트림은 커넥션을 점유하므로 반드시 닫아야 함 (try-with-resources)
+     *
+     * @param minAge 최소 나이
+     * @param maxAge 최대 나이
+     * @param fetchSize JDBC fetch size
+     * @return 수신자 스트림
+     */
+    public Stream<Recipient> streamByAgeRange(int minAge, int maxAge, int fetchSize) {
+        int currentYear = Year.now().getValue();
+        return jdbcTemplate.queryForStream(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                SELECT_RECIPIENTS_BY_BIRTH_YEAR_RANGE, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setInt(1, currentYear - maxAge);
+            ps.setInt(2, currentYear - minAge);
+            return ps;
+        }, RECIPIENT_ROW_MAPPER);
+    }
+    
+    /**
+     * 특정 연령대 수신자 중 특정 ID 범위를 전방향 커서로 조회 (파티션 병렬 조회용)
+     * 반환된 스트림은 커넥션을 점유하므로 반드시 닫아야 함 (try-with-resources)
+     *
+     * @param minAge 최소 나이
+     * @param maxAge 최대 나이
+     * @param idRange 조회할 ID 범위
+     * @param fetchSize JDBC fetch size
+     * @return 수신자 스트림
+     */
+    public Stream<Recipient> streamByAgeRangeAndIdRange(int minAge, int maxAge, IdRange idRange, int fetchSize) {
+        int currentYear = Year.now().getValue();
+        return jdbcTemplate.queryForStream(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                SELECT_RECIPIENTS_BY_BIRTH_YEAR_AND_ID_RANGE, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setInt(1, currentYear - maxAge);
+            ps.setInt(2, currentYear - minAge);
+            ps.setLong(3, idRange.lowerId());
+            ps.setLong(4, idRange.upperId());
+            return ps;
+        }, RECIPIENT_ROW_MAPPER);
+    }
+    
+    /**
+     * 전체 회원의 세그먼트 속성을 전방향 커서로 조회 (세그먼트 색인 구성용)
+     * 반환된 스트림은 커넥션을 점유하므로 반드시 닫아야 함 (try-with-resources)
+     *
+     * @param fetchSize JDBC fetch size
+     * @return 세그먼트 속성 스트림
+     */
+    public Stream<UserSegmentAttributes> streamSegmentAttributes(int fetchSize) {
+        return jdbcTemplate.queryForStream(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                SELECT_SEGMENT_ATTRIBUTES, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, SEGMENT_ATTRIBUTES_ROW_MAPPER);
+    }
+    
+    /**
+     * 특정 연령대 수신자의 최소/최대 ID 조회 (파티션 분할 기준)
+     *
+     * @param minAge 최소 나이
+     * @param maxAge 최대 나이
+     * @return ID 범위 (대상자가 없으면 빈 값)
+     */
+    public Optional<IdRange> findIdRangeByAgeRange(int minAge, int maxAge) {
+        int currentYear = Year.now().getValue();
+        ResultSetExtractor<Optional<IdRange>> extractor = rs -> {
+            if (!rs.next()) {
+                return Optional.empty();
+            }
+            long lowerId = rs.getLong(1);
+            if (rs.wasNull()) {
+                return Optional.empty();
+            }
+            return Optional.of(new IdRange(lowerId, rs.getLong(2)));
+        };
+        return jdbcTemplate.query(SELECT_ID_BOUNDS_BY_BIRTH_YEAR_RANGE, extractor, currentYear - maxAge, currentYear - minAge);
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -38,26 +40,39 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     /**
      * 특정 연령대의 사용자를 페이지 단위로 조회
-     * 주민등록번호의 연도와 성별 코드를 기반으로 계산
+     * 나이 범위를 출생연도 범위로 변환하여 birth_year 인덱스 범위 스캔으로 처리
      */
-    @Query(value = "SELECT u FROM User u WHERE " +
-           "YEAR(CURRENT_DATE) - " +
-           "CASE " +
-           "  WHEN SUBSTRING(u.socialNumber, 8, 1) IN ('1', '2') THEN 1900 + CAST(SUBSTRING(u.socialNumber, 1, 2) AS INTEGER) " +
-           "  WHEN SUBSTRING(u.socialNumber, 8, 1) IN ('3', '4') THEN 2000 + CAST(SUBSTRING(u.socialNumber, 1, 2) AS INTEGER) " +
-           "END " +
-           "BETWEEN :minAge AND :maxAge")
-    Page<User> findUsersByAgeRange(int minAge, int maxAge, Pageable pageable);
+    default Page<User> findUsersByAgeRange(int minAge, int maxAge, Pageable pageable) {
+        int currentYear = Year.now().getValue();
+        return findByBirthYearBetween(currentYear - maxAge, currentYear - minAge, pageable);
+    }
     
     /**
      * 특정 연령대의 사용자 수 조회
      */
-    @Query(value = "SELECT COUNT(u) FROM User u WHERE " +
-           "YEAR(CURRENT_DATE) - " +
-           "CASE " +
-           "  WHEN SUBSTRING(u.socialNumber, 8, 1) IN ('1', '2') THEN 1900 + CAST(SUBSTRING(u.socialNumber, 1, 2) AS INTEGER) " +
-           "  WHEN SUBSTRING(u.socialNumber, 8, 1) IN ('3', '4') THEN 2000 + CAST(SUBSTRING(u.socialNumber, 1, 2) AS INTEGER) " +
-           "END " +
-           "BETWEEN :minAge AND :maxAge")
-    long countUsersByAgeRange(int minAge, int maxAge);
+    default long countUsersByAgeRange(int minAge, int maxAge) {
+        int currentYear = Year.now().getValue();
+        return countByBirthYearBetween(currentYear - maxAge, currentYear - minAge);
+    }
+    
+    Page<User> findByBirthYearBetween(int fromBirthYear, int toBirthYear, Pageable pageable);
+    
+    long countByBirthYearBetween(int fromBirthYear, int toBirthYear);
+    
+    /**
+     * 출생연도가 비어있는 사용자를 ID 순으로 조회 (백필용 keyset 페이징)
+     */
+    List<User> findTop500ByBirthYearIsNullAndIdGreaterThanOrderByIdAsc(Long id);
+    
+    /**
+     * 출생연도별 사용자 수 집계 (수신 대상 집계 초기화용)
+     */
+    @Query("SELECT u.birthYear, COUNT(u) FROM User u WHERE u.birthYear IS NOT NULL GROUP BY u.birthYear")
+    List<Object[]> countGroupByBirthYear();
+    
+    /**
+     * 가입일별 사용자 수 집계 (수신 대상 집계 초기화용)
+     */
+    @Query("SELECT CAST(u.createdAt AS LocalDate), COUNT(u) FROM User u GROUP BY CAST(u.createdAt AS LocalDate)")
+    List<Object[]> countGroupBySignupDate();
 }
\ No newline at end of file
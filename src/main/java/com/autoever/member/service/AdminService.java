@@ -5,6 +5,9 @@ import com.autoever.member.dto.UserUpdateDto;
 import com.autoever.member.entity.User;
 import com.autoever.member.exception.DuplicatePhoneNumberException;
 import com.autoever.member.exception.UserNotFoundException;
+import com.autoever.member.message.segment.SegmentIndex;
+import com.autoever.member.message.segment.UserSegmentAttributes;
+import com.autoever.member.message.service.AudienceHistogramService;
 import com.autoever.member.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +28,8 @@ public class AdminService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AudienceHistogramService audienceHistogramService;
+    private final SegmentIndex segmentIndex;
 
     /**
      * 전체 회원 목록을 페이징하여 조회
@@ -96,11 +101,16 @@ public class AdminService {
         
         log.info("회원 수정 대상 확인: userId={}, username={}", user.getId(), user.getUsername());
         
+        Integer previousBirthYear = user.getBirthYear();
+        UserSegmentAttributes previousAttributes = UserSegmentAttributes.from(user);
+        
         // 선택적 필드 업데이트 (암호와 주소만)
         updateUserFields(user, updateDto);
         
         // 변경사항 저장
         User updatedUser = userRepository.save(user);
+        audienceHistogramService.recordUpdate(previousBirthYear, updatedUser);
+        segmentIndex.recordUpdate(previousAttributes, updatedUser);
         
         log.info("관리자 회원 정보 수정 완료: userId={}, updatedFields={}", 
             updatedUser.getId(), getUpdatedFields(updateDto));
@@ -192,6 +202,8 @@ public class AdminService {
         
         // 회원 삭제 실행
         userRepository.delete(user);
+        audienceHistogramService.recordDeletion(user);
+        segmentIndex.recordDeletion(user);
         
         log.info("관리자 회원 삭제 완료: userId={}, username={}", id, username);
     }
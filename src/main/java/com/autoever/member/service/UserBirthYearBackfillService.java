@@ -0,0 +1,84 @@
+package com.autoever.member.service;
+
+import com.autoever.member.entity.User;
+import com.autoever.member.message.service.AgeCalculationService;
+import com.autoever.member.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 출생연도 컬럼 백필 서비스
+ * birth_year 컬럼 도입 이전에 저장된 사용자의 출생연도를 주민등록번호로부터 채움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserBirthYearBackfillService {
+
+    private final UserRepository userRepository;
+    private final AgeCalculationService ageCalculationService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 애플리케이션 시작 시 출생연도가 비어있는 사용자 백필
+     */
+    @PostConstruct
+    public void backfillOnStartup() {
+        long updated = backfillMissingBirthYears();
+        if (updated > 0) {
+            log.info("출생연도 백필 완료 - 갱신 건수: {}", updated);
+        }
+    }
+
+    /**
+     * 출생연도가 비어있는 사용자를 ID 순으로 배치 단위 갱신
+     * 배치마다 별도 트랜잭션으로 커밋하여 대용량 테이블에서도 영속성 컨텍스트가 커지지 않도록 함
+     *
+     * @return 출생연도가 채워진 사용자 수
+     */
+    public long backfillMissingBirthYears() {
+        long updated = 0;
+        long lastId = 0L;
+
+        while (true) {
+            final long cursor = lastId;
+            BackfillBatch batch = transactionTemplate.execute(status -> backfillBatch(cursor));
+            if (batch == null || batch.lastId() == null) {
+                break;
+            }
+            updated += batch.updated();
+            lastId = batch.lastId();
+        }
+        return updated;
+    }
+
+    private BackfillBatch backfillBatch(long afterId) {
+        List<User> users = userRepository.findTop500ByBirthYearIsNullAndIdGreaterThanOrderByIdAsc(afterId);
+        if (users.isEmpty()) {
+            return new BackfillBatch(0, null);
+        }
+
+        int updated = 0;
+        for (User user : users) {
+            try {
+                Integer birthYear = ageCalculationService.calculateBirthYear(user.getSocialNumber());
+                if (birthYear != null) {
+                    user.assignBirthYear(birthYear);
+                    updated++;
+                }
+            } catch (IllegalArgumentException e) {
+                // 주민등록번호 형식이 잘못된 사용자는 건너뜀 (연령대 조회 대상에서 제외)
+                log.warn("출생연도 계산 실패로 백필 제외 - 사용자 ID: {}", user.getId());
+            }
+        }
+        return new BackfillBatch(updated, users.get(users.size() - 1).getId());
+    }
+
+    private record BackfillBatch(int updated, Long lastId) {
+    }
+}
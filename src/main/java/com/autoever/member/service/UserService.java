@@ -13,6 +13,9 @@ import com.autoever.member.exception.DuplicateSocialNumberException;
 import com.autoever.member.exception.InvalidCredentialsException;
 import com.autoever.member.exception.UserNotFoundException;
 import com.autoever.member.jwt.JwtTokenProvider;
+import com.autoever.member.message.segment.SegmentIndex;
+import com.autoever.member.message.service.AgeCalculationService;
+import com.autoever.member.message.service.AudienceHistogramService;
 import com.autoever.member.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +40,9 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final AgeCalculationService ageCalculationService;
+    private final AudienceHistogramService audienceHistogramService;
+    private final SegmentIndex segmentIndex;
 
     /**
      * 사용자 회원가입 처리
@@ -71,6 +77,8 @@ public class UserService {
         // 6. User 엔티티 생성 및 저장
         User user = createUserEntity(registrationDto, hashedPassword);
         User savedUser = userRepository.save(user);
+        audienceHistogramService.recordRegistration(savedUser);
+        segmentIndex.recordRegistration(savedUser);
         
         log.info("회원가입 완료: userId={}, username={}", savedUser.getId(), savedUser.getUsername());
 
@@ -151,6 +159,7 @@ public class UserService {
                 .email(registrationDto.email())
                 .phoneNumber(registrationDto.phoneNumber())
                 .address(registrationDto.address())
+                .birthYear(ageCalculationService.calculateBirthYear(registrationDto.socialNumber()))
                 .build();
     }
 
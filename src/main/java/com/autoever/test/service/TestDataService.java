@@ -1,6 +1,9 @@
 package com.autoever.test.service;
 
 import com.autoever.member.entity.User;
+import com.autoever.member.message.segment.SegmentIndex;
+import com.autoever.member.message.service.AgeCalculationService;
+import com.autoever.member.message.service.AudienceHistogramService;
 import com.autoever.member.repository.UserRepository;
 import com.autoever.test.dto.TestUserCreateRequest;
 import com.autoever.test.dto.TestUserCreateResponse;
@@ -24,6 +27,9 @@ public class TestDataService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AgeCalculationService ageCalculationService;
+    private final AudienceHistogramService audienceHistogramService;
+    private final SegmentIndex segmentIndex;
     
     // 랜덤 이름 목록
     private static final List<String> FIRST_NAMES = Arrays.asList(
@@ -58,6 +64,8 @@ public class TestDataService {
     public void deleteAllUsers() {
         long count = userRepository.count();
         userRepository.deleteAll();
+        audienceHistogramService.recordDeletionOfAll();
+        segmentIndex.recordDeletionOfAll();
         log.info("모든 유저 삭제 완료. 삭제된 유저 수: {}", count);
     }
     
@@ -83,6 +91,8 @@ public class TestDataService {
         
         // 응답 생성
         for (User user : savedUsers) {
+            audienceHistogramService.recordRegistration(user);
+            segmentIndex.recordRegistration(user);
             int age = calculateAge(user.getSocialNumber());
             summaries.add(new TestUserCreateResponse.UserSummary(
                 user.getId(),
@@ -136,6 +146,7 @@ public class TestDataService {
                 .email(email)
                 .phoneNumber(phoneNumber)
                 .address(address)
+                .birthYear(ageCalculationService.calculateBirthYear(socialNumber))
                 .build();
     }
     
@@ -0,0 +1,144 @@
+package com.autoever.member.config;
+
+import com.autoever.member.message.metrics.PrometheusTextWriter;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HttpLatencyFilter 테스트")
+class HttpLatencyFilterTest {
+
+    private HttpLatencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new HttpLatencyFilter();
+    }
+
+    @Test
+    @DisplayName("요청 경로가 아닌 매칭된 라우트 패턴과 상태 코드별로 집계")
+    void recordsByRoutePattern() throws Exception {
+        // When - 같은 패턴의 서로 다른 경로
+        perform("GET", "/api/admin/users/1", "/api/admin/users/{id}", 200);
+        perform("GET", "/api/admin/users/2", "/api/admin/users/{id}", 200);
+        perform("GET", "/api/admin/users/3", "/api/admin/users/{id}", 404);
+
+        // Then
+        assertThat(filter.getSnapshot("GET", "/api/admin/users/{id}").count()).isEqualTo(3);
+        assertThat(filter.getRequestCount("GET", "/api/admin/users/{id}", 200)).isEqualTo(2);
+        assertThat(filter.getRequestCount("GET", "/api/admin/users/{id}", 404)).isEqualTo(1);
+        assertThat(filter.getSnapshot("GET", "/api/admin/users/1").count()).isZero();
+        assertThat(filter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("컨트롤러에 도달하지 못한 요청은 UNMATCHED로 집계")
+    void unmatchedRequests() throws Exception {
+        // When - 인증 실패 등으로 핸들러 매핑 전에 응답
+        perform("POST", "/api/admin/messages/send", null, 401);
+
+        // Then
+        assertThat(filter.getRequestCount("POST", HttpLatencyFilter.UNMATCHED_ROUTE, 401)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("표준이 아닌 HTTP 메서드는 OTHER로 집계")
+    void nonStandardMethodsGrouped() throws Exception {
+        // When - 임의 메서드명으로 요청
+        perform("FOO", "/api/users/login", "/api/users/login", 405);
+        perform("BAR", "/api/users/unknown", null, 404);
+
+        // Then
+        assertThat(filter.getRequestCount(HttpLatencyFilter.OTHER_METHOD, "/api/users/login", 405)).isEqualTo(1);
+        assertThat(filter.getRequestCount(HttpLatencyFilter.OTHER_METHOD, HttpLatencyFilter.UNMATCHED_ROUTE, 404))
+            .isEqualTo(1);
+        assertThat(filter.getRequestCount("FOO", "/api/users/login", 405)).isZero();
+    }
+
+    @Test
+    @DisplayName("필터 체인에서 예외가 나면 500으로 집계하고 예외를 전달")
+    void exceptionCountedAsServerError() {
+        // Given
+        MockHttpServletRequest request = request("POST", "/api/users/login", "/api/users/login");
+        FilterChain failingChain = (req, res) -> {
+            throw new IllegalStateException("처리 실패");
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), failingChain))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(filter.getRequestCount("POST", "/api/users/login", 500)).isEqualTo(1);
+        assertThat(filter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 비동기 처리가 끝난 시점에 한 번만 기록")
+    void asyncRequestRecordedOnCompletion() throws Exception {
+        // Given
+        MockHttpServletRequest request = request("GET", "/api/admin/messages/jobs/1/stream",
+            "/api/admin/messages/jobs/{jobId}/stream");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicInteger started = new AtomicInteger();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            req.startAsync();
+            started.incrementAndGet();
+        });
+
+        // Then - 완료 전에는 처리 중으로 집계
+        assertThat(started).hasValue(1);
+        assertThat(filter.getInFlight()).isEqualTo(1);
+        assertThat(filter.getSnapshot("GET", "/api/admin/messages/jobs/{jobId}/stream").count()).isZero();
+
+        AsyncContext asyncContext = request.getAsyncContext();
+        asyncContext.complete();
+
+        assertThat(filter.getInFlight()).isZero();
+        assertThat(filter.getRequestCount("GET", "/api/admin/messages/jobs/{jobId}/stream", 200)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Prometheus 형식으로 처리 중 요청 수, 응답 시간, 상태 코드별 요청 수 출력")
+    void collectsPrometheusMetrics() throws Exception {
+        // Given
+        perform("POST", "/api/users/login", "/api/users/login", 200);
+        perform("POST", "/api/users/login", "/api/users/login", 401);
+
+        // When
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+        filter.collect(writer);
+        String output = writer.toString();
+
+        // Then
+        assertThat(output)
+            .contains("http_server_requests_in_flight 0")
+            .contains("http_server_request_duration_seconds_count{method=\"POST\",route=\"/api/users/login\"} 2")
+            .contains("http_server_requests_total{method=\"POST\",route=\"/api/users/login\",status=\"200\"} 1")
+            .contains("http_server_requests_total{method=\"POST\",route=\"/api/users/login\",status=\"401\"} 1");
+    }
+
+    private void perform(String method, String uri, String pattern, int status) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, uri, pattern), response, (req, res) -> response.setStatus(status));
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (pattern != null) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        }
+        return request;
+    }
+}
@@ -1,9 +1,15 @@
 package com.autoever.member.controller;
 
+import com.autoever.member.message.ApiType;
+import com.autoever.member.message.dto.AgeGroup;
 import com.autoever.member.message.dto.BulkMessageResponse;
 import com.autoever.member.message.dto.MessageSendDto;
+import com.autoever.member.message.job.BulkJobProgress;
+import com.autoever.member.message.job.BulkJobRegistry;
 import com.autoever.member.message.result.MessageSendTracker;
 import com.autoever.member.message.service.BulkMessageService;
+import com.autoever.member.message.trace.SpanTracer;
+import com.autoever.member.message.trace.SpanType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,9 +24,12 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -34,7 +43,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @TestPropertySource(properties = {
     "jwt.secret-key=dGVzdC1zZWNyZXQta2V5LWZvci10ZXN0aW5nLXB1cnBvc2VzLW9ubHktMTIzNDU2Nzg5MA==",
     "jwt.expiration-time=3600",
-    "async.enabled=false"
+    "async.enabled=false",
+    "message.events.directory=build/test-events"
 })
 class AdminMessageControllerTest {
     
@@ -50,6 +60,12 @@ class AdminMessageControllerTest {
     @MockBean
     private MessageSendTracker messageSendTracker;
     
+    @Autowired
+    private BulkJobRegistry bulkJobRegistry;
+    
+    @Autowired
+    private SpanTracer spanTracer;
+    
     @Test
     @WithMockUser(roles = "ADMIN")
     @DisplayName("대량 메시지 발송 요청 - 성공")
@@ -106,6 +122,30 @@ class AdminMessageControllerTest {
     }
     
     
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("대량 메시지 발송 예상 결과 조회 - 외부 API 호출 없이 채널별 예상치 반환")
+    void estimateBulkMessage_Success() throws Exception {
+        // Given
+        MessageSendDto request = new MessageSendDto("TWENTIES", "할인 쿠폰이 발급되었습니다!");
+        when(messageSendTracker.getApiCallStatistics(any(ApiType.class)))
+            .thenReturn(new MessageSendTracker.ApiCallStatistics());
+        
+        // When & Then
+        mockMvc.perform(post("/api/admin/messages/estimate")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.ageGroup").value("TWENTIES"))
+            .andExpect(jsonPath("$.data.channels.length()").value(2))
+            .andExpect(jsonPath("$.data.channels[0].apiType").value("KAKAOTALK"))
+            .andExpect(jsonPath("$.data.channels[0].rateLimitPerMinute").value(100));
+        
+        verify(bulkMessageService, never()).sendBulkMessage(any(MessageSendDto.class));
+    }
+    
     @Test
     @DisplayName("인증되지 않은 사용자 - 401")
     void unauthorized() throws Exception {
@@ -115,6 +155,79 @@ class AdminMessageControllerTest {
             .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("대량 발송 작업 진행 상태 조회 - 성공")
+    void getJobStatus_Success() throws Exception {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        BulkJobProgress progress = bulkJobRegistry.register(jobId, AgeGroup.TWENTIES, 4);
+        progress.incrementSuccess();
+        progress.incrementProcessed();
+        
+        // When & Then
+        mockMvc.perform(get("/api/admin/messages/jobs/{jobId}", jobId)
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.jobId").value(jobId.toString()))
+            .andExpect(jsonPath("$.data.status").value("IN_PROGRESS"))
+            .andExpect(jsonPath("$.data.totalUsers").value(4))
+            .andExpect(jsonPath("$.data.processedCount").value(1))
+            .andExpect(jsonPath("$.data.progressRate").value(25.0));
+    }
+    
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("대량 발송 작업 진행 상태 조회 - 존재하지 않는 작업")
+    void getJobStatus_NotFound() throws Exception {
+        mockMvc.perform(get("/api/admin/messages/jobs/{jobId}", UUID.randomUUID())
+                .with(csrf()))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.success").value(false));
+    }
+    
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("대량 발송 작업 진행 상태 조회 - 권한 없음")
+    void getJobStatus_Forbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/messages/jobs/{jobId}", UUID.randomUUID())
+                .with(csrf()))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("대량 발송 작업 구간 분석 조회 - 성공")
+    void getJobTrace_Success() throws Exception {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        long start = System.nanoTime();
+        spanTracer.record(jobId, SpanType.PROVIDER_CALL, "kakaotalk.send", start, 30_000_000);
+        spanTracer.record(jobId, SpanType.QUEUE_WAIT, "queue.dwell", start, 10_000_000);
+        
+        // When & Then
+        mockMvc.perform(get("/api/admin/messages/jobs/{jobId}/trace", jobId)
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.jobId").value(jobId.toString()))
+            .andExpect(jsonPath("$.data.spanCount").value(2))
+            .andExpect(jsonPath("$.data.breakdown[0].type").value("PROVIDER_CALL"))
+            .andExpect(jsonPath("$.data.breakdown[0].sharePercent").value(75.0))
+            .andExpect(jsonPath("$.data.recentSpans.length()").value(2));
+    }
+    
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("대량 발송 작업 구간 분석 조회 - 기록된 구간 없음")
+    void getJobTrace_NotFound() throws Exception {
+        mockMvc.perform(get("/api/admin/messages/jobs/{jobId}/trace", UUID.randomUUID())
+                .with(csrf()))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.success").value(false));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     @DisplayName("메시지 발송 통계 조회 - 성공")
@@ -154,6 +267,25 @@ class AdminMessageControllerTest {
             .andExpect(status().isForbidden());
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("최근 발송 처리율 조회 - 성공")
+    void getThroughput_Success() throws Exception {
+        // Given
+        when(messageSendTracker.getThroughput()).thenReturn(List.of(
+            new MessageSendTracker.ThroughputWindow(1, 90, 20, 10, 2.0, 75.0, 16.7, 8.3)
+        ));
+        
+        // When & Then
+        mockMvc.perform(get("/api/admin/messages/statistics/throughput")
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data[0].windowMinutes").value(1))
+            .andExpect(jsonPath("$.data[0].messagesPerSecond").value(2.0))
+            .andExpect(jsonPath("$.data[0].successRate").value(75.0));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     @DisplayName("메시지 발송 통계 초기화 - 성공")
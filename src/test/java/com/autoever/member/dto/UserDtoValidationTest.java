@@ -15,7 +15,7 @@ import java.util.Set;
 import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
-@TestPropertySource(properties = "async.enabled=false")
+@TestPropertySource(properties = {"async.enabled=false", "message.events.directory=build/test-events"})
 class UserDtoValidationTest {
 
     private Validator validator;
@@ -0,0 +1,201 @@
+package com.autoever.member.jdbc;
+
+import com.autoever.member.config.SqlProfilerProperties;
+import com.autoever.member.message.metrics.PrometheusTextWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProfilingDataSource 테스트")
+class ProfilingDataSourceTest {
+
+    private Connection keepAlive;
+    private ProfilingDataSource dataSource;
+    private SqlProfiler profiler;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DriverManagerDataSource target = new DriverManagerDataSource(
+            "jdbc:h2:mem:profiler-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        keepAlive = target.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("create table member (id bigint primary key, name varchar(50), birth date)");
+        }
+        profiler = profiler(Duration.ofMillis(100));
+        dataSource = new ProfilingDataSource(target, profiler);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @Test
+    @DisplayName("리터럴만 다른 구문은 하나의 형태로 집계하고 변경/조회 행 수를 기록")
+    void aggregatesByShapeWithRows() throws SQLException {
+        // Given
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                 "insert into member (id, name, birth) values (?, ?, ?)")) {
+            for (long id = 1; id <= 3; id++) {
+                insert.setLong(1, id);
+                insert.setString(2, "회원" + id);
+                insert.setObject(3, LocalDate.of(1990, 1, 1));
+                insert.executeUpdate();
+            }
+        }
+
+        // When
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            readAll(statement.executeQuery("select * from member where id > 0"));
+            readAll(statement.executeQuery("select * from member where id > 1"));
+        }
+
+        // Then
+        SqlStatementStatistics insertStatistics = find("insert into member (id, name, birth) values (?...)");
+        assertThat(insertStatistics.count()).isEqualTo(3);
+        assertThat(insertStatistics.rows()).isEqualTo(3);
+
+        SqlStatementStatistics selectStatistics = find("select * from member where id > ?");
+        assertThat(selectStatistics.count()).isEqualTo(2);
+        assertThat(selectStatistics.rows()).isEqualTo(5);
+        assertThat(selectStatistics.rowsPerCall()).isEqualTo(2.5);
+    }
+
+    @Test
+    @DisplayName("결과를 끝까지 읽지 않아도 구문을 닫을 때 읽은 행 수로 집계")
+    void countsRowsOnClose() throws SQLException {
+        // Given
+        insertMembers(3);
+
+        // When
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select id from member order by id")) {
+            ResultSet resultSet = statement.executeQuery();
+            resultSet.next();
+        }
+
+        // Then
+        assertThat(find("select id from member order by id").rows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임계값을 넘은 구문은 문자열 값을 노출하지 않는 바인드 요약과 함께 기록")
+    void capturesSlowStatementWithBindSummary() throws SQLException {
+        // Given - 모든 구문을 느린 구문으로 판정
+        profiler = profiler(Duration.ZERO);
+        dataSource = new ProfilingDataSource(dataSource.getTargetDataSource(), profiler);
+
+        // When
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                 "insert into member (id, name, birth) values (?, ?, ?)")) {
+            insert.setLong(1, 7L);
+            insert.setString(2, "홍길동");
+            insert.setNull(3, Types.DATE);
+            insert.executeUpdate();
+        }
+
+        // Then
+        List<SlowStatement> slowStatements = profiler.getSlowStatements();
+        assertThat(slowStatements).hasSize(1);
+        SlowStatement slow = slowStatements.get(0);
+        assertThat(slow.sql()).isEqualTo("insert into member (id, name, birth) values (?...)");
+        assertThat(slow.binds()).isEqualTo("[1=7, 2=String(3), 3=NULL]").doesNotContain("홍길동");
+        assertThat(slow.rows()).isEqualTo(1);
+        assertThat(slow.failed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("배치 실행은 한 번으로 집계하고 변경 행 수를 합산")
+    void aggregatesBatch() throws SQLException {
+        // When
+        insertMembers(4);
+
+        // Then
+        SqlStatementStatistics statistics = find("insert into member (id, name) values (?...)");
+        assertThat(statistics.count()).isEqualTo(1);
+        assertThat(statistics.rows()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("예외가 발생한 구문은 오류로 집계하고 예외를 그대로 전달")
+    void recordsFailedStatement() throws SQLException {
+        // When & Then
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertThatThrownBy(() -> statement.executeQuery("select * from missing_table"))
+                .isInstanceOf(SQLException.class);
+        }
+
+        assertThat(find("select * from missing_table").errors()).isEqualTo(1);
+
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+        profiler.collect(writer);
+        assertThat(writer.toString())
+            .contains("sql_statements_total 1")
+            .contains("sql_statement_errors_total 1");
+    }
+
+    @Test
+    @DisplayName("초기화하면 형태별 집계와 느린 구문 목록을 비움")
+    void reset() throws SQLException {
+        // Given
+        insertMembers(2);
+
+        // When
+        profiler.reset();
+
+        // Then
+        assertThat(profiler.getStatements(10)).isEmpty();
+        assertThat(profiler.getSlowStatements()).isEmpty();
+    }
+
+    private void insertMembers(int count) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement("insert into member (id, name) values (?, ?)")) {
+            for (long id = 1; id <= count; id++) {
+                insert.setLong(1, id);
+                insert.setString(2, "회원" + id);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private SqlStatementStatistics find(String sql) {
+        return profiler.getStatements(100).stream()
+            .filter(statistics -> statistics.sql().equals(sql))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("집계되지 않은 SQL: " + sql));
+    }
+
+    private static void readAll(ResultSet resultSet) throws SQLException {
+        try (resultSet) {
+            while (resultSet.next()) {
+                // 끝까지 읽기
+            }
+        }
+    }
+
+    private static SqlProfiler profiler(Duration slowThreshold) {
+        return new SqlProfiler(new SqlProfilerProperties(true, slowThreshold, 10, 100));
+    }
+}
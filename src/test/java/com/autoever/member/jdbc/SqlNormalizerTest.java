@@ -0,0 +1,63 @@
+package com.autoever.member.jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlNormalizer 테스트")
+class SqlNormalizerTest {
+
+    @Test
+    @DisplayName("문자열/숫자 리터럴은 ?로 치환하고 식별자 안의 숫자는 유지")
+    void replacesLiterals() {
+        // When
+        String shape = SqlNormalizer.normalize(
+            "select * from users u1_0 where u1_0.name = 'O''Brien' and u1_0.age >= 20 limit 100");
+
+        // Then
+        assertThat(shape).isEqualTo("select * from users u1_0 where u1_0.name = ? and u1_0.age >= ? limit ?");
+    }
+
+    @Test
+    @DisplayName("주석과 줄바꿈, 연속 공백을 제거")
+    void stripsCommentsAndWhitespace() {
+        // When - Hibernate use_sql_comments, format_sql 출력 형태
+        String shape = SqlNormalizer.normalize("""
+            /* select count(u) from User u */ select
+                count(u1_0.id)
+            from
+                users u1_0 -- 전체 회원 수
+            """);
+
+        // Then
+        assertThat(shape).isEqualTo("select count(u1_0.id) from users u1_0");
+    }
+
+    @Test
+    @DisplayName("IN 목록의 반복 바인드 자리는 길이와 관계없이 하나의 형태로 묶음")
+    void collapsesRepeatedPlaceholders() {
+        // When
+        String three = SqlNormalizer.normalize("select * from users where id in (?, ?, ?)");
+        String five = SqlNormalizer.normalize("select * from users where id in (?,?,?,?,?)");
+        String single = SqlNormalizer.normalize("select * from users where id = ? and age > ?");
+
+        // Then
+        assertThat(three).isEqualTo("select * from users where id in (?...)");
+        assertThat(five).isEqualTo(three);
+        assertThat(single).isEqualTo("select * from users where id = ? and age > ?");
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 SQL은 잘라냄")
+    void truncatesLongSql() {
+        // Given
+        String sql = "select " + "column_name, ".repeat(500) + "id from users";
+
+        // When
+        String shape = SqlNormalizer.normalize(sql);
+
+        // Then
+        assertThat(shape).hasSizeLessThanOrEqualTo(SqlNormalizer.MAX_LENGTH + 2).endsWith(" …");
+    }
+}
@@ -0,0 +1,159 @@
+package com.autoever.member.jfr;
+
+import com.autoever.member.message.ApiType;
+import com.autoever.member.message.queue.MessageQueueItem;
+import com.autoever.member.message.queue.MessageQueueService;
+import com.autoever.member.message.ratelimit.ApiRateLimiter;
+import com.autoever.member.message.ratelimit.RecipientFrequencyCap;
+import com.autoever.member.message.template.MessageTemplate;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JFR 이벤트 테스트")
+class FlightRecorderEventsTest {
+
+    @TempDir
+    Path directory;
+
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        recording.enable(MessageEnqueueEvent.class);
+        recording.enable(MessageDequeueEvent.class);
+        recording.enable(RateLimitDeniedEvent.class);
+        recording.enable(BcryptVerificationEvent.class);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    @DisplayName("큐 적재/꺼내기 - 채널, 작업 ID, 큐 깊이 기록")
+    void recordsQueueEvents() throws IOException {
+        // Given
+        MessageQueueService queueService = new MessageQueueService();
+        UUID jobId = UUID.randomUUID();
+        queueService.enqueue(jobId, "홍길동", "010-1234-5678", MessageTemplate.compile("안녕하세요"),
+            ApiType.KAKAOTALK, null, RecipientFrequencyCap.UNCOUNTED);
+        queueService.enqueue(jobId, "김철수", "010-9876-5432", MessageTemplate.compile("안녕하세요"),
+            ApiType.SMS, null, RecipientFrequencyCap.UNCOUNTED);
+
+        // When
+        MessageQueueItem item = queueService.dequeue();
+        List<RecordedEvent> events = stopAndRead();
+
+        // Then
+        assertThat(item).isNotNull();
+        List<RecordedEvent> enqueues = eventsOf(events, "com.autoever.member.MessageEnqueue");
+        assertThat(enqueues).hasSize(2);
+        assertThat(enqueues.get(0).getString("channel")).isEqualTo("KAKAOTALK");
+        assertThat(enqueues.get(0).getString("jobId")).isEqualTo(jobId.toString());
+        assertThat(enqueues.get(0).getBoolean("accepted")).isTrue();
+        assertThat(enqueues.get(1).getInt("queueDepth")).isEqualTo(2);
+
+        List<RecordedEvent> dequeues = eventsOf(events, "com.autoever.member.MessageDequeue");
+        assertThat(dequeues).hasSize(1);
+        assertThat(dequeues.get(0).getString("channel")).isEqualTo("KAKAOTALK");
+        assertThat(dequeues.get(0).getInt("queueDepth")).isEqualTo(1);
+        assertThat(dequeues.get(0).getLong("queueWaitMicros")).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("빈 큐에서 꺼내기 - 이벤트 기록 안 함")
+    void skipsEmptyDequeue() throws IOException {
+        // Given
+        MessageQueueService queueService = new MessageQueueService();
+
+        // When
+        queueService.dequeue();
+        List<RecordedEvent> events = stopAndRead();
+
+        // Then
+        assertThat(eventsOf(events, "com.autoever.member.MessageDequeue")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Rate Limit 초과 - 거부 이벤트에 채널과 허용량 기록")
+    void recordsRateLimitDenial() throws IOException {
+        // Given
+        ApiRateLimiter rateLimiter = new ApiRateLimiter();
+        for (int i = 0; i < ApiType.KAKAOTALK.getRateLimit(); i++) {
+            rateLimiter.tryAcquire(ApiType.KAKAOTALK);
+        }
+
+        // When
+        boolean acquired = rateLimiter.tryAcquire(ApiType.KAKAOTALK);
+        List<RecordedEvent> events = stopAndRead();
+
+        // Then
+        assertThat(acquired).isFalse();
+        List<RecordedEvent> denials = eventsOf(events, "com.autoever.member.RateLimitDenied");
+        assertThat(denials).hasSize(1);
+        assertThat(denials.get(0).getString("channel")).isEqualTo("KAKAOTALK");
+        assertThat(denials.get(0).getInt("currentCount")).isEqualTo(ApiType.KAKAOTALK.getRateLimit());
+        assertThat(denials.get(0).getInt("limit")).isEqualTo(ApiType.KAKAOTALK.getRateLimit());
+    }
+
+    @Test
+    @DisplayName("BCrypt 검증 - 일치 여부와 비용 인자 기록")
+    void recordsBcryptVerification() throws IOException {
+        // Given
+        PasswordEncoder passwordEncoder = new FlightRecordingPasswordEncoder(new BCryptPasswordEncoder(4));
+        String encoded = passwordEncoder.encode("password123!");
+
+        // When
+        boolean matched = passwordEncoder.matches("password123!", encoded);
+        boolean mismatched = passwordEncoder.matches("wrong", encoded);
+        List<RecordedEvent> events = stopAndRead();
+
+        // Then
+        assertThat(matched).isTrue();
+        assertThat(mismatched).isFalse();
+        List<RecordedEvent> verifications = eventsOf(events, "com.autoever.member.BcryptVerification");
+        assertThat(verifications).hasSize(2);
+        assertThat(verifications.get(0).getBoolean("matched")).isTrue();
+        assertThat(verifications.get(0).getInt("cost")).isEqualTo(4);
+        assertThat(verifications.get(1).getBoolean("matched")).isFalse();
+    }
+
+    @Test
+    @DisplayName("해시 비용 인자 추출 - 형식이 아니면 -1")
+    void parsesBcryptCost() {
+        assertThat(BcryptVerificationEvent.costOf("$2a$10$abcdefghijklmnopqrstuv")).isEqualTo(10);
+        assertThat(BcryptVerificationEvent.costOf("plain-text")).isEqualTo(-1);
+        assertThat(BcryptVerificationEvent.costOf(null)).isEqualTo(-1);
+    }
+
+    private List<RecordedEvent> stopAndRead() throws IOException {
+        recording.stop();
+        Path file = directory.resolve("test.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> eventsOf(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .toList();
+    }
+}
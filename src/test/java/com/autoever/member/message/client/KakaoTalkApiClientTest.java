@@ -2,9 +2,11 @@ package com.autoever.member.message.client;
 
 import com.autoever.member.message.ApiType;
 import com.autoever.member.message.config.MessageApiConfig;
+import com.autoever.member.message.config.TracingConfig;
 import com.autoever.member.message.dto.MessageRequest;
 import com.autoever.member.message.dto.MessageResponse;
 import com.autoever.member.message.exception.ApiConnectionException;
+import com.autoever.member.message.trace.SpanTracer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -54,7 +56,7 @@ class KakaoTalkApiClientTest {
         when(restTemplateBuilder.setReadTimeout(any(Duration.class))).thenReturn(restTemplateBuilder);
         when(restTemplateBuilder.build()).thenReturn(restTemplate);
         
-        kakaoTalkApiClient = new KakaoTalkApiClient(messageApiConfig, restTemplateBuilder);
+        kakaoTalkApiClient = new KakaoTalkApiClient(messageApiConfig, restTemplateBuilder, new SpanTracer(new TracingConfig()));
     }
     
     @Test
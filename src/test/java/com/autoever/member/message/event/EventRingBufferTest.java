@@ -0,0 +1,91 @@
+package com.autoever.member.message.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EventRingBuffer 테스트")
+class EventRingBufferTest {
+
+    @Test
+    @DisplayName("크기는 2의 거듭제곱으로 올리고 가득 차면 추가 거부")
+    void rejectsWhenFull() {
+        // Given
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(3);
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // Then
+        assertThat(buffer.capacity()).isEqualTo(4);
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("꺼낸 자리는 다시 사용하며 순서 유지")
+    void drainsInOrderAndReusesSlots() {
+        // Given
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            buffer.offer(i);
+        }
+
+        // When
+        assertThat(buffer.drain(drained::add, 2)).isEqualTo(2);
+        buffer.offer(4);
+        buffer.offer(5);
+        buffer.drain(drained::add, 10);
+
+        // Then
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 추가해도 유실이나 중복 없음")
+    void concurrentProducers() throws InterruptedException {
+        // Given
+        int producers = 4;
+        int perProducer = 50_000;
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        Set<Integer> received = new HashSet<>();
+
+        // When
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        while (received.size() < producers * perProducer) {
+            buffer.drain(received::add, 256);
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(received).hasSize(producers * perProducer);
+        assertThat(buffer.size()).isZero();
+    }
+}
@@ -0,0 +1,142 @@
+package com.autoever.member.message.event;
+
+import com.autoever.member.message.config.StructuredEventConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.event.Level;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StructuredEventSink 테스트")
+class StructuredEventSinkTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("배치로 꺼낸 이벤트를 NDJSON 한 줄씩 기록")
+    void writesNdjsonLines() throws IOException {
+        // Given
+        StructuredEventSink sink = new StructuredEventSink(config(), objectMapper);
+        sink.publish(event("MESSAGE_FAILURE", Map.of("jobId", "job-1", "responseTimeMs", 120)));
+        sink.publish(event("JOB_START", Map.of("totalUsers", 3)));
+
+        // When
+        int written = sink.drain();
+        sink.shutdown();
+
+        // Then
+        List<String> lines = Files.readAllLines(directory.resolve("structured-events.ndjson"));
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("timestamp").asText()).matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3}");
+        assertThat(first.get("level").asText()).isEqualTo("WARN");
+        assertThat(first.get("eventType").asText()).isEqualTo("MESSAGE_FAILURE");
+        assertThat(first.get("responseTimeMs").asInt()).isEqualTo(120);
+        assertThat(sink.getWrittenCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DROP 정책 - 버퍼가 가득 차면 버리고 카운트")
+    void dropsWhenBufferFull() {
+        // Given
+        StructuredEventConfig config = config();
+        config.setBufferCapacity(2);
+        StructuredEventSink sink = new StructuredEventSink(config, objectMapper);
+
+        // When
+        boolean[] accepted = new boolean[3];
+        for (int i = 0; i < accepted.length; i++) {
+            accepted[i] = sink.publish(event("MESSAGE_FAILURE", Map.of()));
+        }
+
+        // Then
+        assertThat(accepted).containsExactly(true, true, false);
+        assertThat(sink.getDroppedCount()).isEqualTo(1);
+        assertThat(sink.getPendingCount()).isEqualTo(2);
+
+        // 꺼낸 뒤에는 다시 받음
+        sink.drain();
+        assertThat(sink.publish(event("MESSAGE_FAILURE", Map.of()))).isTrue();
+        sink.shutdown();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 파일 교체 후 보관 개수만 유지")
+    void rotatesBySize() throws IOException {
+        // Given - 한 줄(약 100바이트)마다 교체, 교체된 파일은 2개까지 보관
+        StructuredEventConfig config = config();
+        config.setMaxFileSize(DataSize.ofBytes(50));
+        config.setMaxHistory(2);
+        StructuredEventSink sink = new StructuredEventSink(config, objectMapper);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            sink.publish(event("JOB_START", Map.of("sequence", i)));
+            sink.drain();
+        }
+        sink.shutdown();
+
+        // Then - 현재 파일 1개 + 교체된 파일 2개
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(3);
+        }
+        List<String> current = Files.readAllLines(directory.resolve("structured-events.ndjson"));
+        assertThat(current).hasSize(1);
+        assertThat(objectMapper.readTree(current.get(0)).get("sequence").asInt()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("파일 기록은 로그 레벨과 관계없이 설정으로만 결정")
+    void enabledBySettings() throws IOException {
+        // Given - 애플리케이션 로그 출력은 끄고 파일만 기록
+        StructuredEventSink sink = new StructuredEventSink(config(), objectMapper);
+
+        // When
+        sink.publish(new StructuredEvent(System.currentTimeMillis(), Level.TRACE, "테스트 이벤트", "SYSTEM_RESOURCES",
+            Map.of("eventType", "SYSTEM_RESOURCES")));
+        sink.drain();
+        sink.shutdown();
+
+        // Then
+        assertThat(sink.isEnabled(Level.TRACE)).isTrue();
+        assertThat(Files.readAllLines(directory.resolve("structured-events.ndjson"))).hasSize(1);
+
+        // 전체 비활성화 또는 기록 대상이 없으면 이벤트를 만들지 않음
+        StructuredEventConfig disabled = config();
+        disabled.setEnabled(false);
+        assertThat(new StructuredEventSink(disabled, objectMapper).isEnabled(Level.ERROR)).isFalse();
+
+        StructuredEventConfig noTarget = config();
+        noTarget.setFileEnabled(false);
+        assertThat(new StructuredEventSink(noTarget, objectMapper).isEnabled(Level.ERROR)).isFalse();
+    }
+
+    private StructuredEventConfig config() {
+        StructuredEventConfig config = new StructuredEventConfig();
+        config.setDirectory(directory.toString());
+        config.setLogEnabled(false);
+        return config;
+    }
+
+    private static StructuredEvent event(String eventType, Map<String, Object> fields) {
+        Map<String, Object> data = new HashMap<>(fields);
+        data.put("eventType", eventType);
+        return new StructuredEvent(System.currentTimeMillis(), Level.WARN, "테스트 이벤트", eventType, data);
+    }
+}
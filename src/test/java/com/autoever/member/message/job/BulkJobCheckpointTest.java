@@ -0,0 +1,96 @@
+package com.autoever.member.message.job;
+
+import com.autoever.member.entity.BulkMessageJob;
+import com.autoever.member.entity.BulkMessageJobPartition;
+import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.IdRange;
+import com.autoever.member.message.dto.Recipient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BulkJobCheckpoint 테스트")
+class BulkJobCheckpointTest {
+
+    private final List<IdRange> partitions = List.of(new IdRange(1, 100), new IdRange(101, 200), new IdRange(201, 300));
+
+    @Test
+    @DisplayName("시작 시 모든 파티션이 남은 구간")
+    void startWithAllPartitionsRemaining() {
+        // Given
+        BulkJobCheckpoint checkpoint = createCheckpoint();
+
+        // When & Then
+        assertThat(checkpoint.remainingPartitions()).isEqualTo(partitions);
+        assertThat(checkpoint.lastProcessedIds()).containsExactly(0L, 100L, 200L);
+    }
+
+    @Test
+    @DisplayName("큐 적재된 수신자 이후 구간만 남고 완료된 파티션은 제외")
+    void advanceNarrowsRemainingPartitions() {
+        // Given
+        BulkJobCheckpoint checkpoint = createCheckpoint();
+
+        // When - 첫 파티션 전체, 두 번째 파티션 일부 처리
+        checkpoint.advance(createRecipients(1, 100));
+        int uncheckpointed = checkpoint.advance(createRecipients(101, 150));
+
+        // Then
+        assertThat(uncheckpointed).isEqualTo(150);
+        assertThat(checkpoint.remainingPartitions())
+            .containsExactly(new IdRange(151, 200), new IdRange(201, 300));
+    }
+
+    @Test
+    @DisplayName("저장 완료 표시 후 미저장 수신자 수 초기화")
+    void markCheckpointedResetsCounter() {
+        // Given
+        BulkJobCheckpoint checkpoint = createCheckpoint();
+        checkpoint.advance(createRecipients(201, 210));
+
+        // When
+        checkpoint.markCheckpointed();
+
+        // Then
+        assertThat(checkpoint.getUncheckpointedCount()).isZero();
+        assertThat(checkpoint.lastProcessedIds()).containsExactly(0L, 100L, 210L);
+    }
+
+    @Test
+    @DisplayName("저장된 작업에서 복원하면 사용자 정의 필드 값과 파티션별 진행 위치를 그대로 가져옴")
+    void restoreKeepsCustomFields() {
+        // Given
+        BulkMessageJob job = BulkMessageJob.builder()
+            .jobId(UUID.randomUUID())
+            .ageGroup(AgeGroup.TWENTIES)
+            .message("{custom.coupon} 쿠폰이 발급되었습니다!")
+            .customFields(Map.of("coupon", "WELCOME20"))
+            .totalUsers(200)
+            .build();
+        job.start(List.of(new BulkMessageJobPartition(1L, 100L, 100L),
+            new BulkMessageJobPartition(101L, 200L, 150L)));
+
+        // When
+        BulkJobCheckpoint checkpoint = BulkJobCheckpoint.restore(job);
+
+        // Then
+        assertThat(checkpoint.getCustomFields()).containsExactly(Map.entry("coupon", "WELCOME20"));
+        assertThat(checkpoint.remainingPartitions()).containsExactly(new IdRange(151, 200));
+    }
+
+    private BulkJobCheckpoint createCheckpoint() {
+        return BulkJobCheckpoint.start(UUID.randomUUID(), AgeGroup.TWENTIES, "메시지", 300, partitions);
+    }
+
+    private List<Recipient> createRecipients(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+            .mapToObj(id -> new Recipient(id, "사용자" + id, "010-0000-0000"))
+            .toList();
+    }
+}
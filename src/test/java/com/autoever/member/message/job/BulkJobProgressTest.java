@@ -0,0 +1,77 @@
+package com.autoever.member.message.job;
+
+import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.BulkMessageResponse.JobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BulkJobProgress 테스트")
+class BulkJobProgressTest {
+
+    @Test
+    @DisplayName("큐 적재 종료 후 마지막 메시지가 처리될 때 한 번만 완료 콜백 실행")
+    void completesWhenLastItemDelivered() {
+        // Given
+        BulkJobProgress progress = new BulkJobProgress(UUID.randomUUID(), AgeGroup.TWENTIES, 3);
+        AtomicInteger completions = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            progress.incrementEnqueued();
+        }
+        progress.recordDelivery(true, 1_000, 500);
+
+        // When
+        progress.awaitDeliveries(completions::incrementAndGet);
+
+        // Then - 아직 2건 미처리
+        assertThat(completions.get()).isZero();
+        assertThat(progress.getStatus()).isEqualTo(JobStatus.SENDING_MESSAGES);
+
+        progress.recordDelivery(false, 2_000, 700);
+        progress.recordDelivery(true, 3_000, -1);
+        assertThat(completions.get()).isEqualTo(1);
+        assertThat(progress.snapshot().delivery().deliveredCount()).isEqualTo(2);
+        assertThat(progress.snapshot().delivery().deliveryFailureCount()).isEqualTo(1);
+        assertThat(progress.snapshot().delivery().queueWait().count()).isEqualTo(3);
+        assertThat(progress.snapshot().delivery().sendLatency().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("적재된 메시지가 없으면 즉시 완료 콜백 실행")
+    void completesImmediatelyWhenNothingEnqueued() {
+        // Given
+        BulkJobProgress progress = new BulkJobProgress(UUID.randomUUID(), AgeGroup.TWENTIES, 1);
+        AtomicInteger completions = new AtomicInteger();
+
+        // When
+        progress.awaitDeliveries(completions::incrementAndGet);
+
+        // Then
+        assertThat(completions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발송 기한이 지나 버린 메시지도 처리 완료로 집계")
+    void completesWhenRemainingItemsExpire() {
+        // Given
+        BulkJobProgress progress = new BulkJobProgress(UUID.randomUUID(), AgeGroup.TWENTIES, 2);
+        AtomicInteger completions = new AtomicInteger();
+        progress.incrementEnqueued();
+        progress.incrementEnqueued();
+        progress.awaitDeliveries(completions::incrementAndGet);
+        progress.recordDelivery(true, 1_000, 500);
+
+        // When
+        progress.recordExpired(60_000_000);
+
+        // Then
+        assertThat(completions.get()).isEqualTo(1);
+        assertThat(progress.snapshot().delivery().expiredCount()).isEqualTo(1);
+        assertThat(progress.snapshot().delivery().queueWait().count()).isEqualTo(2);
+        assertThat(progress.snapshot().delivery().sendLatency().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,101 @@
+package com.autoever.member.message.job;
+
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.BulkJobAdmission;
+import com.autoever.member.message.dto.BulkMessageResponse.JobStatus;
+import com.autoever.member.message.queue.MessageQueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("BulkJobScheduler 테스트")
+class BulkJobSchedulerTest {
+
+    private BulkJobScheduler scheduler;
+    private final List<UUID> startedJobs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        BulkMessageConfig config = new BulkMessageConfig();
+        config.getAdmission().setMaxActiveJobs(2);
+        config.getAdmission().setMaxWaitingJobs(1);
+        config.getAdmission().setQueueSharePercent(80);
+
+        MessageQueueService messageQueueService = mock(MessageQueueService.class);
+        when(messageQueueService.getQueueStatus()).thenReturn(new MessageQueueService.QueueStatus(0, 1500));
+
+        scheduler = new BulkJobScheduler(config, messageQueueService);
+    }
+
+    @Test
+    @DisplayName("최대 동시 실행 수까지 바로 시작하고 큐 슬롯을 나눠 할당")
+    void admitsUpToMaxActiveJobs() {
+        // When
+        BulkJobAdmission first = submit(createProgress(1000));
+        BulkJobAdmission second = submit(createProgress(1000));
+
+        // Then
+        assertThat(first.state()).isEqualTo(BulkJobAdmission.State.ACTIVE);
+        assertThat(second.state()).isEqualTo(BulkJobAdmission.State.ACTIVE);
+        assertThat(startedJobs).containsExactly(first.jobId(), second.jobId());
+        assertThat(scheduler.queueSlotsPerJob()).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("초과 작업은 순번과 예상 대기 시간과 함께 대기, 대기열도 가득 차면 거절")
+    void queuesAndRejectsExtraJobs() {
+        // Given
+        submit(createProgress(1000));
+        submit(createProgress(1000));
+
+        // When
+        BulkJobProgress waitingProgress = createProgress(1000);
+        BulkJobAdmission waiting = submit(waitingProgress);
+        BulkJobAdmission rejected = submit(createProgress(1000));
+
+        // Then
+        assertThat(waiting.state()).isEqualTo(BulkJobAdmission.State.WAITING);
+        assertThat(waiting.position()).isEqualTo(1);
+        assertThat(waiting.estimatedWait()).isPositive();
+        assertThat(waitingProgress.getStatus()).isEqualTo(JobStatus.CREATED);
+        assertThat(rejected.state()).isEqualTo(BulkJobAdmission.State.REJECTED);
+        assertThat(startedJobs).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업이 끝나면 대기 작업을 순서대로 시작")
+    void startsWaitingJobOnRelease() {
+        // Given
+        BulkJobAdmission first = submit(createProgress(1000));
+        submit(createProgress(1000));
+        BulkJobProgress waitingProgress = createProgress(1000);
+        BulkJobAdmission waiting = submit(waitingProgress);
+
+        // When
+        scheduler.release(first.jobId());
+        scheduler.release(first.jobId());
+
+        // Then
+        assertThat(startedJobs).hasSize(3).last().isEqualTo(waiting.jobId());
+        assertThat(waitingProgress.getStatus()).isEqualTo(JobStatus.IN_PROGRESS);
+        assertThat(scheduler.getStatus().activeJobs()).hasSize(2);
+        assertThat(scheduler.getStatus().waitingJobs()).isEmpty();
+    }
+
+    private BulkJobAdmission submit(BulkJobProgress progress) {
+        return scheduler.submit(progress, () -> startedJobs.add(progress.getJobId()));
+    }
+
+    private BulkJobProgress createProgress(int totalUsers) {
+        return new BulkJobProgress(UUID.randomUUID(), AgeGroup.TWENTIES, totalUsers);
+    }
+}
@@ -0,0 +1,93 @@
+package com.autoever.member.message.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.autoever.member.message.config.LogSamplingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LogSampler 테스트")
+class LogSamplerTest {
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger("test.log-sampler." + System.nanoTime());
+        logger.setLevel(ch.qos.logback.classic.Level.DEBUG);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @Test
+    @DisplayName("키별 첫 건만 상세 로그, 나머지는 요약 한 줄로 집계")
+    void samplesFirstAndSummarizes() {
+        // Given - 비율 0이면 구간마다 키별 첫 건만 상세 출력
+        LogSampler sampler = new LogSampler(logger, new LogSampler.Settings(true, 0.0));
+
+        // When
+        long sampled = IntStream.range(0, 412)
+            .filter(i -> sampler.sample(Level.INFO, "카카오톡 발송 성공"))
+            .count();
+        boolean otherKey = sampler.sample(Level.INFO, "SMS 발송 성공");
+        sampler.flush("1초");
+
+        // Then
+        assertThat(sampled).isEqualTo(1);
+        assertThat(otherKey).isTrue();
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+            .containsExactly("카카오톡 발송 성공 ×412 (최근 1초)");
+
+        // 다음 구간의 첫 건은 다시 상세 출력
+        assertThat(sampler.sample(Level.INFO, "카카오톡 발송 성공")).isTrue();
+    }
+
+    @Test
+    @DisplayName("ERROR와 비활성화된 로거는 항상 상세 로그, 꺼진 레벨은 집계하지 않음")
+    void errorsAndDisabledAlwaysLogged() {
+        // Given
+        LogSampler sampler = new LogSampler(logger, new LogSampler.Settings(true, 0.0));
+        LogSampler disabled = new LogSampler(logger, new LogSampler.Settings(false, 0.0));
+
+        // When & Then
+        assertThat(IntStream.range(0, 10).allMatch(i -> sampler.sample(Level.ERROR, "오류"))).isTrue();
+        assertThat(IntStream.range(0, 10).allMatch(i -> disabled.sample(Level.INFO, "발송 성공"))).isTrue();
+
+        logger.setLevel(ch.qos.logback.classic.Level.WARN);
+        assertThat(sampler.sample(Level.INFO, "발송 성공")).isFalse();
+        sampler.flush("1초");
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로거별 설정이 전역 설정보다 우선")
+    void perLoggerSettings() {
+        // Given
+        LogSamplingConfig config = new LogSamplingConfig();
+        LogSamplingConfig.LoggerConfig processor = new LogSamplingConfig.LoggerConfig();
+        processor.setSampleRate(0.5);
+        config.getLoggers().put("MessageQueueProcessor", processor);
+        LogSamplingConfig.LoggerConfig client = new LogSamplingConfig.LoggerConfig();
+        client.setEnabled(false);
+        config.getLoggers().put("com.autoever.member.message.client.SmsApiClient", client);
+        LogSamplingScheduler scheduler = new LogSamplingScheduler(config);
+
+        // When & Then
+        assertThat(scheduler.settingsFor("com.autoever.member.message.queue.MessageQueueProcessor"))
+            .isEqualTo(new LogSampler.Settings(true, 0.5));
+        assertThat(scheduler.settingsFor("com.autoever.member.message.client.SmsApiClient"))
+            .isEqualTo(new LogSampler.Settings(false, 0.01));
+        assertThat(scheduler.settingsFor("com.autoever.member.message.client.KakaoTalkApiClient"))
+            .isEqualTo(new LogSampler.Settings(true, 0.01));
+    }
+}
@@ -0,0 +1,48 @@
+package com.autoever.member.message.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LatencyHistogram 테스트")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("버킷 상한값은 기록된 값 이상이며 상대 오차 12.5% 이내")
+    void bucketBoundsWithinRelativeError() {
+        for (long value : new long[]{0, 1, 7, 8, 15, 16, 17, 100, 1_000, 123_456, 10_000_000}) {
+            long upperBound = LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(value));
+
+            assertThat(upperBound).isGreaterThanOrEqualTo(value);
+            assertThat((double) upperBound - value).isLessThanOrEqualTo(Math.max(1, value * 0.125));
+        }
+    }
+
+    @Test
+    @DisplayName("균등 분포의 백분위 계산")
+    void percentiles() {
+        // Given - 1ms ~ 100ms 균등 분포
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 100).forEach(ms -> histogram.record(ms * 1_000L));
+
+        // When
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Then
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.p50Ms()).isCloseTo(50.0, within(50.0 * 0.125));
+        assertThat(snapshot.p99Ms()).isCloseTo(99.0, within(99.0 * 0.125));
+        assertThat(snapshot.maxMs()).isEqualTo(100.0);
+        assertThat(snapshot.meanMs()).isCloseTo(50.5, within(0.01));
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 빈 스냅샷")
+    void emptySnapshot() {
+        assertThat(new LatencyHistogram().snapshot()).isEqualTo(LatencyHistogram.Snapshot.EMPTY);
+    }
+}
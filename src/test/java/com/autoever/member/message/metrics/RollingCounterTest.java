@@ -0,0 +1,66 @@
+package com.autoever.member.message.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RollingCounter 테스트")
+class RollingCounterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private final RollingCounter counter = new RollingCounter(2, 60, clock::get);
+
+    @Test
+    @DisplayName("구간 안의 초 단위 건수만 합산")
+    void sumsWithinWindow() {
+        // Given - 30초 전 3건, 현재 1건 + 다른 분류 2건
+        counter.increment(0);
+        counter.increment(0);
+        counter.increment(0);
+        clock.addAndGet(30_000);
+        counter.increment(0);
+        counter.increment(1);
+        counter.increment(1);
+
+        // When & Then
+        assertThat(counter.sums(1)).containsExactly(1, 2);
+        assertThat(counter.sums(30)).containsExactly(1, 2);
+        assertThat(counter.sums(31)).containsExactly(4, 2);
+        assertThat(counter.sums(600)).containsExactly(4, 2);
+    }
+
+    @Test
+    @DisplayName("한 바퀴 지난 칸은 새 시각으로 덮어쓰고 지난 건수는 버림")
+    void wrapsAroundRing() {
+        // Given
+        counter.increment(0);
+        counter.increment(0);
+
+        // When - 같은 칸에 60초 뒤 기록
+        clock.addAndGet(60_000);
+        counter.increment(0);
+
+        // Then
+        assertThat(counter.sums(60)).containsExactly(1, 0);
+
+        // When - 아무 기록 없이 구간이 지나면 0
+        clock.addAndGet(61_000);
+
+        // Then
+        assertThat(counter.sums(60)).containsExactly(0, 0);
+    }
+
+    @Test
+    @DisplayName("초기화")
+    void clear() {
+        counter.increment(0);
+        counter.increment(1);
+
+        counter.clear();
+
+        assertThat(counter.sums(60)).containsExactly(0, 0);
+    }
+}
@@ -0,0 +1,155 @@
+package com.autoever.member.message.pipeline;
+
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.config.TracingConfig;
+import com.autoever.member.message.dto.AgeRange;
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.message.service.AdaptiveBatchSizer;
+import com.autoever.member.message.service.BatchSizeController;
+import com.autoever.member.message.service.UserQueryService;
+import com.autoever.member.message.template.MessageTemplateService;
+import com.autoever.member.message.trace.SpanTracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkSendPipeline 테스트")
+class BulkSendPipelineTest {
+
+    @Mock
+    private UserQueryService userQueryService;
+
+    @Mock
+    private AdaptiveBatchSizer adaptiveBatchSizer;
+
+    private BulkSendPipeline bulkSendPipeline;
+
+    private final AgeRange twentiesRange = new AgeRange(20, 29);
+
+    @BeforeEach
+    void setUp() {
+        BulkMessageConfig config = new BulkMessageConfig();
+        config.getPipeline().setBatchSize(10);
+        config.getPipeline().setPrefetchDepth(2);
+        config.getPipeline().setRenderQueueDepth(2);
+
+        lenient().when(adaptiveBatchSizer.create(any(UUID.class), anyInt()))
+            .thenReturn(BatchSizeController.fixed(10, 10));
+
+        bulkSendPipeline = new BulkSendPipeline(userQueryService, new MessageTemplateService(), config,
+            adaptiveBatchSizer, new SpanTracer(new TracingConfig()));
+    }
+
+    @Test
+    @DisplayName("조회 → 렌더링 → 큐 적재 순서대로 모든 수신자 처리")
+    @SuppressWarnings("unchecked")
+    void runPipeline() {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<List<Recipient>> consumer = invocation.getArgument(2);
+            for (int batch = 0; batch < 5; batch++) {
+                consumer.accept(createRecipients(batch * 10, 10));
+            }
+            return 50L;
+        }).when(userQueryService).processRecipientsByAgeRangeInPartitions(eq(twentiesRange), any(BatchSizeController.class), any(Consumer.class));
+
+        List<RenderedMessage> enqueued = new ArrayList<>();
+
+        // When
+        BulkSendPipeline.PipelineResult result = bulkSendPipeline.run(
+            UUID.randomUUID(), twentiesRange, "할인 쿠폰 발급!", enqueued::addAll);
+
+        // Then
+        assertThat(result.processedItems()).isEqualTo(50);
+        assertThat(enqueued).hasSize(50);
+        assertThat(enqueued.get(0).recipient().id()).isEqualTo(0L);
+        assertThat(enqueued.get(49).recipient().id()).isEqualTo(49L);
+        assertThat(enqueued.get(0).content()).contains("사용자0").contains("할인 쿠폰 발급!");
+        assertThat(result.stages())
+            .extracting(PipelineStageMetrics.StageSnapshot::stage)
+            .containsExactly("fetch", "render", "enqueue");
+        assertThat(result.stages())
+            .allSatisfy(stage -> assertThat(stage.processedItems()).isEqualTo(50));
+    }
+
+    @Test
+    @DisplayName("큐 적재 단계는 조회 배치를 서브 배치로 나누지 않고 그대로 적재")
+    @SuppressWarnings("unchecked")
+    void enqueueWholeBatches() {
+        // Given - 서브 배치 크기가 조회 배치보다 작은 제어기
+        when(adaptiveBatchSizer.create(any(UUID.class), anyInt())).thenReturn(BatchSizeController.fixed(10, 4));
+        doAnswer(invocation -> {
+            Consumer<List<Recipient>> consumer = invocation.getArgument(2);
+            consumer.accept(createRecipients(0, 10));
+            return 10L;
+        }).when(userQueryService).processRecipientsByAgeRangeInPartitions(eq(twentiesRange), any(BatchSizeController.class), any(Consumer.class));
+
+        List<Integer> enqueuedSizes = new ArrayList<>();
+
+        // When
+        BulkSendPipeline.PipelineResult result = bulkSendPipeline.run(
+            UUID.randomUUID(), twentiesRange, "메시지", batch -> enqueuedSizes.add(batch.size()));
+
+        // Then
+        assertThat(enqueuedSizes).containsExactly(10);
+        assertThat(result.processedItems()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("큐 적재 단계 실패 시 상류 단계까지 중단")
+    @SuppressWarnings("unchecked")
+    void enqueueFailureCancelsPipeline() {
+        // Given - 조회 단계는 계속 배치를 공급
+        doAnswer(invocation -> {
+            Consumer<List<Recipient>> consumer = invocation.getArgument(2);
+            for (int batch = 0; batch < 1_000; batch++) {
+                consumer.accept(createRecipients(batch * 10, 10));
+            }
+            return 10_000L;
+        }).when(userQueryService).processRecipientsByAgeRangeInPartitions(eq(twentiesRange), any(BatchSizeController.class), any(Consumer.class));
+
+        // When & Then
+        assertThatThrownBy(() -> bulkSendPipeline.run(UUID.randomUUID(), twentiesRange, "메시지", batch -> {
+            throw new RuntimeException("큐 용량 초과로 인한 발송 실패");
+        }))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("큐 용량 초과로 인한 발송 실패");
+    }
+
+    @Test
+    @DisplayName("조회 단계 실패 시 원인 예외 전달")
+    @SuppressWarnings("unchecked")
+    void fetchFailurePropagates() {
+        // Given
+        doThrow(new IllegalStateException("DB 오류"))
+            .when(userQueryService).processRecipientsByAgeRangeInPartitions(eq(twentiesRange), any(BatchSizeController.class), any(Consumer.class));
+
+        // When & Then
+        assertThatThrownBy(() -> bulkSendPipeline.run(UUID.randomUUID(), twentiesRange, "메시지", batch -> { }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("DB 오류");
+    }
+
+    private List<Recipient> createRecipients(int startId, int count) {
+        return IntStream.range(startId, startId + count)
+            .mapToObj(i -> new Recipient((long) i, "사용자" + i, "010-0000-" + String.format("%04d", i)))
+            .toList();
+    }
+}
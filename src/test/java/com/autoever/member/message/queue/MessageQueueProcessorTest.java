@@ -0,0 +1,92 @@
+package com.autoever.member.message.queue;
+
+import com.autoever.member.message.ApiType;
+import com.autoever.member.message.client.KakaoTalkApiClient;
+import com.autoever.member.message.client.SmsApiClient;
+import com.autoever.member.message.config.FrequencyCapConfig;
+import com.autoever.member.message.config.TracingConfig;
+import com.autoever.member.message.job.BulkJobRegistry;
+import com.autoever.member.message.ratelimit.ApiRateLimiter;
+import com.autoever.member.message.ratelimit.RecipientFrequencyCap;
+import com.autoever.member.message.result.MessageSendResult;
+import com.autoever.member.message.result.MessageSendTracker;
+import com.autoever.member.message.template.MessageTemplate;
+import com.autoever.member.message.trace.SpanTracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageQueueProcessor 테스트")
+class MessageQueueProcessorTest {
+
+    private static final String PHONE = "010-1234-5678";
+
+    @Mock
+    private ApiRateLimiter apiRateLimiter;
+
+    @Mock
+    private KakaoTalkApiClient kakaoTalkApiClient;
+
+    @Mock
+    private SmsApiClient smsApiClient;
+
+    @Mock
+    private MessageSendTracker messageSendTracker;
+
+    @Mock
+    private BulkJobRegistry bulkJobRegistry;
+
+    private MessageQueueService messageQueueService;
+    private RecipientFrequencyCap recipientFrequencyCap;
+    private MessageQueueProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        FrequencyCapConfig capConfig = new FrequencyCapConfig();
+        capConfig.setCaps(List.of(new FrequencyCapConfig.CapRule(Duration.ofHours(24), 1)));
+
+        messageQueueService = new MessageQueueService();
+        recipientFrequencyCap = new RecipientFrequencyCap(capConfig);
+        processor = new MessageQueueProcessor(messageQueueService, apiRateLimiter, kakaoTalkApiClient,
+            smsApiClient, messageSendTracker, recipientFrequencyCap, bulkJobRegistry,
+            new SpanTracer(new TracingConfig()));
+
+        lenient().when(apiRateLimiter.hasCapacity(any(ApiType.class))).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("발송 기한이 지난 메시지는 발송하지 않고 수신자 빈도 제한 발송 수를 되돌림")
+    void expiredMessageReleasesFrequencyCap() {
+        // Given - 적재 경로와 같이 빈도 제한을 먼저 확보한 뒤 이미 지난 기한으로 적재
+        UUID jobId = UUID.randomUUID();
+        int permit = recipientFrequencyCap.tryAcquire(PHONE);
+        assertThat(permit).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        messageQueueService.enqueue(jobId, "김철수", PHONE, MessageTemplate.compile("테스트 메시지"), ApiType.KAKAOTALK,
+            Instant.now().minusSeconds(1), permit);
+        assertThat(recipientFrequencyCap.tryAcquire(PHONE)).isEqualTo(RecipientFrequencyCap.CAPPED);
+
+        // When
+        processor.processQueue();
+
+        // Then
+        assertThat(messageQueueService.getQueueStatus().getCurrentSize()).isZero();
+        assertThat(messageQueueService.getQueueStatus().getExpiredCount()).isEqualTo(1);
+        verify(messageSendTracker).recordResult(MessageSendResult.EXPIRED, ApiType.KAKAOTALK);
+        verify(messageSendTracker).recordJobResult(jobId, MessageSendResult.EXPIRED);
+        verifyNoInteractions(kakaoTalkApiClient, smsApiClient);
+        assertThat(recipientFrequencyCap.tryAcquire(PHONE)).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+    }
+}
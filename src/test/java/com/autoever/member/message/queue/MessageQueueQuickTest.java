@@ -1,9 +1,17 @@
 package com.autoever.member.message.queue;
 
 import com.autoever.member.message.ApiType;
+import com.autoever.member.message.ratelimit.RecipientFrequencyCap;
+import com.autoever.member.message.template.CompiledTemplate;
+import com.autoever.member.message.template.MessageTemplate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -24,8 +32,9 @@ class MessageQueueQuickTest {
         assertThat(initialStatus.isFull()).isFalse();
         
         // 2. 메시지 추가
-        MessageQueueService.QueueResult result = queueService.enqueue(
-            "김철수", "010-1234-5678", "테스트 메시지", ApiType.KAKAOTALK);
+        MessageQueueService.QueueResult result = queueService.enqueue(null,
+            "김철수", "010-1234-5678", MessageTemplate.compile("테스트 메시지"),
+            ApiType.KAKAOTALK, null, RecipientFrequencyCap.UNCOUNTED);
         
         assertThat(result.isSuccess()).isTrue();
         assertThat(result.getQueueId()).isNotNull();
@@ -63,11 +72,11 @@ class MessageQueueQuickTest {
         
         // 100명이 메시지 요청
         for (int i = 1; i <= totalUsers; i++) {
-            MessageQueueService.QueueResult result = queueService.enqueue(
+            MessageQueueService.QueueResult result = queueService.enqueue(null,
                 "사용자" + i, 
                 "010-" + String.format("%04d", i) + "-5678",
-                "긴급 메시지 " + i,
-                (i % 2 == 0) ? ApiType.SMS : ApiType.KAKAOTALK
+                MessageTemplate.compile("긴급 메시지 " + i),
+                (i % 2 == 0) ? ApiType.SMS : ApiType.KAKAOTALK, null, RecipientFrequencyCap.UNCOUNTED
             );
             
             if (result.isSuccess()) {
@@ -111,11 +120,11 @@ class MessageQueueQuickTest {
         
         // 2000명이 메시지 요청
         for (int i = 1; i <= totalUsers; i++) {
-            MessageQueueService.QueueResult result = queueService.enqueue(
+            MessageQueueService.QueueResult result = queueService.enqueue(null,
                 "사용자" + i,
                 "010-" + String.format("%04d", i % 10000) + "-5678", 
-                "긴급 알림 " + i,
-                ApiType.KAKAOTALK
+                MessageTemplate.compile("긴급 알림 " + i),
+                ApiType.KAKAOTALK, null, RecipientFrequencyCap.UNCOUNTED
             );
             
             if (result.isSuccess()) {
@@ -140,10 +149,51 @@ class MessageQueueQuickTest {
         assertThat(status.getUsagePercent()).isEqualTo(100.0);
         
         // 추가 요청 시도 (실패해야 함)
-        MessageQueueService.QueueResult overflowResult = queueService.enqueue(
-            "오버플로우테스트", "010-9999-9999", "오버플로우 메시지", ApiType.SMS);
+        MessageQueueService.QueueResult overflowResult = queueService.enqueue(null,
+            "오버플로우테스트", "010-9999-9999", MessageTemplate.compile("오버플로우 메시지"),
+            ApiType.SMS, null, RecipientFrequencyCap.UNCOUNTED);
         
         assertThat(overflowResult.isSuccess()).isFalse();
         assertThat(overflowResult.getMessage()).contains("대기열이 가득참");
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("발송 기한이 지난 메시지는 꺼낼 때 건너뛰고 집계")
+    void testExpiredItemsSkippedAtDequeue() {
+        MessageQueueService queueService = new MessageQueueService();
+        UUID jobId = UUID.randomUUID();
+        List<MessageQueueItem> expired = new ArrayList<>();
+        
+        queueService.enqueue(jobId, "김철수", "010-1111-1111", MessageTemplate.compile("만료 메시지"), ApiType.KAKAOTALK,
+            Instant.now().minusSeconds(1), RecipientFrequencyCap.UNCOUNTED);
+        queueService.enqueue(jobId, "이영희", "010-2222-2222", MessageTemplate.compile("정상 메시지"), ApiType.KAKAOTALK,
+            Instant.now().plusSeconds(60), RecipientFrequencyCap.UNCOUNTED);
+        
+        MessageQueueItem item = queueService.dequeue(expired::add);
+        
+        assertThat(item).isNotNull();
+        assertThat(item.getMemberName()).isEqualTo("이영희");
+        assertThat(expired).hasSize(1);
+        assertThat(expired.get(0).getJobId()).isEqualTo(jobId);
+        assertThat(queueService.getQueueStatus().getExpiredCount()).isEqualTo(1);
+        assertThat(queueService.getQueueStatus().getCurrentSize()).isEqualTo(0);
+    }
+    
+    @Test
+    @DisplayName("템플릿으로 적재한 메시지는 꺼내서 발송할 때 렌더링")
+    void testTemplateRenderedAtDispatch() {
+        MessageQueueService queueService = new MessageQueueService();
+        CompiledTemplate template = MessageTemplate.compile("{maskedPhone} 번호로 쿠폰이 발급되었습니다.");
+        
+        queueService.enqueue(null, "김철수", "010-1234-5678", template,
+            ApiType.KAKAOTALK, null, RecipientFrequencyCap.UNCOUNTED);
+        queueService.enqueue(null, "이영희", "010-2222-3333", template,
+            ApiType.KAKAOTALK, null, RecipientFrequencyCap.UNCOUNTED);
+        
+        assertThat(queueService.dequeue().getMessage())
+            .isEqualTo("김철수님, 안녕하세요. 현대 오토에버입니다.\n\n010-****-5678 번호로 쿠폰이 발급되었습니다.");
+        MessageQueueItem second = queueService.dequeue();
+        assertThat(second.getMessage()).startsWith("이영희님").contains("010-****-3333");
+        assertThat(second.getMessage()).isSameAs(second.getMessage());
+    }
+}
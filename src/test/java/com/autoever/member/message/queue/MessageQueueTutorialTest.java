@@ -1,6 +1,8 @@
 package com.autoever.member.message.queue;
 
 import com.autoever.member.message.ApiType;
+import com.autoever.member.message.ratelimit.RecipientFrequencyCap;
+import com.autoever.member.message.template.MessageTemplate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -30,8 +32,9 @@ class MessageQueueTutorialTest {
         assertThat(status.getMaxSize()).isEqualTo(1500);
         
         // 2. 정상 추가 테스트
-        MessageQueueService.QueueResult result1 = queueService.enqueue(
-            "김철수", "010-1234-5678", "테스트 메시지 1", ApiType.KAKAOTALK);
+        MessageQueueService.QueueResult result1 = queueService.enqueue(null,
+            "김철수", "010-1234-5678", MessageTemplate.compile("테스트 메시지 1"),
+            ApiType.KAKAOTALK, null, RecipientFrequencyCap.UNCOUNTED);
         
         System.out.println("첫 번째 메시지 추가: " + result1.isSuccess() + " - " + result1.getMessage());
         assertThat(result1.isSuccess()).isTrue();
@@ -41,9 +44,9 @@ class MessageQueueTutorialTest {
         int successCount = 1; // 이미 1개 추가됨
         
         for (int i = 2; i <= 10; i++) {
-            MessageQueueService.QueueResult result = queueService.enqueue(
-                "사용자" + i, "010-1234-567" + (i % 10), "테스트 메시지 " + i, 
-                (i % 2 == 0) ? ApiType.SMS : ApiType.KAKAOTALK);
+            MessageQueueService.QueueResult result = queueService.enqueue(null,
+                "사용자" + i, "010-1234-567" + (i % 10), MessageTemplate.compile("테스트 메시지 " + i), 
+                (i % 2 == 0) ? ApiType.SMS : ApiType.KAKAOTALK, null, RecipientFrequencyCap.UNCOUNTED);
             
             if (result.isSuccess()) {
                 successCount++;
@@ -94,9 +97,10 @@ class MessageQueueTutorialTest {
         
         // 100명이 동시 요청하는 상황 시뮬레이션
         for (int i = 1; i <= totalUsers; i++) {
-            MessageQueueService.QueueResult result = queueService.enqueue(
+            MessageQueueService.QueueResult result = queueService.enqueue(null,
                 "사용자" + i, "010-" + String.format("%04d", i) + "-5678", 
-                "긴급 메시지 " + i, (i <= 50) ? ApiType.KAKAOTALK : ApiType.SMS);
+                MessageTemplate.compile("긴급 메시지 " + i),
+                (i <= 50) ? ApiType.KAKAOTALK : ApiType.SMS, null, RecipientFrequencyCap.UNCOUNTED);
             
             if (result.isSuccess()) {
                 successCount++;
@@ -137,9 +141,10 @@ class MessageQueueTutorialTest {
         int queueFullCount = 0;
         
         for (int i = 1; i <= totalUsers; i++) {
-            MessageQueueService.QueueResult result = queueService.enqueue(
+            MessageQueueService.QueueResult result = queueService.enqueue(null,
                 "사용자" + i, "010-" + String.format("%04d", i % 10000) + "-5678", 
-                "긴급 메시지 " + i, (i % 3 == 0) ? ApiType.SMS : ApiType.KAKAOTALK);
+                MessageTemplate.compile("긴급 메시지 " + i),
+                (i % 3 == 0) ? ApiType.SMS : ApiType.KAKAOTALK, null, RecipientFrequencyCap.UNCOUNTED);
             
             if (result.isSuccess()) {
                 successCount++;
@@ -0,0 +1,163 @@
+package com.autoever.member.message.ratelimit;
+
+import com.autoever.member.message.config.FrequencyCapConfig;
+import com.autoever.member.message.metrics.PrometheusTextWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RecipientFrequencyCap 테스트")
+class RecipientFrequencyCapTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private FrequencyCapConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new FrequencyCapConfig();
+        config.setBucketDuration(Duration.ofHours(4));
+        config.setMaxRecipients(4);
+        config.setCaps(List.of(
+            new FrequencyCapConfig.CapRule(Duration.ofHours(24), 2),
+            new FrequencyCapConfig.CapRule(Duration.ofHours(8), 1)));
+    }
+
+    @Test
+    @DisplayName("윈도우별 제한을 넘으면 차단하고, 하이픈 유무와 관계없이 같은 번호로 집계")
+    void capPerWindow() {
+        // Given
+        RecipientFrequencyCap cap = new RecipientFrequencyCap(config, now::get);
+
+        // When & Then - 8시간 1건 제한
+        assertThat(cap.tryAcquire("010-1234-5678")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        assertThat(cap.tryAcquire("01012345678")).isEqualTo(RecipientFrequencyCap.CAPPED);
+
+        // 8시간(버킷 2개) 경과 후 두 번째 발송 허용, 24시간 2건 제한에 걸림
+        now.addAndGet(8 * HOUR);
+        assertThat(cap.tryAcquire("010-1234-5678")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        now.addAndGet(8 * HOUR);
+        assertThat(cap.tryAcquire("010-1234-5678")).isEqualTo(RecipientFrequencyCap.CAPPED);
+
+        // 첫 발송 버킷이 24시간 윈도우에서 빠지면 다시 허용
+        now.addAndGet(8 * HOUR);
+        assertThat(cap.tryAcquire("010-1234-5678")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        assertThat(cap.getStats().cappedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("큐 적재 실패로 되돌린 발송은 집계하지 않음")
+    void releaseAfterQueueFailure() {
+        // Given
+        RecipientFrequencyCap cap = new RecipientFrequencyCap(config, now::get);
+        int permit = cap.tryAcquire("010-1111-2222");
+        assertThat(permit).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+
+        // When
+        cap.release("010-1111-2222", permit);
+
+        // Then
+        assertThat(cap.tryAcquire("010-1111-2222")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+    }
+
+    @Test
+    @DisplayName("버킷이 바뀐 뒤 되돌리면 발송 수를 늘린 버킷만 줄이고, 만료되어 재사용된 버킷은 건드리지 않음")
+    void releaseAcrossBucketBoundary() {
+        // Given - 24시간 2건 제한만 적용 (4시간 버킷 6개)
+        config.setCaps(List.of(new FrequencyCapConfig.CapRule(Duration.ofHours(24), 2)));
+        RecipientFrequencyCap cap = new RecipientFrequencyCap(config, now::get);
+        int firstPermit = cap.tryAcquire("010-3333-4444");
+        now.addAndGet(4 * HOUR);
+        int secondPermit = cap.tryAcquire("010-3333-4444");
+        assertThat(secondPermit).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+
+        // When - 첫 버킷에서 확보한 발송을 다음 버킷에서 되돌림
+        cap.release("010-3333-4444", firstPermit);
+
+        // Then - 첫 버킷이 윈도우에서 빠진 뒤에도 두 번째 버킷 발송 수는 남아 1건만 추가 허용
+        now.addAndGet(20 * HOUR);
+        assertThat(cap.tryAcquire("010-3333-4444")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        assertThat(cap.tryAcquire("010-3333-4444")).isEqualTo(RecipientFrequencyCap.CAPPED);
+
+        // 두 번째 버킷이 만료되어 재사용된 뒤에 되돌려도 현재 버킷 발송 수는 그대로
+        now.addAndGet(4 * HOUR);
+        assertThat(cap.tryAcquire("010-3333-4444")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        cap.release("010-3333-4444", secondPermit);
+        assertThat(cap.tryAcquire("010-3333-4444")).isEqualTo(RecipientFrequencyCap.CAPPED);
+    }
+
+    @Test
+    @DisplayName("최대 수신자 수에 도달하면 만료된 수신자를 정리하고, 공간이 없으면 제한 없이 통과")
+    void boundedRecipients() {
+        // Given - 최대 4명 추적
+        RecipientFrequencyCap cap = new RecipientFrequencyCap(config, now::get);
+        for (int i = 0; i < 4; i++) {
+            assertThat(cap.tryAcquire("010-0000-000" + i)).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        }
+
+        // When & Then - 공간이 없으므로 다섯 번째 번호는 추적하지 않음
+        assertThat(cap.tryAcquire("010-0000-0009")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        assertThat(cap.tryAcquire("010-0000-0009")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        assertThat(cap.getStats().untrackedCount()).isEqualTo(2);
+
+        // 24시간이 지나 기존 수신자가 모두 만료되면 정리 후 추적
+        now.addAndGet(24 * HOUR);
+        assertThat(cap.tryAcquire("010-0000-0009")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        assertThat(cap.tryAcquire("010-0000-0009")).isEqualTo(RecipientFrequencyCap.CAPPED);
+        assertThat(cap.getStats().trackedRecipients()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("형식을 알 수 없는 번호와 비활성화 설정은 제한하지 않음")
+    void passThrough() {
+        RecipientFrequencyCap cap = new RecipientFrequencyCap(config, now::get);
+        assertThat(cap.tryAcquire("+82-10-1234-5678")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        assertThat(cap.tryAcquire("+82-10-1234-5678")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        assertThat(cap.tryAcquire(null)).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+
+        config.setEnabled(false);
+        RecipientFrequencyCap disabled = new RecipientFrequencyCap(config, now::get);
+        assertThat(disabled.tryAcquire("010-1234-5678")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        assertThat(disabled.tryAcquire("010-1234-5678")).isNotEqualTo(RecipientFrequencyCap.CAPPED);
+        assertThat(disabled.getMemoryBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Prometheus 형식 지표 출력")
+    void collectPrometheusMetrics() {
+        // Given
+        RecipientFrequencyCap cap = new RecipientFrequencyCap(config, now::get);
+        cap.tryAcquire("010-1234-5678");
+        cap.tryAcquire("010-1234-5678");
+
+        // When
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+        cap.collect(writer);
+        String text = writer.toString();
+
+        // Then
+        assertThat(text).contains("message_frequency_cap_tracked_recipients 1\n");
+        assertThat(text).contains("message_frequency_cap_max_recipients 4\n");
+        assertThat(text).contains("# TYPE message_frequency_cap_capped_total counter");
+        assertThat(text).contains("message_frequency_cap_capped_total 1\n");
+        assertThat(text).contains("message_frequency_cap_untracked_total 0\n");
+        assertThat(text).contains("message_frequency_cap_memory_bytes " + cap.getMemoryBytes() + "\n");
+    }
+
+    @Test
+    @DisplayName("윈도우가 집계 시간 단위의 배수가 아니면 기동 실패")
+    void invalidWindow() {
+        config.setCaps(List.of(new FrequencyCapConfig.CapRule(Duration.ofHours(6), 1)));
+
+        assertThatThrownBy(() -> new RecipientFrequencyCap(config, now::get))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,11 +1,15 @@
 package com.autoever.member.message.result;
 
 import com.autoever.member.message.ApiType;
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.metrics.PrometheusTextWriter;
 import com.autoever.member.message.queue.MessageQueueService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -15,12 +19,14 @@ import static org.mockito.Mockito.*;
 class MessageSendTrackerTest {
     
     private MessageSendTracker tracker;
+    private BulkMessageConfig bulkMessageConfig;
     
     @BeforeEach
     void setUp() {
         MessageQueueService mockQueueService = mock(MessageQueueService.class);
         when(mockQueueService.getQueueStatus()).thenReturn(new MessageQueueService.QueueStatus(0, 1500));
-        tracker = new MessageSendTracker(mockQueueService);
+        bulkMessageConfig = new BulkMessageConfig();
+        tracker = new MessageSendTracker(mockQueueService, bulkMessageConfig);
     }
     
     @Test
@@ -73,6 +79,25 @@ class MessageSendTrackerTest {
     }
     
     
+    @Test
+    @DisplayName("발송 기한 경과 - 발송 시도 수와 성공률 분모에서 제외")
+    void expiredNotCountedAsAttempt() {
+        // given
+        UUID jobId = UUID.randomUUID();
+        tracker.recordResult(MessageSendResult.SUCCESS_KAKAO, ApiType.KAKAOTALK);
+        tracker.recordJobResult(jobId, MessageSendResult.SUCCESS_KAKAO);
+        
+        // when
+        tracker.recordResult(MessageSendResult.EXPIRED, ApiType.KAKAOTALK);
+        tracker.recordJobResult(jobId, MessageSendResult.EXPIRED);
+        
+        // then
+        assertThat(tracker.getStatistics().totalAttempts()).isEqualTo(1);
+        assertThat(tracker.getThroughput().get(0).successRate()).isEqualTo(100.0);
+        assertThat(tracker.getJobStatistics(jobId).getTotal()).isEqualTo(1);
+        assertThat(tracker.getJobStatistics(jobId).getSuccessRate()).isEqualTo(100.0);
+    }
+    
     @Test
     @DisplayName("통계 초기화")
     void reset() {
@@ -90,4 +115,99 @@ class MessageSendTrackerTest {
         assertThat(stats.smsSuccessCount()).isEqualTo(0);
         assertThat(stats.failureCount()).isEqualTo(0);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Prometheus 형식 지표 출력")
+    void collectPrometheusMetrics() {
+        // given
+        tracker.recordResult(MessageSendResult.SUCCESS_KAKAO, ApiType.KAKAOTALK);
+        tracker.recordApiCall(ApiType.KAKAOTALK, true, 120_000);
+        tracker.recordQueueDwell(ApiType.KAKAOTALK, MessageSendResult.SUCCESS_KAKAO, 2_000_000);
+        
+        // when
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+        tracker.collect(writer);
+        String text = writer.toString();
+        
+        // then
+        assertThat(text).containsOnlyOnce("# TYPE message_send_results_total counter");
+        assertThat(text).contains("message_send_results_total{api=\"KAKAOTALK\",result=\"SUCCESS_KAKAO\"} 1\n");
+        assertThat(text).contains("message_provider_calls_total{api=\"KAKAOTALK\",outcome=\"success\"} 1\n");
+        assertThat(text).contains("message_provider_call_seconds_count{api=\"KAKAOTALK\",outcome=\"success\"} 1\n");
+        assertThat(text).contains("message_queue_dwell_seconds_sum{api=\"KAKAOTALK\",result=\"SUCCESS_KAKAO\"} 2\n");
+        // 기록이 없는 큐 대기 시계열은 출력하지 않음
+        assertThat(text).doesNotContain("message_queue_dwell_seconds_count{api=\"SMS\"");
+    }
+    
+    @Test
+    @DisplayName("최근 구간 처리율 - 1/5/15분 구간별 결과 비율")
+    void throughputWindows() {
+        // given - 카카오톡 성공 2건, SMS 대체 성공 1건, 실패 1건, 큐 적재(집계 제외) 1건
+        tracker.recordResult(MessageSendResult.SUCCESS_KAKAO, ApiType.KAKAOTALK);
+        tracker.recordResult(MessageSendResult.SUCCESS_KAKAO, ApiType.KAKAOTALK);
+        tracker.recordResult(MessageSendResult.SUCCESS_SMS_FALLBACK, ApiType.SMS);
+        tracker.recordResult(MessageSendResult.FAILED_BOTH, ApiType.SMS);
+        tracker.recordResult(MessageSendResult.QUEUED, ApiType.KAKAOTALK);
+        
+        // when
+        List<MessageSendTracker.ThroughputWindow> windows = tracker.getThroughput();
+        
+        // then
+        assertThat(windows).extracting(MessageSendTracker.ThroughputWindow::windowMinutes)
+            .containsExactly(1, 5, 15);
+        MessageSendTracker.ThroughputWindow lastMinute = windows.get(0);
+        assertThat(lastMinute.successCount()).isEqualTo(2);
+        assertThat(lastMinute.fallbackCount()).isEqualTo(1);
+        assertThat(lastMinute.failureCount()).isEqualTo(1);
+        assertThat(lastMinute.successRate()).isEqualTo(50.0);
+        assertThat(lastMinute.messagesPerSecond()).isCloseTo(4 / 60.0, within(1e-9));
+        assertThat(windows.get(2).messagesPerSecond()).isCloseTo(4 / 900.0, within(1e-9));
+        
+        // 초기화 시 최근 구간도 함께 초기화
+        tracker.reset();
+        assertThat(tracker.getThroughput().get(0).successCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("작업별 통계 - 최대 보관 수 초과 시 가장 오래 갱신되지 않은 작업부터 제거")
+    void jobStatisticsEvictedWhenOverCapacity() throws InterruptedException {
+        // given
+        bulkMessageConfig.getStatistics().setMaxJobs(2);
+        UUID oldest = UUID.randomUUID();
+        UUID recent = UUID.randomUUID();
+        tracker.recordJobResult(oldest, MessageSendResult.SUCCESS_KAKAO);
+        Thread.sleep(5);
+        tracker.recordJobResult(recent, MessageSendResult.SUCCESS_KAKAO);
+        Thread.sleep(5);
+        
+        // when
+        UUID newest = UUID.randomUUID();
+        tracker.recordJobResult(newest, MessageSendResult.SUCCESS_SMS_FALLBACK);
+        
+        // then
+        assertThat(tracker.getJobStatistics(oldest)).isNull();
+        assertThat(tracker.getJobStatistics(recent).getTotal()).isEqualTo(1);
+        assertThat(tracker.getJobStatistics(newest).getFallbackCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("작업별 통계 - 보관 시간이 지나면 제거")
+    void expiredJobStatisticsEvicted() {
+        // given
+        UUID jobId = UUID.randomUUID();
+        tracker.recordJobResult(jobId, MessageSendResult.SUCCESS_KAKAO);
+        
+        // when - 보관 시간 1시간이면 유지
+        tracker.evictExpiredJobStatistics();
+        
+        // then
+        assertThat(tracker.getJobStatistics(jobId)).isNotNull();
+        
+        // when - 보관 시간이 지난 것으로 간주
+        bulkMessageConfig.getStatistics().setJobTtl(Duration.ofMillis(-1));
+        tracker.evictExpiredJobStatistics();
+        
+        // then
+        assertThat(tracker.getJobStatistics(jobId)).isNull();
+    }
+}
@@ -0,0 +1,90 @@
+package com.autoever.member.message.segment;
+
+import com.autoever.member.exception.InvalidSegmentExpressionException;
+import com.autoever.member.repository.RecipientCursorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SegmentIndex 테스트")
+class SegmentIndexTest {
+
+    @Mock
+    private RecipientCursorRepository recipientCursorRepository;
+
+    @InjectMocks
+    private SegmentIndex segmentIndex;
+
+    @BeforeEach
+    void setUp() {
+        int currentYear = Year.now().getValue();
+        when(recipientCursorRepository.streamSegmentAttributes(anyInt())).thenReturn(Stream.of(
+            new UserSegmentAttributes(1L, "서울특별시 강남구", "950101-1234567", currentYear - 25, LocalDate.of(2024, 1, 10)),
+            new UserSegmentAttributes(2L, "서울특별시 마포구", "950101-2234567", currentYear - 25, LocalDate.of(2024, 3, 1)),
+            new UserSegmentAttributes(3L, "부산광역시 해운대구", "850101-2234567", currentYear - 35, LocalDate.of(2023, 6, 1)),
+            new UserSegmentAttributes(4L, "서울특별시 송파구", "850101-1234567", currentYear - 35, LocalDate.of(2024, 5, 20)),
+            new UserSegmentAttributes(70_000L, "대구광역시 중구", "050101-4234567", currentYear - 15, LocalDate.of(2025, 1, 1))
+        ));
+        segmentIndex.initialize();
+    }
+
+    @Test
+    @DisplayName("단일 속성 조건 평가")
+    void evaluateTerm() {
+        assertThat(ids("region:서울특별시")).containsExactly(1L, 2L, 4L);
+        assertThat(ids("gender:FEMALE")).containsExactly(2L, 3L, 70_000L);
+        assertThat(ids("age:THIRTIES")).containsExactly(3L, 4L);
+        assertThat(ids("signup:2024-01-01..2024-03-31")).containsExactly(1L, 2L);
+        assertThat(ids("signup:2024-05-01..")).containsExactly(4L, 70_000L);
+    }
+
+    @Test
+    @DisplayName("AND/OR/NOT 조합과 괄호 우선순위 평가")
+    void evaluateBooleanExpression() {
+        assertThat(ids("region:서울특별시 AND gender:FEMALE")).containsExactly(2L);
+        assertThat(ids("region:부산광역시 OR region:대구광역시")).containsExactly(3L, 70_000L);
+        assertThat(ids("NOT region:서울특별시")).containsExactly(3L, 70_000L);
+        assertThat(ids("region:서울특별시 and not (age:TWENTIES or gender:male)")).isEmpty();
+        assertThat(ids("gender:MALE OR region:부산광역시 AND age:THIRTIES")).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("전체 회원 삭제 반영 - 트랜잭션 밖에서는 즉시 적용")
+    void recordDeletionOfAll() {
+        segmentIndex.recordDeletionOfAll();
+        assertThat(segmentIndex.count(SegmentExpression.parse("region:서울특별시"))).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 표현식은 예외")
+    void invalidExpression() {
+        assertThatThrownBy(() -> SegmentExpression.parse("region:서울특별시 AND"))
+            .isInstanceOf(InvalidSegmentExpressionException.class);
+        assertThatThrownBy(() -> SegmentExpression.parse("height:180"))
+            .isInstanceOf(InvalidSegmentExpressionException.class);
+        assertThatThrownBy(() -> SegmentExpression.parse("age:TWENTIES OR (gender:FEMALE"))
+            .isInstanceOf(InvalidSegmentExpressionException.class);
+    }
+
+    private List<Long> ids(String expression) {
+        List<Long> ids = new ArrayList<>();
+        segmentIndex.evaluate(SegmentExpression.parse(expression)).forEach(ids::add);
+        return ids;
+    }
+}
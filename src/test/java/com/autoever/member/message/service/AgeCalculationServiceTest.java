@@ -75,6 +75,14 @@ class AgeCalculationServiceTest {
             .hasMessage("유효하지 않은 성별 코드입니다");
     }
     
+    @Test
+    @DisplayName("출생연도 계산")
+    void calculateBirthYear() {
+        assertThat(ageCalculationService.calculateBirthYear("800101-1234567")).isEqualTo(1980);
+        assertThat(ageCalculationService.calculateBirthYear("050815-4234567")).isEqualTo(2005);
+        assertThat(ageCalculationService.calculateBirthYear("800101-5234567")).isNull();
+    }
+    
     @Test
     @DisplayName("연령대별 연령 범위 계산")
     void calculateAgeRange() {
@@ -0,0 +1,125 @@
+package com.autoever.member.message.service;
+
+import com.autoever.member.entity.User;
+import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AudienceHistogramService 테스트")
+class AudienceHistogramServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private AudienceHistogramService audienceHistogramService;
+
+    private int currentYear;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        currentYear = Year.now().getValue();
+        today = LocalDate.now();
+
+        when(userRepository.countGroupByBirthYear()).thenReturn(List.of(
+            new Object[]{currentYear - 25, 100L},
+            new Object[]{currentYear - 29, 50L},
+            new Object[]{currentYear - 35, 70L},
+            new Object[]{1940, 30L}
+        ));
+        when(userRepository.countGroupBySignupDate()).thenReturn(List.of(
+            new Object[]{today, 20L},
+            new Object[]{today.minusDays(1), 10L},
+            new Object[]{today.minusDays(7), 5L}
+        ));
+        audienceHistogramService.initialize();
+    }
+
+    @Test
+    @DisplayName("시작 시 DB 집계로 연령대별 사용자 수 구성")
+    void countByAgeGroup() {
+        assertThat(audienceHistogramService.countByAgeGroup(AgeGroup.TWENTIES)).isEqualTo(150L);
+        assertThat(audienceHistogramService.countByAgeGroup(AgeGroup.THIRTIES)).isEqualTo(70L);
+        assertThat(audienceHistogramService.countByAgeGroup(AgeGroup.TEENS)).isZero();
+        assertThat(audienceHistogramService.countByAgeGroup(AgeGroup.FIFTIES_PLUS)).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("가입일별 사용자 수 조회")
+    void countSignups() {
+        assertThat(audienceHistogramService.countSignupsOn(today)).isEqualTo(20L);
+        assertThat(audienceHistogramService.countSignupsOn(today.minusDays(2))).isZero();
+        assertThat(audienceHistogramService.countSignupsSince(today.minusDays(1))).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 가입/삭제는 즉시 반영")
+    void recordRegistrationAndDeletion() {
+        User user = createUser(currentYear - 22);
+
+        audienceHistogramService.recordRegistration(user);
+        assertThat(audienceHistogramService.countByAgeGroup(AgeGroup.TWENTIES)).isEqualTo(151L);
+        assertThat(audienceHistogramService.countSignupsOn(today)).isEqualTo(21L);
+
+        audienceHistogramService.recordDeletion(user);
+        assertThat(audienceHistogramService.countByAgeGroup(AgeGroup.TWENTIES)).isEqualTo(150L);
+        assertThat(audienceHistogramService.countSignupsOn(today)).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 내 가입은 커밋 후에만 반영")
+    void recordRegistrationAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            audienceHistogramService.recordRegistration(createUser(currentYear - 22));
+
+            // 커밋 전에는 반영되지 않음
+            assertThat(audienceHistogramService.countByAgeGroup(AgeGroup.TWENTIES)).isEqualTo(150L);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCommit());
+            assertThat(audienceHistogramService.countByAgeGroup(AgeGroup.TWENTIES)).isEqualTo(151L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("출생연도 변경 시 연령대 이동")
+    void recordUpdate() {
+        User user = createUser(currentYear - 35);
+
+        audienceHistogramService.recordUpdate(currentYear - 25, user);
+
+        assertThat(audienceHistogramService.countByAgeGroup(AgeGroup.TWENTIES)).isEqualTo(149L);
+        assertThat(audienceHistogramService.countByAgeGroup(AgeGroup.THIRTIES)).isEqualTo(71L);
+    }
+
+    private User createUser(int birthYear) {
+        return User.builder()
+            .username("histogram")
+            .password("password")
+            .name("홍길동")
+            .socialNumber("000101-1234567")
+            .email("histogram@example.com")
+            .phoneNumber("010-1234-5678")
+            .address("서울시 강남구")
+            .birthYear(birthYear)
+            .build();
+    }
+}
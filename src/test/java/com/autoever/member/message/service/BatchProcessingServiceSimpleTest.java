@@ -3,6 +3,7 @@ package com.autoever.member.message.service;
 import com.autoever.member.entity.User;
 import com.autoever.member.message.dto.AgeGroup;
 import com.autoever.member.message.dto.AgeRange;
+import com.autoever.member.message.trace.SpanTracer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,12 @@ class BatchProcessingServiceSimpleTest {
     @Mock
     private ThreadPoolTaskExecutor taskExecutor;
     
+    @Mock
+    private AdaptiveBatchSizer adaptiveBatchSizer;
+    
+    @Mock
+    private SpanTracer spanTracer;
+    
     @InjectMocks
     private BatchProcessingService batchProcessingService;
     
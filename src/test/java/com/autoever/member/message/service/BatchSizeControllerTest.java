@@ -0,0 +1,133 @@
+package com.autoever.member.message.service;
+
+import com.autoever.member.message.config.BulkMessageConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BatchSizeController 테스트")
+class BatchSizeControllerTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final UUID jobId = UUID.randomUUID();
+    private final AtomicReference<BatchSizeController.LoadSnapshot> load =
+        new AtomicReference<>(new BatchSizeController.LoadSnapshot(1500, 1500, 4, 0));
+    private final List<BatchSizeController.Adjustment> adjustments = new ArrayList<>();
+
+    private BatchSizeController controller;
+
+    @BeforeEach
+    void setUp() {
+        BulkMessageConfig.BatchSizingConfig config = new BulkMessageConfig.BatchSizingConfig();
+        config.setMinPageSize(100);      // 64으로 내림
+        config.setMaxPageSize(4096);
+        config.setInitialPageSize(1000); // 512로 내림
+        config.setMinSubBatchSize(25);
+        config.setMaxSubBatchSize(500);
+        config.setTargetFetchMs(200);
+        config.setMinQueueHeadroomPercent(20);
+        controller = BatchSizeController.adaptive(jobId, config, load::get, adjustments::add);
+    }
+
+    @Test
+    @DisplayName("조회가 느리면 절반씩 줄이고 하한에서 멈춤")
+    void shrinkOnSlowFetch() {
+        // Given - 행당 1ms (512행 예상 512ms > 목표 2배)
+        assertThat(controller.pageSize()).isEqualTo(512);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            controller.recordFetch(controller.pageSize(), controller.pageSize() * MILLIS);
+        }
+
+        // Then - 512 → 256 (256ms는 목표 범위 안이므로 유지)
+        assertThat(controller.pageSize()).isEqualTo(256);
+        assertThat(adjustments).hasSize(1);
+        assertThat(adjustments.get(0).reason()).isEqualTo(BatchSizeController.Reason.SLOW_FETCH);
+        assertThat(adjustments.get(0).jobId()).isEqualTo(jobId);
+    }
+
+    @Test
+    @DisplayName("조회가 빠르고 하류 여유가 있으면 상한까지 2배씩 늘림")
+    void growOnFastFetch() {
+        // When - 행당 10µs
+        for (int i = 0; i < 10; i++) {
+            controller.recordFetch(controller.pageSize(), controller.pageSize() * 10_000L);
+        }
+
+        // Then
+        assertThat(controller.pageSize()).isEqualTo(4096);
+        assertThat(adjustments).extracting(BatchSizeController.Adjustment::reason)
+            .containsOnly(BatchSizeController.Reason.FAST_FETCH);
+    }
+
+    @Test
+    @DisplayName("큐 여유 공간이 기준 미만이면 조회가 빨라도 줄이고, 스레드 풀이 밀려 있으면 늘리지 않음")
+    void respectDownstreamPressure() {
+        // Given - 큐 여유 10%
+        load.set(new BatchSizeController.LoadSnapshot(150, 1500, 4, 0));
+
+        // When
+        controller.recordFetch(512, 512 * 10_000L);
+
+        // Then
+        assertThat(controller.pageSize()).isEqualTo(256);
+        assertThat(adjustments.get(0).reason()).isEqualTo(BatchSizeController.Reason.QUEUE_PRESSURE);
+
+        // Given - 큐는 비었지만 모든 스레드가 사용 중이고 대기 작업이 있음
+        load.set(new BatchSizeController.LoadSnapshot(1500, 1500, 0, 30));
+
+        // When
+        controller.recordFetch(256, 256 * 10_000L);
+
+        // Then
+        assertThat(controller.pageSize()).isEqualTo(256);
+    }
+
+    @Test
+    @DisplayName("서브 배치는 놀고 있는 스레드 수로 나누고, 스레드 풀 대기열이 있으면 크게 묶음")
+    void subBatchSizeFollowsIdleThreads() {
+        // 1000행 / 4스레드
+        assertThat(controller.subBatchSize(1000)).isEqualTo(250);
+
+        // 하한 적용
+        load.set(new BatchSizeController.LoadSnapshot(1500, 1500, 50, 0));
+        assertThat(controller.subBatchSize(1000)).isEqualTo(25);
+
+        // 대기열이 쌓이면 상한까지
+        load.set(new BatchSizeController.LoadSnapshot(1500, 1500, 0, 10));
+        assertThat(controller.subBatchSize(1000)).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("OFFSET 페이징에서는 OFFSET이 나누어떨어지는 크기로 조회")
+    void pageSizeAlignedToOffset() {
+        // Given - 크기를 1024로 늘린 상태
+        controller.recordFetch(512, 512 * 10_000L);
+        assertThat(controller.pageSize()).isEqualTo(1024);
+
+        // Then - 512행까지 읽은 위치에서는 512로 한 번 더 읽은 뒤 1024로 전환
+        assertThat(controller.pageSizeAt(512)).isEqualTo(512);
+        assertThat(controller.pageSizeAt(1024)).isEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("고정 제어기는 조회 시간과 관계없이 지정 크기 유지")
+    void fixedController() {
+        BatchSizeController fixed = BatchSizeController.fixed(1000, 100);
+
+        fixed.recordFetch(1000, 10_000 * MILLIS);
+
+        assertThat(fixed.pageSize()).isEqualTo(1000);
+        assertThat(fixed.pageSizeAt(3000)).isEqualTo(1000);
+        assertThat(fixed.subBatchSize(1000)).isEqualTo(100);
+    }
+}
@@ -1,30 +1,67 @@
 package com.autoever.member.message.service;
 
+import com.autoever.member.entity.BulkMessageJob;
+import com.autoever.member.entity.BulkMessageJobPartition;
 import com.autoever.member.entity.User;
+import com.autoever.member.exception.InvalidSegmentExpressionException;
+import com.autoever.member.message.client.KakaoTalkApiClient;
+import com.autoever.member.message.client.SmsApiClient;
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.config.FrequencyCapConfig;
+import com.autoever.member.message.config.TracingConfig;
 import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.BulkJobAdmission;
 import com.autoever.member.message.dto.BulkMessageResponse;
+import com.autoever.member.message.dto.IdRange;
 import com.autoever.member.message.dto.MessageSendDto;
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.message.exception.BulkJobAbortedException;
+import com.autoever.member.message.job.BulkJobCheckpoint;
+import com.autoever.member.message.job.BulkJobCheckpointService;
+import com.autoever.member.message.job.BulkJobExecutor;
+import com.autoever.member.message.job.BulkJobProgress;
+import com.autoever.member.message.job.BulkJobRegistry;
+import com.autoever.member.message.job.BulkJobScheduler;
+import com.autoever.member.message.pipeline.BulkSendPipeline;
+import com.autoever.member.message.pipeline.RenderedMessage;
+import com.autoever.member.message.queue.MessageQueueItem;
 import com.autoever.member.message.queue.MessageQueueService;
+import com.autoever.member.message.ratelimit.ApiRateLimiter;
+import com.autoever.member.message.ratelimit.RecipientFrequencyCap;
+import com.autoever.member.message.segment.SegmentIndex;
+import com.autoever.member.message.snapshot.AudienceSnapshotService;
+import com.autoever.member.message.template.CompiledTemplate;
+import com.autoever.member.message.template.MessageTemplateService;
 import com.autoever.member.message.result.MessageSendTracker;
 import com.autoever.member.service.ExternalMessageService;
+import com.autoever.member.message.trace.SpanTracer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -32,6 +69,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("BulkMessageService 테스트")
 class BulkMessageServiceTest {
     
+    private static final long SLOT_WAIT_TIMEOUT_MS = 300;
+    
     @Mock
     private AgeCalculationService ageCalculationService;
     
@@ -56,6 +95,39 @@ class BulkMessageServiceTest {
     @Mock
     private MessageQueueService messageQueueService;
     
+    @Mock
+    private BulkSendPipeline bulkSendPipeline;
+    
+    @Mock
+    private BulkJobCheckpointService bulkJobCheckpointService;
+    
+    @Mock
+    private BulkJobRegistry bulkJobRegistry;
+    
+    @Mock
+    private BulkJobScheduler bulkJobScheduler;
+    
+    @Mock
+    private BulkJobExecutor bulkJobExecutor;
+    
+    @Mock
+    private BulkMessageConfig bulkMessageConfig;
+    
+    @Mock
+    private BulkSendEstimator bulkSendEstimator;
+    
+    @Mock
+    private SegmentIndex segmentIndex;
+    
+    @Mock
+    private AudienceSnapshotService audienceSnapshotService;
+    
+    @Mock
+    private MessageTemplateService messageTemplateService;
+    
+    @Mock
+    private SpanTracer spanTracer;
+    
     @InjectMocks
     private BulkMessageService bulkMessageService;
     
@@ -63,7 +135,7 @@ class BulkMessageServiceTest {
     void setUp() {
         
         // structuredLogger void 메서드들을 모킹
-        lenient().doNothing().when(structuredLogger).logJobStart(any(UUID.class), anyString(), anyString(), anyInt());
+        lenient().doNothing().when(structuredLogger).logJobStart(any(UUID.class), anyString(), anyString(), anyInt(), any());
         lenient().doNothing().when(structuredLogger).logBatchProcessing(any(UUID.class), anyInt(), anyInt(), anyLong(), anyInt(), anyInt());
         lenient().doNothing().when(structuredLogger).logJobCompletion(any(UUID.class), anyString(), anyInt(), anyInt(), anyInt(), anyLong());
         lenient().doNothing().when(structuredLogger).logMessageFailure(any(UUID.class), anyString(), anyString(), anyLong());
@@ -79,6 +151,8 @@ class BulkMessageServiceTest {
         // Given
         MessageSendDto request = new MessageSendDto("TWENTIES", "할인 쿠폰 발급!");
         when(userQueryService.countUsersByAgeGroup(AgeGroup.TWENTIES)).thenReturn(100);
+        when(bulkJobScheduler.submit(any(), any())).thenAnswer(invocation -> 
+            new BulkJobAdmission(UUID.randomUUID(), BulkJobAdmission.State.ACTIVE, 0, Duration.ZERO));
         
         // When
         BulkMessageResponse response = bulkMessageService.sendBulkMessage(request);
@@ -94,6 +168,155 @@ class BulkMessageServiceTest {
         // 응답 검증만 수행 (작업 상태 조회 기능 제거됨)
     }
     
+    @Test
+    @DisplayName("동시 실행 작업 수 초과 - 대기열 등록 응답")
+    void sendBulkMessage_Waiting() {
+        // Given
+        MessageSendDto request = new MessageSendDto("TWENTIES", "할인 쿠폰 발급!");
+        when(userQueryService.countUsersByAgeGroup(AgeGroup.TWENTIES)).thenReturn(100);
+        when(bulkJobScheduler.submit(any(), any())).thenAnswer(invocation -> 
+            new BulkJobAdmission(UUID.randomUUID(), BulkJobAdmission.State.WAITING, 2, Duration.ofSeconds(30)));
+        
+        // When
+        BulkMessageResponse response = bulkMessageService.sendBulkMessage(request);
+        
+        // Then
+        assertThat(response.status()).isEqualTo(BulkMessageResponse.JobStatus.CREATED);
+        assertThat(response.waitingPosition()).isEqualTo(2);
+        assertThat(response.estimatedDuration()).isGreaterThan(Duration.ofSeconds(30));
+    }
+    
+    @Test
+    @DisplayName("대기열에 등록되는 작업도 실행 허가 전에 작업 명세를 저장하고, 대기열 초과로 거절되면 실패로 종료")
+    void sendBulkMessage_PersistsBeforeAdmission() {
+        // Given
+        Map<String, String> customFields = Map.of("coupon", "WELCOME20");
+        MessageSendDto request = new MessageSendDto("TWENTIES", "{custom.coupon} 쿠폰 발급!", null, customFields);
+        BulkJobProgress progress = new BulkJobProgress(UUID.randomUUID(), AgeGroup.TWENTIES, 100);
+        when(userQueryService.countUsersByAgeGroup(AgeGroup.TWENTIES)).thenReturn(100);
+        when(bulkJobRegistry.register(any(UUID.class), eq(AgeGroup.TWENTIES), eq(100))).thenReturn(progress);
+        when(bulkJobScheduler.submit(eq(progress), any())).thenReturn(
+            new BulkJobAdmission(UUID.randomUUID(), BulkJobAdmission.State.REJECTED, -1, Duration.ZERO));
+        
+        // When
+        BulkMessageResponse response = bulkMessageService.sendBulkMessage(request);
+        
+        // Then
+        InOrder inOrder = inOrder(bulkJobCheckpointService, bulkJobScheduler);
+        inOrder.verify(bulkJobCheckpointService).accept(response.jobId(), AgeGroup.TWENTIES, request.message(), null,
+            customFields, 100);
+        inOrder.verify(bulkJobScheduler).submit(eq(progress), any());
+        inOrder.verify(bulkJobCheckpointService).fail(response.jobId());
+        assertThat(response.status()).isEqualTo(BulkMessageResponse.JobStatus.FAILED);
+        assertThat(progress.getStatus()).isEqualTo(BulkMessageResponse.JobStatus.FAILED);
+    }
+    
+    @Test
+    @DisplayName("실행 대기 중 중단된 작업은 저장된 명세로 다시 접수하여 처음부터 발송")
+    void requeueJob() {
+        // Given - 접수만 되고 시작되지 않은 작업 (파티션 없음)
+        UUID jobId = UUID.randomUUID();
+        Map<String, String> customFields = Map.of("coupon", "WELCOME20");
+        BulkMessageJob job = BulkMessageJob.builder()
+            .jobId(jobId)
+            .ageGroup(AgeGroup.TWENTIES)
+            .message("{custom.coupon} 쿠폰 발급!")
+            .customFields(customFields)
+            .totalUsers(100)
+            .build();
+        BulkJobCheckpoint waiting = BulkJobCheckpoint.restore(job);
+        BulkJobProgress progress = new BulkJobProgress(jobId, AgeGroup.TWENTIES, 100);
+        when(bulkJobRegistry.register(jobId, AgeGroup.TWENTIES, 100)).thenReturn(progress);
+        when(bulkJobScheduler.submit(eq(progress), any())).thenAnswer(invocation -> {
+            progress.start(10);
+            ((Runnable) invocation.getArgument(1)).run();
+            return new BulkJobAdmission(jobId, BulkJobAdmission.State.ACTIVE, 0, Duration.ZERO);
+        });
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(bulkJobExecutor).execute(any());
+        when(bulkJobCheckpointService.start(jobId, AgeGroup.TWENTIES, waiting.getMessage(), null, customFields, 100,
+            List.of())).thenReturn(BulkJobCheckpoint.start(jobId, AgeGroup.TWENTIES, waiting.getMessage(), null,
+                customFields, 100, List.of()));
+        when(messageSendTracker.getStatistics()).thenReturn(new MessageSendTracker.SendStatistics(0, 0, 0, 0, 0, 1500));
+        
+        // When
+        BulkJobAdmission admission = bulkMessageService.requeueJob(waiting);
+        
+        // Then - 요청 당시 명세 그대로 처음부터 실행 (대상이 없으므로 바로 완료)
+        assertThat(admission.state()).isEqualTo(BulkJobAdmission.State.ACTIVE);
+        assertThat(progress.getStatus()).isEqualTo(BulkMessageResponse.JobStatus.COMPLETED);
+        verify(bulkJobScheduler).release(jobId);
+        verify(bulkJobCheckpointService, never()).fail(any());
+    }
+    
+    @Test
+    @DisplayName("세그먼트 조건이 있는 발송 - 색인으로 대상 수 계산")
+    void sendBulkMessage_Segment() {
+        // Given
+        MessageSendDto request = new MessageSendDto("TWENTIES", "할인 쿠폰 발급!", "region:서울특별시 AND gender:FEMALE");
+        when(segmentIndex.count(any())).thenReturn(40L);
+        when(bulkJobScheduler.submit(any(), any())).thenAnswer(invocation -> 
+            new BulkJobAdmission(UUID.randomUUID(), BulkJobAdmission.State.ACTIVE, 0, Duration.ZERO));
+        
+        // When
+        BulkMessageResponse response = bulkMessageService.sendBulkMessage(request);
+        
+        // Then
+        assertThat(response.totalUsers()).isEqualTo(40);
+        assertThat(response.status()).isEqualTo(BulkMessageResponse.JobStatus.IN_PROGRESS);
+        verify(userQueryService, never()).countUsersByAgeGroup(any());
+    }
+    
+    @Test
+    @DisplayName("잘못된 세그먼트 표현식 - 작업 접수 전 예외")
+    void sendBulkMessage_InvalidSegment() {
+        // Given
+        MessageSendDto request = new MessageSendDto("TWENTIES", "할인 쿠폰 발급!", "region:서울특별시 AND (gender:UNKNOWN");
+        
+        // When & Then
+        assertThatThrownBy(() -> bulkMessageService.sendBulkMessage(request))
+            .isInstanceOf(InvalidSegmentExpressionException.class);
+        verify(bulkJobScheduler, never()).submit(any(), any());
+    }
+    
+    @Test
+    @DisplayName("사용자 정의 필드 치환자 - 요청에 값이 없으면 작업 접수 전 예외")
+    void sendBulkMessage_MissingCustomField() {
+        // Given
+        MessageSendDto request = new MessageSendDto("TWENTIES", "{custom.coupon} 쿠폰이 발급되었습니다!");
+        when(messageTemplateService.compile(anyString(), any(), anyMap())).thenAnswer(invocation ->
+            new MessageTemplateService().compile(invocation.getArgument(0), invocation.getArgument(1),
+                invocation.getArgument(2)));
+        
+        // When & Then
+        assertThatThrownBy(() -> bulkMessageService.sendBulkMessage(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("coupon");
+        verify(userQueryService, never()).countUsersByAgeGroup(any());
+        verify(bulkJobScheduler, never()).submit(any(), any());
+    }
+    
+    @Test
+    @DisplayName("사용자 정의 필드 치환자 - 요청에 값이 있으면 그 값으로 검증 후 작업 접수")
+    void sendBulkMessage_CustomField() {
+        // Given
+        Map<String, String> customFields = Map.of("coupon", "WELCOME20");
+        MessageSendDto request = new MessageSendDto("TWENTIES", "{custom.coupon} 쿠폰이 발급되었습니다!", null,
+            customFields);
+        when(userQueryService.countUsersByAgeGroup(AgeGroup.TWENTIES)).thenReturn(100);
+        when(bulkJobScheduler.submit(any(), any())).thenReturn(
+            new BulkJobAdmission(UUID.randomUUID(), BulkJobAdmission.State.ACTIVE, 0, Duration.ZERO));
+        
+        // When
+        BulkMessageResponse response = bulkMessageService.sendBulkMessage(request);
+        
+        // Then
+        assertThat(response.status()).isEqualTo(BulkMessageResponse.JobStatus.IN_PROGRESS);
+        verify(messageTemplateService).compile(request.message(), AgeGroup.TWENTIES, customFields);
+    }
+    
     @Test
     @DisplayName("해당 연령대 사용자가 없는 경우")
     void sendBulkMessage_NoUsers() {
@@ -151,6 +374,174 @@ class BulkMessageServiceTest {
         verify(userQueryService, never()).countUsersByAgeGroup(any());
     }
     
+    @Test
+    @DisplayName("큐 슬롯 대기가 제한 시간을 넘으면 남은 수신자는 기다리지 않고 작업을 실패로 중단")
+    void resumeJob_AbortsOnFirstQueueSlotTimeout() {
+        // Given - 적재 경로는 실제 구성요소로 조립하고 작업 슬롯은 1개만 할당
+        UUID jobId = UUID.randomUUID();
+        BulkMessageConfig config = slotLimitedConfig();
+        MessageQueueService queueService = new MessageQueueService();
+        BulkMessageService service = serviceWithRealEnqueuePath(config, queueService, bulkSendPipeline);
+        BulkJobCheckpoint checkpoint = BulkJobCheckpoint.start(jobId, AgeGroup.TWENTIES, "{memberName}님 할인 쿠폰 발급!",
+            3, List.of(new IdRange(1, 3)));
+        BulkJobProgress progress = admitWithQueueSlots(checkpoint, 1);
+        
+        AtomicReference<RuntimeException> pipelineFailure = new AtomicReference<>();
+        when(bulkSendPipeline.run(eq(jobId), any(), anyList(), any(CompiledTemplate.class), any(), any()))
+            .thenAnswer(invocation -> {
+                CompiledTemplate template = invocation.getArgument(3);
+                Consumer<List<RenderedMessage>> enqueueStage = invocation.getArgument(5);
+                try {
+                    enqueueStage.accept(createRecipients(1, 3).stream()
+                        .map(recipient -> new RenderedMessage(recipient, template))
+                        .toList());
+                } catch (RuntimeException e) {
+                    pipelineFailure.set(e);
+                    throw e;
+                }
+                return null;
+            });
+        
+        // When
+        long startNanos = System.nanoTime();
+        service.resumeJob(checkpoint);
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        
+        // Then - 두 번째 수신자에서 한 번만 대기하고 세 번째 수신자는 시도하지 않음
+        assertThat(pipelineFailure.get()).isInstanceOf(BulkJobAbortedException.class);
+        assertThat(elapsedMs).isLessThan(SLOT_WAIT_TIMEOUT_MS * 2);
+        assertThat(queueService.getQueueStatus().getCurrentSize()).isEqualTo(1);
+        assertThat(progress.getProcessedCount()).isEqualTo(2);
+        assertThat(progress.getSuccessCount()).isEqualTo(1);
+        assertThat(progress.getFailureCount()).isEqualTo(1);
+        assertThat(progress.getStatus()).isEqualTo(BulkMessageResponse.JobStatus.FAILED);
+        verify(bulkJobCheckpointService).complete(checkpoint, BulkMessageResponse.JobStatus.FAILED, 2, 1, 1);
+        verify(bulkJobCheckpointService, never()).recordProgress(any(), anyList(), anyInt(), anyInt(), anyInt());
+        verify(bulkJobScheduler).release(jobId);
+    }
+    
+    @Test
+    @DisplayName("큐 적재 중단 예외가 실제 파이프라인까지 전달되어 이후 배치를 적재하지 않음")
+    @SuppressWarnings("unchecked")
+    void resumeJob_AbortPropagatesThroughPipeline() {
+        // Given - 실제 파이프라인과 큐 적재 단계, 조회 단계는 3명씩 5개 배치를 공급
+        UUID jobId = UUID.randomUUID();
+        BulkMessageConfig config = slotLimitedConfig();
+        AdaptiveBatchSizer adaptiveBatchSizer = mock(AdaptiveBatchSizer.class);
+        when(adaptiveBatchSizer.create(any(UUID.class), anyInt())).thenReturn(BatchSizeController.fixed(3, 3));
+        BulkSendPipeline pipeline = new BulkSendPipeline(userQueryService, new MessageTemplateService(), config,
+            adaptiveBatchSizer, new SpanTracer(new TracingConfig()));
+        MessageQueueService queueService = new MessageQueueService();
+        BulkMessageService service = serviceWithRealEnqueuePath(config, queueService, pipeline);
+        BulkJobCheckpoint checkpoint = BulkJobCheckpoint.start(jobId, AgeGroup.TWENTIES, "{memberName}님 할인 쿠폰 발급!",
+            15, List.of(new IdRange(1, 15)));
+        BulkJobProgress progress = admitWithQueueSlots(checkpoint, 1);
+        
+        doAnswer(invocation -> {
+            Consumer<List<Recipient>> consumer = invocation.getArgument(3);
+            for (int batch = 0; batch < 5; batch++) {
+                consumer.accept(createRecipients(batch * 3 + 1, 3));
+            }
+            return 15L;
+        }).when(userQueryService).processRecipientPartitions(any(), anyList(), any(BatchSizeController.class),
+            any(Consumer.class));
+        
+        // When
+        service.resumeJob(checkpoint);
+        
+        // Then - 첫 배치의 두 번째 수신자에서 중단되고 파이프라인 정상 종료 처리는 수행되지 않음
+        assertThat(queueService.getQueueStatus().getCurrentSize()).isEqualTo(1);
+        assertThat(progress.getProcessedCount()).isEqualTo(2);
+        assertThat(progress.getStatus()).isEqualTo(BulkMessageResponse.JobStatus.FAILED);
+        verify(structuredLogger, never()).logPipelineStages(any(), any());
+        verify(bulkJobCheckpointService, never()).recordProgress(any(), anyList(), anyInt(), anyInt(), anyInt());
+        verify(bulkJobCheckpointService).complete(checkpoint, BulkMessageResponse.JobStatus.FAILED, 2, 1, 1);
+        verify(bulkJobScheduler).release(jobId);
+    }
+    
+    @Test
+    @DisplayName("재개한 작업은 저장된 사용자 정의 필드 값으로 처음과 같은 본문을 렌더링")
+    void resumeJob_RendersStoredCustomFields() {
+        // Given - 사용자 정의 필드 값과 함께 저장된 작업을 복원
+        UUID jobId = UUID.randomUUID();
+        MessageQueueService queueService = new MessageQueueService();
+        BulkMessageService service = serviceWithRealEnqueuePath(slotLimitedConfig(), queueService, bulkSendPipeline);
+        BulkMessageJob job = BulkMessageJob.builder()
+            .jobId(jobId)
+            .ageGroup(AgeGroup.TWENTIES)
+            .message("{custom.coupon} 쿠폰이 발급되었습니다!")
+            .customFields(Map.of("coupon", "WELCOME20"))
+            .totalUsers(1)
+            .build();
+        job.start(List.of(new BulkMessageJobPartition(1L, 1L, 0L)));
+        BulkJobCheckpoint checkpoint = BulkJobCheckpoint.restore(job);
+        admitWithQueueSlots(checkpoint, 10);
+        
+        when(bulkSendPipeline.run(eq(jobId), any(), anyList(), any(CompiledTemplate.class), any(), any()))
+            .thenAnswer(invocation -> {
+                CompiledTemplate template = invocation.getArgument(3);
+                Consumer<List<RenderedMessage>> enqueueStage = invocation.getArgument(5);
+                enqueueStage.accept(List.of(new RenderedMessage(createRecipients(1, 1).get(0), template)));
+                return null;
+            });
+        
+        // When
+        service.resumeJob(checkpoint);
+        
+        // Then
+        MessageQueueItem item = queueService.dequeue();
+        assertThat(item).isNotNull();
+        assertThat(item.getMessage()).contains("WELCOME20 쿠폰이 발급되었습니다!");
+    }
+    
+    private BulkMessageConfig slotLimitedConfig() {
+        BulkMessageConfig config = new BulkMessageConfig();
+        config.getAdmission().setSlotWaitTimeoutMs(SLOT_WAIT_TIMEOUT_MS);
+        return config;
+    }
+    
+    /**
+     * 큐 적재 경로(FallbackMessageService → MessageQueueService)는 실제 구성요소로 조립한 서비스
+     */
+    private BulkMessageService serviceWithRealEnqueuePath(BulkMessageConfig config, MessageQueueService queueService,
+                                                         BulkSendPipeline pipeline) {
+        MessageTemplateService templateService = new MessageTemplateService();
+        MessageSendTracker sendTracker = new MessageSendTracker(queueService, config);
+        FallbackMessageService fallback = new FallbackMessageService(mock(KakaoTalkApiClient.class),
+            mock(SmsApiClient.class), templateService, sendTracker, new ApiRateLimiter(), queueService,
+            new RecipientFrequencyCap(new FrequencyCapConfig()));
+        return new BulkMessageService(ageCalculationService, userQueryService, externalMessageService, fallback,
+            sendTracker, structuredLogger, queueService, pipeline, bulkJobCheckpointService, bulkJobRegistry,
+            bulkJobScheduler, bulkJobExecutor, config, bulkSendEstimator, segmentIndex, audienceSnapshotService,
+            templateService, spanTracer);
+    }
+    
+    /**
+     * 재개 작업을 바로 실행 허가하고 지정한 큐 슬롯 수로 시작 (작업 실행기는 호출 스레드에서 실행)
+     */
+    private BulkJobProgress admitWithQueueSlots(BulkJobCheckpoint checkpoint, int queueSlots) {
+        UUID jobId = checkpoint.getJobId();
+        BulkJobProgress progress = new BulkJobProgress(jobId, checkpoint.getAgeGroup(), checkpoint.getTotalUsers());
+        when(bulkJobRegistry.register(checkpoint)).thenReturn(progress);
+        lenient().when(bulkJobRegistry.find(jobId)).thenReturn(Optional.of(progress));
+        when(bulkJobScheduler.submit(eq(progress), any())).thenAnswer(invocation -> {
+            progress.start(queueSlots);
+            ((Runnable) invocation.getArgument(1)).run();
+            return new BulkJobAdmission(jobId, BulkJobAdmission.State.ACTIVE, 0, Duration.ZERO);
+        });
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(bulkJobExecutor).execute(any());
+        return progress;
+    }
+    
+    private List<Recipient> createRecipients(int firstId, int count) {
+        return IntStream.range(firstId, firstId + count)
+            .mapToObj(id -> new Recipient((long) id, "사용자" + id, String.format("010-0000-%04d", id)))
+            .toList();
+    }
+    
     private User createMockUser(String username, String phoneNumber) {
         return User.builder()
                 .username(username)
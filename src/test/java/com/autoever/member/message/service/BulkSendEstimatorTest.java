@@ -0,0 +1,110 @@
+package com.autoever.member.message.service;
+
+import com.autoever.member.message.ApiType;
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.dto.AgeGroup;
+import com.autoever.member.message.dto.BulkSendEstimate;
+import com.autoever.member.message.job.BulkJobRegistry;
+import com.autoever.member.message.queue.MessageQueueService;
+import com.autoever.member.message.ratelimit.ApiRateLimiter;
+import com.autoever.member.message.result.MessageSendTracker;
+import com.autoever.member.message.segment.SegmentExpression;
+import com.autoever.member.message.segment.SegmentIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("BulkSendEstimator 테스트")
+class BulkSendEstimatorTest {
+
+    private UserQueryService userQueryService;
+    private MessageQueueService messageQueueService;
+    private MessageSendTracker messageSendTracker;
+    private SegmentIndex segmentIndex;
+    private BulkSendEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        userQueryService = mock(UserQueryService.class);
+        messageQueueService = mock(MessageQueueService.class);
+        segmentIndex = mock(SegmentIndex.class);
+        BulkJobRegistry bulkJobRegistry = mock(BulkJobRegistry.class);
+        when(bulkJobRegistry.getJobs()).thenReturn(List.of());
+        when(messageQueueService.getQueueStatus()).thenReturn(new MessageQueueService.QueueStatus(0, 1500));
+
+        messageSendTracker = new MessageSendTracker(messageQueueService, new BulkMessageConfig());
+        estimator = new BulkSendEstimator(userQueryService, messageQueueService, new ApiRateLimiter(),
+            messageSendTracker, bulkJobRegistry, segmentIndex);
+    }
+
+    @Test
+    @DisplayName("관측 이력이 없으면 Rate limit 합계로 처리량 계산, 카카오톡 한도 초과분은 SMS로 예상")
+    void estimateWithoutObservations() {
+        // Given
+        when(userQueryService.countUsersByAgeGroup(AgeGroup.TWENTIES)).thenReturn(1200);
+
+        // When
+        BulkSendEstimate estimate = estimator.estimate(AgeGroup.TWENTIES);
+
+        // Then - 분당 100(카카오톡) + 500(SMS)
+        assertThat(estimate.throughputPerMinute()).isEqualTo(600.0);
+        assertThat(estimate.estimatedDuration()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(estimate.channels().get(0).apiType()).isEqualTo(ApiType.KAKAOTALK);
+        assertThat(estimate.channels().get(0).projectedVolume()).isEqualTo(200);
+        assertThat(estimate.channels().get(0).observed()).isFalse();
+        assertThat(estimate.channels().get(1).projectedVolume()).isEqualTo(1000);
+        assertThat(estimate.expectedFailureCount()).isZero();
+        assertThat(estimate.fallbackShare()).isCloseTo(83.3, within(0.1));
+    }
+
+    @Test
+    @DisplayName("관측된 카카오톡 실패율만큼 SMS Fallback이 늘고 큐 적재량만큼 완료가 늦어짐")
+    void estimateWithObservationsAndBacklog() {
+        // Given - 카카오톡 성공률 80%, SMS 성공률 100%
+        for (int i = 0; i < 100; i++) {
+            messageSendTracker.recordApiCall(ApiType.KAKAOTALK, i < 80, 1_000);
+            messageSendTracker.recordApiCall(ApiType.SMS, true, 1_000);
+        }
+        when(userQueryService.countUsersByAgeGroup(AgeGroup.THIRTIES)).thenReturn(580);
+        when(messageQueueService.getQueueStatus()).thenReturn(new MessageQueueService.QueueStatus(290, 1500));
+
+        // When
+        BulkSendEstimate estimate = estimator.estimate(AgeGroup.THIRTIES);
+
+        // Then - 분당 카카오톡 100건 중 20건이 SMS 한도를 먼저 사용하여 처리량 580
+        assertThat(estimate.throughputPerMinute()).isEqualTo(580.0);
+        assertThat(estimate.backlogAhead()).isEqualTo(290);
+        assertThat(estimate.estimatedDuration()).isEqualTo(Duration.ofSeconds(90));
+        assertThat(estimate.channels().get(0).projectedVolume()).isEqualTo(100);
+        assertThat(estimate.channels().get(0).projectedSuccess()).isEqualTo(80);
+        assertThat(estimate.channels().get(0).observed()).isTrue();
+        assertThat(estimate.channels().get(1).projectedVolume()).isEqualTo(500);
+        assertThat(estimate.expectedSuccessCount()).isEqualTo(580);
+    }
+
+    @Test
+    @DisplayName("세그먼트 조건이 있으면 연령대 전체 대신 색인으로 대상 수 계산")
+    void estimateWithSegment() {
+        // Given
+        when(segmentIndex.count(any(SegmentExpression.class))).thenReturn(600L);
+
+        // When
+        BulkSendEstimate estimate = estimator.estimate(AgeGroup.TWENTIES, "region:서울특별시 AND gender:FEMALE");
+
+        // Then - 분당 600건 처리로 1분
+        assertThat(estimate.audienceSize()).isEqualTo(600);
+        assertThat(estimate.estimatedDuration()).isEqualTo(Duration.ofMinutes(1));
+        verify(userQueryService, never()).countUsersByAgeGroup(any());
+    }
+}
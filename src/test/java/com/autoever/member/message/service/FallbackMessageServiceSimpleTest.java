@@ -8,8 +8,11 @@ import com.autoever.member.message.dto.MessageRequest;
 import com.autoever.member.message.dto.MessageResponse;
 import com.autoever.member.message.result.MessageSendResult;
 import com.autoever.member.message.result.MessageSendTracker;
+import com.autoever.member.message.template.CompiledTemplate;
+import com.autoever.member.message.template.MessageTemplate;
 import com.autoever.member.message.template.MessageTemplateService;
 import com.autoever.member.message.ratelimit.ApiRateLimiter;
+import com.autoever.member.message.ratelimit.RecipientFrequencyCap;
 import com.autoever.member.message.queue.MessageQueueService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +21,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -44,6 +49,11 @@ class FallbackMessageServiceSimpleTest {
     @Mock
     private MessageQueueService messageQueueService;
     
+    @Mock
+    private RecipientFrequencyCap recipientFrequencyCap;
+    
+    private static final int PERMIT = 1;
+    
     private FallbackMessageService fallbackMessageService;
     
     @BeforeEach
@@ -51,9 +61,12 @@ class FallbackMessageServiceSimpleTest {
         // Rate Limiter 기본 설정 - 허용 상태로 설정 (lenient로 설정)
         lenient().when(apiRateLimiter.tryAcquire(ApiType.KAKAOTALK)).thenReturn(true);
         lenient().when(apiRateLimiter.tryAcquire(ApiType.SMS)).thenReturn(true);
+        // 빈도 제한 기본 설정 - 허용
+        lenient().when(recipientFrequencyCap.tryAcquire(anyString())).thenReturn(PERMIT);
         
         fallbackMessageService = new FallbackMessageService(
-            kakaoTalkApiClient, smsApiClient, messageTemplateService, messageSendTracker, apiRateLimiter, messageQueueService);
+            kakaoTalkApiClient, smsApiClient, messageTemplateService, messageSendTracker, apiRateLimiter, messageQueueService,
+            recipientFrequencyCap);
     }
     
     @Test
@@ -63,10 +76,10 @@ class FallbackMessageServiceSimpleTest {
         String memberName = "김철수";
         String phoneNumber = "010-1234-5678";
         String originalMessage = "테스트 메시지";
-        String templatedMessage = "김철수님, 안녕하세요. 테스트 메시지";
+        CompiledTemplate template = MessageTemplate.compile(originalMessage);
         
-        when(messageTemplateService.applyTemplate(memberName, originalMessage)).thenReturn(templatedMessage);
-        when(messageQueueService.enqueue(eq(memberName), eq(phoneNumber), eq(templatedMessage), eq(ApiType.KAKAOTALK)))
+        when(messageTemplateService.compile(originalMessage)).thenReturn(template);
+        when(messageQueueService.enqueue(isNull(), eq(memberName), eq(phoneNumber), same(template), eq(ApiType.KAKAOTALK), isNull(), eq(PERMIT)))
             .thenReturn(MessageQueueService.QueueResult.queued("queue_id_123", 1));
         
         // When
@@ -74,7 +87,7 @@ class FallbackMessageServiceSimpleTest {
         
         // Then
         assertThat(result).isEqualTo(MessageSendResult.QUEUED);
-        verify(messageQueueService).enqueue(memberName, phoneNumber, templatedMessage, ApiType.KAKAOTALK);
+        verify(messageQueueService).enqueue(null, memberName, phoneNumber, template, ApiType.KAKAOTALK, null, PERMIT);
         // QUEUED는 더 이상 기록하지 않음 (실제 발송 시에만 기록)
     }
     
@@ -87,10 +100,10 @@ class FallbackMessageServiceSimpleTest {
             .phoneNumber("010-9876-5432")
             .build();
         String originalMessage = "중요한 안내사항";
-        String templatedMessage = "이영희님, 안녕하세요. 중요한 안내사항";
+        CompiledTemplate template = MessageTemplate.compile(originalMessage);
         
-        when(messageTemplateService.applyTemplate(user, originalMessage)).thenReturn(templatedMessage);
-        when(messageQueueService.enqueue(eq("이영희"), eq("010-9876-5432"), eq(templatedMessage), eq(ApiType.KAKAOTALK)))
+        when(messageTemplateService.compile(originalMessage)).thenReturn(template);
+        when(messageQueueService.enqueue(isNull(), eq("이영희"), eq("010-9876-5432"), same(template), eq(ApiType.KAKAOTALK), isNull(), eq(PERMIT)))
             .thenReturn(MessageQueueService.QueueResult.queued("queue_id_456", 2));
         
         // When
@@ -98,7 +111,7 @@ class FallbackMessageServiceSimpleTest {
         
         // Then
         assertThat(result).isEqualTo(MessageSendResult.QUEUED);
-        verify(messageQueueService).enqueue("이영희", "010-9876-5432", templatedMessage, ApiType.KAKAOTALK);
+        verify(messageQueueService).enqueue(null, "이영희", "010-9876-5432", template, ApiType.KAKAOTALK, null, PERMIT);
         // QUEUED는 더 이상 기록하지 않음 (실제 발송 시에만 기록)
     }
     
@@ -109,10 +122,10 @@ class FallbackMessageServiceSimpleTest {
         String memberName = "박민수";
         String phoneNumber = "010-5555-5555";
         String originalMessage = "실패 테스트";
-        String templatedMessage = "박민수님, 안녕하세요. 실패 테스트";
+        CompiledTemplate template = MessageTemplate.compile(originalMessage);
         
-        when(messageTemplateService.applyTemplate(memberName, originalMessage)).thenReturn(templatedMessage);
-        when(messageQueueService.enqueue(eq(memberName), eq(phoneNumber), eq(templatedMessage), eq(ApiType.KAKAOTALK)))
+        when(messageTemplateService.compile(originalMessage)).thenReturn(template);
+        when(messageQueueService.enqueue(isNull(), eq(memberName), eq(phoneNumber), same(template), eq(ApiType.KAKAOTALK), isNull(), eq(PERMIT)))
             .thenReturn(MessageQueueService.QueueResult.queueFull());
         
         // When
@@ -121,20 +134,40 @@ class FallbackMessageServiceSimpleTest {
         // Then
         assertThat(result).isEqualTo(MessageSendResult.QUEUE_FULL);
         verify(messageSendTracker).recordResult(MessageSendResult.QUEUE_FULL, ApiType.KAKAOTALK);
-        verify(messageQueueService).enqueue(memberName, phoneNumber, templatedMessage, ApiType.KAKAOTALK);
+        verify(messageQueueService).enqueue(null, memberName, phoneNumber, template, ApiType.KAKAOTALK, null, PERMIT);
+        // 큐에 들어가지 못한 메시지는 빈도 제한 집계에서 제외
+        verify(recipientFrequencyCap).release(phoneNumber, PERMIT);
+    }
+    
+    @Test
+    @DisplayName("발송 빈도 제한을 넘은 수신자는 큐에 추가하지 않음")
+    void enqueueTemplated_FrequencyCapped() {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        String phoneNumber = "010-2222-3333";
+        when(recipientFrequencyCap.tryAcquire(phoneNumber)).thenReturn(RecipientFrequencyCap.CAPPED);
+        
+        // When
+        MessageSendResult result = fallbackMessageService.enqueueTemplated(
+            jobId, "정하나", phoneNumber, MessageTemplate.compile("쿠폰이 발급되었습니다."), null);
+        
+        // Then
+        assertThat(result).isEqualTo(MessageSendResult.FREQUENCY_CAPPED);
+        assertThat(result.isSuccess()).isFalse();
+        verifyNoInteractions(messageQueueService);
     }
     
     @Test
-    @DisplayName("템플릿 적용 후 큐에 추가")
+    @DisplayName("본문 대신 공유 템플릿을 큐에 추가하고 발송 시점에 렌더링")
     void sendWithFallback_TemplateAndQueue() {
         // Given
         String memberName = "최영수";
         String phoneNumber = "010-7777-7777";
         String originalMessage = "큐 처리 테스트";
-        String templatedMessage = "최영수님, 안녕하세요. 큐 처리 테스트";
+        CompiledTemplate template = MessageTemplate.compile(originalMessage);
         
-        when(messageTemplateService.applyTemplate(memberName, originalMessage)).thenReturn(templatedMessage);
-        when(messageQueueService.enqueue(eq(memberName), eq(phoneNumber), eq(templatedMessage), eq(ApiType.KAKAOTALK)))
+        when(messageTemplateService.compile(originalMessage)).thenReturn(template);
+        when(messageQueueService.enqueue(isNull(), eq(memberName), eq(phoneNumber), same(template), eq(ApiType.KAKAOTALK), isNull(), eq(PERMIT)))
             .thenReturn(MessageQueueService.QueueResult.queued("queue_id_789", 10));
         
         // When
@@ -142,8 +175,9 @@ class FallbackMessageServiceSimpleTest {
         
         // Then
         assertThat(result).isEqualTo(MessageSendResult.QUEUED);
-        verify(messageTemplateService).applyTemplate(memberName, originalMessage);
-        verify(messageQueueService).enqueue(memberName, phoneNumber, templatedMessage, ApiType.KAKAOTALK);
+        verify(messageTemplateService).compile(originalMessage);
+        verify(messageQueueService).enqueue(null, memberName, phoneNumber, template, ApiType.KAKAOTALK, null, PERMIT);
+        assertThat(template.render(memberName, phoneNumber)).isEqualTo("최영수님, 안녕하세요. 현대 오토에버입니다.\n\n큐 처리 테스트");
         // QUEUED는 더 이상 기록하지 않음 (실제 발송 시에만 기록)
     }
 }
\ No newline at end of file
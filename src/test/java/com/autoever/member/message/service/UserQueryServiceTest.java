@@ -1,8 +1,14 @@
 package com.autoever.member.message.service;
 
 import com.autoever.member.entity.User;
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.dto.AgeGroup;
 import com.autoever.member.message.dto.AgeRange;
+import com.autoever.member.message.dto.IdRange;
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.repository.RecipientCursorRepository;
 import com.autoever.member.repository.UserRepository;
+import com.autoever.member.message.trace.SpanTracer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,11 +22,18 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -31,6 +44,24 @@ class UserQueryServiceTest {
     @Mock
     private UserRepository userRepository;
     
+    @Mock
+    private RecipientCursorRepository recipientCursorRepository;
+    
+    @Mock
+    private BulkMessageConfig bulkMessageConfig;
+    
+    @Mock
+    private AgeCalculationService ageCalculationService;
+    
+    @Mock
+    private AudienceHistogramService audienceHistogramService;
+    
+    @Mock
+    private AudiencePartitionExecutor audiencePartitionExecutor;
+    
+    @Mock
+    private SpanTracer spanTracer;
+    
     @InjectMocks
     private UserQueryService userQueryService;
     
@@ -55,6 +86,21 @@ class UserQueryServiceTest {
         verify(userRepository).countUsersByAgeRange(20, 29);
     }
     
+    @Test
+    @DisplayName("연령대별 사용자 수 조회 - 메모리 집계 사용")
+    void countUsersByAgeGroup() {
+        // Given
+        when(ageCalculationService.calculateAgeRange(AgeGroup.TWENTIES)).thenReturn(twentiesRange);
+        when(audienceHistogramService.countByAgeRange(twentiesRange)).thenReturn(15000L);
+        
+        // When
+        int count = userQueryService.countUsersByAgeGroup(AgeGroup.TWENTIES);
+        
+        // Then
+        assertThat(count).isEqualTo(15000);
+        verify(userRepository, never()).countUsersByAgeRange(anyInt(), anyInt());
+    }
+    
     @Test
     @DisplayName("연령대별 사용자 페이지 조회")
     void getUsersByAgeRange() {
@@ -116,6 +162,85 @@ class UserQueryServiceTest {
         assertThat(batchSizes).containsExactly(100, 100, 50);
     }
     
+    @Test
+    @DisplayName("수신자 커서 스트리밍 배치 처리")
+    void processRecipientsByAgeRangeInBatches() {
+        // Given
+        when(bulkMessageConfig.getFetchSize()).thenReturn(500);
+        Stream<Recipient> cursor = IntStream.range(0, 25)
+            .mapToObj(i -> new Recipient((long) i, "Test User " + i, "010-1234-" + String.format("%04d", i)));
+        when(recipientCursorRepository.streamByAgeRange(20, 29, 500)).thenReturn(cursor);
+        List<Integer> batchSizes = new ArrayList<>();
+        
+        // When
+        long processed = userQueryService.processRecipientsByAgeRangeInBatches(
+            twentiesRange, 10, batch -> batchSizes.add(batch.size()));
+        
+        // Then
+        assertThat(processed).isEqualTo(25);
+        assertThat(batchSizes).containsExactly(10, 10, 5);
+        verify(userRepository, never()).findUsersByAgeRange(anyInt(), anyInt(), any(Pageable.class));
+    }
+    
+    @Test
+    @DisplayName("ID 범위 파티션 병렬 조회 후 하나의 흐름으로 병합")
+    void processRecipientsByAgeRangeInPartitions() {
+        // Given
+        BulkMessageConfig.ScanConfig scanConfig = new BulkMessageConfig.ScanConfig();
+        scanConfig.setMinPartitionSize(10);
+        when(bulkMessageConfig.getScan()).thenReturn(scanConfig);
+        when(bulkMessageConfig.getFetchSize()).thenReturn(500);
+        when(audiencePartitionExecutor.getMaxParallelism()).thenReturn(4);
+        when(audiencePartitionExecutor.submit(any())).thenAnswer(invocation -> {
+            Callable<?> task = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(task.call());
+        });
+        when(audienceHistogramService.countByAgeRange(twentiesRange)).thenReturn(100L);
+        when(recipientCursorRepository.findIdRangeByAgeRange(20, 29)).thenReturn(Optional.of(new IdRange(1, 100)));
+        when(recipientCursorRepository.streamByAgeRangeAndIdRange(eq(20), eq(29), any(IdRange.class), eq(500)))
+            .thenAnswer(invocation -> {
+                IdRange range = invocation.getArgument(2);
+                return IntStream.rangeClosed((int) range.lowerId(), (int) range.upperId())
+                    .mapToObj(i -> new Recipient((long) i, "Test User " + i, "010-1234-" + String.format("%04d", i)));
+            });
+        List<Long> receivedIds = Collections.synchronizedList(new ArrayList<>());
+        
+        // When
+        long processed = userQueryService.processRecipientsByAgeRangeInPartitions(
+            twentiesRange, 10, batch -> batch.forEach(recipient -> receivedIds.add(recipient.id())));
+        
+        // Then - 병렬도 상한(4)만큼 분할되어 모든 수신자가 한 번씩 전달됨
+        assertThat(processed).isEqualTo(100);
+        assertThat(receivedIds).hasSize(100).doesNotHaveDuplicates();
+        verify(recipientCursorRepository).streamByAgeRangeAndIdRange(20, 29, new IdRange(1, 25), 500);
+        verify(recipientCursorRepository).streamByAgeRangeAndIdRange(20, 29, new IdRange(76, 100), 500);
+        verify(audiencePartitionExecutor, times(4)).submit(any());
+    }
+    
+    @Test
+    @DisplayName("예상 대상자가 적으면 단일 파티션으로 호출 스레드에서 조회")
+    void processRecipientsByAgeRangeInPartitions_singlePartition() {
+        // Given
+        when(bulkMessageConfig.getScan()).thenReturn(new BulkMessageConfig.ScanConfig());
+        when(bulkMessageConfig.getFetchSize()).thenReturn(500);
+        when(audiencePartitionExecutor.getMaxParallelism()).thenReturn(4);
+        when(audienceHistogramService.countByAgeRange(twentiesRange)).thenReturn(25L);
+        when(recipientCursorRepository.findIdRangeByAgeRange(20, 29)).thenReturn(Optional.of(new IdRange(1, 25)));
+        when(recipientCursorRepository.streamByAgeRangeAndIdRange(20, 29, new IdRange(1, 25), 500))
+            .thenReturn(IntStream.rangeClosed(1, 25)
+                .mapToObj(i -> new Recipient((long) i, "Test User " + i, "010-1234-" + String.format("%04d", i))));
+        List<Integer> batchSizes = new ArrayList<>();
+        
+        // When
+        long processed = userQueryService.processRecipientsByAgeRangeInPartitions(
+            twentiesRange, 10, batch -> batchSizes.add(batch.size()));
+        
+        // Then
+        assertThat(processed).isEqualTo(25);
+        assertThat(batchSizes).containsExactly(10, 10, 5);
+        verify(audiencePartitionExecutor, never()).submit(any());
+    }
+    
     private List<User> createTestUsers(int count) {
         List<User> users = new ArrayList<>();
         for (int i = 0; i < count; i++) {
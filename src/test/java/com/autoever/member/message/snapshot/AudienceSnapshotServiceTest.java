@@ -0,0 +1,144 @@
+package com.autoever.member.message.snapshot;
+
+import com.autoever.member.message.config.BulkMessageConfig;
+import com.autoever.member.message.dto.AgeRange;
+import com.autoever.member.message.dto.IdRange;
+import com.autoever.member.message.dto.Recipient;
+import com.autoever.member.message.service.AdaptiveBatchSizer;
+import com.autoever.member.message.service.BatchSizeController;
+import com.autoever.member.message.service.UserQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AudienceSnapshotService 테스트")
+class AudienceSnapshotServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private UserQueryService userQueryService;
+    private AudienceSnapshotService audienceSnapshotService;
+
+    private final AgeRange twentiesRange = new AgeRange(20, 29);
+    private final List<IdRange> partitions = List.of(new IdRange(1, 100), new IdRange(101, 200));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userQueryService = mock(UserQueryService.class);
+        BulkMessageConfig config = new BulkMessageConfig();
+        config.getSnapshot().setDirectory(directory.toString());
+        AdaptiveBatchSizer adaptiveBatchSizer = mock(AdaptiveBatchSizer.class);
+        when(adaptiveBatchSizer.createForScan(any(UUID.class), anyInt())).thenReturn(BatchSizeController.fixed(1000, 100));
+        audienceSnapshotService = new AudienceSnapshotService(userQueryService, config, adaptiveBatchSizer);
+
+        // 두 파티션의 배치가 섞여서 도착하는 병렬 조회 상황
+        doAnswer(invocation -> {
+            Consumer<List<Recipient>> consumer = invocation.getArgument(3);
+            consumer.accept(List.of(recipient(101), recipient(150)));
+            consumer.accept(List.of(recipient(1), recipient(2), recipient(50)));
+            consumer.accept(List.of(recipient(199)));
+            return 6L;
+        }).when(userQueryService).processRecipientPartitions(eq(twentiesRange), eq(partitions), any(BatchSizeController.class), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("파티션 순서와 무관하게 ID 오름차순으로 기록되고 이름/전화번호가 그대로 복원됨")
+    void createAndRead() {
+        // When
+        AudienceSnapshot snapshot = audienceSnapshotService.create(UUID.randomUUID(), twentiesRange, partitions, id -> true);
+
+        // Then
+        assertThat(snapshot.getRecordCount()).isEqualTo(6);
+        assertThat(ids(snapshot, partitions)).containsExactly(1L, 2L, 50L, 101L, 150L, 199L);
+        assertThat(snapshot.recipientAt(3)).isEqualTo(recipient(101));
+        assertThat(Files.exists(snapshot.getPath())).isTrue();
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후 남은 범위만 읽고, 세그먼트 조건은 생성 시점에 적용됨")
+    void readRemainingRangesWithFilter() {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        audienceSnapshotService.create(jobId, twentiesRange, partitions, id -> id != 150);
+
+        // When - 재개 시 같은 스냅샷을 다시 열어 남은 범위만 조회
+        AudienceSnapshot reopened = audienceSnapshotService.open(jobId).orElseThrow();
+        List<IdRange> remaining = List.of(new IdRange(3, 100), new IdRange(102, 200));
+
+        // Then
+        assertThat(ids(reopened, remaining)).containsExactly(50L, 199L);
+    }
+
+    @Test
+    @DisplayName("작업 종료 시 삭제되고, 기동 시 재개 대상이 아닌 스냅샷 정리")
+    void releaseAndPurge() {
+        // Given
+        UUID finishedJobId = UUID.randomUUID();
+        UUID resumableJobId = UUID.randomUUID();
+        UUID orphanJobId = UUID.randomUUID();
+        audienceSnapshotService.create(finishedJobId, twentiesRange, partitions, id -> true);
+        audienceSnapshotService.create(resumableJobId, twentiesRange, partitions, id -> true);
+        audienceSnapshotService.create(orphanJobId, twentiesRange, partitions, id -> true);
+
+        // When
+        audienceSnapshotService.release(finishedJobId);
+        audienceSnapshotService.purgeExcept(Set.of(resumableJobId));
+
+        // Then
+        assertThat(audienceSnapshotService.open(finishedJobId)).isEmpty();
+        assertThat(audienceSnapshotService.open(orphanJobId)).isEmpty();
+        assertThat(audienceSnapshotService.open(resumableJobId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("스냅샷 읽기 배치 크기는 메시지 큐 여유 공간이 부족하면 줄어듦")
+    void readBatchShrinksUnderQueuePressure() {
+        // Given - 큐가 가득 찬 상태를 보고하는 제어기 (초기 4건, 하한 1건)
+        AudienceSnapshot snapshot = audienceSnapshotService.create(UUID.randomUUID(), twentiesRange, partitions, id -> true);
+        BulkMessageConfig.BatchSizingConfig sizing = new BulkMessageConfig.BatchSizingConfig();
+        sizing.setMinPageSize(1);
+        sizing.setMaxPageSize(8);
+        sizing.setInitialPageSize(4);
+        sizing.setMinSubBatchSize(1);
+        sizing.setMaxSubBatchSize(8);
+        BatchSizeController controller = BatchSizeController.adaptive(UUID.randomUUID(), sizing,
+            () -> new BatchSizeController.LoadSnapshot(0, 100, 0, 10), adjustment -> { });
+
+        // When
+        List<Integer> batchSizes = new ArrayList<>();
+        long count = snapshot.forEachBatch(partitions, controller, batch -> batchSizes.add(batch.size()));
+
+        // Then - 4 → 2로 줄어든 크기로 나머지를 읽음
+        assertThat(count).isEqualTo(6);
+        assertThat(batchSizes).containsExactly(4, 2);
+    }
+
+    private static List<Long> ids(AudienceSnapshot snapshot, List<IdRange> ranges) {
+        List<Long> ids = new ArrayList<>();
+        snapshot.forEachBatch(ranges, 2, batch -> batch.forEach(recipient -> ids.add(recipient.id())));
+        return ids;
+    }
+
+    private static Recipient recipient(long id) {
+        return new Recipient(id, "홍길동" + id, String.format("010-%04d-%04d", id, id * 7 % 10000));
+    }
+}
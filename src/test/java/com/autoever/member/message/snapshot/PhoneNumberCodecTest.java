@@ -0,0 +1,38 @@
+package com.autoever.member.message.snapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PhoneNumberCodec 테스트")
+class PhoneNumberCodecTest {
+
+    @Test
+    @DisplayName("하이픈 위치와 앞자리 0까지 원래 형식 그대로 복원")
+    void roundTrip() {
+        for (String phoneNumber : new String[]{"010-1234-5678", "02-123-4567", "01012345678", "000-0000-0000", ""}) {
+            long packed = PhoneNumberCodec.pack(phoneNumber);
+
+            assertThat(packed).isNotEqualTo(PhoneNumberCodec.NULL);
+            assertThat(PhoneNumberCodec.unpack(packed)).isEqualTo(phoneNumber);
+        }
+    }
+
+    @Test
+    @DisplayName("null은 NULL로 압축되어 null로 복원")
+    void nullPhoneNumber() {
+        assertThat(PhoneNumberCodec.pack(null)).isEqualTo(PhoneNumberCodec.NULL);
+        assertThat(PhoneNumberCodec.unpack(PhoneNumberCodec.NULL)).isNull();
+    }
+
+    @Test
+    @DisplayName("15자를 넘거나 숫자/하이픈 외 문자가 있으면 압축 불가")
+    void unpackable() {
+        assertThat(PhoneNumberCodec.isPackable("+82-10-1234-5678")).isFalse();
+        assertThat(PhoneNumberCodec.isPackable("0101234567890123")).isFalse();
+        assertThatThrownBy(() -> PhoneNumberCodec.pack("010-1234-567a"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
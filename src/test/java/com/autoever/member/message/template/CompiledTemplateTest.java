@@ -0,0 +1,88 @@
+package com.autoever.member.message.template;
+
+import com.autoever.member.message.dto.AgeGroup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CompiledTemplate 테스트")
+class CompiledTemplateTest {
+
+    @Test
+    @DisplayName("표준 인사말 템플릿은 기존 applyTemplate과 같은 결과")
+    void render_SameAsApplyTemplate() {
+        // given
+        CompiledTemplate template = MessageTemplate.compile("  새로운 이벤트가 시작되었습니다.  ");
+
+        // when
+        String result = template.render("  홍길동 ", "010-1234-5678");
+
+        // then
+        assertThat(result).isEqualTo(MessageTemplate.applyTemplate("  홍길동 ", "  새로운 이벤트가 시작되었습니다.  "));
+    }
+
+    @Test
+    @DisplayName("여러 치환자를 한 번에 적용")
+    void render_MultiplePlaceholders() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile(
+                "{memberName}님({maskedPhone}), {ageGroup} 고객 대상 {custom.coupon} 쿠폰이 발급되었습니다. {memberName}님 감사합니다.")
+            .bind(AgeGroup.TWENTIES, Map.of("coupon", "10%"));
+
+        // when
+        String result = template.render("김철수", "010-1234-5678");
+
+        // then
+        assertThat(result).isEqualTo(
+            "김철수님(010-****-5678), 20대 고객 대상 10% 쿠폰이 발급되었습니다. 김철수님 감사합니다.");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 중괄호는 그대로 두고, 형식을 알 수 없는 번호는 전체를 가림")
+    void render_UnknownPlaceholderAndPhone() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile("{이벤트} {maskedPhone} {memberName");
+
+        // when
+        String result = template.render("김철수", "+82-10-1234-5678");
+
+        // then
+        assertThat(result).isEqualTo("{이벤트} ***-****-**** {memberName");
+    }
+
+    @Test
+    @DisplayName("스레드 버퍼보다 긴 메시지도 정확히 생성")
+    void render_LongMessage() {
+        // given
+        String body = "가".repeat(20_000);
+        CompiledTemplate template = MessageTemplate.compile(body);
+
+        // when
+        String longResult = template.render("홍길동", "010-1234-5678");
+        String shortResult = MessageTemplate.compile("짧은 메시지").render("홍길동", "010-1234-5678");
+
+        // then
+        assertThat(longResult).endsWith(body).startsWith("홍길동님, 안녕하세요.");
+        assertThat(shortResult).isEqualTo("홍길동님, 안녕하세요. 현대 오토에버입니다.\n\n짧은 메시지");
+    }
+
+    @Test
+    @DisplayName("이름이 비어 있거나 작업 단위 값이 없으면 예외 발생")
+    void render_InvalidInput_ThrowsException() {
+        CompiledTemplate template = MessageTemplate.compile("메시지");
+        assertThatThrownBy(() -> template.render("   ", "010-1234-5678"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("회원 이름은 필수입니다.");
+
+        assertThatThrownBy(() -> CompiledTemplate.compile("{custom.coupon}").bind(AgeGroup.TEENS, Map.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("coupon");
+
+        CompiledTemplate unbound = CompiledTemplate.compile("{ageGroup} 안내");
+        assertThatThrownBy(() -> unbound.render("홍길동", "010-1234-5678"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -132,4 +132,47 @@ class MessageTemplateServiceTest {
         // then
         assertThat(result).isFalse();
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("단건 발송 템플릿 - 인사말만 치환하고 applyTemplate과 같은 결과")
+    void compile_SingleSend_MatchesApplyTemplate() {
+        // given
+        String originalMessage = "  이벤트에 당첨되셨습니다.  ";
+        
+        // when
+        CompiledTemplate template = templateService.compile(originalMessage);
+        
+        // then
+        assertThat(template.render(" 최영희 ", "010-1234-5678"))
+            .isEqualTo(templateService.applyTemplate("최영희", originalMessage));
+    }
+    
+    @Test
+    @DisplayName("단건 발송 템플릿 - 본문의 회원 이름/전화번호 치환자는 입력 그대로 발송")
+    void compile_SingleSend_BodyPlaceholdersVerbatim() {
+        // given
+        String originalMessage = "{memberName} 고객님({maskedPhone})께 안내드립니다.";
+        
+        // when
+        String result = templateService.compile(originalMessage).render("최영희", "010-1234-5678");
+        
+        // then
+        assertThat(result).isEqualTo(
+            "최영희님, 안녕하세요. 현대 오토에버입니다.\n\n{memberName} 고객님({maskedPhone})께 안내드립니다.");
+    }
+    
+    @Test
+    @DisplayName("단건 발송 템플릿 - 사용자 정의 필드/연령대 치환자도 예외 없이 입력 그대로 발송")
+    void compile_SingleSend_JobPlaceholdersVerbatim() {
+        // given
+        String originalMessage = "{ageGroup} 대상 {custom.coupon} 쿠폰";
+        
+        // when
+        CompiledTemplate template = templateService.compile(originalMessage);
+        template.validate("최영희");
+        String result = template.render("최영희", "010-1234-5678");
+        
+        // then
+        assertThat(result).isEqualTo("최영희님, 안녕하세요. 현대 오토에버입니다.\n\n{ageGroup} 대상 {custom.coupon} 쿠폰");
+    }
+}
@@ -0,0 +1,138 @@
+package com.autoever.member.message.trace;
+
+import com.autoever.member.message.config.TracingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpanTracer 테스트")
+class SpanTracerTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private TracingConfig config;
+    private SpanTracer spanTracer;
+
+    @BeforeEach
+    void setUp() {
+        config = new TracingConfig();
+        spanTracer = new SpanTracer(config);
+    }
+
+    @Test
+    @DisplayName("구간 종류별 합계/평균/최대와 전체 대비 비중 집계")
+    void summarizesBreakdownByType() {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        long start = System.nanoTime();
+        spanTracer.record(jobId, SpanType.PROVIDER_CALL, "kakaotalk.send", start, 40 * MILLIS);
+        spanTracer.record(jobId, SpanType.PROVIDER_CALL, "sms.send", start + 40 * MILLIS, 20 * MILLIS);
+        spanTracer.record(jobId, SpanType.RATE_LIMIT_WAIT, "queue.rate-limit-wait", start, 100 * MILLIS);
+        spanTracer.record(jobId, SpanType.PAGE_FETCH, "query.page", start, 40 * MILLIS);
+
+        // When
+        JobTraceSummary summary = spanTracer.getJobTrace(jobId, 10).orElseThrow();
+
+        // Then - 합계가 큰 구간부터 정렬
+        assertThat(summary.spanCount()).isEqualTo(4);
+        assertThat(summary.wallClockMillis()).isEqualTo(100);
+        assertThat(summary.breakdown()).extracting(JobTraceSummary.Breakdown::type)
+            .containsExactly(SpanType.RATE_LIMIT_WAIT, SpanType.PROVIDER_CALL, SpanType.PAGE_FETCH);
+
+        JobTraceSummary.Breakdown providerCall = summary.breakdown().get(1);
+        assertThat(providerCall.count()).isEqualTo(2);
+        assertThat(providerCall.totalMillis()).isEqualTo(60.0);
+        assertThat(providerCall.avgMillis()).isEqualTo(30.0);
+        assertThat(providerCall.maxMillis()).isEqualTo(40.0);
+        assertThat(providerCall.sharePercent()).isEqualTo(30.0);
+        assertThat(summary.breakdown().get(0).sharePercent()).isEqualTo(50.0);
+
+        assertThat(summary.recentSpans()).extracting(RecordedSpan::name)
+            .containsExactly("kakaotalk.send", "sms.send", "queue.rate-limit-wait", "query.page");
+    }
+
+    @Test
+    @DisplayName("스레드에 연결된 작업으로 구간 기록, 연결이 없으면 기록하지 않음")
+    void recordsOnlyForBoundJob() {
+        // Given
+        UUID jobId = UUID.randomUUID();
+
+        // When
+        try (SpanTracer.Span span = spanTracer.start(SpanType.TEMPLATE_RENDER, "unbound")) {
+            // 연결된 작업 없음
+        }
+        try (SpanTracer.Scope scope = spanTracer.bindJob(jobId);
+             SpanTracer.Span span = spanTracer.start(SpanType.TEMPLATE_RENDER, "pipeline.render")) {
+            assertThat(spanTracer.currentJob()).isEqualTo(jobId);
+        }
+
+        // Then - Scope를 닫으면 연결 해제
+        assertThat(spanTracer.currentJob()).isNull();
+        JobTraceSummary summary = spanTracer.getJobTrace(jobId, 10).orElseThrow();
+        assertThat(summary.recentSpans()).extracting(RecordedSpan::name).containsExactly("pipeline.render");
+        assertThat(summary.recentSpans().get(0).thread()).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("비활성화하면 구간을 기록하지 않음")
+    void disabled() {
+        // Given
+        config.setEnabled(false);
+        UUID jobId = UUID.randomUUID();
+
+        // When
+        try (SpanTracer.Scope scope = spanTracer.bindJob(jobId);
+             SpanTracer.Span span = spanTracer.start(SpanType.PROVIDER_CALL, "sms.send")) {
+            spanTracer.record(SpanType.QUEUE_WAIT, "queue.dwell", System.nanoTime(), MILLIS);
+        }
+
+        // Then
+        assertThat(spanTracer.getJobTrace(jobId, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("링 버퍼가 가득 차면 오래된 구간부터 덮어쓰고 집계는 유지")
+    void ringBufferOverwritesOldest() {
+        // Given
+        config.setBufferCapacity(4);
+        spanTracer = new SpanTracer(config);
+        UUID jobId = UUID.randomUUID();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            spanTracer.record(jobId, SpanType.QUEUE_WAIT, "span-" + i, System.nanoTime(), MILLIS);
+        }
+
+        // Then
+        JobTraceSummary summary = spanTracer.getJobTrace(jobId, 10).orElseThrow();
+        assertThat(summary.spanCount()).isEqualTo(10);
+        assertThat(summary.recentSpans()).extracting(RecordedSpan::name)
+            .containsExactly("span-6", "span-7", "span-8", "span-9");
+    }
+
+    @Test
+    @DisplayName("최대 보관 수를 넘으면 오래 갱신되지 않은 작업부터 제거")
+    void evictsOverflowJobs() throws InterruptedException {
+        // Given
+        config.setMaxJobs(2);
+        UUID oldest = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID newest = UUID.randomUUID();
+
+        // When
+        spanTracer.record(oldest, SpanType.PAGE_FETCH, "query.page", System.nanoTime(), MILLIS);
+        Thread.sleep(5);
+        spanTracer.record(second, SpanType.PAGE_FETCH, "query.page", System.nanoTime(), MILLIS);
+        Thread.sleep(5);
+        spanTracer.record(newest, SpanType.PAGE_FETCH, "query.page", System.nanoTime(), MILLIS);
+
+        // Then
+        assertThat(spanTracer.getJobTrace(oldest, 10)).isEmpty();
+        assertThat(spanTracer.getJobTrace(second, 10)).isPresent();
+        assertThat(spanTracer.getJobTrace(newest, 10)).isPresent();
+    }
+}
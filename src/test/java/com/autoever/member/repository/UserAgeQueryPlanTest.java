@@ -0,0 +1,139 @@
+package com.autoever.member.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Year;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 연령대 조회 실행 계획 테스트
+ * birth_year 인덱스 도입 전(주민등록번호 SUBSTRING/CAST)과 후의 실행 계획 및 소요 시간 비교
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("연령대 조회 실행 계획 테스트")
+class UserAgeQueryPlanTest {
+
+    // 인덱스 도입 전 조회 조건 (행마다 주민등록번호를 파싱하므로 인덱스 사용 불가)
+    private static final String LEGACY_AGE_CONDITION =
+        "YEAR(CURRENT_DATE) - " +
+        "CASE " +
+        "  WHEN SUBSTRING(u.social_number, 8, 1) IN ('1', '2') THEN 1900 + CAST(SUBSTRING(u.social_number, 1, 2) AS INTEGER) " +
+        "  WHEN SUBSTRING(u.social_number, 8, 1) IN ('3', '4') THEN 2000 + CAST(SUBSTRING(u.social_number, 1, 2) AS INTEGER) " +
+        "END " +
+        "BETWEEN 20 AND 29";
+
+    private static final String INDEXED_AGE_CONDITION = "u.birth_year BETWEEN %d AND %d";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("출생연도 조건은 인덱스 범위 스캔, 기존 조건은 전체 스캔")
+    void explainAgeRangeQuery() {
+        // given
+        insertUsers(1_000);
+
+        // when
+        String indexedPlan = explain("SELECT COUNT(*) FROM users u WHERE " + indexedCondition(20, 29));
+        String legacyPlan = explain("SELECT COUNT(*) FROM users u WHERE " + LEGACY_AGE_CONDITION);
+
+        // then
+        assertThat(indexedPlan).containsIgnoringCase("IDX_USERS_BIRTH_YEAR");
+        assertThat(legacyPlan).containsIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("출생연도 조건과 기존 조건의 조회 결과 일치")
+    void indexedConditionMatchesLegacyCondition() {
+        // given
+        insertUsers(1_000);
+
+        // when
+        long indexedCount = count("SELECT COUNT(*) FROM users u WHERE " + indexedCondition(20, 29));
+        long legacyCount = count("SELECT COUNT(*) FROM users u WHERE " + LEGACY_AGE_CONDITION);
+
+        // then
+        assertThat(indexedCount).isEqualTo(legacyCount);
+    }
+
+    /**
+     * 대용량 전후 비교 벤치마크 (-Dbenchmark=true 로 실행)
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("연령대 조회 전후 소요 시간 비교 벤치마크")
+    void benchmarkAgeRangeQuery() {
+        insertUsers(200_000);
+
+        String indexedQuery = "SELECT u.id, u.name, u.phone_number FROM users u WHERE "
+            + indexedCondition(20, 29) + " ORDER BY u.id";
+        String legacyQuery = "SELECT u.id, u.name, u.phone_number FROM users u WHERE "
+            + LEGACY_AGE_CONDITION + " ORDER BY u.id";
+
+        // 워밍업
+        for (int i = 0; i < 3; i++) {
+            fetchAll(indexedQuery);
+            fetchAll(legacyQuery);
+        }
+
+        long legacyNanos = measure(legacyQuery, 10);
+        long indexedNanos = measure(indexedQuery, 10);
+
+        System.out.printf("[연령대 조회 벤치마크] 200,000건 기준 평균 - 기존: %.2fms, 인덱스: %.2fms%n",
+            legacyNanos / 1_000_000.0, indexedNanos / 1_000_000.0);
+        System.out.println("[기존 실행 계획] " + explain(legacyQuery));
+        System.out.println("[인덱스 실행 계획] " + explain(indexedQuery));
+    }
+
+    private void insertUsers(int count) {
+        // 1940~1999년생 사용자를 고르게 생성 (주민등록번호와 출생연도 컬럼 일치)
+        nativeEntityManager().createNativeQuery(
+            "INSERT INTO users (username, password, name, social_number, email, phone_number, address, " +
+            "birth_year, created_at, updated_at) " +
+            "SELECT 'plan' || X, 'password', '사용자' || X, " +
+            "CAST(MOD(X, 60) + 40 AS VARCHAR) || '0101-1' || LPAD(CAST(X AS VARCHAR), 6, '0'), " +
+            "'plan' || X || '@example.com', '010-0000-0000', '서울시 강남구', " +
+            "1940 + MOD(X, 60), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+            "FROM SYSTEM_RANGE(1, " + count + ")"
+        ).executeUpdate();
+        nativeEntityManager().createNativeQuery("ANALYZE").executeUpdate();
+    }
+
+    private String indexedCondition(int minAge, int maxAge) {
+        int currentYear = Year.now().getValue();
+        return String.format(INDEXED_AGE_CONDITION, currentYear - maxAge, currentYear - minAge);
+    }
+
+    private String explain(String sql) {
+        return String.valueOf(nativeEntityManager().createNativeQuery("EXPLAIN " + sql).getSingleResult());
+    }
+
+    private long count(String sql) {
+        return ((Number) nativeEntityManager().createNativeQuery(sql).getSingleResult()).longValue();
+    }
+
+    private int fetchAll(String sql) {
+        return nativeEntityManager().createNativeQuery(sql).getResultList().size();
+    }
+
+    private long measure(String sql, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            fetchAll(sql);
+        }
+        return (System.nanoTime() - start) / iterations;
+    }
+
+    private EntityManager nativeEntityManager() {
+        return entityManager.getEntityManager();
+    }
+}
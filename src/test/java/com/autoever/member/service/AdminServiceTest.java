@@ -5,6 +5,8 @@ import com.autoever.member.dto.UserUpdateDto;
 import com.autoever.member.entity.User;
 import com.autoever.member.exception.DuplicatePhoneNumberException;
 import com.autoever.member.exception.UserNotFoundException;
+import com.autoever.member.message.segment.SegmentIndex;
+import com.autoever.member.message.service.AudienceHistogramService;
 import com.autoever.member.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -38,6 +40,12 @@ class AdminServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private AudienceHistogramService audienceHistogramService;
+
+    @Mock
+    private SegmentIndex segmentIndex;
+
     @InjectMocks
     private AdminService adminService;
 
@@ -215,6 +223,7 @@ class AdminServiceTest {
         // Then
         verify(userRepository).findById(1L);
         verify(userRepository).delete(testUser);
+        verify(audienceHistogramService).recordDeletion(testUser);
     }
 
     @Test
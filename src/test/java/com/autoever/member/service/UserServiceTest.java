@@ -5,6 +5,9 @@ import com.autoever.member.dto.UserResponseDto;
 import com.autoever.member.entity.User;
 import com.autoever.member.exception.DuplicateAccountException;
 import com.autoever.member.exception.DuplicateSocialNumberException;
+import com.autoever.member.message.segment.SegmentIndex;
+import com.autoever.member.message.service.AgeCalculationService;
+import com.autoever.member.message.service.AudienceHistogramService;
 import com.autoever.member.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +35,15 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private AgeCalculationService ageCalculationService;
+
+    @Mock
+    private AudienceHistogramService audienceHistogramService;
+
+    @Mock
+    private SegmentIndex segmentIndex;
+
     @InjectMocks
     private UserService userService;
 
@@ -68,6 +80,7 @@ class UserServiceTest {
         when(userRepository.existsByUsername(anyString())).thenReturn(false);
         when(userRepository.existsBySocialNumber(anyString())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
+        when(ageCalculationService.calculateBirthYear("901201-1234567")).thenReturn(1990);
         when(userRepository.save(any(User.class))).thenReturn(mockSavedUser);
 
         // when
@@ -82,7 +95,8 @@ class UserServiceTest {
         verify(userRepository).existsByUsername("testuser123");
         verify(userRepository).existsBySocialNumber("901201-1234567");
         verify(passwordEncoder).encode("Password123!");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).save(argThat(user -> Integer.valueOf(1990).equals(user.getBirthYear())));
+        verify(audienceHistogramService).recordRegistration(mockSavedUser);
     }
 
     @Test